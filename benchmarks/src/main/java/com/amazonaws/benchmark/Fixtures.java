@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.http.HttpResponse;
+
+/**
+ * Loads the canned service responses the benchmarks are run against. The
+ * fixtures are read into memory once during benchmark setup so that no I/O is
+ * measured.
+ */
+final class Fixtures {
+
+    private Fixtures() {}
+
+    /**
+     * Returns the contents of the named fixture from the fixtures directory on
+     * the classpath.
+     *
+     * @param name
+     *            The file name of the fixture, for example
+     *            "ec2-describe-instances.xml".
+     *
+     * @return The raw bytes of the fixture.
+     */
+    static byte[] load(String name) {
+        InputStream input = Fixtures.class.getResourceAsStream("/fixtures/" + name);
+        if (input == null) {
+            throw new IllegalArgumentException("No benchmark fixture named " + name);
+        }
+
+        try {
+            ByteArrayOutputStream output = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) > -1) {
+                output.write(buffer, 0, read);
+            }
+            return output.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read benchmark fixture " + name, e);
+        } finally {
+            try {input.close();} catch (IOException e) {}
+        }
+    }
+
+    /**
+     * Returns a new HTTP response whose content is the specified fixture data,
+     * as the response handlers would receive it from the HTTP client.
+     */
+    static HttpResponse newResponse(byte[] content) {
+        HttpResponse response = new HttpResponse(null, null);
+        response.setStatusCode(200);
+        response.setContent(new ByteArrayInputStream(content));
+        return response;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.DefaultRequest;
+import com.amazonaws.Request;
+import com.amazonaws.util.HttpUtils;
+
+/**
+ * Measures the encoding of query request parameters into a form-encoded
+ * request body, using an SQS SendMessageBatch sized parameter set.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HttpUtilsBenchmark {
+
+    private Request<?> request;
+
+    @Setup
+    public void setUp() {
+        request = new DefaultRequest<Object>("AmazonSQS");
+        request.addParameter("Action", "SendMessageBatch");
+        request.addParameter("Version", "2011-10-01");
+        for (int i = 1; i <= 10; i++) {
+            request.addParameter("SendMessageBatchRequestEntry." + i + ".Id", "msg-" + i);
+            request.addParameter("SendMessageBatchRequestEntry." + i + ".MessageBody",
+                    "{\"orderId\":" + (1000 + i) + ",\"status\":\"PENDING\",\"note\":\"ships in 2-3 days & gift wrapped\"}");
+            request.addParameter("SendMessageBatchRequestEntry." + i + ".DelaySeconds", "0");
+        }
+    }
+
+    @Benchmark
+    public String encodeParameters() {
+        return HttpUtils.encodeParameters(request);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.JsonResponseHandler;
+import com.amazonaws.services.dynamodb.model.QueryResult;
+import com.amazonaws.services.dynamodb.model.ScanResult;
+import com.amazonaws.services.dynamodb.model.transform.QueryResultJsonUnmarshaller;
+import com.amazonaws.services.dynamodb.model.transform.ScanResultJsonUnmarshaller;
+
+/**
+ * Measures JsonResponseHandler together with the generated JSON unmarshallers
+ * for DynamoDB Query and Scan responses carrying a full page of items.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class JsonUnmarshallingBenchmark {
+
+    private byte[] queryResponse;
+    private byte[] scanResponse;
+
+    private JsonResponseHandler<QueryResult> queryHandler;
+    private JsonResponseHandler<ScanResult> scanHandler;
+
+    @Setup
+    public void setUp() {
+        queryResponse = Fixtures.load("dynamodb-query.json");
+        scanResponse = Fixtures.load("dynamodb-scan.json");
+
+        queryHandler = new JsonResponseHandler<QueryResult>(QueryResultJsonUnmarshaller.getInstance());
+        scanHandler = new JsonResponseHandler<ScanResult>(ScanResultJsonUnmarshaller.getInstance());
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<QueryResult> dynamoDbQuery() throws Exception {
+        return queryHandler.handle(Fixtures.newResponse(queryResponse));
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<ScanResult> dynamoDbScan() throws Exception {
+        return scanHandler.handle(Fixtures.newResponse(scanResponse));
+    }
+}
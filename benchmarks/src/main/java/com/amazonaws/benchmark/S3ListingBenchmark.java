@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.transform.XmlResponsesSaxParser;
+
+/**
+ * Measures the SAX based parsing of an Amazon S3 ListObjects response with
+ * several hundred object summaries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class S3ListingBenchmark {
+
+    private byte[] listObjectsResponse;
+
+    @Setup
+    public void setUp() {
+        listObjectsResponse = Fixtures.load("s3-list-objects.xml");
+    }
+
+    @Benchmark
+    public ObjectListing parseListBucketObjectsResponse() throws Exception {
+        // S3 creates a parser per response; the SAX reader it parses with is
+        // reused per thread, so this measures streaming the response through it
+        XmlResponsesSaxParser parser = new XmlResponsesSaxParser();
+        return parser.parseListBucketObjectsResponse(new ByteArrayInputStream(listObjectsResponse))
+                .getObjectListing();
+    }
+}
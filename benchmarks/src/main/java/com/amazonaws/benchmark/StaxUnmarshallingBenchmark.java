@@ -0,0 +1,75 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.amazonaws.AmazonWebServiceResponse;
+import com.amazonaws.http.StaxResponseHandler;
+import com.amazonaws.services.ec2.model.DescribeInstancesResult;
+import com.amazonaws.services.ec2.model.transform.DescribeInstancesResultStaxUnmarshaller;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.transform.ReceiveMessageResultStaxUnmarshaller;
+
+/**
+ * Measures StaxResponseHandler together with the generated StAX unmarshallers
+ * for a large EC2 DescribeInstances response and a full batch of SQS messages.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class StaxUnmarshallingBenchmark {
+
+    private byte[] describeInstancesResponse;
+    private byte[] receiveMessageResponse;
+
+    private StaxResponseHandler<DescribeInstancesResult> describeInstancesHandler;
+    private StaxResponseHandler<ReceiveMessageResult> receiveMessageHandler;
+
+    @Setup
+    public void setUp() {
+        describeInstancesResponse = Fixtures.load("ec2-describe-instances.xml");
+        receiveMessageResponse = Fixtures.load("sqs-receive-message.xml");
+
+        describeInstancesHandler = new StaxResponseHandler<DescribeInstancesResult>(
+                new DescribeInstancesResultStaxUnmarshaller());
+        receiveMessageHandler = new StaxResponseHandler<ReceiveMessageResult>(
+                new ReceiveMessageResultStaxUnmarshaller());
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<DescribeInstancesResult> ec2DescribeInstances() throws Exception {
+        return describeInstancesHandler.handle(Fixtures.newResponse(describeInstancesResponse));
+    }
+
+    @Benchmark
+    public AmazonWebServiceResponse<ReceiveMessageResult> sqsReceiveMessage() throws Exception {
+        return receiveMessageHandler.handle(Fixtures.newResponse(receiveMessageResponse));
+    }
+}
@@ -20,12 +20,19 @@ import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import com.amazonaws.auth.AWSCredentials;
+import com.amazonaws.auth.AWSCredentialsProvider;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.http.AmazonHttpClient;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.http.HttpMethodName;
 import com.amazonaws.http.HttpRequest;
+import com.amazonaws.http.HttpResponseHandler;
+import com.amazonaws.transform.Marshaller;
 
 /**
  * Abstract base class for Amazon Web Service Java clients.
@@ -182,4 +189,73 @@ public abstract class AmazonWebServiceClient {
         return executionContext;
     }
 
+    /**
+     * Starts executing a request through the low level client's asynchronous
+     * path, using the specified executor to process the response. The request
+     * is marshalled, and the credentials to sign it with resolved, as part of
+     * the asynchronous execution, so any error doing either is reported
+     * through the returned Future rather than thrown to the caller.
+     *
+     * @param originalRequest
+     *            The request to marshall and send.
+     * @param marshaller
+     *            The marshaller for the request.
+     * @param responseHandler
+     *            The response handler to unmarshall a successful response.
+     * @param errorResponseHandler
+     *            The response handler to unmarshall an error response.
+     * @param executionContext
+     *            The context to execute the request with, holding the signer
+     *            to sign it with, if any.
+     * @param credentialsProvider
+     *            The provider of the credentials to sign the request with,
+     *            unless the request specifies its own.
+     * @param executorService
+     *            The executor used to marshall the request and process the
+     *            response.
+     *
+     * @return A Future for the unmarshalled result of the request.
+     */
+    protected <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(final Y originalRequest,
+            final Marshaller<Request<Y>, Y> marshaller,
+            HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            final ExecutionContext executionContext, final AWSCredentialsProvider credentialsProvider,
+            ExecutorService executorService) {
+        final URI endpoint = this.endpoint;
+        Callable<Request<Y>> requestFactory = new Callable<Request<Y>>() {
+            public Request<Y> call() throws Exception {
+                Request<Y> request = marshaller.marshall(originalRequest);
+                request.setEndpoint(endpoint);
+                addPrivateRequestParameters(request, originalRequest);
+
+                AWSCredentials credentials = originalRequest.getRequestCredentials();
+                if (credentials == null) {
+                    credentials = credentialsProvider.getCredentials();
+                }
+                executionContext.setCredentials(credentials);
+                return request;
+            }
+        };
+        return client.executeAsync(requestFactory, responseHandler, errorResponseHandler, executionContext,
+                executorService);
+    }
+
+    /**
+     * Adds the private parameters of the original request to the request
+     * about to be sent asynchronously, the same way the client's synchronous
+     * calls do. Clients whose synchronous calls don't send these parameters,
+     * such as those of JSON services, override this to add nothing.
+     *
+     * @param request
+     *            The marshalled request about to be sent.
+     * @param originalRequest
+     *            The request it was marshalled from.
+     */
+    protected void addPrivateRequestParameters(Request<?> request, AmazonWebServiceRequest originalRequest) {
+        for (Entry<String, String> entry : originalRequest.copyPrivateRequestParameters().entrySet()) {
+            request.addParameter(entry.getKey(), entry.getValue());
+        }
+    }
+
 }
@@ -14,6 +14,8 @@
  */
 package com.amazonaws;
 
+import com.amazonaws.http.ConnectionPool;
+import com.amazonaws.metrics.RequestMetricsCollector;
 import com.amazonaws.util.VersionInfoUtils;
 /**
  * Client configuration options such as proxy settings, user agent string, max
@@ -99,6 +101,17 @@ public class ClientConfiguration {
      */
     private int socketReceiveBufferSizeHint = 0;
 
+    /**
+     * Whether asynchronous clients should use a non-blocking transport instead
+     * of executing blocking requests on their executor.
+     */
+    private boolean useNonBlockingIo = false;
+
+    /** Optional connection pool shared with other clients. */
+    private ConnectionPool connectionPool = null;
+
+    /** Optional collector of the metrics of every request a client sends. */
+    private RequestMetricsCollector requestMetricsCollector = null;
 
     public ClientConfiguration() {}
 
@@ -118,6 +131,9 @@ public class ClientConfiguration {
 
         this.socketReceiveBufferSizeHint = other.socketReceiveBufferSizeHint;
         this.socketSendBufferSizeHint    = other.socketSendBufferSizeHint;
+        this.useNonBlockingIo            = other.useNonBlockingIo;
+        this.connectionPool              = other.connectionPool;
+        this.requestMetricsCollector     = other.requestMetricsCollector;
     }
 
     /**
@@ -713,4 +729,128 @@ public class ClientConfiguration {
         return this;
     }
 
+    /**
+     * Returns whether asynchronous clients send requests through a
+     * non-blocking transport. When enabled, asynchronous service calls don't
+     * tie up a thread while waiting on the network; their executor is only
+     * used to process responses. Non-blocking I/O is not used when a proxy is
+     * configured.
+     *
+     * @return True if asynchronous clients use non-blocking I/O.
+     */
+    public boolean isUseNonBlockingIo() {
+        return useNonBlockingIo;
+    }
+
+    /**
+     * Sets whether asynchronous clients send requests through a non-blocking
+     * transport. When enabled, asynchronous service calls don't tie up a
+     * thread while waiting on the network; their executor is only used to
+     * process responses. Non-blocking I/O is not used when a proxy is
+     * configured.
+     *
+     * @param useNonBlockingIo
+     *            True if asynchronous clients should use non-blocking I/O.
+     */
+    public void setUseNonBlockingIo(boolean useNonBlockingIo) {
+        this.useNonBlockingIo = useNonBlockingIo;
+    }
+
+    /**
+     * Sets whether asynchronous clients send requests through a non-blocking
+     * transport, and returns the updated ClientConfiguration object so that
+     * additional method calls may be chained together.
+     *
+     * @param useNonBlockingIo
+     *            True if asynchronous clients should use non-blocking I/O.
+     *
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withUseNonBlockingIo(boolean useNonBlockingIo) {
+        setUseNonBlockingIo(useNonBlockingIo);
+        return this;
+    }
+
+    /**
+     * Returns the connection pool shared with other clients, or null if each
+     * client keeps a pool of its own.
+     *
+     * @return The shared connection pool, or null.
+     */
+    public ConnectionPool getConnectionPool() {
+        return connectionPool;
+    }
+
+    /**
+     * Sets a connection pool for clients to share, so that clients talking to
+     * the same endpoints reuse each other's open connections. When set, the
+     * pool's own limits apply, and the max connections setting only applies
+     * to requests sent with non-blocking I/O.
+     * Shutting down a client leaves a shared pool open; shut the pool down
+     * once no client needs it.
+     *
+     * @param connectionPool
+     *            The shared connection pool, or null for each client to keep
+     *            a pool of its own.
+     */
+    public void setConnectionPool(ConnectionPool connectionPool) {
+        this.connectionPool = connectionPool;
+    }
+
+    /**
+     * Sets a connection pool for clients to share, and returns the updated
+     * ClientConfiguration object so that additional method calls may be
+     * chained together.
+     *
+     * @param connectionPool
+     *            The shared connection pool, or null for each client to keep
+     *            a pool of its own.
+     *
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withConnectionPool(ConnectionPool connectionPool) {
+        setConnectionPool(connectionPool);
+        return this;
+    }
+
+    /**
+     * Returns the collector of the metrics of every request a client sends,
+     * or null if the client doesn't collect any.
+     *
+     * @return The request metrics collector, or null.
+     */
+    public RequestMetricsCollector getRequestMetricsCollector() {
+        return requestMetricsCollector;
+    }
+
+    /**
+     * Sets a collector to receive the metrics of every request a client sends
+     * (ex: {@link com.amazonaws.metrics.JmxRequestMetricsCollector}, to
+     * expose them over JMX). Without a collector, clients don't gather any
+     * metrics, unless the
+     * {@link com.amazonaws.http.AmazonHttpClient#DEFAULT_METRICS_SYSTEM_PROPERTY}
+     * system property is set.
+     *
+     * @param requestMetricsCollector
+     *            The request metrics collector, or null.
+     */
+    public void setRequestMetricsCollector(RequestMetricsCollector requestMetricsCollector) {
+        this.requestMetricsCollector = requestMetricsCollector;
+    }
+
+    /**
+     * Sets a collector to receive the metrics of every request a client
+     * sends, and returns the updated ClientConfiguration object so that
+     * additional method calls may be chained together.
+     *
+     * @param requestMetricsCollector
+     *            The request metrics collector, or null.
+     *
+     * @return The updated ClientConfiguration object.
+     */
+    public ClientConfiguration withRequestMetricsCollector(RequestMetricsCollector requestMetricsCollector) {
+        setRequestMetricsCollector(requestMetricsCollector);
+        return this;
+    }
+
 }
@@ -102,9 +102,11 @@ public class AWS3Signer extends AbstractAWSSigner {
             stringToSign = request.getHttpMethod().toString() + "\n"
                 + getCanonicalizedResourcePath(request.getResourcePath()) + "\n"
                 + getCanonicalizedQueryString(request.getParameters()) + "\n"
-                + getCanonicalizedHeadersForStringToSign(request) + "\n"
-                + getRequestPayloadWithoutQueryParams(request);
-            bytesToSign = hash(stringToSign);
+                + getCanonicalizedHeadersForStringToSign(request) + "\n";
+            bytesToSign = hashWithRequestPayload(stringToSign, request);
+
+            // Only decode the payload into the string to sign when logging it
+            if (log.isDebugEnabled()) stringToSign += getRequestPayloadWithoutQueryParams(request);
         }
         log.debug("Calculated StringToSign: " + stringToSign);
 
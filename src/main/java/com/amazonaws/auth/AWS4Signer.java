@@ -15,12 +15,13 @@
 package com.amazonaws.auth;
 
 import java.net.URI;
-import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
-import java.util.SimpleTimeZone;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -29,6 +30,7 @@ import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
 import com.amazonaws.util.AwsHostNameUtils;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.DateUtils;
 import com.amazonaws.util.HttpUtils;
 
 /**
@@ -56,6 +58,25 @@ public class AWS4Signer extends AbstractAWSSigner {
 
     private static final Log log = LogFactory.getLog(AWS4Signer.class);
 
+    /** Shared DateUtils object for formatting the request dates */
+    private static final DateUtils dateUtils = new DateUtils();
+
+    /**
+     * The maximum number of derived signing keys to cache. Keys are only valid
+     * for a single day, so the cache is simply cleared when it fills up.
+     */
+    private static final int MAX_SIGNING_KEY_CACHE_SIZE = 300;
+
+    /**
+     * Derived signing keys, keyed by access key ID and credential scope
+     * (date, region and service), shared by all AWS4Signer instances.
+     */
+    private static final Map<String, SigningKey> signingKeyCache =
+        new ConcurrentHashMap<String, SigningKey>();
+
+    private static final AtomicLong signingKeyCacheHits = new AtomicLong();
+    private static final AtomicLong signingKeyCacheMisses = new AtomicLong();
+
 
     /* (non-Javadoc)
      * @see com.amazonaws.auth.Signer#sign(com.amazonaws.Request, com.amazonaws.auth.AWSCredentials)
@@ -66,12 +87,6 @@ public class AWS4Signer extends AbstractAWSSigner {
             addSessionCredentials(request, (AWSSessionCredentials) sanitizedCredentials);
         }
 
-        SimpleDateFormat dateStampFormat = new SimpleDateFormat("yyyyMMdd");
-        dateStampFormat.setTimeZone(new SimpleTimeZone(0, "UTC"));
-
-        SimpleDateFormat dateTimeFormat = new SimpleDateFormat("yyyyMMdd'T'HHmmss'Z'");
-        dateTimeFormat.setTimeZone(new SimpleTimeZone(0, "UTC"));
-
         String regionName  = extractRegionName(request.getEndpoint());
         String serviceName = extractServiceName(request.getEndpoint());
 
@@ -86,8 +101,8 @@ public class AWS4Signer extends AbstractAWSSigner {
         Date date = new Date();
         if (overriddenDate != null) date = overriddenDate;
 
-        String dateTime  = dateTimeFormat.format(date);
-        String dateStamp = dateStampFormat.format(date);
+        String dateTime  = dateUtils.formatIso8601BasicDate(date);
+        String dateStamp = dateTime.substring(0, 8);
 
         request.addHeader("X-Amz-Date", dateTime);
 
@@ -97,7 +112,7 @@ public class AWS4Signer extends AbstractAWSSigner {
             getCanonicalizedQueryString(request) + "\n" +
             getCanonicalizedHeaderString(request) + "\n" +
             getSignedHeadersString(request) + "\n" +
-            BinaryUtils.toHex(hash(getRequestPayload(request)));
+            BinaryUtils.toHex(hashRequestPayload(request));
 
         log.debug("AWS4 Canonical Request: '\"" + canonicalRequest + "\"");
 
@@ -110,12 +125,8 @@ public class AWS4Signer extends AbstractAWSSigner {
             BinaryUtils.toHex(hash(canonicalRequest));
         log.debug("AWS4 String to Sign: '\"" + stringToSign + "\"");
 
-        // AWS4 uses a series of derived keys, formed by hashing different pieces of data
-        byte[] kSecret  = ("AWS4" + sanitizedCredentials.getAWSSecretKey()).getBytes();
-        byte[] kDate    = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
-        byte[] kRegion  = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
-        byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
-        byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+        byte[] kSigning = getSigningKey(sanitizedCredentials, signingCredentials,
+                dateStamp, regionName, serviceName);
 
         byte[] signature = sign(stringToSign.getBytes(), kSigning, SigningAlgorithm.HmacSHA256);
 
@@ -136,6 +147,27 @@ public class AWS4Signer extends AbstractAWSSigner {
         request.addHeader("Authorization", authorizationHeader);
     }
 
+    /**
+     * Returns the number of times a request was signed with a previously
+     * derived signing key from the shared signing key cache.
+     *
+     * @return The number of signing key cache hits since the class was loaded.
+     */
+    public static long getSigningKeyCacheHits() {
+        return signingKeyCacheHits.get();
+    }
+
+    /**
+     * Returns the number of times a signing key had to be derived from the
+     * secret key because it wasn't present in the shared signing key cache.
+     *
+     * @return The number of signing key cache misses since the class was
+     *         loaded.
+     */
+    public static long getSigningKeyCacheMisses() {
+        return signingKeyCacheMisses.get();
+    }
+
     /**
      * Sets the service name that this signer should use when calculating
      * request signatures. This can almost always be determined directly from
@@ -182,6 +214,51 @@ public class AWS4Signer extends AbstractAWSSigner {
     }
 
 
+    /**
+     * Returns the signing key for the specified credential scope, deriving it
+     * from the secret key only if it isn't already cached. The cached key is
+     * only used if it was derived from the same secret key, so rotated
+     * credentials for an existing access key ID are picked up immediately.
+     */
+    private byte[] getSigningKey(AWSCredentials credentials, String signingCredentials,
+            String dateStamp, String regionName, String serviceName) {
+        String secretKey = credentials.getAWSSecretKey();
+
+        SigningKey cached = signingKeyCache.get(signingCredentials);
+        if (cached != null && cached.secretKey.equals(secretKey)) {
+            signingKeyCacheHits.incrementAndGet();
+            return cached.key;
+        }
+        signingKeyCacheMisses.incrementAndGet();
+
+        // AWS4 uses a series of derived keys, formed by hashing different pieces of data
+        byte[] kSecret  = ("AWS4" + secretKey).getBytes();
+        byte[] kDate    = sign(dateStamp, kSecret, SigningAlgorithm.HmacSHA256);
+        byte[] kRegion  = sign(regionName, kDate, SigningAlgorithm.HmacSHA256);
+        byte[] kService = sign(serviceName, kRegion, SigningAlgorithm.HmacSHA256);
+        byte[] kSigning = sign(TERMINATOR, kService, SigningAlgorithm.HmacSHA256);
+
+        if (signingKeyCache.size() >= MAX_SIGNING_KEY_CACHE_SIZE) {
+            signingKeyCache.clear();
+        }
+        signingKeyCache.put(signingCredentials, new SigningKey(secretKey, kSigning));
+
+        return kSigning;
+    }
+
+    /**
+     * A derived signing key, along with the secret key it was derived from.
+     */
+    private static final class SigningKey {
+        private final String secretKey;
+        private final byte[] key;
+
+        private SigningKey(String secretKey, byte[] key) {
+            this.secretKey = secretKey;
+            this.key = key;
+        }
+    }
+
     void overrideDate(Date overriddenDate) {
         this.overriddenDate = overriddenDate;
     }
@@ -18,6 +18,8 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.SortedMap;
@@ -31,6 +33,7 @@ import org.apache.commons.codec.binary.Base64;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
 import com.amazonaws.util.HttpUtils;
+import com.amazonaws.util.PayloadInputStream;
 import com.amazonaws.util.StringInputStream;
 
 /**
@@ -45,6 +48,31 @@ public abstract class AbstractAWSSigner implements Signer {
     /** The default encoding to use when URL encoding */
     private static final String DEFAULT_ENCODING = "UTF-8";
 
+    /**
+     * Mac instances for each signing algorithm, reused by each thread instead
+     * of being looked up from the security providers for every signature.
+     */
+    private static final ThreadLocal<Map<SigningAlgorithm, Mac>> macs =
+        new ThreadLocal<Map<SigningAlgorithm, Mac>>() {
+            @Override
+            protected Map<SigningAlgorithm, Mac> initialValue() {
+                return new EnumMap<SigningAlgorithm, Mac>(SigningAlgorithm.class);
+            }
+        };
+
+    /** SHA-256 message digests, reused by each thread */
+    private static final ThreadLocal<MessageDigest> sha256Digests =
+        new ThreadLocal<MessageDigest>() {
+            @Override
+            protected MessageDigest initialValue() {
+                try {
+                    return MessageDigest.getInstance("SHA-256");
+                } catch (NoSuchAlgorithmException e) {
+                    throw new AmazonClientException("Unable to get SHA256 Function: " + e.getMessage(), e);
+                }
+            }
+        };
+
     /**
      * Computes an RFC 2104-compliant HMAC signature and returns the result as a
      * Base64 encoded string.
@@ -83,7 +111,7 @@ public abstract class AbstractAWSSigner implements Signer {
 
     protected byte[] sign(byte[] data, byte[] key, SigningAlgorithm algorithm) throws AmazonClientException {
         try {
-            Mac mac = Mac.getInstance(algorithm.toString());
+            Mac mac = getMac(algorithm);
             mac.init(new SecretKeySpec(key, algorithm.toString()));
             return mac.doFinal(data);
         } catch (Exception e) {
@@ -91,6 +119,20 @@ public abstract class AbstractAWSSigner implements Signer {
         }
     }
 
+    /**
+     * Returns this thread's Mac instance for the specified algorithm, creating
+     * it on first use. Callers must initialize it with their key before use.
+     */
+    private static Mac getMac(SigningAlgorithm algorithm) throws NoSuchAlgorithmException {
+        Map<SigningAlgorithm, Mac> threadMacs = macs.get();
+        Mac mac = threadMacs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm.toString());
+            threadMacs.put(algorithm, mac);
+        }
+        return mac;
+    }
+
     /**
      * Hashes the string contents (assumed to be UTF-8) using the SHA-256
      * algorithm.
@@ -105,7 +147,8 @@ public abstract class AbstractAWSSigner implements Signer {
      */
     protected byte[] hash(String text) throws AmazonClientException {
         try {
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            MessageDigest md = sha256Digests.get();
+            md.reset();
             md.update(text.getBytes(DEFAULT_ENCODING));
             return md.digest();
         } catch (Exception e) {
@@ -113,6 +156,29 @@ public abstract class AbstractAWSSigner implements Signer {
         }
     }
 
+    /**
+     * Hashes the text given followed by the payload of the request given,
+     * excluding any query parameters sent as the payload. A payload held in a
+     * {@link PayloadInputStream} is hashed straight from its buffer, without
+     * being decoded into a String first.
+     */
+    protected byte[] hashWithRequestPayload(String text, Request<?> request) throws AmazonClientException {
+        InputStream content = request.getContent();
+        if (!(content instanceof PayloadInputStream)) {
+            return hash(text + getRequestPayloadWithoutQueryParams(request));
+        }
+
+        try {
+            MessageDigest md = sha256Digests.get();
+            md.reset();
+            md.update(text.getBytes(DEFAULT_ENCODING));
+            ((PayloadInputStream)content).updateDigest(md);
+            return md.digest();
+        } catch (Exception e) {
+            throw new AmazonClientException("Unable to compute hash while signing request: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * Examines the specified query string parameters and returns a
      * canonicalized form.
@@ -167,6 +233,17 @@ public abstract class AbstractAWSSigner implements Signer {
         return getRequestPayloadWithoutQueryParams(request);
     }
 
+    /**
+     * Returns the hash of the payload of the request given, as returned by
+     * {@link #getRequestPayload(Request)}.
+     */
+    protected byte[] hashRequestPayload(Request<?> request) throws AmazonClientException {
+        if (HttpUtils.usePayloadForQueryParameters(request)) {
+            return hash(getRequestPayload(request));
+        }
+        return hashWithRequestPayload("", request);
+    }
+
     protected String getRequestPayloadWithoutQueryParams(Request<?> request) {
         try {
             InputStream content = request.getContent();
@@ -176,6 +253,10 @@ public abstract class AbstractAWSSigner implements Signer {
                 return ((StringInputStream)content).getString();
             }
 
+            if (content instanceof PayloadInputStream) {
+                return ((PayloadInputStream)content).getString();
+            }
+
             if (!content.markSupported()) {
                 throw new AmazonClientException("Unable to read request payload to sign request.");
             }
@@ -15,15 +15,14 @@
 package com.amazonaws.auth;
 
 import java.net.URI;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Map;
 import java.util.SortedMap;
-import java.util.TimeZone;
 import java.util.TreeMap;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
+import com.amazonaws.util.DateUtils;
 
 /**
  * Signer implementation responsible for signing an AWS query string request
@@ -31,6 +30,9 @@ import com.amazonaws.Request;
  */
 public class QueryStringSigner extends AbstractAWSSigner implements Signer {
 
+    /** Shared DateUtils object for formatting the request timestamp */
+    private static final DateUtils dateUtils = new DateUtils();
+
     /** Date override for testing only */
     private Date overriddenDate;
 
@@ -164,14 +166,10 @@ public class QueryStringSigner extends AbstractAWSSigner implements Signer {
      * Formats date as ISO 8601 timestamp
      */
     private String getFormattedTimestamp() {
-        SimpleDateFormat df = new SimpleDateFormat(
-                "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
-        df.setTimeZone(TimeZone.getTimeZone("UTC"));
-
         if (overriddenDate != null) {
-            return df.format(overriddenDate);
+            return dateUtils.formatIso8601Date(overriddenDate);
         } else {
-            return df.format(new Date());
+            return dateUtils.formatIso8601Date(new Date());
         }
     }
 
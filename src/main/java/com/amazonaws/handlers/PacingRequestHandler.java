@@ -0,0 +1,42 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.handlers;
+
+import com.amazonaws.Request;
+
+/**
+ * Request handler that can hold a request back before it is sent, for
+ * example to keep a client within a rate limit. Rather than blocking in
+ * {@link #beforeRequest(Request)}, the handler reports how long the request
+ * should wait, and the client runtime delays sending it: synchronous calls
+ * wait on the calling thread, while asynchronous calls schedule the request
+ * on a timer without tying up an executor thread.
+ */
+public interface PacingRequestHandler extends RequestHandler {
+
+    /**
+     * Returns how long the specified request should wait before it is sent,
+     * in milliseconds. Called once for each request, after all request
+     * handlers have run {@link #beforeRequest(Request)} on it.
+     *
+     * @param request
+     *            The low level request about to be sent.
+     *
+     * @return The time to wait before sending the request, in milliseconds,
+     *         or zero to send it right away.
+     */
+    public long getDelayBeforeSending(Request<?> request);
+
+}
@@ -25,6 +25,15 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -45,8 +54,12 @@ import com.amazonaws.AmazonWebServiceResponse;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.Request;
 import com.amazonaws.ResponseMetadata;
+import com.amazonaws.handlers.PacingRequestHandler;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.internal.CustomBackoffStrategy;
+import com.amazonaws.metrics.JmxRequestMetricsCollector;
+import com.amazonaws.metrics.RequestMetrics;
+import com.amazonaws.metrics.RequestMetricsCollector;
 import com.amazonaws.util.CountingInputStream;
 import com.amazonaws.util.ResponseMetadataCache;
 import com.amazonaws.util.TimingInfo;
@@ -69,10 +82,24 @@ public class AmazonHttpClient {
     /** Internal client for sending HTTP requests */
     private HttpClient httpClient;
 
+    /**
+     * Optional non-blocking transport used by
+     * {@link #executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext, ExecutorService)},
+     * created on first use unless explicitly specified.
+     */
+    private AsyncHttpTransport asyncTransport;
+    private boolean asyncTransportInitialized;
+
 	private static final String BYTES_PROCESSED_COUNTER = "bytes-processed";
 	private static final String RESPONSE_PROCESSING_SUBMEASUREMENT = "response-processing";
 	public static final String HTTP_REQUEST_TIME = "httprequest";
 
+    /**
+     * Name of the {@link TimingInfo} counter holding the number of times a
+     * request was retried because the service throttled it.
+     */
+    public static final String THROTTLED_RETRIES_COUNTER = "throttled-retries";
+
     /** Maximum exponential back-off time before retrying a request */
     private static final int MAX_BACKOFF_IN_MILLISECONDS = 20 * 1000;
 
@@ -87,9 +114,26 @@ public class AmazonHttpClient {
     private static HttpRequestFactory httpRequestFactory = new HttpRequestFactory();
     private static HttpClientFactory httpClientFactory = new HttpClientFactory();
 
+    /** Shared timer for scheduling retries of non-blocking requests. */
+    private static ScheduledExecutorService retryTimer;
+
 	/** Internal system property to enable advanced timing info collection. */
 	public static final String PROFILING_SYSTEM_PROPERTY = "com.amazonaws.sdk.enableRuntimeProfiling";
 
+    /** Whether advanced timing info collection was enabled when this class was loaded. */
+    private static final boolean profilingEnabled = System.getProperty(PROFILING_SYSTEM_PROPERTY) != null;
+
+    /**
+     * System property that makes clients configured without a request metrics
+     * collector collect metrics with the shared
+     * {@link JmxRequestMetricsCollector#getDefaultCollector() default collector},
+     * which exposes them over JMX.
+     */
+    public static final String DEFAULT_METRICS_SYSTEM_PROPERTY = "com.amazonaws.sdk.enableDefaultMetrics";
+
+    /** Collector of the metrics of every request, or null if metrics aren't collected. */
+    private final RequestMetricsCollector metricsCollector;
+
     static {
         // Customers have reported XML parsing issues with the following
         // JVM versions, which don't occur with more recent versions, so
@@ -114,6 +158,59 @@ public class AmazonHttpClient {
     public AmazonHttpClient(ClientConfiguration clientConfiguration) {
         this.config = clientConfiguration;
         this.httpClient = httpClientFactory.createHttpClient(config);
+        this.metricsCollector = createMetricsCollector(config);
+    }
+
+    /**
+     * Constructs a new AWS client using the specified client configuration
+     * options and a custom non-blocking transport for asynchronous requests.
+     *
+     * @param clientConfiguration
+     *            Configuration options specifying how this client will
+     *            communicate with AWS (ex: proxy settings, retry count, etc.).
+     * @param asyncTransport
+     *            The non-blocking transport used to send asynchronous
+     *            requests, or null if asynchronous requests should be executed
+     *            as blocking requests on the caller's executor.
+     */
+    public AmazonHttpClient(ClientConfiguration clientConfiguration, AsyncHttpTransport asyncTransport) {
+        this.config = clientConfiguration;
+        this.httpClient = httpClientFactory.createHttpClient(config);
+        this.asyncTransport = asyncTransport;
+        this.asyncTransportInitialized = true;
+        this.metricsCollector = createMetricsCollector(config);
+    }
+
+    private static RequestMetricsCollector createMetricsCollector(ClientConfiguration config) {
+        if (config.getRequestMetricsCollector() != null) return config.getRequestMetricsCollector();
+        if (System.getProperty(DEFAULT_METRICS_SYSTEM_PROPERTY) != null) {
+            return JmxRequestMetricsCollector.getDefaultCollector();
+        }
+        return null;
+    }
+
+    /**
+     * Creates the default non-blocking transport for the specified
+     * configuration, or returns null if non-blocking I/O isn't enabled or
+     * can't be used with the configuration (ex: when a proxy is configured).
+     */
+    private synchronized AsyncHttpTransport getAsyncTransport() {
+        if (!asyncTransportInitialized) {
+            asyncTransport = createAsyncTransport(config);
+            asyncTransportInitialized = true;
+        }
+        return asyncTransport;
+    }
+
+    private static AsyncHttpTransport createAsyncTransport(ClientConfiguration config) {
+        if (!config.isUseNonBlockingIo()) return null;
+
+        if (config.getProxyHost() != null && config.getProxyPort() > 0) {
+            log.info("Non-blocking I/O is not supported through a proxy; " +
+                    "asynchronous requests will use the blocking HTTP client.");
+            return null;
+        }
+        return new NioHttpTransport(config);
     }
 
     /**
@@ -154,21 +251,25 @@ public class AmazonHttpClient {
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
     		ExecutionContext executionContext) throws AmazonClientException, AmazonServiceException {
     	long startTime = System.currentTimeMillis();
+    	long startNanos = System.nanoTime();
 
     	if (executionContext == null) throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
     	List<RequestHandler> requestHandlers = executionContext.getRequestHandlers();
     	if (requestHandlers == null) requestHandlers = new ArrayList<RequestHandler>();
 
         // Apply any additional service specific request handlers that need to be run
-        for ( RequestHandler requestHandler : requestHandlers ) {
-            requestHandler.beforeRequest(request);
-        }
+        beforeRequest(requestHandlers, request);
 
+    	RequestMetrics metrics = startRequestMetrics(request, executionContext);
+    	AmazonClientException exception = null;
     	try {
     		TimingInfo timingInfo = new TimingInfo(startTime);
     		executionContext.setTimingInfo(timingInfo);
+    		pause(getPacingDelay(requestHandlers, request));
     		T t = executeHelper(request, responseHandler, errorResponseHandler, executionContext);
     		timingInfo.setEndTime(System.currentTimeMillis());
+    		collectRequestMetrics(metrics, startNanos, true, null);
+    		metrics = null;
 
 			for (RequestHandler handler : requestHandlers) {
 				try {
@@ -177,13 +278,201 @@ public class AmazonHttpClient {
         	}
     		return t;
     	} catch (AmazonClientException e) {
+    		exception = e;
 			for (RequestHandler handler : requestHandlers) {
         		handler.afterError(request, e);
         	}
         	throw e;
+    	} catch (RuntimeException re) {
+			for (RequestHandler handler : requestHandlers) {
+        		handler.afterError(request, re);
+        	}
+        	throw re;
+    	} finally {
+    		// Metrics are only still pending if the request failed, with any kind of error
+    		collectRequestMetrics(metrics, startNanos, false, exception);
     	}
     }
 
+    /**
+     * Runs each request handler's beforeRequest on the specified request. If
+     * one of them fails, the handlers that already ran are notified through
+     * afterError, so that they can release anything they set up for the
+     * request.
+     */
+    private static void beforeRequest(List<RequestHandler> requestHandlers, Request<?> request) {
+        int handlersRun = 0;
+        try {
+            for (RequestHandler requestHandler : requestHandlers) {
+                requestHandler.beforeRequest(request);
+                handlersRun++;
+            }
+        } catch (RuntimeException re) {
+            for (RequestHandler handler : requestHandlers.subList(0, handlersRun)) {
+                try {
+                    handler.afterError(request, re);
+                } catch (RuntimeException e) {
+                    log.warn("Unable to notify request handler of failed request: " + e.getMessage(), e);
+                }
+            }
+            throw re;
+        }
+    }
+
+    /**
+     * Returns how long the specified request should wait before it is sent,
+     * in milliseconds: the longest delay asked for by any of the request
+     * handlers that pace requests.
+     */
+    private static long getPacingDelay(List<RequestHandler> requestHandlers, Request<?> request) {
+        long delay = 0;
+        for (RequestHandler handler : requestHandlers) {
+            if (handler instanceof PacingRequestHandler) {
+                delay = Math.max(delay, ((PacingRequestHandler)handler).getDelayBeforeSending(request));
+            }
+        }
+        return delay;
+    }
+
+    /**
+     * Creates the metrics to gather for the specified request and sets them
+     * on its execution context, or returns null if this client doesn't
+     * collect request metrics.
+     */
+    private RequestMetrics startRequestMetrics(Request<?> request, ExecutionContext executionContext) {
+        if (metricsCollector == null) return null;
+
+        RequestMetrics metrics = new RequestMetrics(request.getServiceName(), getOperationName(request));
+        executionContext.setRequestMetrics(metrics);
+        return metrics;
+    }
+
+    /**
+     * Completes the metrics gathered for a request and passes them to this
+     * client's collector. Does nothing if the metrics are null.
+     *
+     * @param exception
+     *            The exception the request failed with, if it failed with an
+     *            AmazonClientException, or null.
+     */
+    private void collectRequestMetrics(RequestMetrics metrics, long startNanos, boolean successful,
+            AmazonClientException exception) {
+        if (metrics == null) return;
+
+        metrics.setTotalTime(System.nanoTime() - startNanos);
+        metrics.setSuccessful(successful);
+        if (exception instanceof AmazonServiceException) {
+            metrics.setErrorCode(((AmazonServiceException)exception).getErrorCode());
+        }
+        try {
+            metricsCollector.collectMetrics(metrics);
+        } catch (RuntimeException re) {
+            log.warn("Unable to collect request metrics: " + re.getMessage(), re);
+        }
+    }
+
+    /**
+     * Returns the name of the operation the specified request invokes, taken
+     * from the class of its original request (ex: "PutObject" for a
+     * PutObjectRequest), or from its action parameter if it has no original
+     * request.
+     */
+    private static String getOperationName(Request<?> request) {
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        if (originalRequest != null) {
+            String name = originalRequest.getClass().getSimpleName();
+            if (name.endsWith("Request") && name.length() > "Request".length()) {
+                name = name.substring(0, name.length() - "Request".length());
+            }
+            if (name.length() > 0) return name;
+        }
+        String action = request.getParameters().get("Action");
+        return (action != null) ? action : String.valueOf(request.getHttpMethod());
+    }
+
+    /**
+     * Starts executing the request and returns a Future for the result.
+     * <p>
+     * If this client has a non-blocking transport, the request is sent without
+     * blocking any thread while waiting on the network, and the executor is
+     * only used to unmarshall responses and run request handler callbacks.
+     * Otherwise each attempt of the request is sent with a blocking call on
+     * the executor. Either way, retries are scheduled on a shared timer rather
+     * than by sleeping, so no executor thread is tied up between attempts.
+     *
+     * @param request
+     *            The AmazonWebServices request to send to the remote server
+     * @param responseHandler
+     *            A response handler to accept a successful response from the
+     *            remote server
+     * @param errorResponseHandler
+     *            A response handler to accept an unsuccessful response from the
+     *            remote server
+     * @param executionContext
+     *            Additional information about the context of this web service
+     *            call
+     * @param executorService
+     *            The executor used to process responses (or, without a
+     *            non-blocking transport, to send each attempt of the request).
+     *
+     * @return A Future for the unmarshalled result of the request.
+     */
+    public <T> Future<T> executeAsync(final Request<?> request,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext, ExecutorService executorService) {
+        Callable<Request<?>> requestFactory = new Callable<Request<?>>() {
+            public Request<?> call() {
+                return request;
+            }
+        };
+        return executeAsync(requestFactory, responseHandler, errorResponseHandler, executionContext, executorService);
+    }
+
+    /**
+     * Starts executing the request created by the specified factory and
+     * returns a Future for the result. The factory is called on the executor
+     * before the request is sent, so any work it does to build the request
+     * (ex: marshalling it, or resolving the credentials to sign it with) is
+     * done asynchronously, and any exception it throws is reported through
+     * the returned Future.
+     *
+     * @param requestFactory
+     *            Creates the AmazonWebServices request to send to the remote
+     *            server
+     * @param responseHandler
+     *            A response handler to accept a successful response from the
+     *            remote server
+     * @param errorResponseHandler
+     *            A response handler to accept an unsuccessful response from the
+     *            remote server
+     * @param executionContext
+     *            Additional information about the context of this web service
+     *            call
+     * @param executorService
+     *            The executor used to create the request and process responses
+     *            (or, without a non-blocking transport, to send each attempt
+     *            of the request).
+     *
+     * @return A Future for the unmarshalled result of the request.
+     *
+     * @see #executeAsync(Request, HttpResponseHandler, HttpResponseHandler, ExecutionContext, ExecutorService)
+     */
+    public <T> Future<T> executeAsync(Callable<? extends Request<?>> requestFactory,
+            HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+            HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+            ExecutionContext executionContext, ExecutorService executorService) {
+        if (executionContext == null) throw new AmazonClientException("Internal SDK Error: No execution context parameter specified.");
+        final AsyncExecution<T> execution = new AsyncExecution<T>(getAsyncTransport(), requestFactory,
+                responseHandler, errorResponseHandler, executionContext, executorService);
+        execution.dispatch(new Runnable() {
+            public void run() {
+                execution.start();
+            }
+        });
+        return execution.future;
+    }
+
 	/**
      * Internal method to execute the HTTP method given.
      *
@@ -195,109 +484,31 @@ public class AmazonHttpClient {
             HttpResponseHandler<AmazonServiceException> errorResponseHandler,
             ExecutionContext executionContext)
             throws AmazonClientException, AmazonServiceException {
-
-        /*
-         * Depending on which response handler we end up choosing to handle the
-         * HTTP response, it might require us to leave the underlying HTTP
-         * connection open, depending on whether or not it reads the complete
-         * HTTP response stream from the HTTP connection, or if delays reading
-         * any of the content until after a response is returned to the caller.
-         */
-        boolean leaveHttpConnectionOpen = false;
-
-        if (requestLog.isDebugEnabled()) {
-            requestLog.debug("Sending Request: " + request.toString());
-        }
-
-        // Apply whatever request options we know how to handle, such as user-agent.
-        applyRequestData(request);
-
-        int retryCount = 0;
-        URI redirectedURI = null;
-        HttpEntity entity = null;
-        AmazonServiceException exception = null;
-
-        // Make a copy of the original request params and headers so that we can
-        // permute it in this loop and start over with the original every time.
-        Map<String, String> originalParameters = new HashMap<String, String>();
-        originalParameters.putAll(request.getParameters());
-        Map<String, String> originalHeaders = new HashMap<String, String>();
-        originalHeaders.putAll(request.getHeaders());
+        RequestExecution<T> execution = new RequestExecution<T>(request, responseHandler, errorResponseHandler,
+                executionContext);
 
         while (true) {
-            if ( retryCount > 0 ) {
-                request.setParameters(originalParameters);
-                request.setHeaders(originalHeaders);
-            }
-
-        	// Sign the request if a signer was provided
-        	if (executionContext.getSigner() != null && executionContext.getCredentials() != null) {
-        		executionContext.getSigner().sign(request, executionContext.getCredentials());
-        	}
-
-            HttpRequestBase httpRequest = httpRequestFactory.createHttpRequest(request, config, entity, executionContext);
-
-            if (httpRequest instanceof HttpEntityEnclosingRequest) {
-            	entity = ((HttpEntityEnclosingRequest)httpRequest).getEntity();
-            }
-
-            if (redirectedURI != null) {
-            	httpRequest.setURI(redirectedURI);
-            }
+            pause(execution.getBackoffDelay());
 
+            /*
+             * Depending on which response handler we end up choosing to handle the
+             * HTTP response, it might require us to leave the underlying HTTP
+             * connection open, depending on whether or not it reads the complete
+             * HTTP response stream from the HTTP connection, or if delays reading
+             * any of the content until after a response is returned to the caller.
+             */
+            boolean leaveHttpConnectionOpen = false;
             org.apache.http.HttpResponse response = null;
             try {
-                if ( retryCount > 0 ) {
-                    pauseExponentially(retryCount, exception, executionContext.getCustomBackoffStrategy());
-                    if ( entity != null ) {
-                        InputStream content = entity.getContent();
-                        if ( content.markSupported() ) {
-                            content.reset();
-                        }
-                    }
-                }
-
-                exception = null;
-                retryCount++;
-
-                long start = System.currentTimeMillis();
-                response = httpClient.execute(httpRequest);
-                long end = System.currentTimeMillis();
-                executionContext.getTimingInfo().addSubMeasurement(HTTP_REQUEST_TIME, new TimingInfo(start,end));
-
-                if (isRequestSuccessful(response)) {
-                    /*
-                     * If we get back any 2xx status code, then we know we should
-                     * treat the service call as successful.
-                     */
-                    leaveHttpConnectionOpen = responseHandler.needsConnectionLeftOpen();
-                    return handleResponse(request, responseHandler, httpRequest, response, executionContext);
-                } else if (isTemporaryRedirect(response)) {
-                    /*
-                     * S3 sends 307 Temporary Redirects if you try to delete an
-                     * EU bucket from the US endpoint. If we get a 307, we'll
-                     * point the HTTP method to the redirected location, and let
-                     * the next retry deliver the request to the right location.
-                     */
-                    Header[] locationHeaders = response.getHeaders("location");
-                    String redirectedLocation = locationHeaders[0].getValue();
-                    log.debug("Redirecting to: " + redirectedLocation);
-                    redirectedURI = URI.create(redirectedLocation);
-                    httpRequest.setURI(redirectedURI);
-                } else {
-                    leaveHttpConnectionOpen = errorResponseHandler.needsConnectionLeftOpen();
-                    exception = handleErrorResponse(request, errorResponseHandler, httpRequest, response);
+                HttpRequestBase httpRequest = execution.prepareAttempt();
+                response = executeAttempt(httpRequest, executionContext);
+                leaveHttpConnectionOpen = execution.needsConnectionLeftOpen(response);
 
-                    if (!shouldRetry(httpRequest, exception, retryCount)) {
-                        throw exception;
-                    }
+                if (execution.handleAttemptResponse(response)) {
+                    return execution.getResult();
                 }
             } catch (IOException ioe) {
-                log.warn("Unable to execute HTTP request: " + ioe.getMessage());
-
-                if (!shouldRetry(httpRequest, ioe, retryCount)) {
-                    throw new AmazonClientException("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
-                }
+                execution.handleAttemptFailure(ioe);
             } finally {
                 /*
                  * Some response handlers need to manually manage the HTTP
@@ -313,6 +524,50 @@ public class AmazonHttpClient {
         }
     }
 
+    /**
+     * Sends an attempt of a request with the blocking HTTP client, and
+     * records how long it took to get the response.
+     */
+    private org.apache.http.HttpResponse executeAttempt(HttpRequestBase httpRequest,
+            ExecutionContext executionContext) throws IOException {
+        RequestMetrics metrics = executionContext.getRequestMetrics();
+        long startNanos = 0;
+        if (metrics != null) {
+            startNanos = System.nanoTime();
+            TimedConnectionManager.startMeasuring();
+        }
+
+        long start = System.currentTimeMillis();
+        org.apache.http.HttpResponse response;
+        try {
+            response = httpClient.execute(httpRequest);
+        } finally {
+            if (metrics != null) {
+                metrics.addConnectionPoolWaitTime(TimedConnectionManager.stopMeasuring());
+                metrics.addHttpRequestTime(System.nanoTime() - startNanos);
+            }
+        }
+        long end = System.currentTimeMillis();
+        executionContext.getTimingInfo().addSubMeasurement(HTTP_REQUEST_TIME, new TimingInfo(start, end));
+        return response;
+    }
+
+    /**
+     * Counts an attempt of a request, and the request content it sends, in
+     * the request's metrics. Does nothing if the metrics are null.
+     */
+    private static void recordAttempt(RequestMetrics metrics, HttpRequestBase httpRequest, int retryCount) {
+        if (metrics == null) return;
+
+        if (retryCount > 0) metrics.incrementRetries();
+        if (httpRequest instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest)httpRequest).getEntity();
+            if (entity != null && entity.getContentLength() > 0) {
+                metrics.addBytesSent(entity.getContentLength());
+            }
+        }
+    }
+
     /**
      * Applies any additional options set in the request.
      */
@@ -348,8 +603,16 @@ public class AmazonHttpClient {
      * Once a client has been shutdown, it cannot be used to make more requests.
      */
     public void shutdown() {
-        IdleConnectionReaper.removeConnectionManager(httpClient.getConnectionManager());
-        httpClient.getConnectionManager().shutdown();
+        // A shared connection pool is left open for the other clients using it
+        if (!(httpClient.getConnectionManager() instanceof ConnectionPool.SharedConnectionManager)) {
+            IdleConnectionReaper.removeConnectionManager(httpClient.getConnectionManager());
+            httpClient.getConnectionManager().shutdown();
+        }
+        synchronized (this) {
+            if (asyncTransport != null) asyncTransport.shutdown();
+            asyncTransport = null;
+            asyncTransportInitialized = true;
+        }
     }
 
     /**
@@ -459,17 +722,31 @@ public class AmazonHttpClient {
         }
 
         try {
+            RequestMetrics metrics = executionContext.getRequestMetrics();
             CountingInputStream countingInputStream = null;
-        	if (System.getProperty(PROFILING_SYSTEM_PROPERTY) != null) {
+        	if (profilingEnabled || metrics != null) {
                 countingInputStream = new CountingInputStream(httpResponse.getContent());
                 httpResponse.setContent(countingInputStream);
             }
 
             long startTime = System.currentTimeMillis();
+            long startNanos = (metrics != null) ? System.nanoTime() : 0;
             AmazonWebServiceResponse<? extends T> awsResponse = responseHandler.handle(httpResponse);
             long endTime = System.currentTimeMillis();
 
-        	if (System.getProperty(PROFILING_SYSTEM_PROPERTY) != null) {
+            if (metrics != null) {
+                metrics.setResponseProcessingTime(System.nanoTime() - startNanos);
+
+                // Content left open for the caller to read is counted by its declared length
+                long bytesReceived = countingInputStream.getByteCount();
+                HttpEntity entity = apacheHttpResponse.getEntity();
+                if (responseHandler.needsConnectionLeftOpen() && entity != null) {
+                    bytesReceived = Math.max(bytesReceived, entity.getContentLength());
+                }
+                metrics.addBytesReceived(bytesReceived);
+            }
+
+        	if (profilingEnabled) {
 	            if (executionContext.getTimingInfo() != null) {
 	            	TimingInfo timingInfo = executionContext.getTimingInfo();
 	            	TimingInfo responseProcessingTiming = new TimingInfo(startTime, endTime);
@@ -590,15 +867,31 @@ public class AmazonHttpClient {
     }
 
     /**
-     * Exponential sleep on failed request to avoid flooding a service with
-     * retries.
+     * Sleeps before an attempt of a request, to avoid flooding a service with
+     * retries or to hold the request back for a pacing request handler.
+     *
+     * @param delay
+     *            The time to sleep, in milliseconds.
+     */
+    private void pause(long delay) {
+        if (delay <= 0) return;
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+        	throw new AmazonClientException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the exponential back-off delay (in milliseconds) before the next
+     * attempt of a failed request.
      *
      * @param retries
      *            Current retry count.
      * @param previousException
      *            Exception information for the previous attempt, if any.
      */
-    private void pauseExponentially(int retries, AmazonServiceException previousException, CustomBackoffStrategy backoffStrategy) {
+    private long computeBackoffDelay(int retries, AmazonServiceException previousException, CustomBackoffStrategy backoffStrategy) {
         long delay = 0;
         if (backoffStrategy != null) {
             delay = backoffStrategy.getBackoffPeriod(retries);
@@ -615,12 +908,24 @@ public class AmazonHttpClient {
             log.debug("Retriable error detected, " +
             		"will retry in " + delay + "ms, attempt number: " + retries);
         }
+        return delay;
+    }
 
-        try {
-            Thread.sleep(delay);
-        } catch (InterruptedException e) {
-        	throw new AmazonClientException(e.getMessage(), e);
+    /**
+     * Counts a retry caused by the specified exception in the request's
+     * timing information and metrics, if the exception is a throttling error,
+     * so that request handlers can tell how often the service pushed back.
+     */
+    private void countThrottledRetry(AmazonServiceException exception, ExecutionContext executionContext) {
+        if (!isThrottlingException(exception)) return;
+        if (executionContext.getRequestMetrics() != null) {
+            executionContext.getRequestMetrics().incrementThrottledRetries();
         }
+        if (executionContext.getTimingInfo() == null) return;
+
+        TimingInfo timingInfo = executionContext.getTimingInfo();
+        Number throttledRetries = timingInfo.getCounter(THROTTLED_RETRIES_COUNTER);
+        timingInfo.addCounter(THROTTLED_RETRIES_COUNTER, throttledRetries == null ? 1 : throttledRetries.intValue() + 1);
     }
 
     /**
@@ -639,6 +944,459 @@ public class AmazonHttpClient {
             || "ProvisionedThroughputExceededException".equals(ase.getErrorCode());
     }
 
+    /** Returns the shared timer used to schedule retries of non-blocking requests. */
+    private static synchronized ScheduledExecutorService getRetryTimer() {
+        if (retryTimer == null) {
+            retryTimer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "java-sdk-retry-timer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return retryTimer;
+    }
+
+    /**
+     * Future completed by an {@link AsyncExecution}, rather than by running a
+     * task.
+     */
+    private static final class ResponseFuture<T> extends FutureTask<T> {
+        private ResponseFuture() {
+            super(new Callable<T>() {
+                public T call() throws Exception {
+                    throw new IllegalStateException("Response futures are completed explicitly");
+                }
+            });
+        }
+
+        private void complete(T result) {
+            set(result);
+        }
+
+        private void fail(Throwable t) {
+            setException(t);
+        }
+    }
+
+    /**
+     * The state of a request across its attempts: the parameters and headers
+     * each attempt starts over from, the entity they share, where the request
+     * was redirected, and the error that prompted its latest retry. The
+     * blocking and asynchronous paths both send their attempts through it, so
+     * requests are signed, redirected, retried and unmarshalled the same way
+     * whichever path executes them.
+     */
+    private final class RequestExecution<T> {
+        private final Request<?> request;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+
+        // Copies of the original request params and headers, so that each
+        // attempt can permute them and start over with the original.
+        private final Map<String, String> originalParameters;
+        private final Map<String, String> originalHeaders;
+
+        private int retryCount = 0;
+        private URI redirectedURI = null;
+        private HttpEntity entity = null;
+        private AmazonServiceException exception = null;
+
+        /** The HTTP request of the latest attempt. */
+        private HttpRequestBase httpRequest;
+        private T result;
+
+        private RequestExecution(Request<?> request,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                ExecutionContext executionContext) {
+            this.request = request;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+
+            if (requestLog.isDebugEnabled()) {
+                requestLog.debug("Sending Request: " + request.toString());
+            }
+
+            // Apply whatever request options we know how to handle, such as user-agent.
+            applyRequestData(request);
+
+            originalParameters = new HashMap<String, String>(request.getParameters());
+            originalHeaders = new HashMap<String, String>(request.getHeaders());
+        }
+
+        /**
+         * Returns how long to wait, in milliseconds, before the next attempt;
+         * zero before the first one.
+         */
+        private long getBackoffDelay() {
+            if (retryCount == 0) return 0;
+            return computeBackoffDelay(retryCount, exception, executionContext.getCustomBackoffStrategy());
+        }
+
+        /**
+         * Signs the request and creates the HTTP request for its next attempt.
+         *
+         * @throws IOException
+         *             If the request content can't be reset for a retry.
+         */
+        private HttpRequestBase prepareAttempt() throws IOException {
+            if (retryCount > 0) {
+                request.setParameters(originalParameters);
+                request.setHeaders(originalHeaders);
+            }
+
+            // Sign the request if a signer was provided
+            if (executionContext.getSigner() != null && executionContext.getCredentials() != null) {
+                executionContext.getSigner().sign(request, executionContext.getCredentials());
+            }
+
+            httpRequest = httpRequestFactory.createHttpRequest(request, config, entity, executionContext);
+            if (httpRequest instanceof HttpEntityEnclosingRequest) {
+                entity = ((HttpEntityEnclosingRequest)httpRequest).getEntity();
+            }
+            if (redirectedURI != null) {
+                httpRequest.setURI(redirectedURI);
+            }
+
+            boolean retry = retryCount > 0;
+            exception = null;
+            recordAttempt(executionContext.getRequestMetrics(), httpRequest, retryCount);
+            retryCount++;
+
+            if (retry && entity != null) {
+                InputStream content = entity.getContent();
+                if (content.markSupported()) {
+                    content.reset();
+                }
+            }
+            return httpRequest;
+        }
+
+        /**
+         * Returns true if the response to the latest attempt must be left
+         * open for the response handler that will process it.
+         */
+        private boolean needsConnectionLeftOpen(org.apache.http.HttpResponse response) {
+            if (isRequestSuccessful(response)) return responseHandler.needsConnectionLeftOpen();
+            return !isTemporaryRedirect(response) && errorResponseHandler.needsConnectionLeftOpen();
+        }
+
+        /**
+         * Handles the response to the latest attempt.
+         *
+         * @return True if the response completed the request, and its result
+         *         is available from {@link #getResult()}; false if the
+         *         request should be attempted again.
+         *
+         * @throws AmazonServiceException
+         *             If the service returned an error, and the request
+         *             shouldn't be retried.
+         */
+        private boolean handleAttemptResponse(org.apache.http.HttpResponse response) throws IOException {
+            if (isRequestSuccessful(response)) {
+                /*
+                 * If we get back any 2xx status code, then we know we should
+                 * treat the service call as successful.
+                 */
+                result = handleResponse(request, responseHandler, httpRequest, response, executionContext);
+                return true;
+            } else if (isTemporaryRedirect(response)) {
+                /*
+                 * S3 sends 307 Temporary Redirects if you try to delete an
+                 * EU bucket from the US endpoint. If we get a 307, we'll
+                 * point the HTTP method to the redirected location, and let
+                 * the next retry deliver the request to the right location.
+                 */
+                Header[] locationHeaders = response.getHeaders("location");
+                String redirectedLocation = locationHeaders[0].getValue();
+                log.debug("Redirecting to: " + redirectedLocation);
+                redirectedURI = URI.create(redirectedLocation);
+                return false;
+            }
+
+            exception = handleErrorResponse(request, errorResponseHandler, httpRequest, response);
+            if (!shouldRetry(httpRequest, exception, retryCount)) {
+                throw exception;
+            }
+            countThrottledRetry(exception, executionContext);
+            return false;
+        }
+
+        /**
+         * Handles an I/O error sending the latest attempt.
+         *
+         * @throws AmazonClientException
+         *             If the request shouldn't be retried.
+         */
+        private void handleAttemptFailure(IOException ioe) {
+            log.warn("Unable to execute HTTP request: " + ioe.getMessage());
+
+            if (!shouldRetry(httpRequest, ioe, retryCount)) {
+                throw new AmazonClientException("Unable to execute HTTP request: " + ioe.getMessage(), ioe);
+            }
+        }
+
+        private T getResult() {
+            return result;
+        }
+    }
+
+    /**
+     * State machine driving a single asynchronous request through a
+     * {@link RequestExecution}. The request is created on the executor, and
+     * its attempts are sent through the non-blocking transport if there is
+     * one, and otherwise with the blocking HTTP client on the executor;
+     * between attempts, the next one is scheduled on the shared retry timer.
+     */
+    private final class AsyncExecution<T> implements AsyncHttpTransport.ResponseCallback {
+        /** The non-blocking transport, or null to send attempts with the blocking client. */
+        private final AsyncHttpTransport transport;
+        private final Callable<? extends Request<?>> requestFactory;
+        private final HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler;
+        private final HttpResponseHandler<AmazonServiceException> errorResponseHandler;
+        private final ExecutionContext executionContext;
+        private final ExecutorService executorService;
+        private final ResponseFuture<T> future = new ResponseFuture<T>();
+
+        private Request<?> request;
+        private RequestExecution<T> execution;
+        private List<RequestHandler> requestHandlers;
+        private long startNanos;
+        private long attemptStartTime;
+        private long attemptStartNanos;
+
+        private AsyncExecution(AsyncHttpTransport transport, Callable<? extends Request<?>> requestFactory,
+                HttpResponseHandler<AmazonWebServiceResponse<T>> responseHandler,
+                HttpResponseHandler<AmazonServiceException> errorResponseHandler,
+                ExecutionContext executionContext, ExecutorService executorService) {
+            this.transport = transport;
+            this.requestFactory = requestFactory;
+            this.responseHandler = responseHandler;
+            this.errorResponseHandler = errorResponseHandler;
+            this.executionContext = executionContext;
+            this.executorService = executorService;
+
+            requestHandlers = executionContext.getRequestHandlers();
+            if (requestHandlers == null) requestHandlers = new ArrayList<RequestHandler>();
+        }
+
+        /**
+         * Creates the request and sends its first attempt, on the executor,
+         * once any delay asked for by pacing request handlers has passed.
+         */
+        private void start() {
+            long startTime = System.currentTimeMillis();
+            startNanos = System.nanoTime();
+            try {
+                request = requestFactory.call();
+                beforeRequest(requestHandlers, request);
+            } catch (AmazonClientException ace) {
+                future.fail(ace);
+                return;
+            } catch (Exception e) {
+                future.fail(new AmazonClientException("Unable to create request: " + e.getMessage(), e));
+                return;
+            }
+            executionContext.setTimingInfo(new TimingInfo(startTime));
+            startRequestMetrics(request, executionContext);
+
+            long delay;
+            try {
+                delay = getPacingDelay(requestHandlers, request);
+                execution = new RequestExecution<T>(request, responseHandler, errorResponseHandler, executionContext);
+            } catch (RuntimeException re) {
+                fail(new AmazonClientException("Unable to execute HTTP request: " + re.getMessage(), re));
+                return;
+            }
+            if (delay > 0) {
+                scheduleAttempt(delay);
+            } else {
+                attempt();
+            }
+        }
+
+        /** Prepares and sends the next attempt of the request. */
+        private void attempt() {
+            if (future.isCancelled()) {
+                // Still notify the request handlers, so they can release what they set up
+                fail(new AmazonClientException("Request was canceled"));
+                return;
+            }
+
+            HttpRequestBase httpRequest;
+            try {
+                httpRequest = execution.prepareAttempt();
+            } catch (IOException ioe) {
+                handleIOException(ioe);
+                return;
+            } catch (AmazonClientException ace) {
+                fail(ace);
+                return;
+            } catch (RuntimeException re) {
+                fail(new AmazonClientException("Unable to execute HTTP request: " + re.getMessage(), re));
+                return;
+            }
+
+            attemptStartTime = System.currentTimeMillis();
+            attemptStartNanos = System.nanoTime();
+            if (transport == null) {
+                executeBlocking(httpRequest);
+                return;
+            }
+            try {
+                transport.execute(httpRequest, this);
+            } catch (RuntimeException re) {
+                fail(new AmazonClientException("Unable to execute HTTP request: " + re.getMessage(), re));
+            }
+        }
+
+        /**
+         * Sends the current attempt with the blocking HTTP client and handles
+         * its response, on the executor thread running the attempt.
+         */
+        private void executeBlocking(HttpRequestBase httpRequest) {
+            org.apache.http.HttpResponse response;
+            try {
+                response = executeAttempt(httpRequest, executionContext);
+            } catch (IOException ioe) {
+                handleIOException(ioe);
+                return;
+            }
+
+            boolean leaveHttpConnectionOpen = execution.needsConnectionLeftOpen(response);
+            try {
+                handle(response);
+            } finally {
+                if (!leaveHttpConnectionOpen) {
+                    try {response.getEntity().getContent().close();} catch (Throwable t) {}
+                }
+            }
+        }
+
+        public void completed(final org.apache.http.HttpResponse response) {
+            long end = System.currentTimeMillis();
+            executionContext.getTimingInfo().addSubMeasurement(HTTP_REQUEST_TIME, new TimingInfo(attemptStartTime, end));
+            if (executionContext.getRequestMetrics() != null) {
+                executionContext.getRequestMetrics().addHttpRequestTime(System.nanoTime() - attemptStartNanos);
+            }
+
+            dispatch(new Runnable() {
+                public void run() {
+                    handle(response);
+                }
+            });
+        }
+
+        public void failed(final IOException ioe) {
+            dispatch(new Runnable() {
+                public void run() {
+                    handleIOException(ioe);
+                }
+            });
+        }
+
+        private void handle(org.apache.http.HttpResponse response) {
+            try {
+                if (execution.handleAttemptResponse(response)) {
+                    complete(execution.getResult());
+                } else {
+                    scheduleAttempt(execution.getBackoffDelay());
+                }
+            } catch (IOException ioe) {
+                handleIOException(ioe);
+            } catch (AmazonClientException ace) {
+                fail(ace);
+            } catch (RuntimeException re) {
+                fail(new AmazonClientException("Unable to handle HTTP response: " + re.getMessage(), re));
+            }
+        }
+
+        private void handleIOException(IOException ioe) {
+            try {
+                execution.handleAttemptFailure(ioe);
+            } catch (AmazonClientException ace) {
+                fail(ace);
+                return;
+            }
+            scheduleAttempt(execution.getBackoffDelay());
+        }
+
+        /**
+         * Sends the next attempt on the executor once the specified delay, in
+         * milliseconds, has passed. The delay is kept on the shared retry
+         * timer, so no executor thread is tied up while waiting.
+         */
+        private void scheduleAttempt(long delay) {
+            final Runnable attempt = new Runnable() {
+                public void run() {
+                    attempt();
+                }
+            };
+            if (delay <= 0) {
+                // Let a blocking attempt release its connection first
+                dispatch(attempt);
+                return;
+            }
+            try {
+                getRetryTimer().schedule(new Runnable() {
+                    public void run() {
+                        dispatch(attempt);
+                    }
+                }, delay, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ree) {
+                fail(new AmazonClientException("Unable to schedule request retry: " + ree.getMessage(), ree));
+            }
+        }
+
+        /** Runs request creation, response processing, or a blocking attempt, on the caller's executor. */
+        private void dispatch(Runnable task) {
+            try {
+                executorService.execute(task);
+            } catch (RejectedExecutionException ree) {
+                AmazonClientException ace = new AmazonClientException("Unable to process HTTP response: " + ree.getMessage(), ree);
+                if (request == null) {
+                    future.fail(ace);
+                } else {
+                    fail(ace);
+                }
+            }
+        }
+
+        private void complete(T result) {
+            TimingInfo timingInfo = executionContext.getTimingInfo();
+            timingInfo.setEndTime(System.currentTimeMillis());
+            collectRequestMetrics(executionContext.getRequestMetrics(), startNanos, true, null);
+            try {
+                for (RequestHandler handler : requestHandlers) {
+                    try {
+                        handler.afterResponse(request, result, timingInfo);
+                    } catch (ClassCastException cce) {}
+                }
+            } catch (RuntimeException re) {
+                future.fail(re);
+                return;
+            }
+            future.complete(result);
+        }
+
+        private void fail(AmazonClientException ace) {
+            collectRequestMetrics(executionContext.getRequestMetrics(), startNanos, false, ace);
+            try {
+                for (RequestHandler handler : requestHandlers) {
+                    handler.afterError(request, ace);
+                }
+            } catch (RuntimeException re) {
+                future.fail(re);
+                return;
+            }
+            future.fail(ace);
+        }
+    }
+
     @Override
     protected void finalize() throws Throwable {
         this.shutdown();
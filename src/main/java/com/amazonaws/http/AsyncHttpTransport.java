@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.IOException;
+
+import org.apache.http.client.methods.HttpRequestBase;
+
+/**
+ * Pluggable, non-blocking transport used by {@link AmazonHttpClient} to send
+ * fully prepared (signed) HTTP requests without parking a thread for the
+ * duration of the network exchange.
+ * <p>
+ * Implementations must invoke exactly one of the callback methods for every
+ * request passed to {@link #execute(HttpRequestBase, ResponseCallback)}. The
+ * response delivered to the callback must have its entity (if any) fully
+ * buffered, so that it can be read without performing any further network
+ * I/O. Callbacks may be invoked on an internal I/O thread, so they should hand
+ * off any expensive work rather than doing it inline.
+ * <p>
+ * Signing, retries, redirects and request handler callbacks are all managed by
+ * {@link AmazonHttpClient}; transports are only responsible for moving bytes.
+ *
+ * @see NioHttpTransport
+ */
+public interface AsyncHttpTransport {
+
+    /**
+     * Starts sending the specified request and returns immediately. The
+     * outcome of the request is reported to the specified callback.
+     *
+     * @param request
+     *            The fully prepared HTTP request to send.
+     * @param callback
+     *            The callback to notify when the response has been completely
+     *            received or the exchange has failed.
+     */
+    public void execute(HttpRequestBase request, ResponseCallback callback);
+
+    /**
+     * Shuts down this transport, closing any open connections and failing any
+     * requests still in flight. Once a transport has been shutdown, it cannot
+     * be used to send more requests.
+     */
+    public void shutdown();
+
+    /**
+     * Receives the outcome of a request sent through an
+     * {@link AsyncHttpTransport}.
+     */
+    public interface ResponseCallback {
+
+        /**
+         * Called when a complete HTTP response (of any status code) has been
+         * received.
+         *
+         * @param response
+         *            The HTTP response, with its entity fully buffered.
+         */
+        public void completed(org.apache.http.HttpResponse response);
+
+        /**
+         * Called when the request could not be sent or the response could not
+         * be read.
+         *
+         * @param ioe
+         *            The I/O error that caused the exchange to fail.
+         */
+        public void failed(IOException ioe);
+    }
+}
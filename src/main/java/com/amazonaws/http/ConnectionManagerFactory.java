@@ -23,7 +23,12 @@ import com.amazonaws.ClientConfiguration;
 class ConnectionManagerFactory {
 
     public static ThreadSafeClientConnManager createThreadSafeClientConnManager( ClientConfiguration config, HttpParams httpClientParams ) {
-        ThreadSafeClientConnManager connectionManager = new ThreadSafeClientConnManager();
+        /* Clients configured with a shared pool all use its connection manager */
+        if (config.getConnectionPool() != null) {
+            return config.getConnectionPool().getConnectionManager();
+        }
+
+        ThreadSafeClientConnManager connectionManager = new TimedConnectionManager();
         connectionManager.setDefaultMaxPerRoute(config.getMaxConnections());
         connectionManager.setMaxTotal(config.getMaxConnections());
 
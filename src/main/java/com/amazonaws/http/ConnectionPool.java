@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+
+/**
+ * A pool of HTTP connections that can be shared by any number of clients, so
+ * that clients talking to the same endpoints reuse each other's open
+ * connections instead of each keeping its own.
+ * <p>
+ * The pool is bounded both in total and for each route (endpoint host, port
+ * and proxy); a client that needs a connection when its route's bound has been
+ * reached waits for one to be released. To use a pool, set it on the
+ * {@link com.amazonaws.ClientConfiguration} the clients are constructed with;
+ * the configuration's max connections setting then only applies to requests
+ * sent with non-blocking I/O, which keep connections of their own.
+ * <p>
+ * Shutting down a client that uses a shared pool leaves the pool open. The
+ * pool's connections are closed by {@link #shutdown()}, after which no client
+ * using it can make requests.
+ */
+public class ConnectionPool {
+
+    private final int maxConnections;
+    private final int maxConnectionsPerRoute;
+    private final SharedConnectionManager connectionManager;
+
+    /**
+     * Constructs a new connection pool.
+     *
+     * @param maxConnections
+     *            The maximum number of open connections in the pool.
+     * @param maxConnectionsPerRoute
+     *            The maximum number of open connections to any one route.
+     */
+    public ConnectionPool(int maxConnections, int maxConnectionsPerRoute) {
+        if (maxConnections < 1 || maxConnectionsPerRoute < 1) {
+            throw new IllegalArgumentException("Connection limits must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+
+        connectionManager = new SharedConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        IdleConnectionReaper.registerConnectionManager(connectionManager);
+    }
+
+    /**
+     * Returns the maximum number of open connections in the pool.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Returns the maximum number of open connections to any one route.
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Returns a snapshot of how many connections are leased by requests in
+     * progress, how many are open and available for reuse, and how many
+     * requests are waiting for a connection.
+     */
+    public ConnectionPoolStatistics getStatistics() {
+        int leased = connectionManager.leased.size();
+        int available = Math.max(0, connectionManager.getConnectionsInPool() - leased);
+        return new ConnectionPoolStatistics(leased, available, connectionManager.pending.get(), maxConnections);
+    }
+
+    /**
+     * Closes all the connections in the pool. Clients using the pool can't
+     * make any more requests afterwards.
+     */
+    public void shutdown() {
+        IdleConnectionReaper.removeConnectionManager(connectionManager);
+        connectionManager.shutdownPool();
+    }
+
+    ThreadSafeClientConnManager getConnectionManager() {
+        return connectionManager;
+    }
+
+    /**
+     * Connection manager of a shared pool. Clients shutting down don't close
+     * it, and it keeps track of its leased connections and of the requests
+     * waiting for one.
+     */
+    static final class SharedConnectionManager extends TimedConnectionManager {
+
+        private final Set<ManagedClientConnection> leased =
+                Collections.newSetFromMap(new ConcurrentHashMap<ManagedClientConnection, Boolean>());
+        private final AtomicInteger pending = new AtomicInteger();
+
+        @Override
+        public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+            final ClientConnectionRequest request = super.requestConnection(route, state);
+            return new ClientConnectionRequest() {
+                public ManagedClientConnection getConnection(long timeout, TimeUnit tunit)
+                        throws InterruptedException, ConnectionPoolTimeoutException {
+                    pending.incrementAndGet();
+                    try {
+                        ManagedClientConnection connection = request.getConnection(timeout, tunit);
+                        leased.add(connection);
+                        return connection;
+                    } finally {
+                        pending.decrementAndGet();
+                    }
+                }
+
+                public void abortRequest() {
+                    request.abortRequest();
+                }
+            };
+        }
+
+        @Override
+        public void releaseConnection(ManagedClientConnection connection, long validDuration, TimeUnit timeUnit) {
+            leased.remove(connection);
+            super.releaseConnection(connection, validDuration, timeUnit);
+        }
+
+        /** The pool outlives the clients using it, so they don't shut it down. */
+        @Override
+        public void shutdown() {
+        }
+
+        void shutdownPool() {
+            super.shutdown();
+            leased.clear();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+/**
+ * A snapshot of the state of a {@link ConnectionPool}.
+ */
+public class ConnectionPoolStatistics {
+
+    private final int leased;
+    private final int available;
+    private final int pending;
+    private final int maxConnections;
+
+    ConnectionPoolStatistics(int leased, int available, int pending, int maxConnections) {
+        this.leased = leased;
+        this.available = available;
+        this.pending = pending;
+        this.maxConnections = maxConnections;
+    }
+
+    /**
+     * Returns the number of connections in use by requests in progress.
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * Returns the number of open connections idle in the pool, available for
+     * reuse.
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * Returns the number of requests waiting for a connection.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Returns the maximum number of open connections in the pool.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStatistics [leased=" + leased + ", available=" + available + ", pending=" + pending
+                + ", maxConnections=" + maxConnections + "]";
+    }
+}
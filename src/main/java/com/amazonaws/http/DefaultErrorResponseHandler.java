@@ -4,9 +4,9 @@
  * Licensed under the Apache License, Version 2.0 (the "License").
  * You may not use this file except in compliance with the License.
  * A copy of the License is located at
- * 
+ *
  *  http://aws.amazon.com/apache2.0
- * 
+ *
  * or in the "license" file accompanying this file. This file is distributed
  * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
  * express or implied. See the License for the specific language governing
@@ -14,15 +14,31 @@
  */
 package com.amazonaws.http;
 
+import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamReader;
 
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.transform.LegacyErrorUnmarshaller;
+import com.amazonaws.transform.StandardErrorUnmarshaller;
 import com.amazonaws.transform.Unmarshaller;
-import com.amazonaws.util.XpathUtils;
 
 /**
  * Implementation of HttpResponseHandler that handles only error responses from
@@ -32,22 +48,58 @@ import com.amazonaws.util.XpathUtils;
  * unmarshaller is found that can unmarshall the error response, a generic
  * AmazonServiceException is created and populated with the AWS error response
  * information (error message, AWS error code, AWS request ID, etc).
+ * <p>
+ * Error responses are read in a single streaming (StAX) pass. The first time
+ * an error code is seen, the unmarshaller list is searched for the
+ * unmarshaller that accepts it and the result is remembered in a lookup table
+ * shared by all handlers using the same list instance, so later errors with
+ * that code are dispatched directly. The table is found once, when the
+ * handler is constructed. Errors handled by the generic
+ * {@link StandardErrorUnmarshaller} or {@link LegacyErrorUnmarshaller} (ex:
+ * throttling errors) are built straight from the streamed values, without
+ * building a DOM or evaluating any XPath expressions.
  */
 public class DefaultErrorResponseHandler
         implements HttpResponseHandler<AmazonServiceException> {
 
+    /** Maximum number of distinct error codes remembered per lookup table. */
+    private static final int MAX_LOOKUP_TABLE_SIZE = 256;
+
+    /** Maximum element depth recorded from an error response. */
+    private static final int MAX_ELEMENT_DEPTH = 8;
+
+    /** Shared factory for creating XML stream readers */
+    private static XMLInputFactory xmlInputFactory = XMLInputFactory.newInstance();
+
+    /** Shared factory for the minimal documents passed to unmarshallers */
+    private static DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
+
+    /**
+     * Error code to unmarshaller lookup tables, keyed by the unmarshaller list
+     * they were built from.
+     */
+    private static final ConcurrentMap<UnmarshallerListReference,
+            Map<String, Unmarshaller<AmazonServiceException, Node>>> lookupTables =
+            new ConcurrentHashMap<UnmarshallerListReference, Map<String, Unmarshaller<AmazonServiceException, Node>>>();
+
+    /** Queue of the keys of lookup tables whose lists are no longer in use */
+    private static final ReferenceQueue<Object> unusedLists = new ReferenceQueue<Object>();
+
     /**
      * The list of error response unmarshallers to try to apply to error
      * responses.
      */
     private List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList;
 
+    /** The error code to unmarshaller lookup table for the list of unmarshallers. */
+    private final Map<String, Unmarshaller<AmazonServiceException, Node>> lookupTable;
+
     /**
      * Constructs a new DefaultErrorResponseHandler that will handle error
      * responses from Amazon services using the specified list of unmarshallers.
      * Each unmarshaller will be tried, in order, until one is found that can
      * unmarshall the error response.
-     * 
+     *
      * @param unmarshallerList
      *            The list of unmarshallers to try using when handling an error
      *            response.
@@ -55,14 +107,25 @@ public class DefaultErrorResponseHandler
     public DefaultErrorResponseHandler(
             List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList) {
         this.unmarshallerList = unmarshallerList;
+        this.lookupTable = getLookupTable(unmarshallerList);
     }
-    
+
     /* (non-Javadoc)
      * @see com.amazonaws.http.HttpResponseHandler#handle(com.amazonaws.http.HttpResponse)
      */
     public AmazonServiceException handle(HttpResponse errorResponse)
             throws Exception {
-        Document document = XpathUtils.documentFrom(errorResponse.getContent());
+        Map<String, String> values = parseLeafValues(errorResponse.getContent());
+        String errorCode = values.get("ErrorResponse/Error/Code");
+        if (errorCode == null) errorCode = values.get("Response/Errors/Error/Code");
+        String lookupKey = (errorCode == null) ? "" : errorCode;
+
+        Unmarshaller<AmazonServiceException, Node> unmarshaller = lookupTable.get(lookupKey);
+
+        AmazonServiceException ase = null;
+        if (unmarshaller != null) {
+            ase = unmarshall(unmarshaller, values);
+        }
 
         /*
          * We need to select which exception unmarshaller is the correct one to
@@ -71,15 +134,25 @@ public class DefaultErrorResponseHandler
          * unmarshall the response, but we might need something a little more
          * sophisticated in the future.
          */
-        for (Unmarshaller<AmazonServiceException, Node> unmarshaller : unmarshallerList) {
-            AmazonServiceException ase = unmarshaller.unmarshall(document);
-            if (ase != null) {
-                ase.setStatusCode(errorResponse.getStatusCode());
-                return ase;
+        if (ase == null) {
+            Document document = toDocument(values);
+            for (Unmarshaller<AmazonServiceException, Node> candidate : unmarshallerList) {
+                ase = candidate.unmarshall(document);
+                if (ase != null) {
+                    if (lookupTable.size() < MAX_LOOKUP_TABLE_SIZE) {
+                        lookupTable.put(lookupKey, candidate);
+                    }
+                    break;
+                }
             }
         }
-        
-        throw new AmazonClientException("Unable to unmarshall error response from service");
+
+        if (ase == null) {
+            throw new AmazonClientException("Unable to unmarshall error response from service");
+        }
+
+        ase.setStatusCode(errorResponse.getStatusCode());
+        return ase;
     }
 
     /**
@@ -93,4 +166,172 @@ public class DefaultErrorResponseHandler
         return false;
     }
 
+    /**
+     * Returns the lookup table shared by the handlers using the specified list
+     * of unmarshallers, creating it if this is the first of them. Tables of
+     * lists that are no longer in use are dropped along the way.
+     */
+    private static Map<String, Unmarshaller<AmazonServiceException, Node>> getLookupTable(
+            List<Unmarshaller<AmazonServiceException, Node>> unmarshallerList) {
+        Reference<?> unused;
+        while ((unused = unusedLists.poll()) != null) {
+            lookupTables.remove(unused);
+        }
+
+        Map<String, Unmarshaller<AmazonServiceException, Node>> lookupTable =
+                lookupTables.get(new UnmarshallerListReference(unmarshallerList, null));
+        if (lookupTable == null) {
+            Map<String, Unmarshaller<AmazonServiceException, Node>> newLookupTable =
+                    new ConcurrentHashMap<String, Unmarshaller<AmazonServiceException, Node>>();
+            lookupTable = lookupTables.putIfAbsent(
+                    new UnmarshallerListReference(unmarshallerList, unusedLists), newLookupTable);
+            if (lookupTable == null) lookupTable = newLookupTable;
+        }
+        return lookupTable;
+    }
+
+    /**
+     * Weak reference to a list of unmarshallers that compares by identity, so
+     * that finding a list's lookup table doesn't hash the list's contents, and
+     * the table can be dropped once the list is no longer in use.
+     */
+    private static final class UnmarshallerListReference extends WeakReference<Object> {
+        private final int hash;
+
+        private UnmarshallerListReference(Object unmarshallerList, ReferenceQueue<Object> queue) {
+            super(unmarshallerList, queue);
+            this.hash = System.identityHashCode(unmarshallerList);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) return true;
+            if (!(obj instanceof UnmarshallerListReference)) return false;
+            Object unmarshallerList = get();
+            return unmarshallerList != null && unmarshallerList == ((UnmarshallerListReference)obj).get();
+        }
+    }
+
+    /**
+     * Unmarshalls the error response with a previously selected unmarshaller.
+     * The generic unmarshallers are applied directly to the streamed values;
+     * service specific unmarshallers are given a minimal document containing
+     * just those values.
+     */
+    private AmazonServiceException unmarshall(Unmarshaller<AmazonServiceException, Node> unmarshaller,
+            Map<String, String> values) throws Exception {
+        if (unmarshaller.getClass() == StandardErrorUnmarshaller.class) {
+            AmazonServiceException ase = new AmazonServiceException(values.get("ErrorResponse/Error/Message"));
+            ase.setErrorCode(values.get("ErrorResponse/Error/Code"));
+            ase.setRequestId(values.get("ErrorResponse/RequestId"));
+
+            String errorType = values.get("ErrorResponse/Error/Type");
+            if (errorType == null) {
+                ase.setErrorType(ErrorType.Unknown);
+            } else if (errorType.equalsIgnoreCase("Receiver")) {
+                ase.setErrorType(ErrorType.Service);
+            } else if (errorType.equalsIgnoreCase("Sender")) {
+                ase.setErrorType(ErrorType.Client);
+            }
+            return ase;
+        }
+
+        if (unmarshaller.getClass() == LegacyErrorUnmarshaller.class) {
+            AmazonServiceException ase = new AmazonServiceException(values.get("Response/Errors/Error/Message"));
+            ase.setErrorCode(values.get("Response/Errors/Error/Code"));
+            ase.setRequestId(values.get("Response/RequestID"));
+
+            String errorType = values.get("Response/Errors/Error/Type");
+            if (errorType == null) {
+                ase.setErrorType(ErrorType.Unknown);
+            } else if (errorType.equalsIgnoreCase("server")) {
+                ase.setErrorType(ErrorType.Service);
+            } else if (errorType.equalsIgnoreCase("client")) {
+                ase.setErrorType(ErrorType.Client);
+            }
+            return ase;
+        }
+
+        return unmarshaller.unmarshall(toDocument(values));
+    }
+
+    /**
+     * Reads the error response in a single pass, returning the trimmed text
+     * of each leaf element keyed by its slash separated path from the root
+     * element (ex: "ErrorResponse/Error/Code"). Only the first occurrence of
+     * each path is kept. Namespaces are ignored.
+     */
+    private static Map<String, String> parseLeafValues(InputStream content) throws Exception {
+        Map<String, String> values = new LinkedHashMap<String, String>();
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(content);
+        try {
+            String[] path = new String[MAX_ELEMENT_DEPTH];
+            int depth = 0;
+            StringBuilder text = new StringBuilder();
+            boolean leaf = false;
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if (depth < MAX_ELEMENT_DEPTH) {
+                        path[depth] = (depth == 0) ? name : path[depth - 1] + "/" + name;
+                    }
+                    depth++;
+                    text.setLength(0);
+                    leaf = true;
+                } else if (event == XMLStreamConstants.CHARACTERS
+                        || event == XMLStreamConstants.CDATA
+                        || event == XMLStreamConstants.SPACE) {
+                    if (leaf) text.append(reader.getText());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    depth--;
+                    if (leaf && depth < MAX_ELEMENT_DEPTH && !values.containsKey(path[depth])) {
+                        values.put(path[depth], text.toString().trim());
+                    }
+                    leaf = false;
+                }
+            }
+        } finally {
+            try {reader.close();} catch (Exception e) {}
+        }
+        return values;
+    }
+
+    /**
+     * Builds a minimal DOM containing only the specified leaf values, for
+     * unmarshallers that need to evaluate their own XPath expressions.
+     */
+    private static Document toDocument(Map<String, String> values) throws Exception {
+        Document document = documentBuilderFactory.newDocumentBuilder().newDocument();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            Node parent = document;
+            String[] names = entry.getKey().split("/");
+            for (int i = 0; i < names.length; i++) {
+                Element child = null;
+                for (Node node = parent.getFirstChild(); node != null; node = node.getNextSibling()) {
+                    if (node instanceof Element && node.getNodeName().equals(names[i])) {
+                        child = (Element)node;
+                        break;
+                    }
+                }
+                if (child == null) {
+                    if (parent == document && document.getDocumentElement() != null) break;
+                    child = document.createElement(names[i]);
+                    parent.appendChild(child);
+                }
+                parent = child;
+            }
+            if (parent != document && !entry.getValue().equals("")) {
+                parent.appendChild(document.createTextNode(entry.getValue()));
+            }
+        }
+        return document;
+    }
+
 }
@@ -20,6 +20,7 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.Signer;
 import com.amazonaws.handlers.RequestHandler;
 import com.amazonaws.internal.CustomBackoffStrategy;
+import com.amazonaws.metrics.RequestMetrics;
 import com.amazonaws.util.TimingInfo;
 
 public class ExecutionContext {
@@ -27,6 +28,7 @@ public class ExecutionContext {
 	private String contextUserAgent;
 	private TimingInfo timingInfo;
 	private CustomBackoffStrategy backoffStrategy;
+	private RequestMetrics requestMetrics;
 
 	/** Optional signer to enable the runtime layer to handle signing requests (and resigning on retries). */
 	private Signer signer;
@@ -67,6 +69,20 @@ public class ExecutionContext {
 		this.timingInfo = timingInfo;
 	}
 
+	/**
+	 * Returns the metrics gathered for the associated request, or null if the
+	 * client doesn't collect request metrics.
+	 *
+	 * @return The metrics gathered for the associated request, or null.
+	 */
+	public RequestMetrics getRequestMetrics() {
+		return requestMetrics;
+	}
+
+	public void setRequestMetrics(RequestMetrics requestMetrics) {
+		this.requestMetrics = requestMetrics;
+	}
+
 	/**
 	 * Returns the optional signer used to sign the associated request.
 	 *
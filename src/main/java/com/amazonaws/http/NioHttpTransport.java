@@ -0,0 +1,941 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.SSLEngine;
+import javax.net.ssl.SSLEngineResult;
+import javax.net.ssl.SSLEngineResult.HandshakeStatus;
+import javax.net.ssl.SSLException;
+import javax.net.ssl.TrustManager;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpVersion;
+import org.apache.http.NoHttpResponseException;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.conn.ssl.BrowserCompatHostnameVerifier;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.message.BasicStatusLine;
+
+import com.amazonaws.ClientConfiguration;
+
+/**
+ * Non-blocking HTTP/1.1 transport built directly on a single NIO selector
+ * thread.
+ * <p>
+ * All connections owned by a transport are multiplexed over one event loop
+ * thread, so the number of in-flight requests is bounded by the connection
+ * limit in the {@link ClientConfiguration} rather than by the number of
+ * threads available to callers. Connections are kept alive and pooled per
+ * route (scheme, host and port), HTTPS is supported through an
+ * {@link SSLEngine}, and request and response bodies are buffered in memory,
+ * which makes this transport suited to the small, structured payloads used by
+ * services such as Amazon SQS and Amazon DynamoDB rather than to large object
+ * transfers.
+ * <p>
+ * Proxies are not supported by this transport; {@link AmazonHttpClient} falls
+ * back to its blocking implementation when a proxy is configured.
+ */
+public class NioHttpTransport implements AsyncHttpTransport {
+
+    private static final Log log = LogFactory.getLog(NioHttpTransport.class);
+
+    /** Size of the buffer used to read plain text data off the wire. */
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    /** Idle time after which pooled connections are closed. */
+    private static final long MAX_IDLE_MILLISECONDS = 60 * 1000;
+
+    /** How often the event loop wakes up to check for expired connections. */
+    private static final long TIMEOUT_CHECK_INTERVAL_MILLISECONDS = 500;
+
+    private final ClientConfiguration config;
+    private final String userAgent;
+    private final SSLContext sslContext;
+    private final boolean verifyHostnames;
+    private final X509HostnameVerifier hostnameVerifier = new BrowserCompatHostnameVerifier();
+
+    private final Selector selector;
+    private final Thread eventLoop;
+
+    /** Tasks submitted by other threads, run on the event loop thread. */
+    private final Queue<Runnable> pendingTasks = new ConcurrentLinkedQueue<Runnable>();
+
+    /** Connection pools, keyed by route; only accessed from the event loop. */
+    private final Map<String, Route> routes = new HashMap<String, Route>();
+
+    private volatile boolean shutdown = false;
+
+    /**
+     * Constructs a new transport and starts its event loop thread.
+     *
+     * @param config
+     *            Client configuration options (connection limits, timeouts,
+     *            socket buffer size hints and user agent).
+     */
+    public NioHttpTransport(ClientConfiguration config) {
+        this.config = config;
+
+        String userAgent = config.getUserAgent();
+        if (!(userAgent.equals(ClientConfiguration.DEFAULT_USER_AGENT))) {
+            userAgent += ", " + ClientConfiguration.DEFAULT_USER_AGENT;
+        }
+        this.userAgent = userAgent;
+
+        try {
+            /*
+             * Mirror the blocking client's handling of the (testing only)
+             * system property that disables certificate checks.
+             */
+            if (System.getProperty("com.amazonaws.sdk.disableCertChecking") != null) {
+                sslContext = SSLContext.getInstance("TLS");
+                sslContext.init(null, new TrustManager[] { new HttpClientFactory.TrustingX509TrustManager() }, null);
+                verifyHostnames = false;
+            } else {
+                sslContext = SSLContext.getDefault();
+                verifyHostnames = true;
+            }
+            selector = Selector.open();
+        } catch (Exception e) {
+            throw new IllegalStateException("Unable to initialize non-blocking HTTP transport: " + e.getMessage(), e);
+        }
+
+        eventLoop = new Thread(new Runnable() {
+            public void run() {
+                runEventLoop();
+            }
+        }, "java-sdk-nio-event-loop");
+        eventLoop.setDaemon(true);
+        eventLoop.start();
+    }
+
+    public void execute(HttpRequestBase request, ResponseCallback callback) {
+        final Exchange exchange;
+        try {
+            exchange = new Exchange(request, callback);
+        } catch (IOException ioe) {
+            callback.failed(ioe);
+            return;
+        }
+
+        submit(new Runnable() {
+            public void run() {
+                dispatch(exchange);
+            }
+        });
+    }
+
+    public void shutdown() {
+        shutdown = true;
+        selector.wakeup();
+    }
+
+    /** Queues a task to be run on the event loop thread. */
+    private void submit(Runnable task) {
+        if (shutdown) {
+            throw new IllegalStateException("Transport has been shut down");
+        }
+        pendingTasks.add(task);
+        selector.wakeup();
+    }
+
+    private void runEventLoop() {
+        long lastTimeoutCheck = System.currentTimeMillis();
+        while (!shutdown) {
+            try {
+                selector.select(TIMEOUT_CHECK_INTERVAL_MILLISECONDS);
+
+                Runnable task;
+                while ((task = pendingTasks.poll()) != null) {
+                    task.run();
+                }
+
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Connection connection = (Connection)key.attachment();
+                    try {
+                        if (!key.isValid()) continue;
+                        if (key.isConnectable()) connection.onConnectable();
+                        if (key.isValid() && (key.readyOps() & (SelectionKey.OP_READ | SelectionKey.OP_WRITE)) != 0) {
+                            connection.pump();
+                        }
+                    } catch (IOException ioe) {
+                        connection.abort(ioe);
+                    } catch (RuntimeException re) {
+                        connection.abort(new IOException("Unexpected error processing connection: " + re.getMessage(), re));
+                    }
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastTimeoutCheck >= TIMEOUT_CHECK_INTERVAL_MILLISECONDS) {
+                    lastTimeoutCheck = now;
+                    checkTimeouts(now);
+                }
+            } catch (Throwable t) {
+                log.warn("Unexpected error in non-blocking HTTP event loop", t);
+            }
+        }
+
+        closeAll();
+    }
+
+    /** Fails requests and closes connections that have exceeded their timeouts. */
+    private void checkTimeouts(long now) {
+        List<Connection> expired = new ArrayList<Connection>();
+        for (SelectionKey key : selector.keys()) {
+            Connection connection = (Connection)key.attachment();
+            if (connection.isExpired(now)) expired.add(connection);
+        }
+        for (Connection connection : expired) {
+            if (connection.exchange == null) {
+                connection.close();
+            } else if (!connection.connected) {
+                connection.abort(new SocketTimeoutException("Connect timed out"));
+            } else {
+                connection.abort(new SocketTimeoutException("Read timed out"));
+            }
+        }
+    }
+
+    private void closeAll() {
+        IOException shutdownException = new IOException("HTTP transport has been shut down");
+        for (SelectionKey key : new ArrayList<SelectionKey>(selector.keys())) {
+            ((Connection)key.attachment()).abort(shutdownException);
+        }
+        for (Route route : routes.values()) {
+            for (Exchange exchange : route.waiting) {
+                exchange.callback.failed(shutdownException);
+            }
+            route.waiting.clear();
+        }
+        Runnable task;
+        while ((task = pendingTasks.poll()) != null) {
+            task.run();
+        }
+        try {
+            selector.close();
+        } catch (IOException e) {
+            log.debug("Unable to close selector", e);
+        }
+    }
+
+    /**
+     * Assigns an exchange to an idle pooled connection, a new connection, or
+     * queues it until a connection for its route becomes available.
+     */
+    private void dispatch(Exchange exchange) {
+        if (shutdown) {
+            exchange.callback.failed(new IOException("HTTP transport has been shut down"));
+            return;
+        }
+
+        Route route = routes.get(exchange.routeKey);
+        if (route == null) {
+            route = new Route();
+            routes.put(exchange.routeKey, route);
+        }
+
+        Connection connection;
+        while ((connection = route.idle.poll()) != null) {
+            if (connection.channel.isOpen()) {
+                connection.start(exchange, true);
+                return;
+            }
+        }
+
+        if (route.open < config.getMaxConnections()) {
+            try {
+                connection = openConnection(route, exchange);
+            } catch (IOException ioe) {
+                exchange.callback.failed(ioe);
+                return;
+            }
+            connection.start(exchange, false);
+        } else {
+            route.waiting.add(exchange);
+        }
+    }
+
+    private Connection openConnection(Route route, Exchange exchange) throws IOException {
+        SocketChannel channel = SocketChannel.open();
+        try {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            int[] bufferSizeHints = config.getSocketBufferSizeHints();
+            if (bufferSizeHints[0] > 0) channel.socket().setSendBufferSize(bufferSizeHints[0]);
+            if (bufferSizeHints[1] > 0) channel.socket().setReceiveBufferSize(bufferSizeHints[1]);
+
+            SSLEngine engine = null;
+            if (exchange.secure) {
+                engine = sslContext.createSSLEngine(exchange.host, exchange.port);
+                engine.setUseClientMode(true);
+            }
+
+            Connection connection = new Connection(route, channel, engine, exchange.host);
+            route.open++;
+            connection.connected = channel.connect(exchange.address);
+            connection.key = channel.register(selector,
+                    connection.connected ? 0 : SelectionKey.OP_CONNECT, connection);
+            if (connection.connected) connection.onConnected();
+            return connection;
+        } catch (IOException ioe) {
+            try {channel.close();} catch (IOException e) {}
+            throw ioe;
+        }
+    }
+
+    /** Called when a connection has finished with an exchange. */
+    private void release(Connection connection, boolean reusable) {
+        Route route = connection.route;
+        if (reusable && !shutdown) {
+            Exchange next = route.waiting.poll();
+            if (next != null) {
+                connection.start(next, true);
+            } else {
+                connection.idleSince = System.currentTimeMillis();
+                route.idle.addFirst(connection);
+            }
+        } else {
+            connection.close();
+        }
+    }
+
+    /** Called when a connection has been closed. */
+    private void connectionClosed(Connection connection) {
+        Route route = connection.route;
+        route.open--;
+        route.idle.remove(connection);
+
+        Exchange next = route.waiting.poll();
+        if (next != null) dispatch(next);
+    }
+
+
+    /** Pool of connections, and requests waiting for one, for a single route. */
+    private static final class Route {
+        private final LinkedList<Connection> idle = new LinkedList<Connection>();
+        private final LinkedList<Exchange> waiting = new LinkedList<Exchange>();
+        private int open = 0;
+    }
+
+    /**
+     * A single request/response exchange, with the request already serialized
+     * into its wire format.
+     */
+    private final class Exchange {
+        private final ResponseCallback callback;
+        private final ByteBuffer requestBytes;
+        private final boolean secure;
+        private final boolean headRequest;
+        private final String host;
+        private final int port;
+        private final InetSocketAddress address;
+        private final String routeKey;
+
+        /** True once this exchange has been retried after a stale connection. */
+        private boolean retriedOnStaleConnection = false;
+
+        private Exchange(HttpRequestBase request, ResponseCallback callback) throws IOException {
+            this.callback = callback;
+
+            URI uri = request.getURI();
+            this.secure = "https".equalsIgnoreCase(uri.getScheme());
+            this.host = uri.getHost();
+            this.port = (uri.getPort() > 0) ? uri.getPort() : (secure ? 443 : 80);
+            this.headRequest = "HEAD".equalsIgnoreCase(request.getMethod());
+            this.routeKey = (secure ? "https://" : "http://") + host + ":" + port;
+
+            // Resolve on the calling thread so that the event loop never blocks on DNS
+            this.address = new InetSocketAddress(host, port);
+            if (address.isUnresolved()) {
+                throw new java.net.UnknownHostException(host);
+            }
+
+            byte[] body = null;
+            if (request instanceof HttpEntityEnclosingRequest) {
+                HttpEntity entity = ((HttpEntityEnclosingRequest)request).getEntity();
+                if (entity != null) {
+                    ByteArrayOutputStream bodyStream = new ByteArrayOutputStream(
+                            entity.getContentLength() > 0 ? (int)entity.getContentLength() : 1024);
+                    entity.writeTo(bodyStream);
+                    body = bodyStream.toByteArray();
+                }
+            }
+
+            String path = uri.getRawPath();
+            if (path == null || path.length() == 0) path = "/";
+            StringBuilder head = new StringBuilder(512);
+            head.append(request.getMethod()).append(' ').append(path);
+            if (uri.getRawQuery() != null) head.append('?').append(uri.getRawQuery());
+            head.append(" HTTP/1.1\r\n");
+
+            boolean hasUserAgent = false;
+            for (Header header : request.getAllHeaders()) {
+                String name = header.getName();
+                if (name.equalsIgnoreCase("Content-Length") || name.equalsIgnoreCase("Expect")) continue;
+                if (name.equalsIgnoreCase("User-Agent")) hasUserAgent = true;
+                head.append(name).append(": ").append(header.getValue()).append("\r\n");
+            }
+            if (!hasUserAgent) head.append("User-Agent: ").append(userAgent).append("\r\n");
+            if (body != null) head.append("Content-Length: ").append(body.length).append("\r\n");
+            head.append("\r\n");
+
+            byte[] headBytes = head.toString().getBytes("ISO-8859-1");
+            int length = headBytes.length + (body == null ? 0 : body.length);
+            requestBytes = ByteBuffer.allocate(length);
+            requestBytes.put(headBytes);
+            if (body != null) requestBytes.put(body);
+            requestBytes.flip();
+        }
+    }
+
+    /**
+     * A single (optionally TLS) connection, driven entirely by the event loop
+     * thread.
+     */
+    private final class Connection {
+        private final Route route;
+        private final SocketChannel channel;
+        private final SSLEngine engine;
+        private final String host;
+        private SelectionKey key;
+
+        /** Application data waiting to be written. */
+        private ByteBuffer appOut;
+        /** Decrypted (or plain text) data read from the wire. */
+        private ByteBuffer appIn;
+        /** TLS records waiting to be written (write mode). */
+        private ByteBuffer netOut;
+        /** TLS records read from the wire and not yet decrypted (write mode). */
+        private ByteBuffer netIn;
+
+        private boolean connected = false;
+        private boolean handshakeVerified = false;
+        private boolean closed = false;
+
+        private Exchange exchange;
+        private ResponseParser parser;
+        private boolean reused;
+        private long deadline;
+        private long idleSince;
+
+        private Connection(Route route, SocketChannel channel, SSLEngine engine, String host) {
+            this.route = route;
+            this.channel = channel;
+            this.engine = engine;
+            this.host = host;
+            if (engine != null) {
+                netOut = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+                netIn = ByteBuffer.allocate(engine.getSession().getPacketBufferSize());
+                appIn = ByteBuffer.allocate(engine.getSession().getApplicationBufferSize());
+            } else {
+                appIn = ByteBuffer.allocate(READ_BUFFER_SIZE);
+            }
+        }
+
+        private void start(Exchange exchange, boolean reused) {
+            this.exchange = exchange;
+            this.reused = reused;
+            this.parser = new ResponseParser(exchange.headRequest);
+            this.appOut = exchange.requestBytes.duplicate();
+            this.deadline = System.currentTimeMillis()
+                    + (connected ? config.getSocketTimeout() : config.getConnectionTimeout());
+
+            if (connected) {
+                try {
+                    pump();
+                } catch (IOException ioe) {
+                    abort(ioe);
+                }
+            }
+        }
+
+        private boolean isExpired(long now) {
+            if (exchange == null) return now - idleSince > MAX_IDLE_MILLISECONDS;
+            int timeout = connected ? config.getSocketTimeout() : config.getConnectionTimeout();
+            return timeout > 0 && now > deadline;
+        }
+
+        private void onConnectable() throws IOException {
+            if (channel.finishConnect()) {
+                onConnected();
+                if (exchange != null) {
+                    deadline = System.currentTimeMillis() + config.getSocketTimeout();
+                }
+                pump();
+            }
+        }
+
+        private void onConnected() throws IOException {
+            connected = true;
+            key.interestOps(SelectionKey.OP_READ);
+            if (engine != null) engine.beginHandshake();
+        }
+
+        /**
+         * Moves as much data as possible in both directions without blocking,
+         * then registers interest in whatever readiness is needed to continue.
+         */
+        private void pump() throws IOException {
+            if (closed || !connected) return;
+
+            boolean progress = true;
+            while (progress && !closed) {
+                progress = (engine == null) ? pumpPlain() : pumpTls();
+            }
+            if (closed) return;
+
+            boolean wantWrite = (appOut != null && appOut.hasRemaining() && exchange != null)
+                    || (netOut != null && netOut.position() > 0);
+            key.interestOps(SelectionKey.OP_READ | (wantWrite ? SelectionKey.OP_WRITE : 0));
+        }
+
+        private boolean pumpPlain() throws IOException {
+            boolean progress = false;
+            if (exchange != null && appOut.hasRemaining()) {
+                if (channel.write(appOut) > 0) progress = true;
+            }
+
+            int read = channel.read(appIn);
+            if (read < 0) {
+                onEndOfStream();
+                return false;
+            }
+            if (read > 0) {
+                progress = true;
+                deliver();
+            }
+            return progress;
+        }
+
+        private boolean pumpTls() throws IOException {
+            boolean progress = false;
+
+            // Flush any pending TLS records first
+            if (netOut.position() > 0) {
+                netOut.flip();
+                int written = channel.write(netOut);
+                netOut.compact();
+                if (written > 0) progress = true;
+                if (netOut.position() > 0) return false;
+            }
+
+            HandshakeStatus status = engine.getHandshakeStatus();
+            if (status == HandshakeStatus.NEED_TASK) {
+                Runnable task;
+                while ((task = engine.getDelegatedTask()) != null) {
+                    task.run();
+                }
+                return true;
+            }
+
+            boolean handshaking = status != HandshakeStatus.NOT_HANDSHAKING
+                    && status != HandshakeStatus.FINISHED;
+            if (status == HandshakeStatus.NEED_WRAP
+                    || (!handshaking && exchange != null && appOut.hasRemaining())) {
+                ByteBuffer source = (appOut != null && exchange != null) ? appOut : ByteBuffer.allocate(0);
+                SSLEngineResult result = engine.wrap(source, netOut);
+                switch (result.getStatus()) {
+                case BUFFER_OVERFLOW:
+                    netOut = enlarge(netOut, engine.getSession().getPacketBufferSize());
+                    return true;
+                case CLOSED:
+                    throw new SSLException("SSL engine closed while writing");
+                default:
+                    if (result.bytesProduced() > 0 || result.bytesConsumed() > 0) progress = true;
+                }
+                if (progress) return true;
+            }
+
+            int read = channel.read(netIn);
+            if (read > 0) progress = true;
+
+            boolean engineClosed = false;
+            netIn.flip();
+            while (netIn.hasRemaining()) {
+                SSLEngineResult result = engine.unwrap(netIn, appIn);
+                if (result.getStatus() == SSLEngineResult.Status.BUFFER_UNDERFLOW) {
+                    if (netIn.limit() == netIn.capacity()) {
+                        netIn.compact();
+                        netIn = enlarge(netIn, engine.getSession().getPacketBufferSize());
+                        netIn.flip();
+                    }
+                    break;
+                } else if (result.getStatus() == SSLEngineResult.Status.BUFFER_OVERFLOW) {
+                    appIn = enlarge(appIn, engine.getSession().getApplicationBufferSize());
+                    continue;
+                } else if (result.getStatus() == SSLEngineResult.Status.CLOSED) {
+                    engineClosed = true;
+                    break;
+                }
+
+                if (result.bytesConsumed() > 0 || result.bytesProduced() > 0) progress = true;
+                if (result.getHandshakeStatus() == HandshakeStatus.NEED_TASK
+                        || result.getHandshakeStatus() == HandshakeStatus.NEED_WRAP
+                        || (result.bytesConsumed() == 0 && result.bytesProduced() == 0)) {
+                    break;
+                }
+            }
+            netIn.compact();
+
+            status = engine.getHandshakeStatus();
+            if (status == HandshakeStatus.NEED_TASK || status == HandshakeStatus.NEED_WRAP) {
+                progress = true;
+            } else if (!handshakeVerified && status == HandshakeStatus.NOT_HANDSHAKING) {
+                verifyHostname();
+            }
+
+            if (appIn.position() > 0) deliver();
+            if ((read < 0 || engineClosed) && !closed) {
+                onEndOfStream();
+                return false;
+            }
+            return progress;
+        }
+
+        private void verifyHostname() throws SSLException {
+            handshakeVerified = true;
+            if (!verifyHostnames) return;
+            Certificate[] certificates = engine.getSession().getPeerCertificates();
+            if (certificates.length == 0 || !(certificates[0] instanceof X509Certificate)) {
+                throw new SSLException("No X.509 certificate presented by " + host);
+            }
+            hostnameVerifier.verify(host, (X509Certificate)certificates[0]);
+        }
+
+        /** Feeds buffered application data to the response parser. */
+        private void deliver() throws IOException {
+            appIn.flip();
+            if (exchange == null) {
+                if (appIn.hasRemaining()) {
+                    // Unsolicited data on an idle connection; it can't be reused
+                    appIn.clear();
+                    close();
+                    return;
+                }
+                appIn.clear();
+                return;
+            }
+
+            deadline = System.currentTimeMillis() + config.getSocketTimeout();
+            boolean complete = parser.parse(appIn);
+            appIn.compact();
+            if (complete) {
+                Exchange finished = exchange;
+                boolean reusable = parser.isKeepAlive() && appIn.position() == 0;
+                exchange = null;
+                parser.finish(finished.callback);
+                parser = null;
+                release(this, reusable);
+            }
+        }
+
+        private void onEndOfStream() throws IOException {
+            if (exchange == null) {
+                close();
+                return;
+            }
+
+            if (parser.isReadingUntilClose()) {
+                Exchange finished = exchange;
+                exchange = null;
+                close();
+                parser.finish(finished.callback);
+                return;
+            }
+
+            if (reused && !parser.hasReceivedData() && !exchange.retriedOnStaleConnection) {
+                // The pooled connection was closed by the server before we used it
+                Exchange retry = exchange;
+                retry.retriedOnStaleConnection = true;
+                exchange = null;
+                close();
+                dispatch(retry);
+                return;
+            }
+
+            if (!parser.hasReceivedData()) {
+                throw new NoHttpResponseException("The target server failed to respond");
+            }
+            throw new IOException("Premature end of response from " + host);
+        }
+
+        /** Fails any exchange in progress and closes this connection. */
+        private void abort(IOException ioe) {
+            Exchange failed = exchange;
+            exchange = null;
+            close();
+            if (failed != null) failed.callback.failed(ioe);
+        }
+
+        private void close() {
+            if (closed) return;
+            closed = true;
+            if (key != null) key.cancel();
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Unable to close connection", e);
+            }
+            connectionClosed(this);
+        }
+    }
+
+    private static ByteBuffer enlarge(ByteBuffer buffer, int minimumIncrease) {
+        ByteBuffer larger = ByteBuffer.allocate(buffer.capacity() + Math.max(minimumIncrease, buffer.capacity()));
+        buffer.flip();
+        larger.put(buffer);
+        return larger;
+    }
+
+    /**
+     * Incremental HTTP/1.1 response parser supporting fixed length, chunked
+     * and close-delimited bodies.
+     */
+    private static final class ResponseParser {
+        private static final int STATE_HEAD = 0;
+        private static final int STATE_FIXED_BODY = 1;
+        private static final int STATE_CHUNK_SIZE = 2;
+        private static final int STATE_CHUNK_DATA = 3;
+        private static final int STATE_CHUNK_DATA_END = 4;
+        private static final int STATE_TRAILERS = 5;
+        private static final int STATE_UNTIL_CLOSE = 6;
+        private static final int STATE_DONE = 7;
+
+        private final boolean headRequest;
+        private int state = STATE_HEAD;
+        private boolean receivedData = false;
+
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+        private final List<String> headLines = new ArrayList<String>();
+        private ByteArrayOutputStream body;
+        private long remaining;
+
+        private int statusCode;
+        private String reasonPhrase;
+        private boolean http10;
+        private boolean keepAlive = true;
+        private final List<String[]> headers = new ArrayList<String[]>();
+
+        private ResponseParser(boolean headRequest) {
+            this.headRequest = headRequest;
+        }
+
+        private boolean hasReceivedData() {
+            return receivedData;
+        }
+
+        private boolean isReadingUntilClose() {
+            return state == STATE_UNTIL_CLOSE;
+        }
+
+        private boolean isKeepAlive() {
+            return keepAlive;
+        }
+
+        /**
+         * Consumes data from the specified buffer, returning true once a
+         * complete response has been parsed.
+         */
+        private boolean parse(ByteBuffer data) throws IOException {
+            if (data.hasRemaining()) receivedData = true;
+
+            while (data.hasRemaining() && state != STATE_DONE) {
+                switch (state) {
+                case STATE_HEAD:
+                    String headLine = readLine(data);
+                    if (headLine == null) break;
+                    if (headLine.length() > 0) {
+                        headLines.add(headLine);
+                    } else if (!headLines.isEmpty()) {
+                        parseHead();
+                    }
+                    break;
+                case STATE_FIXED_BODY:
+                case STATE_CHUNK_DATA:
+                    int count = (int)Math.min(remaining, data.remaining());
+                    body.write(data.array(), data.arrayOffset() + data.position(), count);
+                    data.position(data.position() + count);
+                    remaining -= count;
+                    if (remaining == 0) {
+                        state = (state == STATE_FIXED_BODY) ? STATE_DONE : STATE_CHUNK_DATA_END;
+                    }
+                    break;
+                case STATE_CHUNK_SIZE:
+                    String sizeLine = readLine(data);
+                    if (sizeLine == null) break;
+                    int extension = sizeLine.indexOf(';');
+                    if (extension >= 0) sizeLine = sizeLine.substring(0, extension);
+                    try {
+                        remaining = Long.parseLong(sizeLine.trim(), 16);
+                    } catch (NumberFormatException nfe) {
+                        throw new IOException("Invalid chunk size: " + sizeLine);
+                    }
+                    state = (remaining == 0) ? STATE_TRAILERS : STATE_CHUNK_DATA;
+                    break;
+                case STATE_CHUNK_DATA_END:
+                    if (readLine(data) != null) state = STATE_CHUNK_SIZE;
+                    break;
+                case STATE_TRAILERS:
+                    String trailer = readLine(data);
+                    if (trailer != null && trailer.length() == 0) state = STATE_DONE;
+                    break;
+                case STATE_UNTIL_CLOSE:
+                    body.write(data.array(), data.arrayOffset() + data.position(), data.remaining());
+                    data.position(data.limit());
+                    break;
+                }
+            }
+
+            return state == STATE_DONE;
+        }
+
+        /** Reads a CRLF terminated line, or returns null if more data is needed. */
+        private String readLine(ByteBuffer data) throws IOException {
+            while (data.hasRemaining()) {
+                byte b = data.get();
+                if (b == '\n') {
+                    byte[] bytes = line.toByteArray();
+                    line.reset();
+                    int length = bytes.length;
+                    if (length > 0 && bytes[length - 1] == '\r') length--;
+                    return new String(bytes, 0, length, "ISO-8859-1");
+                }
+                line.write(b);
+            }
+            return null;
+        }
+
+        private void parseHead() throws IOException {
+            String statusLine = headLines.get(0);
+            String[] parts = statusLine.split(" ", 3);
+            if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+                throw new IOException("Invalid HTTP status line: " + statusLine);
+            }
+            try {
+                statusCode = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException nfe) {
+                throw new IOException("Invalid HTTP status line: " + statusLine);
+            }
+            reasonPhrase = (parts.length > 2) ? parts[2] : "";
+            http10 = "HTTP/1.0".equals(parts[0]);
+
+            long contentLength = -1;
+            boolean chunked = false;
+            String connectionHeader = null;
+            headers.clear();
+            for (int i = 1; i < headLines.size(); i++) {
+                String headerLine = headLines.get(i);
+                int colon = headerLine.indexOf(':');
+                if (colon <= 0) continue;
+                String name = headerLine.substring(0, colon).trim();
+                String value = headerLine.substring(colon + 1).trim();
+                headers.add(new String[] { name, value });
+
+                if (name.equalsIgnoreCase("Content-Length")) {
+                    try {
+                        contentLength = Long.parseLong(value);
+                    } catch (NumberFormatException nfe) {
+                        throw new IOException("Invalid Content-Length: " + value);
+                    }
+                } else if (name.equalsIgnoreCase("Transfer-Encoding")) {
+                    chunked = value.toLowerCase().contains("chunked");
+                } else if (name.equalsIgnoreCase("Connection")) {
+                    connectionHeader = value;
+                }
+            }
+            headLines.clear();
+
+            // Interim responses (ex: 100 Continue) are discarded
+            if (statusCode / 100 == 1) return;
+
+            if (http10) {
+                keepAlive = "keep-alive".equalsIgnoreCase(connectionHeader);
+            } else {
+                keepAlive = !"close".equalsIgnoreCase(connectionHeader);
+            }
+
+            if (headRequest || statusCode == 204 || statusCode == 304) {
+                body = new ByteArrayOutputStream(0);
+                state = STATE_DONE;
+            } else if (chunked) {
+                body = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+                state = STATE_CHUNK_SIZE;
+            } else if (contentLength >= 0) {
+                body = new ByteArrayOutputStream((int)Math.min(contentLength, Integer.MAX_VALUE));
+                remaining = contentLength;
+                state = (contentLength == 0) ? STATE_DONE : STATE_FIXED_BODY;
+            } else {
+                body = new ByteArrayOutputStream(READ_BUFFER_SIZE);
+                keepAlive = false;
+                state = STATE_UNTIL_CLOSE;
+            }
+        }
+
+        /** Delivers the parsed response to the specified callback. */
+        private void finish(ResponseCallback callback) {
+            BasicHttpResponse response = new BasicHttpResponse(new BasicStatusLine(
+                    http10 ? HttpVersion.HTTP_1_0 : HttpVersion.HTTP_1_1, statusCode, reasonPhrase));
+            String contentType = null;
+            for (String[] header : headers) {
+                response.addHeader(header[0], header[1]);
+                if (header[0].equalsIgnoreCase("Content-Type")) contentType = header[1];
+            }
+            ByteArrayEntity entity = new ByteArrayEntity(body.toByteArray());
+            if (contentType != null) entity.setContentType(contentType);
+            response.setEntity(entity);
+
+            try {
+                callback.completed(response);
+            } catch (RuntimeException e) {
+                log.warn("Response callback threw an exception", e);
+            }
+        }
+    }
+
+    @Override
+    protected void finalize() throws Throwable {
+        this.shutdown();
+        super.finalize();
+    }
+}
@@ -24,6 +24,9 @@ import org.apache.http.entity.BasicHttpEntity;
 import org.apache.http.entity.InputStreamEntity;
 
 import com.amazonaws.Request;
+import com.amazonaws.util.BufferPool;
+import com.amazonaws.util.FileRegionInputStream;
+import com.amazonaws.util.PayloadInputStream;
 
 /**
  * Custom implementation of {@link RequestEntity} that delegates to an
@@ -43,6 +46,9 @@ class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
     /** The InputStream containing the content to write out */
     private InputStream content;
 
+    /** The size of the buffer content is copied through */
+    private static final int BUFFER_SIZE = 8 * 1024;
+
     /** Shared logger for more debugging information */
     private static final Log log = LogFactory.getLog(AmazonHttpClient.class);
 
@@ -123,7 +129,35 @@ class RepeatableInputStreamRequestEntity extends BasicHttpEntity {
         if (!firstAttempt && isRepeatable()) content.reset();
 
         firstAttempt = false;
-        inputStreamRequestEntity.writeTo(output);
+
+        // Payloads held in memory are written straight from their buffer
+        if (content instanceof PayloadInputStream) {
+            ((PayloadInputStream)content).writeTo(output);
+            return;
+        }
+        // File regions are moved straight from the file's channel
+        if (content instanceof FileRegionInputStream) {
+            ((FileRegionInputStream)content).writeTo(output);
+            return;
+        }
+
+        /*
+         * Copy the content the same way InputStreamRequestEntity does, but
+         * through a pooled buffer rather than one allocated for every write.
+         */
+        byte[] buffer = BufferPool.getSharedPool().acquire(BUFFER_SIZE);
+        try {
+            long remaining = getContentLength();
+            while (remaining != 0) {
+                int length = (remaining < 0) ? buffer.length : (int)Math.min(buffer.length, remaining);
+                int bytesRead = content.read(buffer, 0, length);
+                if (bytesRead == -1) break;
+                output.write(buffer, 0, bytesRead);
+                if (remaining > 0) remaining -= bytesRead;
+            }
+        } finally {
+            BufferPool.getSharedPool().release(buffer);
+        }
     }
 
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.http;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.conn.tsccm.ThreadSafeClientConnManager;
+
+/**
+ * Connection manager that measures how long requests wait for a pooled
+ * connection. HttpClient asks for a connection on the thread executing the
+ * request, so a thread that wants the wait time of the requests it executes
+ * starts measuring before executing them, and reads the total afterwards;
+ * threads that haven't started measuring aren't tracked.
+ */
+class TimedConnectionManager extends ThreadSafeClientConnManager {
+
+    /** Total wait time of the current thread, or a negative value if it isn't measuring. */
+    private static final ThreadLocal<long[]> waitTime = new ThreadLocal<long[]>();
+
+    /**
+     * Starts measuring the time the current thread waits for connections.
+     */
+    static void startMeasuring() {
+        long[] time = waitTime.get();
+        if (time == null) {
+            time = new long[1];
+            waitTime.set(time);
+        }
+        time[0] = 0;
+    }
+
+    /**
+     * Stops measuring the time the current thread waits for connections, and
+     * returns the total, in nanoseconds, since it started measuring.
+     */
+    static long stopMeasuring() {
+        long[] time = waitTime.get();
+        if (time == null || time[0] < 0) return 0;
+
+        long total = time[0];
+        time[0] = -1;
+        return total;
+    }
+
+    @Override
+    public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+        final ClientConnectionRequest request = super.requestConnection(route, state);
+        return new ClientConnectionRequest() {
+            public ManagedClientConnection getConnection(long timeout, TimeUnit tunit)
+                    throws InterruptedException, ConnectionPoolTimeoutException {
+                long start = System.nanoTime();
+                try {
+                    return request.getConnection(timeout, tunit);
+                } finally {
+                    long[] time = waitTime.get();
+                    if (time != null && time[0] >= 0) time[0] += System.nanoTime() - start;
+                }
+            }
+
+            public void abortRequest() {
+                request.abortRequest();
+            }
+        };
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Request metrics collector that aggregates metrics for each operation of
+ * each service, and exposes every aggregate as an MBean named
+ * <code>com.amazonaws.metrics:type=OperationMetrics,service=&lt;service&gt;,operation=&lt;operation&gt;</code>
+ * so that it can be monitored with any JMX console. The aggregates can also
+ * be read directly with {@link #getOperationMetrics(String, String)}.
+ * <p>
+ * A single collector can be shared by any number of clients.
+ */
+public class JmxRequestMetricsCollector implements RequestMetricsCollector {
+    private static final Log log = LogFactory.getLog(JmxRequestMetricsCollector.class);
+
+    /** The JMX domain the default collector registers its MBeans in. */
+    public static final String DEFAULT_DOMAIN = "com.amazonaws.metrics";
+
+    private static JmxRequestMetricsCollector defaultCollector;
+
+    private final MBeanServer mbeanServer;
+    private final String domain;
+    private final ConcurrentMap<String, OperationMetrics> operationMetrics =
+            new ConcurrentHashMap<String, OperationMetrics>();
+
+    /**
+     * Returns the collector shared by clients that collect metrics by
+     * default, which registers its MBeans with the platform MBean server.
+     */
+    public static synchronized JmxRequestMetricsCollector getDefaultCollector() {
+        if (defaultCollector == null) {
+            defaultCollector = new JmxRequestMetricsCollector();
+        }
+        return defaultCollector;
+    }
+
+    /**
+     * Constructs a new collector that registers its MBeans with the platform
+     * MBean server, in the default domain.
+     */
+    public JmxRequestMetricsCollector() {
+        this(ManagementFactory.getPlatformMBeanServer(), DEFAULT_DOMAIN);
+    }
+
+    /**
+     * Constructs a new collector that registers its MBeans with the specified
+     * MBean server.
+     *
+     * @param mbeanServer
+     *            The MBean server to register with, or null to only aggregate
+     *            metrics without exposing them over JMX.
+     * @param domain
+     *            The JMX domain to register MBeans in.
+     */
+    public JmxRequestMetricsCollector(MBeanServer mbeanServer, String domain) {
+        this.mbeanServer = mbeanServer;
+        this.domain = domain;
+    }
+
+    public void collectMetrics(RequestMetrics metrics) {
+        getOrCreateOperationMetrics(metrics.getServiceName(), metrics.getOperationName()).record(metrics);
+    }
+
+    /**
+     * Returns the aggregated metrics of the specified operation, or null if
+     * no request for it has been collected.
+     */
+    public OperationMetrics getOperationMetrics(String serviceName, String operationName) {
+        return operationMetrics.get(key(serviceName, operationName));
+    }
+
+    /**
+     * Returns the aggregated metrics of every operation requests have been
+     * collected for.
+     */
+    public Collection<OperationMetrics> getAllOperationMetrics() {
+        return new ArrayList<OperationMetrics>(operationMetrics.values());
+    }
+
+    /**
+     * Unregisters this collector's MBeans. Metrics collected afterwards are
+     * still aggregated, but not exposed over JMX again.
+     */
+    public void shutdown() {
+        if (mbeanServer == null) return;
+        for (OperationMetrics metrics : operationMetrics.values()) {
+            try {
+                ObjectName name = objectName(metrics.getServiceName(), metrics.getOperationName());
+                if (mbeanServer.isRegistered(name)) mbeanServer.unregisterMBean(name);
+            } catch (JMException e) {
+                log.debug("Unable to unregister operation metrics MBean", e);
+            }
+        }
+    }
+
+    private OperationMetrics getOrCreateOperationMetrics(String serviceName, String operationName) {
+        String key = key(serviceName, operationName);
+        OperationMetrics metrics = operationMetrics.get(key);
+        if (metrics != null) return metrics;
+
+        OperationMetrics newMetrics = new OperationMetrics(serviceName, operationName);
+        metrics = operationMetrics.putIfAbsent(key, newMetrics);
+        if (metrics != null) return metrics;
+
+        register(newMetrics);
+        return newMetrics;
+    }
+
+    private void register(OperationMetrics metrics) {
+        if (mbeanServer == null) return;
+        try {
+            mbeanServer.registerMBean(metrics, objectName(metrics.getServiceName(), metrics.getOperationName()));
+        } catch (JMException e) {
+            log.warn("Unable to register operation metrics MBean: " + e.getMessage());
+        }
+    }
+
+    private ObjectName objectName(String serviceName, String operationName) throws JMException {
+        return new ObjectName(domain + ":type=OperationMetrics,service=" + quoteIfNeeded(serviceName)
+                + ",operation=" + quoteIfNeeded(operationName));
+    }
+
+    private static String quoteIfNeeded(String value) {
+        if (value == null) return "null";
+        for (int i = 0; i < value.length(); i++) {
+            if (",=:\"*?\n".indexOf(value.charAt(i)) >= 0) return ObjectName.quote(value);
+        }
+        return value;
+    }
+
+    private static String key(String serviceName, String operationName) {
+        return serviceName + "/" + operationName;
+    }
+}
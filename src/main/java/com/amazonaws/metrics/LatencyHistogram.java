@@ -0,0 +1,108 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe histogram of latencies, which records samples without locking
+ * and in constant space.
+ * <p>
+ * Samples are counted in buckets whose bounds double from one microsecond to
+ * a little over two minutes, so percentiles are estimated to within a factor
+ * of two (latencies beyond the last bound are estimated as the maximum); the
+ * count, mean and maximum are exact.
+ */
+public class LatencyHistogram {
+
+    private static final int BUCKETS = 28;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos
+     *            The latency, in nanoseconds.
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+
+        buckets.incrementAndGet(bucketFor(nanos));
+        count.incrementAndGet();
+        sum.addAndGet(nanos);
+
+        long currentMax = max.get();
+        while (nanos > currentMax && !max.compareAndSet(currentMax, nanos)) {
+            currentMax = max.get();
+        }
+    }
+
+    /**
+     * Returns a snapshot of the latencies recorded so far.
+     */
+    public LatencyStatistics getStatistics() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        long maxNanos = max.get();
+        double mean = (total == 0) ? 0 : toMillis(sum.get()) / total;
+
+        return new LatencyStatistics(total, mean, toMillis(maxNanos),
+                percentile(counts, total, 50, maxNanos),
+                percentile(counts, total, 90, maxNanos),
+                percentile(counts, total, 99, maxNanos));
+    }
+
+    /**
+     * Returns the index of the bucket holding the specified latency. Bucket
+     * zero holds latencies up to one microsecond, and bucket i those over
+     * 2^(i-1) and up to 2^i microseconds.
+     */
+    private static int bucketFor(long nanos) {
+        long micros = (nanos + 999) / 1000;
+        if (micros <= 1) return 0;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros - 1));
+    }
+
+    /**
+     * Estimates a percentile as the upper bound of the bucket holding it,
+     * capped at the largest latency recorded.
+     */
+    private static double percentile(long[] counts, long total, int percentile, long maxNanos) {
+        if (total == 0) return 0;
+
+        long rank = (total * percentile + 99) / 100;
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && i < BUCKETS - 1) {
+                return Math.min(toMillis((1L << i) * 1000), toMillis(maxNanos));
+            }
+        }
+        return toMillis(maxNanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1000000.0;
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * A snapshot of the latencies recorded by a {@link LatencyHistogram}, in
+ * milliseconds.
+ */
+public class LatencyStatistics {
+
+    private final long count;
+    private final double mean;
+    private final double max;
+    private final double percentile50;
+    private final double percentile90;
+    private final double percentile99;
+
+    @ConstructorProperties({"count", "mean", "max", "percentile50", "percentile90", "percentile99"})
+    public LatencyStatistics(long count, double mean, double max, double percentile50, double percentile90,
+            double percentile99) {
+        this.count = count;
+        this.mean = mean;
+        this.max = max;
+        this.percentile50 = percentile50;
+        this.percentile90 = percentile90;
+        this.percentile99 = percentile99;
+    }
+
+    /**
+     * Returns the number of latencies recorded.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the mean latency.
+     */
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the largest latency recorded.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the estimated median latency.
+     */
+    public double getPercentile50() {
+        return percentile50;
+    }
+
+    /**
+     * Returns the estimated 90th percentile latency.
+     */
+    public double getPercentile90() {
+        return percentile90;
+    }
+
+    /**
+     * Returns the estimated 99th percentile latency.
+     */
+    public double getPercentile99() {
+        return percentile99;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyStatistics [count=" + count + ", mean=" + mean + ", max=" + max + ", percentile50="
+                + percentile50 + ", percentile90=" + percentile90 + ", percentile99=" + percentile99 + "]";
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe aggregate of the metrics of every request for one operation of
+ * a service: counters of requests, failures, retries and bytes moved, and
+ * histograms of each kind of latency.
+ */
+public class OperationMetrics implements OperationMetricsMXBean {
+
+    private final String serviceName;
+    private final String operationName;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong retryCount = new AtomicLong();
+    private final AtomicLong throttledRetryCount = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    private final AtomicLong bytesReceived = new AtomicLong();
+
+    private final LatencyHistogram totalTime = new LatencyHistogram();
+    private final LatencyHistogram httpRequestTime = new LatencyHistogram();
+    private final LatencyHistogram responseProcessingTime = new LatencyHistogram();
+    private final LatencyHistogram connectionPoolWaitTime = new LatencyHistogram();
+
+    public OperationMetrics(String serviceName, String operationName) {
+        this.serviceName = serviceName;
+        this.operationName = operationName;
+    }
+
+    /**
+     * Adds the metrics of a completed request to this aggregate.
+     */
+    public void record(RequestMetrics metrics) {
+        requestCount.incrementAndGet();
+        if (!metrics.isSuccessful()) failureCount.incrementAndGet();
+        if (metrics.getRetries() > 0) retryCount.addAndGet(metrics.getRetries());
+        if (metrics.getThrottledRetries() > 0) throttledRetryCount.addAndGet(metrics.getThrottledRetries());
+        if (metrics.getBytesSent() > 0) bytesSent.addAndGet(metrics.getBytesSent());
+        if (metrics.getBytesReceived() > 0) bytesReceived.addAndGet(metrics.getBytesReceived());
+
+        totalTime.record(metrics.getTotalTime());
+        httpRequestTime.record(metrics.getHttpRequestTime());
+        if (metrics.isSuccessful()) responseProcessingTime.record(metrics.getResponseProcessingTime());
+        connectionPoolWaitTime.record(metrics.getConnectionPoolWaitTime());
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    public String getOperationName() {
+        return operationName;
+    }
+
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    public long getRetryCount() {
+        return retryCount.get();
+    }
+
+    public long getThrottledRetryCount() {
+        return throttledRetryCount.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+
+    public long getBytesReceived() {
+        return bytesReceived.get();
+    }
+
+    public LatencyStatistics getTotalTime() {
+        return totalTime.getStatistics();
+    }
+
+    public LatencyStatistics getHttpRequestTime() {
+        return httpRequestTime.getStatistics();
+    }
+
+    public LatencyStatistics getResponseProcessingTime() {
+        return responseProcessingTime.getStatistics();
+    }
+
+    public LatencyStatistics getConnectionPoolWaitTime() {
+        return connectionPoolWaitTime.getStatistics();
+    }
+
+    @Override
+    public String toString() {
+        return "OperationMetrics [serviceName=" + serviceName + ", operationName=" + operationName
+                + ", requestCount=" + getRequestCount() + ", failureCount=" + getFailureCount() + ", retryCount="
+                + getRetryCount() + ", throttledRetryCount=" + getThrottledRetryCount() + ", bytesSent="
+                + getBytesSent() + ", bytesReceived=" + getBytesReceived() + ", totalTime=" + getTotalTime() + "]";
+    }
+}
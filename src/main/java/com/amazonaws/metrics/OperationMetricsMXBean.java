@@ -0,0 +1,56 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+/**
+ * Management interface of the {@link OperationMetrics} registered by a
+ * {@link JmxRequestMetricsCollector}. Latencies are in milliseconds.
+ */
+public interface OperationMetricsMXBean {
+
+    public String getServiceName();
+
+    public String getOperationName();
+
+    /** Returns the number of requests completed. */
+    public long getRequestCount();
+
+    /** Returns the number of requests that failed. */
+    public long getFailureCount();
+
+    /** Returns the number of retries over all requests. */
+    public long getRetryCount();
+
+    /** Returns the number of retries caused by the service throttling requests. */
+    public long getThrottledRetryCount();
+
+    /** Returns the number of bytes of request content sent. */
+    public long getBytesSent();
+
+    /** Returns the number of bytes of response content received. */
+    public long getBytesReceived();
+
+    /** Returns the latencies of whole requests, including retries. */
+    public LatencyStatistics getTotalTime();
+
+    /** Returns the time requests spent waiting on the service. */
+    public LatencyStatistics getHttpRequestTime();
+
+    /** Returns the time spent unmarshalling successful responses. */
+    public LatencyStatistics getResponseProcessingTime();
+
+    /** Returns the time requests spent waiting for a pooled connection. */
+    public LatencyStatistics getConnectionPoolWaitTime();
+}
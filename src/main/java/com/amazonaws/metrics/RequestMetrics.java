@@ -0,0 +1,197 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+/**
+ * The metrics of a single request: how long it took in total, how much of
+ * that was spent waiting on connections, on the service and processing its
+ * response, how many times it was retried, and how much data it moved.
+ * Times are in nanoseconds, and include every attempt of the request.
+ * <p>
+ * Metrics are filled in by the runtime as the request is executed, and passed
+ * to the client's {@link RequestMetricsCollector} once it has completed.
+ */
+public class RequestMetrics {
+
+    private final String serviceName;
+    private final String operationName;
+
+    private boolean successful;
+    private String errorCode;
+    private long totalTime;
+    private long httpRequestTime;
+    private long responseProcessingTime;
+    private long connectionPoolWaitTime;
+    private int retries;
+    private int throttledRetries;
+    private long bytesSent;
+    private long bytesReceived;
+
+    /**
+     * Constructs a new, empty set of metrics for a request.
+     *
+     * @param serviceName
+     *            The name of the service the request is sent to.
+     * @param operationName
+     *            The name of the operation the request invokes.
+     */
+    public RequestMetrics(String serviceName, String operationName) {
+        this.serviceName = serviceName;
+        this.operationName = operationName;
+    }
+
+    /**
+     * Returns the name of the service the request was sent to.
+     */
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    /**
+     * Returns the name of the operation the request invoked.
+     */
+    public String getOperationName() {
+        return operationName;
+    }
+
+    /**
+     * Returns true if the request completed successfully.
+     */
+    public boolean isSuccessful() {
+        return successful;
+    }
+
+    public void setSuccessful(boolean successful) {
+        this.successful = successful;
+    }
+
+    /**
+     * Returns the error code of the service error the request failed with,
+     * or null if it succeeded or failed for another reason.
+     */
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public void setErrorCode(String errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * Returns the time from the start of the request to its completion,
+     * including backoff between attempts.
+     */
+    public long getTotalTime() {
+        return totalTime;
+    }
+
+    public void setTotalTime(long totalTime) {
+        this.totalTime = totalTime;
+    }
+
+    /**
+     * Returns the time spent sending the request and waiting for the
+     * service's responses, including the time waiting for connections.
+     */
+    public long getHttpRequestTime() {
+        return httpRequestTime;
+    }
+
+    public void addHttpRequestTime(long time) {
+        this.httpRequestTime += time;
+    }
+
+    /**
+     * Returns the time spent unmarshalling the successful response.
+     */
+    public long getResponseProcessingTime() {
+        return responseProcessingTime;
+    }
+
+    public void setResponseProcessingTime(long responseProcessingTime) {
+        this.responseProcessingTime = responseProcessingTime;
+    }
+
+    /**
+     * Returns the time spent waiting for a connection from the client's
+     * connection pool. Requests sent with non-blocking I/O don't wait on the
+     * pool, so this is always zero for them.
+     */
+    public long getConnectionPoolWaitTime() {
+        return connectionPoolWaitTime;
+    }
+
+    public void addConnectionPoolWaitTime(long time) {
+        this.connectionPoolWaitTime += time;
+    }
+
+    /**
+     * Returns the number of times the request was retried.
+     */
+    public int getRetries() {
+        return retries;
+    }
+
+    public void incrementRetries() {
+        retries++;
+    }
+
+    /**
+     * Returns the number of times the request was retried because the service
+     * throttled it.
+     */
+    public int getThrottledRetries() {
+        return throttledRetries;
+    }
+
+    public void incrementThrottledRetries() {
+        throttledRetries++;
+    }
+
+    /**
+     * Returns the number of bytes of request content sent, over all attempts,
+     * not counting content of unknown length.
+     */
+    public long getBytesSent() {
+        return bytesSent;
+    }
+
+    public void addBytesSent(long count) {
+        this.bytesSent += count;
+    }
+
+    /**
+     * Returns the number of bytes of successful response content received.
+     * For responses whose content is returned to the caller as a stream, this
+     * is the length the service declared for it.
+     */
+    public long getBytesReceived() {
+        return bytesReceived;
+    }
+
+    public void addBytesReceived(long count) {
+        this.bytesReceived += count;
+    }
+
+    @Override
+    public String toString() {
+        return "RequestMetrics [serviceName=" + serviceName + ", operationName=" + operationName + ", successful="
+                + successful + ", errorCode=" + errorCode + ", totalTime=" + totalTime + ", httpRequestTime="
+                + httpRequestTime + ", responseProcessingTime=" + responseProcessingTime
+                + ", connectionPoolWaitTime=" + connectionPoolWaitTime + ", retries=" + retries
+                + ", throttledRetries=" + throttledRetries + ", bytesSent=" + bytesSent + ", bytesReceived="
+                + bytesReceived + "]";
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.metrics;
+
+/**
+ * Receives the metrics of every request sent by the clients it's configured
+ * on, for instance to aggregate them or to publish them to a monitoring
+ * system. Set a collector on the {@link com.amazonaws.ClientConfiguration}
+ * clients are constructed with; clients without one don't gather any metrics.
+ * <p>
+ * Collectors are called once per request, after its last attempt has
+ * completed or failed, on the thread that completed it. They can be called
+ * concurrently, and should return quickly, since the caller waiting on the
+ * request doesn't get its result until they do.
+ *
+ * @see JmxRequestMetricsCollector
+ */
+public interface RequestMetricsCollector {
+
+    /**
+     * Collects the metrics of a completed request.
+     *
+     * @param metrics
+     *            The metrics of the request, which aren't modified once
+     *            passed to the collector.
+     */
+    public void collectMetrics(RequestMetrics metrics);
+}
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.autoscaling;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.autoscaling.model.*;
+import com.amazonaws.services.autoscaling.model.transform.*;
 
 
 /**
@@ -252,11 +254,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingGroupsResult> describeAutoScalingGroupsAsync(final DescribeAutoScalingGroupsRequest describeAutoScalingGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingGroupsResult>() {
-            public DescribeAutoScalingGroupsResult call() throws Exception {
-                return describeAutoScalingGroups(describeAutoScalingGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeAutoScalingGroupsRequest, new DescribeAutoScalingGroupsRequestMarshaller(), new DescribeAutoScalingGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -291,12 +289,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> enableMetricsCollectionAsync(final EnableMetricsCollectionRequest enableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMetricsCollection(enableMetricsCollectionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(enableMetricsCollectionRequest, new EnableMetricsCollectionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -321,12 +314,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> resumeProcessesAsync(final ResumeProcessesRequest resumeProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resumeProcesses(resumeProcessesRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(resumeProcessesRequest, new ResumeProcessesRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -357,12 +345,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteLaunchConfigurationAsync(final DeleteLaunchConfigurationRequest deleteLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLaunchConfiguration(deleteLaunchConfigurationRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteLaunchConfigurationRequest, new DeleteLaunchConfigurationRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -389,11 +372,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribePoliciesResult> describePoliciesAsync(final DescribePoliciesRequest describePoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePoliciesResult>() {
-            public DescribePoliciesResult call() throws Exception {
-                return describePolicies(describePoliciesRequest);
-		    }
-		});
+        return invokeAsync(describePoliciesRequest, new DescribePoliciesRequestMarshaller(), new DescribePoliciesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -420,11 +399,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingProcessTypesResult> describeScalingProcessTypesAsync(final DescribeScalingProcessTypesRequest describeScalingProcessTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingProcessTypesResult>() {
-            public DescribeScalingProcessTypesResult call() throws Exception {
-                return describeScalingProcessTypes(describeScalingProcessTypesRequest);
-		    }
-		});
+        return invokeAsync(describeScalingProcessTypesRequest, new DescribeScalingProcessTypesRequestMarshaller(), new DescribeScalingProcessTypesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -457,12 +432,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createAutoScalingGroupAsync(final CreateAutoScalingGroupRequest createAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAutoScalingGroup(createAutoScalingGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createAutoScalingGroupRequest, new CreateAutoScalingGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -500,11 +470,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScalingActivitiesResult> describeScalingActivitiesAsync(final DescribeScalingActivitiesRequest describeScalingActivitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScalingActivitiesResult>() {
-            public DescribeScalingActivitiesResult call() throws Exception {
-                return describeScalingActivities(describeScalingActivitiesRequest);
-		    }
-		});
+        return invokeAsync(describeScalingActivitiesRequest, new DescribeScalingActivitiesRequestMarshaller(), new DescribeScalingActivitiesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -531,11 +497,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeNotificationConfigurationsResult> describeNotificationConfigurationsAsync(final DescribeNotificationConfigurationsRequest describeNotificationConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNotificationConfigurationsResult>() {
-            public DescribeNotificationConfigurationsResult call() throws Exception {
-                return describeNotificationConfigurations(describeNotificationConfigurationsRequest);
-		    }
-		});
+        return invokeAsync(describeNotificationConfigurationsRequest, new DescribeNotificationConfigurationsRequestMarshaller(), new DescribeNotificationConfigurationsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -571,11 +533,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-		    }
-		});
+        return invokeAsync(describeTagsRequest, new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -600,12 +558,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> executePolicyAsync(final ExecutePolicyRequest executePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                executePolicy(executePolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(executePolicyRequest, new ExecutePolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -629,12 +582,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteTagsRequest, new DeleteTagsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -661,11 +609,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<PutScalingPolicyResult> putScalingPolicyAsync(final PutScalingPolicyRequest putScalingPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutScalingPolicyResult>() {
-            public PutScalingPolicyResult call() throws Exception {
-                return putScalingPolicy(putScalingPolicyRequest);
-		    }
-		});
+        return invokeAsync(putScalingPolicyRequest, new PutScalingPolicyRequestMarshaller(), new PutScalingPolicyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -697,12 +641,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putNotificationConfigurationAsync(final PutNotificationConfigurationRequest putNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putNotificationConfiguration(putNotificationConfigurationRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(putNotificationConfigurationRequest, new PutNotificationConfigurationRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -726,12 +665,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deletePolicyAsync(final DeletePolicyRequest deletePolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePolicy(deletePolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deletePolicyRequest, new DeletePolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -757,12 +691,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteNotificationConfigurationAsync(final DeleteNotificationConfigurationRequest deleteNotificationConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNotificationConfiguration(deleteNotificationConfigurationRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteNotificationConfigurationRequest, new DeleteNotificationConfigurationRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -789,12 +718,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteScheduledActionAsync(final DeleteScheduledActionRequest deleteScheduledActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteScheduledAction(deleteScheduledActionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteScheduledActionRequest, new DeleteScheduledActionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -818,12 +742,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setInstanceHealthAsync(final SetInstanceHealthRequest setInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setInstanceHealth(setInstanceHealthRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(setInstanceHealthRequest, new SetInstanceHealthRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -850,11 +769,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingNotificationTypesResult> describeAutoScalingNotificationTypesAsync(final DescribeAutoScalingNotificationTypesRequest describeAutoScalingNotificationTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingNotificationTypesResult>() {
-            public DescribeAutoScalingNotificationTypesResult call() throws Exception {
-                return describeAutoScalingNotificationTypes(describeAutoScalingNotificationTypesRequest);
-		    }
-		});
+        return invokeAsync(describeAutoScalingNotificationTypesRequest, new DescribeAutoScalingNotificationTypesRequestMarshaller(), new DescribeAutoScalingNotificationTypesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -885,12 +800,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createOrUpdateTagsAsync(final CreateOrUpdateTagsRequest createOrUpdateTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createOrUpdateTags(createOrUpdateTagsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createOrUpdateTagsRequest, new CreateOrUpdateTagsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -927,12 +837,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> suspendProcessesAsync(final SuspendProcessesRequest suspendProcessesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                suspendProcesses(suspendProcessesRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(suspendProcessesRequest, new SuspendProcessesRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -966,11 +871,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAutoScalingInstancesResult> describeAutoScalingInstancesAsync(final DescribeAutoScalingInstancesRequest describeAutoScalingInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAutoScalingInstancesResult>() {
-            public DescribeAutoScalingInstancesResult call() throws Exception {
-                return describeAutoScalingInstances(describeAutoScalingInstancesRequest);
-		    }
-		});
+        return invokeAsync(describeAutoScalingInstancesRequest, new DescribeAutoScalingInstancesRequestMarshaller(), new DescribeAutoScalingInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1010,12 +911,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> createLaunchConfigurationAsync(final CreateLaunchConfigurationRequest createLaunchConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLaunchConfiguration(createLaunchConfigurationRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createLaunchConfigurationRequest, new CreateLaunchConfigurationRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1047,12 +943,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> deleteAutoScalingGroupAsync(final DeleteAutoScalingGroupRequest deleteAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAutoScalingGroup(deleteAutoScalingGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteAutoScalingGroupRequest, new DeleteAutoScalingGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1081,12 +972,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> disableMetricsCollectionAsync(final DisableMetricsCollectionRequest disableMetricsCollectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableMetricsCollection(disableMetricsCollectionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(disableMetricsCollectionRequest, new DisableMetricsCollectionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1131,12 +1017,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> updateAutoScalingGroupAsync(final UpdateAutoScalingGroupRequest updateAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAutoScalingGroup(updateAutoScalingGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateAutoScalingGroupRequest, new UpdateAutoScalingGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1167,11 +1048,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeLaunchConfigurationsResult> describeLaunchConfigurationsAsync(final DescribeLaunchConfigurationsRequest describeLaunchConfigurationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLaunchConfigurationsResult>() {
-            public DescribeLaunchConfigurationsResult call() throws Exception {
-                return describeLaunchConfigurations(describeLaunchConfigurationsRequest);
-		    }
-		});
+        return invokeAsync(describeLaunchConfigurationsRequest, new DescribeLaunchConfigurationsRequestMarshaller(), new DescribeLaunchConfigurationsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1198,11 +1075,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeAdjustmentTypesResult> describeAdjustmentTypesAsync(final DescribeAdjustmentTypesRequest describeAdjustmentTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAdjustmentTypesResult>() {
-            public DescribeAdjustmentTypesResult call() throws Exception {
-                return describeAdjustmentTypes(describeAdjustmentTypesRequest);
-		    }
-		});
+        return invokeAsync(describeAdjustmentTypesRequest, new DescribeAdjustmentTypesRequestMarshaller(), new DescribeAdjustmentTypesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1230,11 +1103,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeScheduledActionsResult> describeScheduledActionsAsync(final DescribeScheduledActionsRequest describeScheduledActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeScheduledActionsResult>() {
-            public DescribeScheduledActionsResult call() throws Exception {
-                return describeScheduledActions(describeScheduledActionsRequest);
-		    }
-		});
+        return invokeAsync(describeScheduledActionsRequest, new DescribeScheduledActionsRequestMarshaller(), new DescribeScheduledActionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1262,12 +1131,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> putScheduledUpdateGroupActionAsync(final PutScheduledUpdateGroupActionRequest putScheduledUpdateGroupActionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putScheduledUpdateGroupAction(putScheduledUpdateGroupActionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(putScheduledUpdateGroupActionRequest, new PutScheduledUpdateGroupActionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1294,11 +1158,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<DescribeMetricCollectionTypesResult> describeMetricCollectionTypesAsync(final DescribeMetricCollectionTypesRequest describeMetricCollectionTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMetricCollectionTypesResult>() {
-            public DescribeMetricCollectionTypesResult call() throws Exception {
-                return describeMetricCollectionTypes(describeMetricCollectionTypesRequest);
-		    }
-		});
+        return invokeAsync(describeMetricCollectionTypesRequest, new DescribeMetricCollectionTypesRequestMarshaller(), new DescribeMetricCollectionTypesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1353,12 +1213,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<Void> setDesiredCapacityAsync(final SetDesiredCapacityRequest setDesiredCapacityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setDesiredCapacity(setDesiredCapacityRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(setDesiredCapacityRequest, new SetDesiredCapacityRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1389,11 +1244,7 @@ public class AmazonAutoScalingAsyncClient extends AmazonAutoScalingClient
      */
     public Future<TerminateInstanceInAutoScalingGroupResult> terminateInstanceInAutoScalingGroupAsync(final TerminateInstanceInAutoScalingGroupRequest terminateInstanceInAutoScalingGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstanceInAutoScalingGroupResult>() {
-            public TerminateInstanceInAutoScalingGroupResult call() throws Exception {
-                return terminateInstanceInAutoScalingGroup(terminateInstanceInAutoScalingGroupRequest);
-		    }
-		});
+        return invokeAsync(terminateInstanceInAutoScalingGroupRequest, new TerminateInstanceInAutoScalingGroupRequestMarshaller(), new TerminateInstanceInAutoScalingGroupResultStaxUnmarshaller(), executorService);
     }
     
 }
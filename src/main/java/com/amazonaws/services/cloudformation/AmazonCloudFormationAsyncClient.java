@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.cloudformation;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.cloudformation.model.*;
+import com.amazonaws.services.cloudformation.model.transform.*;
 
 
 /**
@@ -258,11 +260,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ListStacksResult> listStacksAsync(final ListStacksRequest listStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStacksResult>() {
-            public ListStacksResult call() throws Exception {
-                return listStacks(listStacksRequest);
-		    }
-		});
+        return invokeAsync(listStacksRequest, new ListStacksRequestMarshaller(), new ListStacksResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -292,11 +290,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<CreateStackResult> createStackAsync(final CreateStackRequest createStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStackResult>() {
-            public CreateStackResult call() throws Exception {
-                return createStack(createStackRequest);
-		    }
-		});
+        return invokeAsync(createStackRequest, new CreateStackRequestMarshaller(), new CreateStackResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -320,11 +314,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ValidateTemplateResult> validateTemplateAsync(final ValidateTemplateRequest validateTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateTemplateResult>() {
-            public ValidateTemplateResult call() throws Exception {
-                return validateTemplate(validateTemplateRequest);
-		    }
-		});
+        return invokeAsync(validateTemplateRequest, new ValidateTemplateRequestMarshaller(), new ValidateTemplateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -352,11 +342,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<EstimateTemplateCostResult> estimateTemplateCostAsync(final EstimateTemplateCostRequest estimateTemplateCostRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EstimateTemplateCostResult>() {
-            public EstimateTemplateCostResult call() throws Exception {
-                return estimateTemplateCost(estimateTemplateCostRequest);
-		    }
-		});
+        return invokeAsync(estimateTemplateCostRequest, new EstimateTemplateCostRequestMarshaller(), new EstimateTemplateCostResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -381,11 +367,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStacksResult> describeStacksAsync(final DescribeStacksRequest describeStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStacksResult>() {
-            public DescribeStacksResult call() throws Exception {
-                return describeStacks(describeStacksRequest);
-		    }
-		});
+        return invokeAsync(describeStacksRequest, new DescribeStacksRequestMarshaller(), new DescribeStacksResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -421,11 +403,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackEventsResult> describeStackEventsAsync(final DescribeStackEventsRequest describeStackEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackEventsResult>() {
-            public DescribeStackEventsResult call() throws Exception {
-                return describeStackEvents(describeStackEventsRequest);
-		    }
-		});
+        return invokeAsync(describeStackEventsRequest, new DescribeStackEventsRequestMarshaller(), new DescribeStackEventsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -458,11 +436,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<GetTemplateResult> getTemplateAsync(final GetTemplateRequest getTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetTemplateResult>() {
-            public GetTemplateResult call() throws Exception {
-                return getTemplate(getTemplateRequest);
-		    }
-		});
+        return invokeAsync(getTemplateRequest, new GetTemplateRequestMarshaller(), new GetTemplateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -493,11 +467,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackResourceResult> describeStackResourceAsync(final DescribeStackResourceRequest describeStackResourceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourceResult>() {
-            public DescribeStackResourceResult call() throws Exception {
-                return describeStackResource(describeStackResourceRequest);
-		    }
-		});
+        return invokeAsync(describeStackResourceRequest, new DescribeStackResourceRequestMarshaller(), new DescribeStackResourceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -523,12 +493,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<Void> deleteStackAsync(final DeleteStackRequest deleteStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStack(deleteStackRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteStackRequest, new DeleteStackRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -558,11 +523,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<ListStackResourcesResult> listStackResourcesAsync(final ListStackResourcesRequest listStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStackResourcesResult>() {
-            public ListStackResourcesResult call() throws Exception {
-                return listStackResources(listStackResourcesRequest);
-		    }
-		});
+        return invokeAsync(listStackResourcesRequest, new ListStackResourcesRequestMarshaller(), new ListStackResourcesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -609,11 +570,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<DescribeStackResourcesResult> describeStackResourcesAsync(final DescribeStackResourcesRequest describeStackResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStackResourcesResult>() {
-            public DescribeStackResourcesResult call() throws Exception {
-                return describeStackResources(describeStackResourcesRequest);
-		    }
-		});
+        return invokeAsync(describeStackResourcesRequest, new DescribeStackResourcesRequestMarshaller(), new DescribeStackResourcesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -649,11 +606,7 @@ public class AmazonCloudFormationAsyncClient extends AmazonCloudFormationClient
      */
     public Future<UpdateStackResult> updateStackAsync(final UpdateStackRequest updateStackRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStackResult>() {
-            public UpdateStackResult call() throws Exception {
-                return updateStack(updateStackRequest);
-		    }
-		});
+        return invokeAsync(updateStackRequest, new UpdateStackRequestMarshaller(), new UpdateStackResultStaxUnmarshaller(), executorService);
     }
     
 }
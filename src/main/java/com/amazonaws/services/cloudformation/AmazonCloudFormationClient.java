@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.amazonaws.*;
 import com.amazonaws.auth.*;
@@ -29,6 +31,7 @@ import com.amazonaws.http.StaxResponseHandler;
 import com.amazonaws.http.DefaultErrorResponseHandler;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.StaxUnmarshallerContext;
 import com.amazonaws.transform.StandardErrorUnmarshaller;
@@ -808,5 +811,17 @@ public class AmazonCloudFormationClient extends AmazonWebServiceClient implement
         
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Starts executing the request through the low level client's
+     * asynchronous path, using the specified executor to marshall the
+     * request and process the response.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest, Marshaller<Request<Y>, Y> marshaller, Unmarshaller<X, StaxUnmarshallerContext> unmarshaller, ExecutorService executorService) {
+        ExecutionContext executionContext = createExecutionContext();
+        executionContext.setSigner(signer);
+        return invokeAsync(originalRequest, marshaller, new StaxResponseHandler<X>(unmarshaller),
+                new DefaultErrorResponseHandler(exceptionUnmarshallers), executionContext, awsCredentialsProvider, executorService);
+    }
 }
         
\ No newline at end of file
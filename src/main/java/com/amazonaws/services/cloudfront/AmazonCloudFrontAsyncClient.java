@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.cloudfront;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.cloudfront.model.*;
+import com.amazonaws.services.cloudfront.model.transform.*;
 
 
 /**
@@ -223,11 +225,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityAsync(final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
-            public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
-		    }
-		});
+        return invokeAsync(updateCloudFrontOriginAccessIdentityRequest, new UpdateCloudFrontOriginAccessIdentityRequestMarshaller(), new UpdateCloudFrontOriginAccessIdentityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -251,11 +249,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListDistributionsResult> listDistributionsAsync(final ListDistributionsRequest listDistributionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
-            public ListDistributionsResult call() throws Exception {
-                return listDistributions(listDistributionsRequest);
-		    }
-		});
+        return invokeAsync(listDistributionsRequest, new ListDistributionsRequestMarshaller(), new ListDistributionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -280,11 +274,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateDistributionResult> updateDistributionAsync(final UpdateDistributionRequest updateDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
-            public UpdateDistributionResult call() throws Exception {
-                return updateDistribution(updateDistributionRequest);
-		    }
-		});
+        return invokeAsync(updateDistributionRequest, new UpdateDistributionRequestMarshaller(), new UpdateDistributionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -309,11 +299,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionConfigResult> getDistributionConfigAsync(final GetDistributionConfigRequest getDistributionConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
-            public GetDistributionConfigResult call() throws Exception {
-                return getDistributionConfig(getDistributionConfigRequest);
-		    }
-		});
+        return invokeAsync(getDistributionConfigRequest, new GetDistributionConfigRequestMarshaller(), new GetDistributionConfigResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -339,11 +325,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionConfigResult> getStreamingDistributionConfigAsync(final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
-            public GetStreamingDistributionConfigResult call() throws Exception {
-                return getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
-		    }
-		});
+        return invokeAsync(getStreamingDistributionConfigRequest, new GetStreamingDistributionConfigRequestMarshaller(), new GetStreamingDistributionConfigResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -369,11 +351,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityAsync(final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
-            public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
-		    }
-		});
+        return invokeAsync(getCloudFrontOriginAccessIdentityRequest, new GetCloudFrontOriginAccessIdentityRequestMarshaller(), new GetCloudFrontOriginAccessIdentityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -399,12 +377,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteCloudFrontOriginAccessIdentityAsync(final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteCloudFrontOriginAccessIdentityRequest, new DeleteCloudFrontOriginAccessIdentityRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -430,11 +403,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListStreamingDistributionsResult> listStreamingDistributionsAsync(final ListStreamingDistributionsRequest listStreamingDistributionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
-            public ListStreamingDistributionsResult call() throws Exception {
-                return listStreamingDistributions(listStreamingDistributionsRequest);
-		    }
-		});
+        return invokeAsync(listStreamingDistributionsRequest, new ListStreamingDistributionsRequestMarshaller(), new ListStreamingDistributionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -460,11 +429,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateStreamingDistributionResult> updateStreamingDistributionAsync(final UpdateStreamingDistributionRequest updateStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
-            public UpdateStreamingDistributionResult call() throws Exception {
-                return updateStreamingDistribution(updateStreamingDistributionRequest);
-		    }
-		});
+        return invokeAsync(updateStreamingDistributionRequest, new UpdateStreamingDistributionRequestMarshaller(), new UpdateStreamingDistributionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -489,11 +454,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateInvalidationResult> createInvalidationAsync(final CreateInvalidationRequest createInvalidationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
-            public CreateInvalidationResult call() throws Exception {
-                return createInvalidation(createInvalidationRequest);
-		    }
-		});
+        return invokeAsync(createInvalidationRequest, new CreateInvalidationRequestMarshaller(), new CreateInvalidationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -519,11 +480,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateStreamingDistributionResult> createStreamingDistributionAsync(final CreateStreamingDistributionRequest createStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
-            public CreateStreamingDistributionResult call() throws Exception {
-                return createStreamingDistribution(createStreamingDistributionRequest);
-		    }
-		});
+        return invokeAsync(createStreamingDistributionRequest, new CreateStreamingDistributionRequestMarshaller(), new CreateStreamingDistributionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -547,11 +504,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetInvalidationResult> getInvalidationAsync(final GetInvalidationRequest getInvalidationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
-            public GetInvalidationResult call() throws Exception {
-                return getInvalidation(getInvalidationRequest);
-		    }
-		});
+        return invokeAsync(getInvalidationRequest, new GetInvalidationRequestMarshaller(), new GetInvalidationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -577,11 +530,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigAsync(final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
-            public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
-                return getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
-		    }
-		});
+        return invokeAsync(getCloudFrontOriginAccessIdentityConfigRequest, new GetCloudFrontOriginAccessIdentityConfigRequestMarshaller(), new GetCloudFrontOriginAccessIdentityConfigResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -607,12 +556,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteStreamingDistributionAsync(final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStreamingDistribution(deleteStreamingDistributionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteStreamingDistributionRequest, new DeleteStreamingDistributionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -638,11 +582,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionResult> getStreamingDistributionAsync(final GetStreamingDistributionRequest getStreamingDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
-            public GetStreamingDistributionResult call() throws Exception {
-                return getStreamingDistribution(getStreamingDistributionRequest);
-		    }
-		});
+        return invokeAsync(getStreamingDistributionRequest, new GetStreamingDistributionRequestMarshaller(), new GetStreamingDistributionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -668,11 +608,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityAsync(final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
-            public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
-		    }
-		});
+        return invokeAsync(createCloudFrontOriginAccessIdentityRequest, new CreateCloudFrontOriginAccessIdentityRequestMarshaller(), new CreateCloudFrontOriginAccessIdentityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -697,12 +633,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteDistributionAsync(final DeleteDistributionRequest deleteDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDistribution(deleteDistributionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteDistributionRequest, new DeleteDistributionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -727,11 +658,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateDistributionResult> createDistributionAsync(final CreateDistributionRequest createDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
-            public CreateDistributionResult call() throws Exception {
-                return createDistribution(createDistributionRequest);
-		    }
-		});
+        return invokeAsync(createDistributionRequest, new CreateDistributionRequestMarshaller(), new CreateDistributionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -755,11 +682,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListInvalidationsResult> listInvalidationsAsync(final ListInvalidationsRequest listInvalidationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
-            public ListInvalidationsResult call() throws Exception {
-                return listInvalidations(listInvalidationsRequest);
-		    }
-		});
+        return invokeAsync(listInvalidationsRequest, new ListInvalidationsRequestMarshaller(), new ListInvalidationsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -783,11 +706,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionResult> getDistributionAsync(final GetDistributionRequest getDistributionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
-            public GetDistributionResult call() throws Exception {
-                return getDistribution(getDistributionRequest);
-		    }
-		});
+        return invokeAsync(getDistributionRequest, new GetDistributionRequestMarshaller(), new GetDistributionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -813,11 +732,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesAsync(final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
-            public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
-                return listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
-		    }
-		});
+        return invokeAsync(listCloudFrontOriginAccessIdentitiesRequest, new ListCloudFrontOriginAccessIdentitiesRequestMarshaller(), new ListCloudFrontOriginAccessIdentitiesResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.cloudfront_2012_03_15;
 
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,6 +23,8 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.services.cloudfront_2012_03_15.model.CreateCloudFrontOriginAccessIdentityRequest;
 import com.amazonaws.services.cloudfront_2012_03_15.model.CreateCloudFrontOriginAccessIdentityResult;
 import com.amazonaws.services.cloudfront_2012_03_15.model.CreateDistributionRequest;
@@ -63,6 +64,45 @@ import com.amazonaws.services.cloudfront_2012_03_15.model.UpdateDistributionRequ
 import com.amazonaws.services.cloudfront_2012_03_15.model.UpdateDistributionResult;
 import com.amazonaws.services.cloudfront_2012_03_15.model.UpdateStreamingDistributionRequest;
 import com.amazonaws.services.cloudfront_2012_03_15.model.UpdateStreamingDistributionResult;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateCloudFrontOriginAccessIdentityRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateCloudFrontOriginAccessIdentityResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateDistributionResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateInvalidationRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateInvalidationResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateStreamingDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.CreateStreamingDistributionResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.DeleteCloudFrontOriginAccessIdentityRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.DeleteDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.DeleteStreamingDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetCloudFrontOriginAccessIdentityConfigRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetCloudFrontOriginAccessIdentityConfigResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetCloudFrontOriginAccessIdentityRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetCloudFrontOriginAccessIdentityResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetDistributionConfigRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetDistributionConfigResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetDistributionResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetInvalidationRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetInvalidationResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetStreamingDistributionConfigRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetStreamingDistributionConfigResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetStreamingDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.GetStreamingDistributionResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListCloudFrontOriginAccessIdentitiesRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListCloudFrontOriginAccessIdentitiesResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListDistributionsRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListDistributionsResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListInvalidationsRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListInvalidationsResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListStreamingDistributionsRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.ListStreamingDistributionsResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateCloudFrontOriginAccessIdentityRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateCloudFrontOriginAccessIdentityResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateDistributionResultStaxUnmarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateStreamingDistributionRequestMarshaller;
+import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateStreamingDistributionResultStaxUnmarshaller;
 
 
 /**
@@ -263,12 +303,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteCloudFrontOriginAccessIdentityAsync(final DeleteCloudFrontOriginAccessIdentityRequest deleteCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCloudFrontOriginAccessIdentity(deleteCloudFrontOriginAccessIdentityRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteCloudFrontOriginAccessIdentityRequest, new DeleteCloudFrontOriginAccessIdentityRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
 
     /**
@@ -294,11 +329,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionConfigResult> getStreamingDistributionConfigAsync(final GetStreamingDistributionConfigRequest getStreamingDistributionConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionConfigResult>() {
-            public GetStreamingDistributionConfigResult call() throws Exception {
-                return getStreamingDistributionConfig(getStreamingDistributionConfigRequest);
-		    }
-		});
+        return invokeAsync(getStreamingDistributionConfigRequest, new GetStreamingDistributionConfigRequestMarshaller(), new GetStreamingDistributionConfigResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -322,11 +353,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetInvalidationResult> getInvalidationAsync(final GetInvalidationRequest getInvalidationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetInvalidationResult>() {
-            public GetInvalidationResult call() throws Exception {
-                return getInvalidation(getInvalidationRequest);
-		    }
-		});
+        return invokeAsync(getInvalidationRequest, new GetInvalidationRequestMarshaller(), new GetInvalidationResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -352,12 +379,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteStreamingDistributionAsync(final DeleteStreamingDistributionRequest deleteStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteStreamingDistribution(deleteStreamingDistributionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteStreamingDistributionRequest, new DeleteStreamingDistributionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
 
     /**
@@ -383,11 +405,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateStreamingDistributionResult> createStreamingDistributionAsync(final CreateStreamingDistributionRequest createStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStreamingDistributionResult>() {
-            public CreateStreamingDistributionResult call() throws Exception {
-                return createStreamingDistribution(createStreamingDistributionRequest);
-		    }
-		});
+        return invokeAsync(createStreamingDistributionRequest, new CreateStreamingDistributionRequestMarshaller(), new CreateStreamingDistributionResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -412,11 +430,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateDistributionResult> createDistributionAsync(final CreateDistributionRequest createDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDistributionResult>() {
-            public CreateDistributionResult call() throws Exception {
-                return createDistribution(createDistributionRequest);
-		    }
-		});
+        return invokeAsync(createDistributionRequest, new CreateDistributionRequestMarshaller(), new CreateDistributionResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -441,12 +455,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<Void> deleteDistributionAsync(final DeleteDistributionRequest deleteDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDistribution(deleteDistributionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteDistributionRequest, new DeleteDistributionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
 
     /**
@@ -471,11 +480,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateDistributionResult> updateDistributionAsync(final UpdateDistributionRequest updateDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDistributionResult>() {
-            public UpdateDistributionResult call() throws Exception {
-                return updateDistribution(updateDistributionRequest);
-		    }
-		});
+        return invokeAsync(updateDistributionRequest, new UpdateDistributionRequestMarshaller(), new UpdateDistributionResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -501,11 +506,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateStreamingDistributionResult> updateStreamingDistributionAsync(final UpdateStreamingDistributionRequest updateStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStreamingDistributionResult>() {
-            public UpdateStreamingDistributionResult call() throws Exception {
-                return updateStreamingDistribution(updateStreamingDistributionRequest);
-		    }
-		});
+        return invokeAsync(updateStreamingDistributionRequest, new UpdateStreamingDistributionRequestMarshaller(), new UpdateStreamingDistributionResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -531,11 +532,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateCloudFrontOriginAccessIdentityResult> createCloudFrontOriginAccessIdentityAsync(final CreateCloudFrontOriginAccessIdentityRequest createCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCloudFrontOriginAccessIdentityResult>() {
-            public CreateCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return createCloudFrontOriginAccessIdentity(createCloudFrontOriginAccessIdentityRequest);
-		    }
-		});
+        return invokeAsync(createCloudFrontOriginAccessIdentityRequest, new CreateCloudFrontOriginAccessIdentityRequestMarshaller(), new CreateCloudFrontOriginAccessIdentityResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -559,11 +556,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionResult> getDistributionAsync(final GetDistributionRequest getDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionResult>() {
-            public GetDistributionResult call() throws Exception {
-                return getDistribution(getDistributionRequest);
-		    }
-		});
+        return invokeAsync(getDistributionRequest, new GetDistributionRequestMarshaller(), new GetDistributionResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -589,11 +582,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityConfigResult> getCloudFrontOriginAccessIdentityConfigAsync(final GetCloudFrontOriginAccessIdentityConfigRequest getCloudFrontOriginAccessIdentityConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityConfigResult>() {
-            public GetCloudFrontOriginAccessIdentityConfigResult call() throws Exception {
-                return getCloudFrontOriginAccessIdentityConfig(getCloudFrontOriginAccessIdentityConfigRequest);
-		    }
-		});
+        return invokeAsync(getCloudFrontOriginAccessIdentityConfigRequest, new GetCloudFrontOriginAccessIdentityConfigRequestMarshaller(), new GetCloudFrontOriginAccessIdentityConfigResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -619,11 +608,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetStreamingDistributionResult> getStreamingDistributionAsync(final GetStreamingDistributionRequest getStreamingDistributionRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStreamingDistributionResult>() {
-            public GetStreamingDistributionResult call() throws Exception {
-                return getStreamingDistribution(getStreamingDistributionRequest);
-		    }
-		});
+        return invokeAsync(getStreamingDistributionRequest, new GetStreamingDistributionRequestMarshaller(), new GetStreamingDistributionResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -647,11 +632,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListDistributionsResult> listDistributionsAsync(final ListDistributionsRequest listDistributionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListDistributionsResult>() {
-            public ListDistributionsResult call() throws Exception {
-                return listDistributions(listDistributionsRequest);
-		    }
-		});
+        return invokeAsync(listDistributionsRequest, new ListDistributionsRequestMarshaller(), new ListDistributionsResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -677,11 +658,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<UpdateCloudFrontOriginAccessIdentityResult> updateCloudFrontOriginAccessIdentityAsync(final UpdateCloudFrontOriginAccessIdentityRequest updateCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateCloudFrontOriginAccessIdentityResult>() {
-            public UpdateCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return updateCloudFrontOriginAccessIdentity(updateCloudFrontOriginAccessIdentityRequest);
-		    }
-		});
+        return invokeAsync(updateCloudFrontOriginAccessIdentityRequest, new UpdateCloudFrontOriginAccessIdentityRequestMarshaller(), new UpdateCloudFrontOriginAccessIdentityResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -706,11 +683,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetDistributionConfigResult> getDistributionConfigAsync(final GetDistributionConfigRequest getDistributionConfigRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetDistributionConfigResult>() {
-            public GetDistributionConfigResult call() throws Exception {
-                return getDistributionConfig(getDistributionConfigRequest);
-		    }
-		});
+        return invokeAsync(getDistributionConfigRequest, new GetDistributionConfigRequestMarshaller(), new GetDistributionConfigResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -736,11 +709,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<GetCloudFrontOriginAccessIdentityResult> getCloudFrontOriginAccessIdentityAsync(final GetCloudFrontOriginAccessIdentityRequest getCloudFrontOriginAccessIdentityRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetCloudFrontOriginAccessIdentityResult>() {
-            public GetCloudFrontOriginAccessIdentityResult call() throws Exception {
-                return getCloudFrontOriginAccessIdentity(getCloudFrontOriginAccessIdentityRequest);
-		    }
-		});
+        return invokeAsync(getCloudFrontOriginAccessIdentityRequest, new GetCloudFrontOriginAccessIdentityRequestMarshaller(), new GetCloudFrontOriginAccessIdentityResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -765,11 +734,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<CreateInvalidationResult> createInvalidationAsync(final CreateInvalidationRequest createInvalidationRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInvalidationResult>() {
-            public CreateInvalidationResult call() throws Exception {
-                return createInvalidation(createInvalidationRequest);
-		    }
-		});
+        return invokeAsync(createInvalidationRequest, new CreateInvalidationRequestMarshaller(), new CreateInvalidationResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -795,11 +760,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListCloudFrontOriginAccessIdentitiesResult> listCloudFrontOriginAccessIdentitiesAsync(final ListCloudFrontOriginAccessIdentitiesRequest listCloudFrontOriginAccessIdentitiesRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListCloudFrontOriginAccessIdentitiesResult>() {
-            public ListCloudFrontOriginAccessIdentitiesResult call() throws Exception {
-                return listCloudFrontOriginAccessIdentities(listCloudFrontOriginAccessIdentitiesRequest);
-		    }
-		});
+        return invokeAsync(listCloudFrontOriginAccessIdentitiesRequest, new ListCloudFrontOriginAccessIdentitiesRequestMarshaller(), new ListCloudFrontOriginAccessIdentitiesResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -825,11 +786,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListStreamingDistributionsResult> listStreamingDistributionsAsync(final ListStreamingDistributionsRequest listStreamingDistributionsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListStreamingDistributionsResult>() {
-            public ListStreamingDistributionsResult call() throws Exception {
-                return listStreamingDistributions(listStreamingDistributionsRequest);
-		    }
-		});
+        return invokeAsync(listStreamingDistributionsRequest, new ListStreamingDistributionsRequestMarshaller(), new ListStreamingDistributionsResultStaxUnmarshaller(), executorService);
     }
 
     /**
@@ -853,11 +810,7 @@ public class AmazonCloudFrontAsyncClient extends AmazonCloudFrontClient
      */
     public Future<ListInvalidationsResult> listInvalidationsAsync(final ListInvalidationsRequest listInvalidationsRequest)
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListInvalidationsResult>() {
-            public ListInvalidationsResult call() throws Exception {
-                return listInvalidations(listInvalidationsRequest);
-		    }
-		});
+        return invokeAsync(listInvalidationsRequest, new ListInvalidationsRequestMarshaller(), new ListInvalidationsResultStaxUnmarshaller(), executorService);
     }
 
 }
@@ -17,6 +17,8 @@ package com.amazonaws.services.cloudfront_2012_03_15;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.w3c.dom.Node;
 
@@ -173,6 +175,7 @@ import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateDistri
 import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateDistributionResultStaxUnmarshaller;
 import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateStreamingDistributionRequestMarshaller;
 import com.amazonaws.services.cloudfront_2012_03_15.model.transform.UpdateStreamingDistributionResultStaxUnmarshaller;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.transform.StandardErrorUnmarshaller;
 import com.amazonaws.transform.StaxUnmarshallerContext;
 import com.amazonaws.transform.Unmarshaller;
@@ -1025,4 +1028,16 @@ public class AmazonCloudFrontClient extends AmazonWebServiceClient implements Am
 
         return client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
+
+    /**
+     * Starts executing the request through the low level client's
+     * asynchronous path, using the specified executor to marshall the
+     * request and process the response.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest, Marshaller<Request<Y>, Y> marshaller, Unmarshaller<X, StaxUnmarshallerContext> unmarshaller, ExecutorService executorService) {
+        ExecutionContext executionContext = createExecutionContext();
+        executionContext.setSigner(signer);
+        return invokeAsync(originalRequest, marshaller, new StaxResponseHandler<X>(unmarshaller),
+                new DefaultErrorResponseHandler(exceptionUnmarshallers), executionContext, awsCredentialsProvider, executorService);
+    }
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.cloudsearch;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -26,6 +25,7 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 
 import com.amazonaws.services.cloudsearch.model.*;
+import com.amazonaws.services.cloudsearch.model.transform.*;
 
 
 /**
@@ -229,11 +229,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateDefaultSearchFieldResult> updateDefaultSearchFieldAsync(final UpdateDefaultSearchFieldRequest updateDefaultSearchFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateDefaultSearchFieldResult>() {
-            public UpdateDefaultSearchFieldResult call() throws Exception {
-                return updateDefaultSearchField(updateDefaultSearchFieldRequest);
-		    }
-		});
+        return invokeAsync(updateDefaultSearchFieldRequest, new UpdateDefaultSearchFieldRequestMarshaller(), new UpdateDefaultSearchFieldResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -258,11 +254,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteRankExpressionResult> deleteRankExpressionAsync(final DeleteRankExpressionRequest deleteRankExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteRankExpressionResult>() {
-            public DeleteRankExpressionResult call() throws Exception {
-                return deleteRankExpression(deleteRankExpressionRequest);
-		    }
-		});
+        return invokeAsync(deleteRankExpressionRequest, new DeleteRankExpressionRequestMarshaller(), new DeleteRankExpressionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -290,11 +282,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeRankExpressionsResult> describeRankExpressionsAsync(final DescribeRankExpressionsRequest describeRankExpressionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRankExpressionsResult>() {
-            public DescribeRankExpressionsResult call() throws Exception {
-                return describeRankExpressions(describeRankExpressionsRequest);
-		    }
-		});
+        return invokeAsync(describeRankExpressionsRequest, new DescribeRankExpressionsRequestMarshaller(), new DescribeRankExpressionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -318,11 +306,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<CreateDomainResult> createDomainAsync(final CreateDomainRequest createDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDomainResult>() {
-            public CreateDomainResult call() throws Exception {
-                return createDomain(createDomainRequest);
-		    }
-		});
+        return invokeAsync(createDomainRequest, new CreateDomainRequestMarshaller(), new CreateDomainResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -350,11 +334,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateServiceAccessPoliciesResult> updateServiceAccessPoliciesAsync(final UpdateServiceAccessPoliciesRequest updateServiceAccessPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateServiceAccessPoliciesResult>() {
-            public UpdateServiceAccessPoliciesResult call() throws Exception {
-                return updateServiceAccessPolicies(updateServiceAccessPoliciesRequest);
-		    }
-		});
+        return invokeAsync(updateServiceAccessPoliciesRequest, new UpdateServiceAccessPoliciesRequestMarshaller(), new UpdateServiceAccessPoliciesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -381,11 +361,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineIndexFieldResult> defineIndexFieldAsync(final DefineIndexFieldRequest defineIndexFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineIndexFieldResult>() {
-            public DefineIndexFieldResult call() throws Exception {
-                return defineIndexField(defineIndexFieldRequest);
-		    }
-		});
+        return invokeAsync(defineIndexFieldRequest, new DefineIndexFieldRequestMarshaller(), new DefineIndexFieldResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -413,11 +389,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DefineRankExpressionResult> defineRankExpressionAsync(final DefineRankExpressionRequest defineRankExpressionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DefineRankExpressionResult>() {
-            public DefineRankExpressionResult call() throws Exception {
-                return defineRankExpression(defineRankExpressionRequest);
-		    }
-		});
+        return invokeAsync(defineRankExpressionRequest, new DefineRankExpressionRequestMarshaller(), new DefineRankExpressionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -443,11 +415,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeSynonymOptionsResult> describeSynonymOptionsAsync(final DescribeSynonymOptionsRequest describeSynonymOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSynonymOptionsResult>() {
-            public DescribeSynonymOptionsResult call() throws Exception {
-                return describeSynonymOptions(describeSynonymOptionsRequest);
-		    }
-		});
+        return invokeAsync(describeSynonymOptionsRequest, new DescribeSynonymOptionsRequestMarshaller(), new DescribeSynonymOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -473,11 +441,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeStopwordOptionsResult> describeStopwordOptionsAsync(final DescribeStopwordOptionsRequest describeStopwordOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStopwordOptionsResult>() {
-            public DescribeStopwordOptionsResult call() throws Exception {
-                return describeStopwordOptions(describeStopwordOptionsRequest);
-		    }
-		});
+        return invokeAsync(describeStopwordOptionsRequest, new DescribeStopwordOptionsRequestMarshaller(), new DescribeStopwordOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -501,11 +465,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteDomainResult> deleteDomainAsync(final DeleteDomainRequest deleteDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteDomainResult>() {
-            public DeleteDomainResult call() throws Exception {
-                return deleteDomain(deleteDomainRequest);
-		    }
-		});
+        return invokeAsync(deleteDomainRequest, new DeleteDomainRequestMarshaller(), new DeleteDomainResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -532,11 +492,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeServiceAccessPoliciesResult> describeServiceAccessPoliciesAsync(final DescribeServiceAccessPoliciesRequest describeServiceAccessPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeServiceAccessPoliciesResult>() {
-            public DescribeServiceAccessPoliciesResult call() throws Exception {
-                return describeServiceAccessPolicies(describeServiceAccessPoliciesRequest);
-		    }
-		});
+        return invokeAsync(describeServiceAccessPoliciesRequest, new DescribeServiceAccessPoliciesRequestMarshaller(), new DescribeServiceAccessPoliciesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -562,11 +518,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDefaultSearchFieldResult> describeDefaultSearchFieldAsync(final DescribeDefaultSearchFieldRequest describeDefaultSearchFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDefaultSearchFieldResult>() {
-            public DescribeDefaultSearchFieldResult call() throws Exception {
-                return describeDefaultSearchField(describeDefaultSearchFieldRequest);
-		    }
-		});
+        return invokeAsync(describeDefaultSearchFieldRequest, new DescribeDefaultSearchFieldRequestMarshaller(), new DescribeDefaultSearchFieldResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -594,11 +546,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateStopwordOptionsResult> updateStopwordOptionsAsync(final UpdateStopwordOptionsRequest updateStopwordOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStopwordOptionsResult>() {
-            public UpdateStopwordOptionsResult call() throws Exception {
-                return updateStopwordOptions(updateStopwordOptionsRequest);
-		    }
-		});
+        return invokeAsync(updateStopwordOptionsRequest, new UpdateStopwordOptionsRequestMarshaller(), new UpdateStopwordOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -626,11 +574,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateSynonymOptionsResult> updateSynonymOptionsAsync(final UpdateSynonymOptionsRequest updateSynonymOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSynonymOptionsResult>() {
-            public UpdateSynonymOptionsResult call() throws Exception {
-                return updateSynonymOptions(updateSynonymOptionsRequest);
-		    }
-		});
+        return invokeAsync(updateSynonymOptionsRequest, new UpdateSynonymOptionsRequestMarshaller(), new UpdateSynonymOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -658,11 +602,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<UpdateStemmingOptionsResult> updateStemmingOptionsAsync(final UpdateStemmingOptionsRequest updateStemmingOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateStemmingOptionsResult>() {
-            public UpdateStemmingOptionsResult call() throws Exception {
-                return updateStemmingOptions(updateStemmingOptionsRequest);
-		    }
-		});
+        return invokeAsync(updateStemmingOptionsRequest, new UpdateStemmingOptionsRequestMarshaller(), new UpdateStemmingOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -688,11 +628,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeStemmingOptionsResult> describeStemmingOptionsAsync(final DescribeStemmingOptionsRequest describeStemmingOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStemmingOptionsResult>() {
-            public DescribeStemmingOptionsResult call() throws Exception {
-                return describeStemmingOptions(describeStemmingOptionsRequest);
-		    }
-		});
+        return invokeAsync(describeStemmingOptionsRequest, new DescribeStemmingOptionsRequestMarshaller(), new DescribeStemmingOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -717,11 +653,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeDomainsResult> describeDomainsAsync(final DescribeDomainsRequest describeDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDomainsResult>() {
-            public DescribeDomainsResult call() throws Exception {
-                return describeDomains(describeDomainsRequest);
-		    }
-		});
+        return invokeAsync(describeDomainsRequest, new DescribeDomainsRequestMarshaller(), new DescribeDomainsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -749,11 +681,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<IndexDocumentsResult> indexDocumentsAsync(final IndexDocumentsRequest indexDocumentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<IndexDocumentsResult>() {
-            public IndexDocumentsResult call() throws Exception {
-                return indexDocuments(indexDocumentsRequest);
-		    }
-		});
+        return invokeAsync(indexDocumentsRequest, new IndexDocumentsRequestMarshaller(), new IndexDocumentsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -780,11 +708,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DescribeIndexFieldsResult> describeIndexFieldsAsync(final DescribeIndexFieldsRequest describeIndexFieldsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeIndexFieldsResult>() {
-            public DescribeIndexFieldsResult call() throws Exception {
-                return describeIndexFields(describeIndexFieldsRequest);
-		    }
-		});
+        return invokeAsync(describeIndexFieldsRequest, new DescribeIndexFieldsRequestMarshaller(), new DescribeIndexFieldsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -808,11 +732,7 @@ public class AmazonCloudSearchAsyncClient extends AmazonCloudSearchClient
      */
     public Future<DeleteIndexFieldResult> deleteIndexFieldAsync(final DeleteIndexFieldRequest deleteIndexFieldRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIndexFieldResult>() {
-            public DeleteIndexFieldResult call() throws Exception {
-                return deleteIndexField(deleteIndexFieldRequest);
-		    }
-		});
+        return invokeAsync(deleteIndexFieldRequest, new DeleteIndexFieldRequestMarshaller(), new DeleteIndexFieldResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.cloudwatch;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.cloudwatch.model.*;
+import com.amazonaws.services.cloudwatch.model.transform.*;
 
 
 /**
@@ -260,12 +262,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricAlarmAsync(final PutMetricAlarmRequest putMetricAlarmRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricAlarm(putMetricAlarmRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(putMetricAlarmRequest, new PutMetricAlarmRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -307,12 +304,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> putMetricDataAsync(final PutMetricDataRequest putMetricDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putMetricData(putMetricDataRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(putMetricDataRequest, new PutMetricDataRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -348,11 +340,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<ListMetricsResult> listMetricsAsync(final ListMetricsRequest listMetricsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMetricsResult>() {
-            public ListMetricsResult call() throws Exception {
-                return listMetrics(listMetricsRequest);
-		    }
-		});
+        return invokeAsync(listMetricsRequest, new ListMetricsRequestMarshaller(), new ListMetricsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -410,11 +398,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<GetMetricStatisticsResult> getMetricStatisticsAsync(final GetMetricStatisticsRequest getMetricStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetMetricStatisticsResult>() {
-            public GetMetricStatisticsResult call() throws Exception {
-                return getMetricStatistics(getMetricStatisticsRequest);
-		    }
-		});
+        return invokeAsync(getMetricStatisticsRequest, new GetMetricStatisticsRequestMarshaller(), new GetMetricStatisticsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -441,12 +425,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> disableAlarmActionsAsync(final DisableAlarmActionsRequest disableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disableAlarmActions(disableAlarmActionsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(disableAlarmActionsRequest, new DisableAlarmActionsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -473,11 +452,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsResult> describeAlarmsAsync(final DescribeAlarmsRequest describeAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsResult>() {
-            public DescribeAlarmsResult call() throws Exception {
-                return describeAlarms(describeAlarmsRequest);
-		    }
-		});
+        return invokeAsync(describeAlarmsRequest, new DescribeAlarmsRequestMarshaller(), new DescribeAlarmsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -504,11 +479,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmsForMetricResult> describeAlarmsForMetricAsync(final DescribeAlarmsForMetricRequest describeAlarmsForMetricRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmsForMetricResult>() {
-            public DescribeAlarmsForMetricResult call() throws Exception {
-                return describeAlarmsForMetric(describeAlarmsForMetricRequest);
-		    }
-		});
+        return invokeAsync(describeAlarmsForMetricRequest, new DescribeAlarmsForMetricRequestMarshaller(), new DescribeAlarmsForMetricResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -539,11 +510,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<DescribeAlarmHistoryResult> describeAlarmHistoryAsync(final DescribeAlarmHistoryRequest describeAlarmHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAlarmHistoryResult>() {
-            public DescribeAlarmHistoryResult call() throws Exception {
-                return describeAlarmHistory(describeAlarmHistoryRequest);
-		    }
-		});
+        return invokeAsync(describeAlarmHistoryRequest, new DescribeAlarmHistoryRequestMarshaller(), new DescribeAlarmHistoryResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -568,12 +535,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> enableAlarmActionsAsync(final EnableAlarmActionsRequest enableAlarmActionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableAlarmActions(enableAlarmActionsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(enableAlarmActionsRequest, new EnableAlarmActionsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -598,12 +560,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> deleteAlarmsAsync(final DeleteAlarmsRequest deleteAlarmsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAlarms(deleteAlarmsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteAlarmsRequest, new DeleteAlarmsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -631,12 +588,7 @@ public class AmazonCloudWatchAsyncClient extends AmazonCloudWatchClient
      */
     public Future<Void> setAlarmStateAsync(final SetAlarmStateRequest setAlarmStateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setAlarmState(setAlarmStateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(setAlarmStateRequest, new SetAlarmStateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
 }
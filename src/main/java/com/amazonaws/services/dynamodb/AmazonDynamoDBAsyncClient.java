@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.dynamodb;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,10 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.http.JsonResponseHandler;
 
 import com.amazonaws.services.dynamodb.model.*;
+import com.amazonaws.services.dynamodb.model.transform.*;
 
 
 /**
@@ -227,11 +228,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<ListTablesResult> listTablesAsync(final ListTablesRequest listTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListTablesResult>() {
-            public ListTablesResult call() throws Exception {
-                return listTables(listTablesRequest);
-		    }
-		});
+        JsonResponseHandler<ListTablesResult> responseHandler = new JsonResponseHandler<ListTablesResult>(new ListTablesResultJsonUnmarshaller());
+        return invokeAsync(listTablesRequest, new ListTablesRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -262,11 +260,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<QueryResult> queryAsync(final QueryRequest queryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<QueryResult>() {
-            public QueryResult call() throws Exception {
-                return query(queryRequest);
-		    }
-		});
+        JsonResponseHandler<QueryResult> responseHandler = new JsonResponseHandler<QueryResult>(new QueryResultJsonUnmarshaller());
+        return invokeAsync(queryRequest, new QueryRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -295,11 +290,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<BatchWriteItemResult> batchWriteItemAsync(final BatchWriteItemRequest batchWriteItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchWriteItemResult>() {
-            public BatchWriteItemResult call() throws Exception {
-                return batchWriteItem(batchWriteItemRequest);
-		    }
-		});
+        JsonResponseHandler<BatchWriteItemResult> responseHandler = new JsonResponseHandler<BatchWriteItemResult>(new BatchWriteItemResultJsonUnmarshaller());
+        return invokeAsync(batchWriteItemRequest, new BatchWriteItemRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -328,11 +320,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<UpdateItemResult> updateItemAsync(final UpdateItemRequest updateItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateItemResult>() {
-            public UpdateItemResult call() throws Exception {
-                return updateItem(updateItemRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateItemResult> responseHandler = new JsonResponseHandler<UpdateItemResult>(new UpdateItemResultJsonUnmarshaller());
+        return invokeAsync(updateItemRequest, new UpdateItemRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -364,11 +353,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<PutItemResult> putItemAsync(final PutItemRequest putItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PutItemResult>() {
-            public PutItemResult call() throws Exception {
-                return putItem(putItemRequest);
-		    }
-		});
+        JsonResponseHandler<PutItemResult> responseHandler = new JsonResponseHandler<PutItemResult>(new PutItemResultJsonUnmarshaller());
+        return invokeAsync(putItemRequest, new PutItemRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -397,11 +383,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<DescribeTableResult> describeTableAsync(final DescribeTableRequest describeTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTableResult>() {
-            public DescribeTableResult call() throws Exception {
-                return describeTable(describeTableRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeTableResult> responseHandler = new JsonResponseHandler<DescribeTableResult>(new DescribeTableResultJsonUnmarshaller());
+        return invokeAsync(describeTableRequest, new DescribeTableRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -429,11 +412,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<ScanResult> scanAsync(final ScanRequest scanRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ScanResult>() {
-            public ScanResult call() throws Exception {
-                return scan(scanRequest);
-		    }
-		});
+        JsonResponseHandler<ScanResult> responseHandler = new JsonResponseHandler<ScanResult>(new ScanResultJsonUnmarshaller());
+        return invokeAsync(scanRequest, new ScanRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -469,11 +449,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<CreateTableResult> createTableAsync(final CreateTableRequest createTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateTableResult>() {
-            public CreateTableResult call() throws Exception {
-                return createTable(createTableRequest);
-		    }
-		});
+        JsonResponseHandler<CreateTableResult> responseHandler = new JsonResponseHandler<CreateTableResult>(new CreateTableResultJsonUnmarshaller());
+        return invokeAsync(createTableRequest, new CreateTableRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -501,11 +478,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<UpdateTableResult> updateTableAsync(final UpdateTableRequest updateTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateTableResult>() {
-            public UpdateTableResult call() throws Exception {
-                return updateTable(updateTableRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateTableResult> responseHandler = new JsonResponseHandler<UpdateTableResult>(new UpdateTableResultJsonUnmarshaller());
+        return invokeAsync(updateTableRequest, new UpdateTableRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -536,11 +510,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<DeleteTableResult> deleteTableAsync(final DeleteTableRequest deleteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteTableResult>() {
-            public DeleteTableResult call() throws Exception {
-                return deleteTable(deleteTableRequest);
-		    }
-		});
+        JsonResponseHandler<DeleteTableResult> responseHandler = new JsonResponseHandler<DeleteTableResult>(new DeleteTableResultJsonUnmarshaller());
+        return invokeAsync(deleteTableRequest, new DeleteTableRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -568,11 +539,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<DeleteItemResult> deleteItemAsync(final DeleteItemRequest deleteItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteItemResult>() {
-            public DeleteItemResult call() throws Exception {
-                return deleteItem(deleteItemRequest);
-		    }
-		});
+        JsonResponseHandler<DeleteItemResult> responseHandler = new JsonResponseHandler<DeleteItemResult>(new DeleteItemResultJsonUnmarshaller());
+        return invokeAsync(deleteItemRequest, new DeleteItemRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -604,11 +572,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<GetItemResult> getItemAsync(final GetItemRequest getItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetItemResult>() {
-            public GetItemResult call() throws Exception {
-                return getItem(getItemRequest);
-		    }
-		});
+        JsonResponseHandler<GetItemResult> responseHandler = new JsonResponseHandler<GetItemResult>(new GetItemResultJsonUnmarshaller());
+        return invokeAsync(getItemRequest, new GetItemRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -649,11 +614,8 @@ public class AmazonDynamoDBAsyncClient extends AmazonDynamoDBClient
      */
     public Future<BatchGetItemResult> batchGetItemAsync(final BatchGetItemRequest batchGetItemRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BatchGetItemResult>() {
-            public BatchGetItemResult call() throws Exception {
-                return batchGetItem(batchGetItemRequest);
-		    }
-		});
+        JsonResponseHandler<BatchGetItemResult> responseHandler = new JsonResponseHandler<BatchGetItemResult>(new BatchGetItemResultJsonUnmarshaller());
+        return invokeAsync(batchGetItemRequest, new BatchGetItemRequestMarshaller(), responseHandler, executorService);
     }
     
 }
@@ -0,0 +1,409 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.dynamodb;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.Request;
+import com.amazonaws.handlers.AbstractRequestHandler;
+import com.amazonaws.handlers.PacingRequestHandler;
+import com.amazonaws.http.AmazonHttpClient;
+import com.amazonaws.services.dynamodb.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodb.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodb.model.BatchResponse;
+import com.amazonaws.services.dynamodb.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodb.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodb.model.BatchWriteResponse;
+import com.amazonaws.services.dynamodb.model.DeleteItemRequest;
+import com.amazonaws.services.dynamodb.model.DeleteItemResult;
+import com.amazonaws.services.dynamodb.model.GetItemRequest;
+import com.amazonaws.services.dynamodb.model.GetItemResult;
+import com.amazonaws.services.dynamodb.model.KeysAndAttributes;
+import com.amazonaws.services.dynamodb.model.ProvisionedThroughputExceededException;
+import com.amazonaws.services.dynamodb.model.PutItemRequest;
+import com.amazonaws.services.dynamodb.model.PutItemResult;
+import com.amazonaws.services.dynamodb.model.QueryRequest;
+import com.amazonaws.services.dynamodb.model.QueryResult;
+import com.amazonaws.services.dynamodb.model.ScanRequest;
+import com.amazonaws.services.dynamodb.model.ScanResult;
+import com.amazonaws.services.dynamodb.model.UpdateItemRequest;
+import com.amazonaws.services.dynamodb.model.UpdateItemResult;
+import com.amazonaws.services.dynamodb.model.WriteRequest;
+import com.amazonaws.util.TimingInfo;
+
+/**
+ * Request handler that paces the requests an Amazon DynamoDB client sends to
+ * each table so they stay within a configured read and write capacity, instead
+ * of bursting until the table is throttled and then backing off.
+ * <p>
+ * Each configured table gets a token bucket for reads and another for writes,
+ * refilled at the configured capacity units per second. Since the capacity a
+ * request consumes is only known once it completes, each request reserves an
+ * estimate, based on what similar requests against the table consumed, before
+ * it is sent. Once the response arrives, the bucket is charged the
+ * ConsumedCapacityUnits actually reported. Requests that find the bucket
+ * overdrawn wait until it has been paid back. The limiter never blocks the
+ * thread running it; it reports the wait, and the client runtime delays the
+ * request, so asynchronous requests wait on a timer rather than holding an
+ * executor thread.
+ * <p>
+ * If the table is throttled anyway, the pace is halved and then recovers
+ * gradually to the configured rate. This covers capacity used by other
+ * clients or other processes. Throttling is detected both from requests that
+ * failed with a {@link ProvisionedThroughputExceededException} and from
+ * requests that the client retried internally after one.
+ * <p>
+ * Requests against tables without a configured capacity aren't paced. To
+ * install the limiter:
+ *
+ * <pre>
+ * ProvisionedThroughputLimiter limiter = new ProvisionedThroughputLimiter()
+ *         .withTableCapacity(&quot;Orders&quot;, 200, 50);
+ * dynamoDB.addRequestHandler(limiter);
+ * </pre>
+ *
+ * A single limiter should be shared by all the clients, in one process, that
+ * use the same tables.
+ */
+public class ProvisionedThroughputLimiter extends AbstractRequestHandler implements PacingRequestHandler {
+
+    private static final Log log = LogFactory.getLog(ProvisionedThroughputLimiter.class);
+
+    /** How many seconds of unused capacity a bucket can save up */
+    private static final double BURST_SECONDS = 1.0;
+
+    /** The lowest fraction of the configured capacity throttling can cut the pace to */
+    private static final double MIN_RATE_FRACTION = 0.1;
+
+    /** The fraction of the configured capacity the pace recovers each second after throttling */
+    private static final double RECOVERY_FRACTION_PER_SECOND = 0.1;
+
+    /** How much each new observation moves a capacity estimate */
+    private static final double ESTIMATE_WEIGHT = 0.2;
+
+    /**
+     * A token bucket metering one kind of capacity for one table. Tokens are
+     * capacity units; the balance goes negative when requests consume more
+     * than was available, and later requests wait until it is paid back.
+     */
+    private static final class CapacityBucket {
+
+        private final String name;
+        private final double configuredRate;
+        private double rate;
+        private double tokens;
+        private long lastRefillNanos = System.nanoTime();
+
+        /** Estimated units consumed per item, by request type */
+        private final Map<Class<?>, Double> estimates = new HashMap<Class<?>, Double>();
+
+        CapacityBucket(String name, double capacityUnitsPerSecond) {
+            this.name = name;
+            this.configuredRate = capacityUnitsPerSecond;
+            this.rate = capacityUnitsPerSecond;
+            this.tokens = capacityUnitsPerSecond * BURST_SECONDS;
+        }
+
+        private void refill() {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - lastRefillNanos) / 1e9;
+            lastRefillNanos = now;
+
+            if ( rate < configuredRate ) {
+                rate = Math.min(configuredRate, rate + configuredRate * RECOVERY_FRACTION_PER_SECOND * elapsedSeconds);
+            }
+            tokens = Math.min(rate * BURST_SECONDS, tokens + rate * elapsedSeconds);
+        }
+
+        /**
+         * Returns the estimated capacity a request of the type given touching
+         * the number of items given will consume.
+         */
+        synchronized double estimate(Class<?> requestType, int items) {
+            Double perItem = estimates.get(requestType);
+            return (perItem == null ? 1.0 : perItem) * Math.max(1, items);
+        }
+
+        /**
+         * Takes the units given from the bucket and returns how long the
+         * caller must wait, in nanoseconds, before sending its request.
+         */
+        synchronized long reserve(double units) {
+            refill();
+            long waitNanos = tokens >= 0 ? 0 : (long)(-tokens / rate * 1e9);
+            tokens -= units;
+            return waitNanos;
+        }
+
+        /**
+         * Charges the bucket the difference between the units reserved for a
+         * request and the units it actually consumed, and updates the
+         * estimate for requests of its type.
+         */
+        synchronized void settle(Class<?> requestType, int items, double reserved, double consumed) {
+            tokens -= consumed - reserved;
+
+            double perItem = consumed / Math.max(1, items);
+            Double previous = estimates.get(requestType);
+            estimates.put(requestType, previous == null ? perItem : previous + (perItem - previous) * ESTIMATE_WEIGHT);
+        }
+
+        /**
+         * Returns the units reserved for a request that failed, and so
+         * didn't consume them, to the bucket.
+         */
+        synchronized void release(double units) {
+            tokens = Math.min(rate * BURST_SECONDS, tokens + units);
+        }
+
+        /**
+         * Halves the pace after the table was throttled.
+         */
+        synchronized void throttled() {
+            refill();
+            rate = Math.max(configuredRate * MIN_RATE_FRACTION, rate / 2);
+            tokens = Math.min(tokens, 0);
+            if ( log.isDebugEnabled() ) {
+                log.debug("Throttled on " + name + ", pacing to " + rate + " capacity units per second");
+            }
+        }
+    }
+
+    /**
+     * Capacity reserved for a request against a single table.
+     */
+    private static final class Reservation {
+        private final String tableName;
+        private final CapacityBucket bucket;
+        private final int items;
+        private final double units;
+
+        Reservation(String tableName, CapacityBucket bucket, int items, double units) {
+            this.tableName = tableName;
+            this.bucket = bucket;
+            this.items = items;
+            this.units = units;
+        }
+    }
+
+    private final ConcurrentMap<String, CapacityBucket> readBuckets = new ConcurrentHashMap<String, CapacityBucket>();
+    private final ConcurrentMap<String, CapacityBucket> writeBuckets = new ConcurrentHashMap<String, CapacityBucket>();
+
+    /**
+     * Capacity reserved for a request, and how long it must wait before it is
+     * sent.
+     */
+    private static final class Reservations {
+        private final List<Reservation> reserved;
+        private final long waitNanos;
+
+        Reservations(List<Reservation> reserved, long waitNanos) {
+            this.reserved = reserved;
+            this.waitNanos = waitNanos;
+        }
+    }
+
+    /**
+     * Reservations of the requests in flight, until their response or error
+     * arrives. The client runtime calls afterResponse or afterError for every
+     * request that got past beforeRequest, so entries don't outlive their
+     * request.
+     */
+    private final Map<Request<?>, Reservations> reservations = Collections
+            .synchronizedMap(new IdentityHashMap<Request<?>, Reservations>());
+
+    /**
+     * Sets the read and write capacity, in capacity units per second, that
+     * requests against the table given are paced to. Usually the table's
+     * provisioned throughput, or the share of it this process may use.
+     *
+     * @param tableName
+     *            The name of the table.
+     * @param readCapacityUnits
+     *            The read capacity units per second to pace reads to, or zero
+     *            not to pace reads.
+     * @param writeCapacityUnits
+     *            The write capacity units per second to pace writes to, or zero
+     *            not to pace writes.
+     */
+    public void setTableCapacity(String tableName, double readCapacityUnits, double writeCapacityUnits) {
+        if ( readCapacityUnits < 0 || writeCapacityUnits < 0 )
+            throw new IllegalArgumentException("Capacity units can't be negative");
+
+        if ( readCapacityUnits > 0 ) {
+            readBuckets.put(tableName, new CapacityBucket(tableName + " reads", readCapacityUnits));
+        } else {
+            readBuckets.remove(tableName);
+        }
+        if ( writeCapacityUnits > 0 ) {
+            writeBuckets.put(tableName, new CapacityBucket(tableName + " writes", writeCapacityUnits));
+        } else {
+            writeBuckets.remove(tableName);
+        }
+    }
+
+    /**
+     * Sets the read and write capacity, in capacity units per second, that
+     * requests against the table given are paced to, and returns this
+     * limiter so that calls can be chained together.
+     *
+     * @see ProvisionedThroughputLimiter#setTableCapacity(String, double, double)
+     */
+    public ProvisionedThroughputLimiter withTableCapacity(String tableName, double readCapacityUnits,
+            double writeCapacityUnits) {
+        setTableCapacity(tableName, readCapacityUnits, writeCapacityUnits);
+        return this;
+    }
+
+    @Override
+    public void beforeRequest(Request<?> request) {
+        AmazonWebServiceRequest originalRequest = request.getOriginalRequest();
+        List<Reservation> reserved = new ArrayList<Reservation>();
+
+        if ( originalRequest instanceof GetItemRequest ) {
+            reserve(reserved, readBuckets, ((GetItemRequest) originalRequest).getTableName(), originalRequest, 1);
+        } else if ( originalRequest instanceof QueryRequest ) {
+            reserve(reserved, readBuckets, ((QueryRequest) originalRequest).getTableName(), originalRequest, 1);
+        } else if ( originalRequest instanceof ScanRequest ) {
+            reserve(reserved, readBuckets, ((ScanRequest) originalRequest).getTableName(), originalRequest, 1);
+        } else if ( originalRequest instanceof PutItemRequest ) {
+            reserve(reserved, writeBuckets, ((PutItemRequest) originalRequest).getTableName(), originalRequest, 1);
+        } else if ( originalRequest instanceof UpdateItemRequest ) {
+            reserve(reserved, writeBuckets, ((UpdateItemRequest) originalRequest).getTableName(), originalRequest, 1);
+        } else if ( originalRequest instanceof DeleteItemRequest ) {
+            reserve(reserved, writeBuckets, ((DeleteItemRequest) originalRequest).getTableName(), originalRequest, 1);
+        } else if ( originalRequest instanceof BatchGetItemRequest ) {
+            Map<String, KeysAndAttributes> requestItems = ((BatchGetItemRequest) originalRequest).getRequestItems();
+            if ( requestItems != null ) {
+                for ( Entry<String, KeysAndAttributes> tableKeys : requestItems.entrySet() ) {
+                    int keys = tableKeys.getValue() == null || tableKeys.getValue().getKeys() == null ? 1 : tableKeys
+                            .getValue().getKeys().size();
+                    reserve(reserved, readBuckets, tableKeys.getKey(), originalRequest, keys);
+                }
+            }
+        } else if ( originalRequest instanceof BatchWriteItemRequest ) {
+            Map<String, List<WriteRequest>> requestItems = ((BatchWriteItemRequest) originalRequest).getRequestItems();
+            if ( requestItems != null ) {
+                for ( Entry<String, List<WriteRequest>> tableWrites : requestItems.entrySet() ) {
+                    int writes = tableWrites.getValue() == null ? 1 : tableWrites.getValue().size();
+                    reserve(reserved, writeBuckets, tableWrites.getKey(), originalRequest, writes);
+                }
+            }
+        }
+
+        if ( reserved.isEmpty() )
+            return;
+
+        long waitNanos = 0;
+        for ( Reservation reservation : reserved ) {
+            waitNanos = Math.max(waitNanos, reservation.bucket.reserve(reservation.units));
+        }
+        reservations.put(request, new Reservations(reserved, waitNanos));
+    }
+
+    public long getDelayBeforeSending(Request<?> request) {
+        Reservations requestReservations = reservations.get(request);
+        if ( requestReservations == null )
+            return 0;
+        // Round up, so the request isn't sent before the bucket is paid back
+        return (requestReservations.waitNanos + 999999L) / 1000000L;
+    }
+
+    private void reserve(List<Reservation> reserved, Map<String, CapacityBucket> buckets, String tableName,
+            AmazonWebServiceRequest request, int items) {
+        if ( tableName == null )
+            return;
+        CapacityBucket bucket = buckets.get(tableName);
+        if ( bucket != null ) {
+            reserved.add(new Reservation(tableName, bucket, items, bucket.estimate(request.getClass(), items)));
+        }
+    }
+
+    @Override
+    public void afterResponse(Request<?> request, Object response, TimingInfo timingInfo) {
+        Reservations requestReservations = reservations.remove(request);
+        if ( requestReservations == null )
+            return;
+
+        Number throttledRetries = timingInfo == null ? null : timingInfo
+                .getCounter(AmazonHttpClient.THROTTLED_RETRIES_COUNTER);
+        Class<?> requestType = request.getOriginalRequest().getClass();
+
+        for ( Reservation reservation : requestReservations.reserved ) {
+            Double consumed = getConsumedCapacityUnits(response, reservation.tableName);
+            if ( consumed != null ) {
+                reservation.bucket.settle(requestType, reservation.items, reservation.units, consumed);
+            }
+            if ( throttledRetries != null && throttledRetries.intValue() > 0 ) {
+                reservation.bucket.throttled();
+            }
+        }
+    }
+
+    @Override
+    public void afterError(Request<?> request, Exception e) {
+        Reservations requestReservations = reservations.remove(request);
+        if ( requestReservations == null )
+            return;
+
+        for ( Reservation reservation : requestReservations.reserved ) {
+            reservation.bucket.release(reservation.units);
+            if ( e instanceof ProvisionedThroughputExceededException ) {
+                reservation.bucket.throttled();
+            }
+        }
+    }
+
+    /**
+     * Returns the capacity units the response given reports as consumed on
+     * the table given, or null if it doesn't say.
+     */
+    private static Double getConsumedCapacityUnits(Object response, String tableName) {
+        if ( response instanceof GetItemResult ) {
+            return ((GetItemResult) response).getConsumedCapacityUnits();
+        } else if ( response instanceof QueryResult ) {
+            return ((QueryResult) response).getConsumedCapacityUnits();
+        } else if ( response instanceof ScanResult ) {
+            return ((ScanResult) response).getConsumedCapacityUnits();
+        } else if ( response instanceof PutItemResult ) {
+            return ((PutItemResult) response).getConsumedCapacityUnits();
+        } else if ( response instanceof UpdateItemResult ) {
+            return ((UpdateItemResult) response).getConsumedCapacityUnits();
+        } else if ( response instanceof DeleteItemResult ) {
+            return ((DeleteItemResult) response).getConsumedCapacityUnits();
+        } else if ( response instanceof BatchGetItemResult ) {
+            Map<String, BatchResponse> responses = ((BatchGetItemResult) response).getResponses();
+            BatchResponse tableResponse = responses == null ? null : responses.get(tableName);
+            return tableResponse == null ? null : tableResponse.getConsumedCapacityUnits();
+        } else if ( response instanceof BatchWriteItemResult ) {
+            Map<String, BatchWriteResponse> responses = ((BatchWriteItemResult) response).getResponses();
+            BatchWriteResponse tableResponse = responses == null ? null : responses.get(tableName);
+            return tableResponse == null ? null : tableResponse.getConsumedCapacityUnits();
+        }
+        return null;
+    }
+}
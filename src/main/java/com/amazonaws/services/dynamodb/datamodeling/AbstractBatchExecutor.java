@@ -0,0 +1,277 @@
+/*
+ * Copyright 2012 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+
+/**
+ * Common machinery for the mapper's batch operations: splits a set of items,
+ * grouped by table name, into batch requests, keeps up to a configured number
+ * of those requests in flight at once, and retries the items DynamoDB returns
+ * unprocessed.
+ * <p>
+ * Unprocessed items (usually the result of a table being throttled) are
+ * retried after an exponential backoff with jitter. Only those items wait; the
+ * rest of the work keeps flowing, and the backoff grows each time the same
+ * items come back unprocessed.
+ * <p>
+ * With a single request in flight, every call is made on the caller's thread.
+ * Otherwise a short-lived pool of daemon threads is used for the duration of
+ * the operation. Results are always handled on the caller's thread.
+ *
+ * @param <I>
+ *            The type of the items sent in a batch request.
+ * @param <R>
+ *            The type of the result of a batch request.
+ */
+abstract class AbstractBatchExecutor<I, R> {
+
+    private static final Log log = LogFactory.getLog(AbstractBatchExecutor.class);
+
+    private static final long BASE_BACKOFF_MILLIS = 50;
+    private static final long MAX_BACKOFF_MILLIS = 10 * 1000;
+
+    private static final Random random = new Random();
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    /** Runs each batch on the submitting thread */
+    private static final Executor CALLER_RUNS = new Executor() {
+        public void execute(Runnable command) {
+            command.run();
+        }
+    };
+
+    private final int maxItemsPerBatch;
+    private final int maxRequestsInFlight;
+
+    AbstractBatchExecutor(int maxItemsPerBatch, int maxRequestsInFlight) {
+        this.maxItemsPerBatch = maxItemsPerBatch;
+        this.maxRequestsInFlight = Math.max(1, maxRequestsInFlight);
+    }
+
+    /**
+     * Sends a single batch request. Called on a worker thread when more than
+     * one request may be in flight.
+     */
+    protected abstract R callService(Map<String, List<I>> batch);
+
+    /**
+     * Records the result of a batch request and returns the items that
+     * weren't processed, grouped by table name. Always called on the thread
+     * running {@link #execute(Map)}.
+     */
+    protected abstract Map<String, List<I>> processResult(Map<String, List<I>> batch, R result);
+
+    /**
+     * A single item waiting to be sent, possibly not before the end of a
+     * backoff period.
+     */
+    private static final class PendingItem<I> implements Delayed {
+        private final String tableName;
+        private final I item;
+        private final int attempts;
+        private final long notBeforeNanos;
+
+        PendingItem(String tableName, I item, int attempts, long notBeforeNanos) {
+            this.tableName = tableName;
+            this.item = item;
+            this.attempts = attempts;
+            this.notBeforeNanos = notBeforeNanos;
+        }
+
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(notBeforeNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        public int compareTo(Delayed other) {
+            long diff = notBeforeNanos - ((PendingItem<?>)other).notBeforeNanos;
+            return diff < 0 ? -1 : (diff > 0 ? 1 : 0);
+        }
+    }
+
+    /**
+     * The outcome of one batch request.
+     */
+    private static final class BatchOutcome<I, R> {
+        private final Map<String, List<I>> batch;
+        private final int attempts;
+        private final R result;
+
+        BatchOutcome(Map<String, List<I>> batch, int attempts, R result) {
+            this.batch = batch;
+            this.attempts = attempts;
+            this.result = result;
+        }
+    }
+
+    /**
+     * Sends all the items given, grouped by table name, until DynamoDB has
+     * processed every one of them. The first error stops the operation and
+     * is rethrown once the requests already in flight finish.
+     */
+    protected void execute(Map<String, List<I>> items) {
+        LinkedList<PendingItem<I>> ready = new LinkedList<PendingItem<I>>();
+        for ( Entry<String, List<I>> tableItems : items.entrySet() ) {
+            for ( I item : tableItems.getValue() ) {
+                ready.add(new PendingItem<I>(tableItems.getKey(), item, 0, 0));
+            }
+        }
+        DelayQueue<PendingItem<I>> backingOff = new DelayQueue<PendingItem<I>>();
+
+        int batches = (ready.size() + maxItemsPerBatch - 1) / maxItemsPerBatch;
+        int concurrency = Math.max(1, Math.min(maxRequestsInFlight, batches));
+        ExecutorService executor = null;
+        if ( concurrency > 1 ) {
+            executor = Executors.newFixedThreadPool(concurrency, new ThreadFactory() {
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "dynamodb-mapper-batch-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        CompletionService<BatchOutcome<I, R>> completions = new ExecutorCompletionService<BatchOutcome<I, R>>(
+                executor == null ? CALLER_RUNS : executor);
+
+        int inFlight = 0;
+        RuntimeException failure = null;
+        try {
+            while ( true ) {
+                backingOff.drainTo(ready);
+                while ( failure == null && inFlight < concurrency && !ready.isEmpty() ) {
+                    completions.submit(newBatchCall(ready));
+                    inFlight++;
+                }
+
+                if ( inFlight == 0 ) {
+                    if ( failure != null || backingOff.isEmpty() ) break;
+                    // Nothing to do but wait out the shortest backoff
+                    ready.add(backingOff.take());
+                    continue;
+                }
+
+                Future<BatchOutcome<I, R>> completed;
+                PendingItem<I> nextRetry = backingOff.peek();
+                if ( failure != null || nextRetry == null ) {
+                    completed = completions.take();
+                } else {
+                    completed = completions.poll(nextRetry.getDelay(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+                    if ( completed == null ) continue;
+                }
+                inFlight--;
+
+                try {
+                    BatchOutcome<I, R> outcome = completed.get();
+                    if ( failure == null ) {
+                        retryLater(processResult(outcome.batch, outcome.result), outcome.attempts + 1, backingOff);
+                    }
+                } catch ( ExecutionException e ) {
+                    if ( failure == null ) {
+                        failure = toRuntimeException(e.getCause());
+                    } else {
+                        log.debug("Additional batch request failure: " + e.getCause().getMessage(), e.getCause());
+                    }
+                }
+            }
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for batch requests to complete", e);
+        } finally {
+            if ( executor != null ) executor.shutdownNow();
+        }
+
+        if ( failure != null ) throw failure;
+    }
+
+    /**
+     * Removes up to the maximum number of items per batch from the front of
+     * the queue given and returns a call sending them.
+     */
+    private Callable<BatchOutcome<I, R>> newBatchCall(LinkedList<PendingItem<I>> ready) {
+        final Map<String, List<I>> batch = new HashMap<String, List<I>>();
+        int attempts = 0;
+        for ( int i = 0; i < maxItemsPerBatch && !ready.isEmpty(); i++ ) {
+            PendingItem<I> pending = ready.removeFirst();
+            List<I> tableItems = batch.get(pending.tableName);
+            if ( tableItems == null ) {
+                tableItems = new LinkedList<I>();
+                batch.put(pending.tableName, tableItems);
+            }
+            tableItems.add(pending.item);
+            attempts = Math.max(attempts, pending.attempts);
+        }
+
+        final int batchAttempts = attempts;
+        return new Callable<BatchOutcome<I, R>>() {
+            public BatchOutcome<I, R> call() throws Exception {
+                return new BatchOutcome<I, R>(batch, batchAttempts, callService(batch));
+            }
+        };
+    }
+
+    /**
+     * Schedules the unprocessed items given to be sent again after a backoff.
+     */
+    private void retryLater(Map<String, List<I>> unprocessed, int attempts, DelayQueue<PendingItem<I>> backingOff) {
+        if ( unprocessed == null ) return;
+        for ( Entry<String, List<I>> tableItems : unprocessed.entrySet() ) {
+            if ( tableItems.getValue() == null || tableItems.getValue().isEmpty() ) continue;
+            long notBefore = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis(attempts));
+            for ( I item : tableItems.getValue() ) {
+                backingOff.add(new PendingItem<I>(tableItems.getKey(), item, attempts, notBefore));
+            }
+        }
+    }
+
+    /**
+     * Returns how long to wait before retrying items that have come back
+     * unprocessed the given number of times: an exponentially growing
+     * ceiling, of which a random upper half is used.
+     */
+    private static long backoffMillis(int attempts) {
+        long ceiling = Math.min(MAX_BACKOFF_MILLIS, BASE_BACKOFF_MILLIS << Math.min(attempts, 20));
+        return ceiling / 2 + (long)(random.nextDouble() * (ceiling / 2));
+    }
+
+    private static RuntimeException toRuntimeException(Throwable t) {
+        if ( t instanceof RuntimeException ) return (RuntimeException)t;
+        if ( t instanceof Error ) throw (Error)t;
+        return new AmazonClientException("Unable to complete batch request: " + t.getMessage(), t);
+    }
+}
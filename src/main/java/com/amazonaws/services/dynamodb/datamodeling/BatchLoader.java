@@ -0,0 +1,95 @@
+/*
+ * Copyright 2012 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.model.AttributeValue;
+import com.amazonaws.services.dynamodb.model.BatchGetItemRequest;
+import com.amazonaws.services.dynamodb.model.BatchGetItemResult;
+import com.amazonaws.services.dynamodb.model.BatchResponse;
+import com.amazonaws.services.dynamodb.model.Key;
+import com.amazonaws.services.dynamodb.model.KeysAndAttributes;
+
+/**
+ * Reads a set of items from DynamoDB with BatchGetItem, keeping up to a
+ * configured number of batch requests in flight at once and requesting
+ * unprocessed keys again after a backoff.
+ *
+ * @see AbstractBatchExecutor
+ */
+final class BatchLoader extends AbstractBatchExecutor<Key, BatchGetItemResult> {
+
+    /** The maximum number of keys DynamoDB accepts in one BatchGetItem call */
+    static final int MAX_KEYS_PER_BATCH = 100;
+
+    private final AmazonDynamoDB db;
+    private final Map<String, List<Map<String, AttributeValue>>> items = new HashMap<String, List<Map<String, AttributeValue>>>();
+
+    BatchLoader(AmazonDynamoDB db, int maxRequestsInFlight) {
+        super(MAX_KEYS_PER_BATCH, maxRequestsInFlight);
+        this.db = db;
+    }
+
+    /**
+     * Reads the items with the keys given, grouped by table name, and returns
+     * the items found, grouped the same way. Keys without a matching item are
+     * left out of the result.
+     */
+    Map<String, List<Map<String, AttributeValue>>> load(Map<String, List<Key>> keys) {
+        execute(keys);
+        return items;
+    }
+
+    @Override
+    protected BatchGetItemResult callService(Map<String, List<Key>> batch) {
+        Map<String, KeysAndAttributes> requestItems = new HashMap<String, KeysAndAttributes>();
+        for ( Entry<String, List<Key>> tableKeys : batch.entrySet() ) {
+            requestItems.put(tableKeys.getKey(), new KeysAndAttributes().withKeys(tableKeys.getValue()));
+        }
+        return db.batchGetItem(DynamoDBMapper.applyUserAgent(new BatchGetItemRequest().withRequestItems(requestItems)));
+    }
+
+    @Override
+    protected Map<String, List<Key>> processResult(Map<String, List<Key>> batch, BatchGetItemResult result) {
+        Map<String, BatchResponse> responses = result.getResponses();
+        if ( responses != null ) {
+            for ( Entry<String, BatchResponse> response : responses.entrySet() ) {
+                if ( response.getValue() == null || response.getValue().getItems() == null ) continue;
+                List<Map<String, AttributeValue>> tableItems = items.get(response.getKey());
+                if ( tableItems == null ) {
+                    tableItems = new LinkedList<Map<String, AttributeValue>>();
+                    items.put(response.getKey(), tableItems);
+                }
+                tableItems.addAll(response.getValue().getItems());
+            }
+        }
+
+        Map<String, List<Key>> unprocessedKeys = new HashMap<String, List<Key>>();
+        if ( result.getUnprocessedKeys() != null ) {
+            for ( Entry<String, KeysAndAttributes> unprocessed : result.getUnprocessedKeys().entrySet() ) {
+                if ( unprocessed.getValue() != null && unprocessed.getValue().getKeys() != null ) {
+                    unprocessedKeys.put(unprocessed.getKey(), unprocessed.getValue().getKeys());
+                }
+            }
+        }
+        return unprocessedKeys;
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2012 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Summary of a single {@link DynamoDBMapper#batchWriteWithStatistics(java.util.List, java.util.List, DynamoDBMapperConfig)}
+ * call: how many batch requests were made, how long the call took, and for
+ * each table, how many items were written and how often DynamoDB returned
+ * items unprocessed.
+ */
+public class BatchWriteStatistics {
+
+    /**
+     * Statistics for the items written to a single table.
+     */
+    public static final class TableStatistics {
+
+        private final String tableName;
+        private long itemsWritten;
+        private long unprocessedItems;
+        private double consumedCapacityUnits;
+        private long elapsedMillis;
+
+        TableStatistics(String tableName) {
+            this.tableName = tableName;
+        }
+
+        /**
+         * Returns the name of the table.
+         */
+        public String getTableName() {
+            return tableName;
+        }
+
+        /**
+         * Returns the number of puts and deletes that DynamoDB processed for
+         * this table.
+         */
+        public long getItemsWritten() {
+            return itemsWritten;
+        }
+
+        /**
+         * Returns the number of times DynamoDB returned one of this table's
+         * items unprocessed, each of which caused the item to be retried.
+         */
+        public long getUnprocessedItems() {
+            return unprocessedItems;
+        }
+
+        /**
+         * Returns the write capacity units DynamoDB reported as consumed for
+         * this table.
+         */
+        public double getConsumedCapacityUnits() {
+            return consumedCapacityUnits;
+        }
+
+        /**
+         * Returns the average number of items written to this table per
+         * second over the whole batch write.
+         */
+        public double getItemsPerSecond() {
+            if (elapsedMillis == 0) return itemsWritten == 0 ? 0 : Double.POSITIVE_INFINITY;
+            return itemsWritten * 1000.0 / elapsedMillis;
+        }
+
+        @Override
+        public String toString() {
+            return tableName + ": " + itemsWritten + " items (" + String.format("%.1f", getItemsPerSecond())
+                    + "/s), " + unprocessedItems + " unprocessed, " + consumedCapacityUnits + " capacity units";
+        }
+    }
+
+    private final Map<String, TableStatistics> tables = new LinkedHashMap<String, TableStatistics>();
+    private long batchRequests;
+    private long elapsedMillis;
+
+    /**
+     * Returns the number of BatchWriteItem requests made.
+     */
+    public long getBatchRequests() {
+        return batchRequests;
+    }
+
+    /**
+     * Returns the wall clock time taken by the batch write, in milliseconds.
+     */
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    /**
+     * Returns the statistics for each table written to.
+     */
+    public Collection<TableStatistics> getTableStatistics() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    /**
+     * Returns the statistics for the table given, or null if no items were
+     * written to it.
+     */
+    public TableStatistics getTableStatistics(String tableName) {
+        return tables.get(tableName);
+    }
+
+    @Override
+    public String toString() {
+        return batchRequests + " batch requests in " + elapsedMillis + "ms " + tables.values();
+    }
+
+    private TableStatistics getOrCreate(String tableName) {
+        TableStatistics table = tables.get(tableName);
+        if (table == null) {
+            table = new TableStatistics(tableName);
+            tables.put(tableName, table);
+        }
+        return table;
+    }
+
+    /*
+     * Recording methods used by BatchWriter; all called from a single thread.
+     */
+
+    void batchRequestCompleted() {
+        batchRequests++;
+    }
+
+    void itemsWritten(String tableName, long count) {
+        getOrCreate(tableName).itemsWritten += count;
+    }
+
+    void itemsUnprocessed(String tableName, long count) {
+        getOrCreate(tableName).unprocessedItems += count;
+    }
+
+    void capacityConsumed(String tableName, Double consumedCapacityUnits) {
+        if (consumedCapacityUnits != null) getOrCreate(tableName).consumedCapacityUnits += consumedCapacityUnits;
+    }
+
+    void finished(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+        for (TableStatistics table : tables.values()) {
+            table.elapsedMillis = elapsedMillis;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2012 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.model.BatchWriteItemRequest;
+import com.amazonaws.services.dynamodb.model.BatchWriteItemResult;
+import com.amazonaws.services.dynamodb.model.BatchWriteResponse;
+import com.amazonaws.services.dynamodb.model.WriteRequest;
+
+/**
+ * Writes a set of put and delete requests to DynamoDB with BatchWriteItem,
+ * keeping up to a configured number of batch requests in flight at once and
+ * retrying unprocessed items after a backoff.
+ *
+ * @see AbstractBatchExecutor
+ */
+final class BatchWriter extends AbstractBatchExecutor<WriteRequest, BatchWriteItemResult> {
+
+    private static final Log log = LogFactory.getLog(BatchWriter.class);
+
+    /** The maximum number of write requests DynamoDB accepts in one BatchWriteItem call */
+    static final int MAX_ITEMS_PER_BATCH = 25;
+
+    private final AmazonDynamoDB db;
+    private final BatchWriteStatistics statistics = new BatchWriteStatistics();
+
+    BatchWriter(AmazonDynamoDB db, int maxRequestsInFlight) {
+        super(MAX_ITEMS_PER_BATCH, maxRequestsInFlight);
+        this.db = db;
+    }
+
+    /**
+     * Writes all the requests given, grouped by table name, and returns
+     * statistics about the write. The first error from DynamoDB stops the
+     * write and is rethrown once the requests already in flight finish.
+     */
+    BatchWriteStatistics write(Map<String, List<WriteRequest>> requestItems) {
+        long startTime = System.currentTimeMillis();
+        execute(requestItems);
+        statistics.finished(System.currentTimeMillis() - startTime);
+
+        if ( log.isDebugEnabled() ) {
+            log.debug("Batch write finished: " + statistics);
+        }
+        return statistics;
+    }
+
+    @Override
+    protected BatchWriteItemResult callService(Map<String, List<WriteRequest>> batch) {
+        return db.batchWriteItem(DynamoDBMapper.applyUserAgent(new BatchWriteItemRequest().withRequestItems(batch)));
+    }
+
+    @Override
+    protected Map<String, List<WriteRequest>> processResult(Map<String, List<WriteRequest>> batch,
+            BatchWriteItemResult result) {
+        statistics.batchRequestCompleted();
+
+        Map<String, List<WriteRequest>> unprocessedItems = result.getUnprocessedItems();
+        for ( Entry<String, List<WriteRequest>> tableRequests : batch.entrySet() ) {
+            String tableName = tableRequests.getKey();
+            List<WriteRequest> unprocessed = unprocessedItems == null ? null : unprocessedItems.get(tableName);
+            int unprocessedCount = unprocessed == null ? 0 : unprocessed.size();
+            statistics.itemsWritten(tableName, tableRequests.getValue().size() - unprocessedCount);
+            if ( unprocessedCount > 0 ) statistics.itemsUnprocessed(tableName, unprocessedCount);
+        }
+
+        Map<String, BatchWriteResponse> responses = result.getResponses();
+        if ( responses != null ) {
+            for ( Entry<String, BatchWriteResponse> response : responses.entrySet() ) {
+                if ( response.getValue() != null ) {
+                    statistics.capacityConsumed(response.getKey(), response.getValue().getConsumedCapacityUnits());
+                }
+            }
+        }
+
+        return unprocessedItems;
+    }
+}
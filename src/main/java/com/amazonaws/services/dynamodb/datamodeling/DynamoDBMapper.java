@@ -21,7 +21,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -34,8 +34,8 @@ import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.Consist
 import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.SaveBehavior;
 import com.amazonaws.services.dynamodb.model.AttributeValue;
 import com.amazonaws.services.dynamodb.model.AttributeValueUpdate;
+import com.amazonaws.services.dynamodb.model.BatchGetItemRequest;
 import com.amazonaws.services.dynamodb.model.BatchWriteItemRequest;
-import com.amazonaws.services.dynamodb.model.BatchWriteItemResult;
 import com.amazonaws.services.dynamodb.model.ConditionalCheckFailedException;
 import com.amazonaws.services.dynamodb.model.DeleteItemRequest;
 import com.amazonaws.services.dynamodb.model.DeleteRequest;
@@ -145,6 +145,7 @@ public class DynamoDBMapper {
     private final AmazonDynamoDB db;
     private final DynamoDBMapperConfig config;
     private static final DynamoDBReflector reflector = new DynamoDBReflector();
+    private final ItemCache itemCache = new ItemCache();
 
     /**
      * User agent for requests made using the {@link DynamoDBMapper}.
@@ -229,6 +230,10 @@ public class DynamoDBMapper {
     /**
      * Returns an object with the given hash key, or null if no such object
      * exists.
+     * <p>
+     * If the configuration caches the items of the object's table, an
+     * eventually consistent load returns a recently read or written copy of
+     * the item from memory when it has one.
      *
      * @param clazz
      *            The class to load, corresponding to a DynamoDB table.
@@ -244,6 +249,7 @@ public class DynamoDBMapper {
      * @param dispatcher
      *            Determines the object type of the result using the item's
      *            attributes.
+     * @see DynamoDBMapperConfig.ItemCaching
      */
     public <T extends Object> T load(Class<T> clazz, Object hashKey, Object rangeKey, DynamoDBMapperConfig config,
             TypeDispatcher<T> dispatcher) {
@@ -266,12 +272,28 @@ public class DynamoDBMapper {
             rangeKeyElement = getRangeKeyElement(rangeKey, rangeKeyMethod);
         }
 
-        GetItemResult item = db.getItem(applyUserAgent(new GetItemRequest().withTableName(tableName)
-                .withKey(new Key().withHashKeyElement(hashKeyElement).withRangeKeyElement(rangeKeyElement))
-                .withConsistentRead(config.getConsistentReads() == ConsistentReads.CONSISTENT)));
-        Map<String, AttributeValue> itemAttributes = item.getItem();
+        Key key = new Key().withHashKeyElement(hashKeyElement).withRangeKeyElement(rangeKeyElement);
+        boolean consistentRead = config.getConsistentReads() == ConsistentReads.CONSISTENT;
+
+        // Eventually consistent reads of cached tables are served from memory
+        // when possible; consistent reads refresh the cache
+        ItemCache.TableCache cache = itemCache.getTableCache(tableName, config.getItemCaching());
+        Map<String, AttributeValue> itemAttributes = null;
+        if ( cache != null && !consistentRead ) {
+            itemAttributes = cache.get(key);
+        }
+
         if ( itemAttributes == null ) {
-            return null;
+            long writeCount = cache == null ? 0 : cache.getWriteCount();
+            GetItemResult item = db.getItem(applyUserAgent(new GetItemRequest().withTableName(tableName)
+                    .withKey(key).withConsistentRead(consistentRead)));
+            itemAttributes = item.getItem();
+            if ( itemAttributes == null ) {
+                return null;
+            }
+            if ( cache != null ) {
+                cache.putIfNotWritten(key, itemAttributes, writeCount);
+            }
         }
 
         Class<? extends T> resultClass = resultClass(dispatcher, itemAttributes, clazz);
@@ -373,7 +395,7 @@ public class DynamoDBMapper {
     private <T> void setValue(final T toReturn, final Method getter, AttributeValue value) {
 
         Method setter = reflector.getSetter(getter);
-        ArgumentUnmarshaller unmarhsaller = reflector.getArgumentUnmarshaller(toReturn, getter, setter);
+        ArgumentUnmarshaller unmarhsaller = reflector.getArgumentUnmarshaller(getter);
         unmarhsaller.typeCheck(value, setter);
 
         Object argument;
@@ -571,14 +593,32 @@ public class DynamoDBMapper {
          * Do a put or an update, according to the configuration. For a put (not
          * the default), we need to munge the data type.
          */
-        if ( config.getSaveBehavior() == SaveBehavior.CLOBBER || forcePut ) {
-            db.putItem(applyUserAgent(new PutItemRequest().withTableName(tableName).withItem(convertToItem(updateValues))
-                    .withExpected(expectedValues)));
-        } else if ( !nonKeyAttributePresent ) {
-            keyOnlyPut(tableName, objectKey, hashKeyGetter, rangeKeyGetter);
+        Map<String, AttributeValue> putItem = null;
+        try {
+            if ( config.getSaveBehavior() == SaveBehavior.CLOBBER || forcePut ) {
+                putItem = convertToItem(updateValues);
+                db.putItem(applyUserAgent(new PutItemRequest().withTableName(tableName).withItem(putItem)
+                        .withExpected(expectedValues)));
+            } else if ( !nonKeyAttributePresent ) {
+                putItem = keyOnlyPut(tableName, objectKey, hashKeyGetter, rangeKeyGetter);
+            } else {
+                db.updateItem(applyUserAgent(new UpdateItemRequest().withTableName(tableName).withKey(objectKey)
+                        .withAttributeUpdates(updateValues).withExpected(expectedValues)));
+            }
+        } catch ( RuntimeException e ) {
+            // A failed write may mean the cached copy of the item is out of date
+            itemCache.written(tableName, objectKey, null);
+            throw e;
+        }
+
+        /*
+         * A put replaces the whole item, so it can be cached as it was put. An
+         * update leaves unmodeled attributes alone, so the item is dropped.
+         */
+        if ( putItem != null ) {
+            itemCache.written(tableName, getKey(putItem, hashKeyGetter, rangeKeyGetter), putItem);
         } else {
-            db.updateItem(applyUserAgent(new UpdateItemRequest().withTableName(tableName).withKey(objectKey)
-                    .withAttributeUpdates(updateValues).withExpected(expectedValues)));
+            itemCache.written(tableName, objectKey, null);
         }
 
         /*
@@ -600,7 +640,8 @@ public class DynamoDBMapper {
      * isn't perfect, but we should be doing a putItem at all in this case, so
      * it's the best we can do.
      */
-    private void keyOnlyPut(String tableName, Key objectKey, Method hashKeyGetter, Method rangeKeyGetter) {
+    private Map<String, AttributeValue> keyOnlyPut(String tableName, Key objectKey, Method hashKeyGetter,
+            Method rangeKeyGetter) {
         Map<String, AttributeValue> attributes = new HashMap<String, AttributeValue>();
         Map<String, ExpectedAttributeValue> expectedValues = new HashMap<String, ExpectedAttributeValue>();
 
@@ -616,6 +657,18 @@ public class DynamoDBMapper {
 
         db.putItem(applyUserAgent(new PutItemRequest().withTableName(tableName).withItem(attributes)
                 .withExpected(expectedValues)));
+        return attributes;
+    }
+
+    /**
+     * Returns the primary key of the item with the attributes given.
+     */
+    private Key getKey(Map<String, AttributeValue> item, Method hashKeyGetter, Method rangeKeyGetter) {
+        Key key = new Key().withHashKeyElement(item.get(reflector.getAttributeName(hashKeyGetter)));
+        if ( rangeKeyGetter != null ) {
+            key.setRangeKeyElement(item.get(reflector.getAttributeName(rangeKeyGetter)));
+        }
+        return key;
     }
 
     /**
@@ -675,7 +728,11 @@ public class DynamoDBMapper {
             }
         }
 
-        db.deleteItem(applyUserAgent(new DeleteItemRequest().withKey(objectKey).withTableName(tableName).withExpected(expectedValues)));
+        try {
+            db.deleteItem(applyUserAgent(new DeleteItemRequest().withKey(objectKey).withTableName(tableName).withExpected(expectedValues)));
+        } finally {
+            itemCache.written(tableName, objectKey, null);
+        }
     }
 
     /**
@@ -731,6 +788,10 @@ public class DynamoDBMapper {
     /**
      * Saves and deletes the objects given using one or more calls to the
      * {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)} API.
+     * <p>
+     * Objects are written in batches of up to 25 items. Items that DynamoDB
+     * returns unprocessed are retried after an exponential backoff with
+     * random jitter, while the remaining batches keep being written.
      *
      * @param objectsToWrite
      *            A list of objects to save to DynamoDB. No version checks are
@@ -743,15 +804,53 @@ public class DynamoDBMapper {
      *            {@link AmazonDynamoDB#batchWriteItem(BatchWriteItemRequest)}
      *            API.
      * @param config
-     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} is
-     *            considered; if specified, all objects in the two parameter
-     *            lists will be considered to belong to the given table
-     *            override.
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} and
+     *            {@link DynamoDBMapperConfig#getBatchWriteConcurrency()} are
+     *            considered. If a table name override is specified, all objects
+     *            in the two parameter lists will be considered to belong to
+     *            the given table override. The batch write concurrency sets
+     *            how many batch requests are kept in flight at once.
+     *
+     * @see DynamoDBMapper#batchWriteWithStatistics(List, List, DynamoDBMapperConfig)
      */
     public void batchWrite(List<? extends Object> objectsToWrite, List<? extends Object> objectsToDelete, DynamoDBMapperConfig config) {
+        batchWriteWithStatistics(objectsToWrite, objectsToDelete, config);
+    }
+
+    /**
+     * Saves and deletes the objects given, as
+     * {@link DynamoDBMapper#batchWrite(List, List)} does, and returns
+     * statistics about the batch write.
+     *
+     * @see DynamoDBMapper#batchWriteWithStatistics(List, List, DynamoDBMapperConfig)
+     */
+    public BatchWriteStatistics batchWriteWithStatistics(List<? extends Object> objectsToWrite, List<? extends Object> objectsToDelete) {
+        return batchWriteWithStatistics(objectsToWrite, objectsToDelete, this.config);
+    }
+
+    /**
+     * Saves and deletes the objects given, as
+     * {@link DynamoDBMapper#batchWrite(List, List, DynamoDBMapperConfig)}
+     * does, and returns statistics about the batch write.
+     *
+     * @param objectsToWrite
+     *            A list of objects to save to DynamoDB.
+     * @param objectsToDelete
+     *            A list of objects to delete from DynamoDB.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} and
+     *            {@link DynamoDBMapperConfig#getBatchWriteConcurrency()} are
+     *            considered.
+     *
+     * @return Statistics about the batch write, such as the number of items
+     *         written to each table and how many were returned unprocessed
+     *         and retried.
+     */
+    public BatchWriteStatistics batchWriteWithStatistics(List<? extends Object> objectsToWrite, List<? extends Object> objectsToDelete, DynamoDBMapperConfig config) {
         config = mergeConfig(config);
 
         HashMap<String, List<WriteRequest>> requestItems = new HashMap<String, List<WriteRequest>>();
+        Map<String, List<Key>> writtenKeys = new HashMap<String, List<Key>>();
 
         List<ValueUpdate> inMemoryUpdates = new LinkedList<ValueUpdate>();
         for ( Object toWrite : objectsToWrite ) {
@@ -784,6 +883,8 @@ public class DynamoDBMapper {
 
             requestItems.get(tableName).add(
                     new WriteRequest().withPutRequest(new PutRequest().withItem(attributeValues)));
+            addKey(writtenKeys, tableName,
+                    getKey(attributeValues, reflector.getHashKeyGetter(clazz), reflector.getRangeKeyGetter(clazz)));
         }
 
         for ( Object toDelete : objectsToDelete ) {
@@ -808,38 +909,20 @@ public class DynamoDBMapper {
 
             requestItems.get(tableName).add(
                     new WriteRequest().withDeleteRequest(new DeleteRequest().withKey(objectKey)));
+            addKey(writtenKeys, tableName, objectKey);
         }
 
-        // Break into chunks of 25 items and make service requests to DynamoDB
-        while ( !requestItems.isEmpty() ) {
-            HashMap<String, List<WriteRequest>> batch = new HashMap<String, List<WriteRequest>>();
-            int i = 0;
-            Iterator<Entry<String, List<WriteRequest>>> tableIter = requestItems.entrySet().iterator();
-            while ( tableIter.hasNext() && i < 25 ) {
-                Entry<String, List<WriteRequest>> tableRequest = tableIter.next();
-                batch.put(tableRequest.getKey(), new LinkedList<WriteRequest>());
-                Iterator<WriteRequest> writeRequestIter = tableRequest.getValue().iterator();
-                while ( writeRequestIter.hasNext() && i++ < 25 ) {
-                    WriteRequest writeRequest = writeRequestIter.next();
-                    batch.get(tableRequest.getKey()).add(writeRequest);
-                    writeRequestIter.remove();
-                }
-
-                // If we've processed all the write requests for this table,
-                // remove it from the parent iterator.
-                if ( !writeRequestIter.hasNext() ) {
-                    tableIter.remove();
-                }
-            }
-
-            BatchWriteItemResult result = db.batchWriteItem(new BatchWriteItemRequest().withRequestItems(batch));
-
-            // add any unprocessed items back into the list to process
-            for ( Entry<String, List<WriteRequest>> unprocessedItem : result.getUnprocessedItems().entrySet() ) {
-                if ( !requestItems.containsKey(unprocessedItem.getKey()) ) {
-                    requestItems.put(unprocessedItem.getKey(), new LinkedList<WriteRequest>());
+        int maxRequestsInFlight = config.getBatchWriteConcurrency() == null ? 1 : config
+                .getBatchWriteConcurrency().getMaxRequestsInFlight();
+        BatchWriteStatistics statistics;
+        try {
+            statistics = new BatchWriter(db, maxRequestsInFlight).write(requestItems);
+        } finally {
+            // Some of the items may have been written even if the batch failed
+            for ( Entry<String, List<Key>> tableKeys : writtenKeys.entrySet() ) {
+                for ( Key key : tableKeys.getValue() ) {
+                    itemCache.written(tableKeys.getKey(), key, null);
                 }
-                requestItems.get(unprocessedItem.getKey()).addAll(unprocessedItem.getValue());
             }
         }
 
@@ -847,6 +930,109 @@ public class DynamoDBMapper {
         for ( ValueUpdate update : inMemoryUpdates ) {
             update.apply();
         }
+
+        return statistics;
+    }
+
+    private static void addKey(Map<String, List<Key>> keysByTableName, String tableName, Key key) {
+        List<Key> keys = keysByTableName.get(tableName);
+        if ( keys == null ) {
+            keys = new LinkedList<Key>();
+            keysByTableName.put(tableName, keys);
+        }
+        keys.add(key);
+    }
+
+    /**
+     * Returns a snapshot of the hit and miss counts of this mapper's item
+     * cache, for each table whose items it has cached.
+     *
+     * @see DynamoDBMapperConfig.ItemCaching
+     */
+    public ItemCacheStatistics getItemCacheStatistics() {
+        return itemCache.getStatistics();
+    }
+
+    /**
+     * Retrieves the attributes for multiple items from multiple tables using
+     * their primary keys, using the default configuration.
+     *
+     * @see DynamoDBMapper#batchLoad(List, DynamoDBMapperConfig)
+     */
+    public Map<String, List<Object>> batchLoad(List<? extends Object> itemsToGet) {
+        return batchLoad(itemsToGet, this.config);
+    }
+
+    /**
+     * Retrieves the attributes for multiple items from multiple tables using
+     * their primary keys, with one or more calls to the
+     * {@link AmazonDynamoDB#batchGetItem(BatchGetItemRequest)} API.
+     * <p>
+     * Keys are requested in batches of up to 100. Keys that DynamoDB returns
+     * unprocessed are requested again after an exponential backoff with
+     * random jitter, while the remaining batches keep being read. Note that
+     * BatchGetItem always uses eventually consistent reads.
+     *
+     * @param itemsToGet
+     *            Key objects, corresponding to the class to fetch, with their
+     *            primary key values set.
+     * @param config
+     *            Only {@link DynamoDBMapperConfig#getTableNameOverride()} and
+     *            {@link DynamoDBMapperConfig#getBatchLoadConcurrency()} are
+     *            considered. If a table name override is specified, all
+     *            objects will be considered to belong to the given table
+     *            override. The batch load concurrency sets how many batch
+     *            requests are kept in flight at once.
+     *
+     * @return The objects loaded, keyed by table name. Items are marshalled
+     *         into the class of the first key object given for their table,
+     *         and keys without a matching item are left out.
+     */
+    public Map<String, List<Object>> batchLoad(List<? extends Object> itemsToGet, DynamoDBMapperConfig config) {
+        config = mergeConfig(config);
+
+        Map<String, Class<?>> classesByTableName = new HashMap<String, Class<?>>();
+        Map<String, LinkedHashSet<Key>> keysByTableName = new HashMap<String, LinkedHashSet<Key>>();
+        for ( Object keyObject : itemsToGet ) {
+            Class<?> clazz = keyObject.getClass();
+            String tableName = getTableName(clazz, config);
+
+            Method hashKeyGetter = reflector.getHashKeyGetter(clazz);
+            AttributeValue hashKeyElement = getHashKeyElement(safeInvoke(hashKeyGetter, keyObject), hashKeyGetter);
+
+            AttributeValue rangeKeyElement = null;
+            Method rangeKeyGetter = reflector.getRangeKeyGetter(clazz);
+            if ( rangeKeyGetter != null ) {
+                rangeKeyElement = getRangeKeyElement(safeInvoke(rangeKeyGetter, keyObject), rangeKeyGetter);
+            }
+
+            if ( !keysByTableName.containsKey(tableName) ) {
+                classesByTableName.put(tableName, clazz);
+                keysByTableName.put(tableName, new LinkedHashSet<Key>());
+            }
+
+            // DynamoDB rejects a batch request containing the same key twice
+            keysByTableName.get(tableName).add(
+                    new Key().withHashKeyElement(hashKeyElement).withRangeKeyElement(rangeKeyElement));
+        }
+
+        Map<String, List<Key>> requestKeys = new HashMap<String, List<Key>>();
+        for ( Entry<String, LinkedHashSet<Key>> tableKeys : keysByTableName.entrySet() ) {
+            requestKeys.put(tableKeys.getKey(), new ArrayList<Key>(tableKeys.getValue()));
+        }
+
+        int maxRequestsInFlight = config.getBatchLoadConcurrency() == null ? DynamoDBMapperConfig.DEFAULT
+                .getBatchLoadConcurrency().getMaxRequestsInFlight() : config.getBatchLoadConcurrency()
+                .getMaxRequestsInFlight();
+        Map<String, List<Map<String, AttributeValue>>> items = new BatchLoader(db, maxRequestsInFlight)
+                .load(requestKeys);
+
+        Map<String, List<Object>> results = new HashMap<String, List<Object>>();
+        for ( Entry<String, List<Map<String, AttributeValue>>> tableItems : items.entrySet() ) {
+            Class<?> clazz = classesByTableName.get(tableItems.getKey());
+            results.put(tableItems.getKey(), new ArrayList<Object>(marshallIntoObjects(clazz, tableItems.getValue())));
+        }
+        return results;
     }
 
     /**
@@ -942,6 +1128,9 @@ public class DynamoDBMapper {
      * <p>
      * The unmodifiable list returned is lazily loaded when possible, so calls
      * to DynamoDB will be made only as needed.
+     * With the {@link DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}
+     * pagination loading strategy, the list can only be iterated over once,
+     * and keeps no results that have already been iterated over.
      *
      * @param <T>
      *            The type of the objects being returned.
@@ -976,6 +1165,9 @@ public class DynamoDBMapper {
      * <p>
      * The unmodifiable list returned is lazily loaded when possible, so calls
      * to DynamoDB will be made only as needed.
+     * With the {@link DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}
+     * pagination loading strategy, the list can only be iterated over once,
+     * and keeps no results that have already been iterated over.
      *
      * @param <T>
      *            The type of the objects being returned.
@@ -1001,7 +1193,8 @@ public class DynamoDBMapper {
         ScanRequest scanRequest = createScanRequestFromExpression(clazz, scanExpression, config);
 
         ScanResult scanResult = db.scan(applyUserAgent(scanRequest));
-        return new PaginatedScanList<T>(this, clazz, db, scanRequest, scanResult, dispatcher);
+        return new PaginatedScanList<T>(this, clazz, db, scanRequest, scanResult, dispatcher,
+                config.getPaginationLoadingStrategy());
     }
 
     /**
@@ -1030,6 +1223,9 @@ public class DynamoDBMapper {
      * <p>
      * The unmodifiable list returned is lazily loaded when possible, so calls
      * to DynamoDB will be made only as needed.
+     * With the {@link DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}
+     * pagination loading strategy, the list can only be iterated over once,
+     * and keeps no results that have already been iterated over.
      *
      * @param <T>
      *            The type of the objects being returned.
@@ -1065,6 +1261,9 @@ public class DynamoDBMapper {
      * <p>
      * The unmodifiable list returned is lazily loaded when possible, so calls
      * to DynamoDB will be made only as needed.
+     * With the {@link DynamoDBMapperConfig.PaginationLoadingStrategy#ITERATION_ONLY}
+     * pagination loading strategy, the list can only be iterated over once,
+     * and keeps no results that have already been iterated over.
      *
      * @param <T>
      *            The type of the objects being returned.
@@ -1091,7 +1290,8 @@ public class DynamoDBMapper {
         QueryRequest queryRequest = createQueryRequestFromExpression(clazz, queryExpression, config);
 
         QueryResult queryResult = db.query(applyUserAgent(queryRequest));
-        return new PaginatedQueryList<T>(this, clazz, db, queryRequest, queryResult, dispatcher);
+        return new PaginatedQueryList<T>(this, clazz, db, queryRequest, queryResult, dispatcher,
+                config.getPaginationLoadingStrategy());
     }
 
     /**
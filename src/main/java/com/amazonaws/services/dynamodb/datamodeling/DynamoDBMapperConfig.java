@@ -14,6 +14,10 @@
  */
 package com.amazonaws.services.dynamodb.datamodeling;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Immutable configuration object for service call behavior. An instance of this
  * configuration is supplied to every {@link DynamoDBMapper} at construction; if
@@ -29,6 +33,16 @@ package com.amazonaws.services.dynamodb.datamodeling;
  * mapper.save(obj, new DynamoDBMapperConfig(SaveBehavior.CLOBBER));
  * // Save the object into a different table
  * mapper.save(obj, new DynamoDBMapperConfig(new TableNameOverride("AnotherTable")));
+ * // Keep eight batch write requests in flight while bulk loading
+ * mapper.batchWrite(objectsToSave, objectsToDelete, new DynamoDBMapperConfig(new BatchWriteConcurrency(8)));
+ * // Keep sixteen batch get requests in flight while loading many items
+ * mapper.batchLoad(itemsToGet, new DynamoDBMapperConfig(new BatchLoadConcurrency(16)));
+ * // Stream through a large table without keeping the items already seen
+ * for (DomainClass item : mapper.scan(DomainClass.class, scanExpression,
+ *         new DynamoDBMapperConfig(PaginationLoadingStrategy.ITERATION_ONLY))) { ... }
+ * // Serve repeated loads of recently read Orders items from memory for up to a second
+ * DynamoDBMapper cachingMapper = new DynamoDBMapper(dynamoDBClient, new DynamoDBMapperConfig(
+ *         new ItemCaching().withTable(&quot;Orders&quot;, 10000, 1000)));
  * // Delete the object even if the version field is out of date
  * mapper.delete(obj, new DynamoDBMapperConfig(SaveBehavior.CLOBBER));
  * </pre>
@@ -62,6 +76,24 @@ public class DynamoDBMapperConfig {
         CONSISTENT, EVENTUAL
     };
 
+    /**
+     * Enumeration of pagination loading strategies for the lists returned by
+     * scan and query operations.
+     * <p>
+     * LAZY_LOADING fetches pages as they are needed and keeps every item
+     * fetched, so the list supports all of its read operations and can be
+     * iterated any number of times. ITERATION_ONLY supports nothing but a
+     * single pass through {@link java.util.List#iterator()}: each page is
+     * discarded once it has been iterated over, and the next page is fetched
+     * in the background while the current one is being consumed. Use it to
+     * walk through result sets too large to hold in memory.
+     * <p>
+     * By default, the mapper uses LAZY_LOADING.
+     */
+    public static enum PaginationLoadingStrategy {
+        LAZY_LOADING, ITERATION_ONLY
+    };
+
     /**
      * Allows overriding the table name declared on a domain class by the
      * {@link DynamoDBTable} annotation.
@@ -83,9 +115,156 @@ public class DynamoDBMapperConfig {
 
     }
 
+    /**
+     * Sets how many BatchWriteItem requests
+     * {@link DynamoDBMapper#batchWrite(java.util.List, java.util.List, DynamoDBMapperConfig)}
+     * keeps in flight at once. By default, the mapper makes one request at a
+     * time on the calling thread.
+     */
+    public static final class BatchWriteConcurrency {
+
+        private final int maxRequestsInFlight;
+
+        public BatchWriteConcurrency(int maxRequestsInFlight) {
+            if ( maxRequestsInFlight < 1 )
+                throw new IllegalArgumentException("At least one request must be allowed in flight");
+            this.maxRequestsInFlight = maxRequestsInFlight;
+        }
+
+        /**
+         * @see DynamoDBMapperConfig#getBatchWriteConcurrency()
+         */
+        public int getMaxRequestsInFlight() {
+            return maxRequestsInFlight;
+        }
+
+    }
+
+    /**
+     * Sets how many BatchGetItem requests
+     * {@link DynamoDBMapper#batchLoad(java.util.List, DynamoDBMapperConfig)}
+     * keeps in flight at once. Since reads can safely be made in any order,
+     * the mapper keeps up to four requests in flight by default.
+     */
+    public static final class BatchLoadConcurrency {
+
+        private final int maxRequestsInFlight;
+
+        public BatchLoadConcurrency(int maxRequestsInFlight) {
+            if ( maxRequestsInFlight < 1 )
+                throw new IllegalArgumentException("At least one request must be allowed in flight");
+            this.maxRequestsInFlight = maxRequestsInFlight;
+        }
+
+        /**
+         * @see DynamoDBMapperConfig#getBatchLoadConcurrency()
+         */
+        public int getMaxRequestsInFlight() {
+            return maxRequestsInFlight;
+        }
+
+    }
+
+    /**
+     * Sets which tables' items
+     * {@link DynamoDBMapper#load(Class, Object, Object, DynamoDBMapperConfig)}
+     * caches in memory, how many of them it keeps and for how long.
+     * <p>
+     * Eventually consistent loads of a cached table are served from the cache
+     * when possible; consistent loads always call DynamoDB, and cache the item
+     * they read. Saves, deletes and batch writes made through the same mapper
+     * update or remove the items they write, but changes made by other
+     * mappers or processes are only seen once the cached item expires, so
+     * the time to live bounds how stale a load can be. The cache belongs to
+     * the mapper; see {@link DynamoDBMapper#getItemCacheStatistics()} for its
+     * hit and miss counts.
+     * <p>
+     * By default, no items are cached.
+     */
+    public static final class ItemCaching {
+
+        private static final class TableCaching {
+            private final int maxItems;
+            private final long timeToLiveMillis;
+
+            TableCaching(int maxItems, long timeToLiveMillis) {
+                this.maxItems = maxItems;
+                this.timeToLiveMillis = timeToLiveMillis;
+            }
+        }
+
+        private final Map<String, TableCaching> tables;
+
+        /**
+         * Constructs a new item caching configuration that doesn't cache any
+         * tables. Use {@link #withTable(String, int, long)} to add some.
+         */
+        public ItemCaching() {
+            this(Collections.<String, TableCaching> emptyMap());
+        }
+
+        private ItemCaching(Map<String, TableCaching> tables) {
+            this.tables = tables;
+        }
+
+        /**
+         * Returns a new item caching configuration that also caches the items
+         * of the table given.
+         *
+         * @param tableName
+         *            The name of the table whose items to cache.
+         * @param maxItems
+         *            The most items of the table to keep; the least recently
+         *            used are evicted first.
+         * @param timeToLiveMillis
+         *            How long, in milliseconds, an item may be served from the
+         *            cache after it was read or written.
+         */
+        public ItemCaching withTable(String tableName, int maxItems, long timeToLiveMillis) {
+            if ( maxItems < 1 )
+                throw new IllegalArgumentException("At least one item must be cached");
+            if ( timeToLiveMillis < 1 )
+                throw new IllegalArgumentException("Time to live must be positive");
+
+            Map<String, TableCaching> tables = new HashMap<String, TableCaching>(this.tables);
+            tables.put(tableName, new TableCaching(maxItems, timeToLiveMillis));
+            return new ItemCaching(Collections.unmodifiableMap(tables));
+        }
+
+        /**
+         * Returns whether the items of the table given are cached.
+         */
+        public boolean isCached(String tableName) {
+            return tables.containsKey(tableName);
+        }
+
+        /**
+         * Returns the most items of the table given to keep, or zero if its
+         * items aren't cached.
+         */
+        public int getMaxItems(String tableName) {
+            TableCaching table = tables.get(tableName);
+            return table == null ? 0 : table.maxItems;
+        }
+
+        /**
+         * Returns how long, in milliseconds, an item of the table given may be
+         * served from the cache, or zero if its items aren't cached.
+         */
+        public long getTimeToLiveMillis(String tableName) {
+            TableCaching table = tables.get(tableName);
+            return table == null ? 0 : table.timeToLiveMillis;
+        }
+
+    }
+
     private final SaveBehavior saveBehavior;
     private final ConsistentReads consistentReads;
     private final TableNameOverride tableNameOverride;
+    private final BatchWriteConcurrency batchWriteConcurrency;
+    private final BatchLoadConcurrency batchLoadConcurrency;
+    private final PaginationLoadingStrategy paginationLoadingStrategy;
+    private final ItemCaching itemCaching;
 
     /**
      * Constructs a new configuration object with the save behavior, consistent
@@ -100,9 +279,107 @@ public class DynamoDBMapperConfig {
      */
     public DynamoDBMapperConfig(SaveBehavior saveBehavior, ConsistentReads consistentReads,
             TableNameOverride tableNameOverride) {
+        this(saveBehavior, consistentReads, tableNameOverride, null);
+    }
+
+    /**
+     * Constructs a new configuration object with the save behavior, consistent
+     * read behavior, table name override and batch write concurrency given.
+     * 
+     * @param saveBehavior
+     *            The {@link SaveBehavior} to use, or null for default.
+     * @param consistentReads
+     *            The {@link ConsistentReads} to use, or null for default.
+     * @param tableNameOverride
+     *            An override for the table name, or null for no override.
+     * @param batchWriteConcurrency
+     *            The {@link BatchWriteConcurrency} to use, or null for default.
+     */
+    public DynamoDBMapperConfig(SaveBehavior saveBehavior, ConsistentReads consistentReads,
+            TableNameOverride tableNameOverride, BatchWriteConcurrency batchWriteConcurrency) {
+        this(saveBehavior, consistentReads, tableNameOverride, batchWriteConcurrency, null);
+    }
+
+    /**
+     * Constructs a new configuration object with the save behavior, consistent
+     * read behavior, table name override, batch write concurrency and batch
+     * load concurrency given.
+     * 
+     * @param saveBehavior
+     *            The {@link SaveBehavior} to use, or null for default.
+     * @param consistentReads
+     *            The {@link ConsistentReads} to use, or null for default.
+     * @param tableNameOverride
+     *            An override for the table name, or null for no override.
+     * @param batchWriteConcurrency
+     *            The {@link BatchWriteConcurrency} to use, or null for default.
+     * @param batchLoadConcurrency
+     *            The {@link BatchLoadConcurrency} to use, or null for default.
+     */
+    public DynamoDBMapperConfig(SaveBehavior saveBehavior, ConsistentReads consistentReads,
+            TableNameOverride tableNameOverride, BatchWriteConcurrency batchWriteConcurrency,
+            BatchLoadConcurrency batchLoadConcurrency) {
+        this(saveBehavior, consistentReads, tableNameOverride, batchWriteConcurrency, batchLoadConcurrency, null);
+    }
+
+    /**
+     * Constructs a new configuration object with the save behavior, consistent
+     * read behavior, table name override, batch write concurrency, batch load
+     * concurrency and pagination loading strategy given.
+     * 
+     * @param saveBehavior
+     *            The {@link SaveBehavior} to use, or null for default.
+     * @param consistentReads
+     *            The {@link ConsistentReads} to use, or null for default.
+     * @param tableNameOverride
+     *            An override for the table name, or null for no override.
+     * @param batchWriteConcurrency
+     *            The {@link BatchWriteConcurrency} to use, or null for default.
+     * @param batchLoadConcurrency
+     *            The {@link BatchLoadConcurrency} to use, or null for default.
+     * @param paginationLoadingStrategy
+     *            The {@link PaginationLoadingStrategy} to use, or null for
+     *            default.
+     */
+    public DynamoDBMapperConfig(SaveBehavior saveBehavior, ConsistentReads consistentReads,
+            TableNameOverride tableNameOverride, BatchWriteConcurrency batchWriteConcurrency,
+            BatchLoadConcurrency batchLoadConcurrency, PaginationLoadingStrategy paginationLoadingStrategy) {
+        this(saveBehavior, consistentReads, tableNameOverride, batchWriteConcurrency, batchLoadConcurrency,
+                paginationLoadingStrategy, null);
+    }
+
+    /**
+     * Constructs a new configuration object with the save behavior, consistent
+     * read behavior, table name override, batch write concurrency, batch load
+     * concurrency, pagination loading strategy and item caching given.
+     * 
+     * @param saveBehavior
+     *            The {@link SaveBehavior} to use, or null for default.
+     * @param consistentReads
+     *            The {@link ConsistentReads} to use, or null for default.
+     * @param tableNameOverride
+     *            An override for the table name, or null for no override.
+     * @param batchWriteConcurrency
+     *            The {@link BatchWriteConcurrency} to use, or null for default.
+     * @param batchLoadConcurrency
+     *            The {@link BatchLoadConcurrency} to use, or null for default.
+     * @param paginationLoadingStrategy
+     *            The {@link PaginationLoadingStrategy} to use, or null for
+     *            default.
+     * @param itemCaching
+     *            The {@link ItemCaching} to use, or null for default.
+     */
+    public DynamoDBMapperConfig(SaveBehavior saveBehavior, ConsistentReads consistentReads,
+            TableNameOverride tableNameOverride, BatchWriteConcurrency batchWriteConcurrency,
+            BatchLoadConcurrency batchLoadConcurrency, PaginationLoadingStrategy paginationLoadingStrategy,
+            ItemCaching itemCaching) {
         this.saveBehavior = saveBehavior;
         this.consistentReads = consistentReads;
         this.tableNameOverride = tableNameOverride;
+        this.batchWriteConcurrency = batchWriteConcurrency;
+        this.batchLoadConcurrency = batchLoadConcurrency;
+        this.paginationLoadingStrategy = paginationLoadingStrategy;
+        this.itemCaching = itemCaching;
     }
 
     /**
@@ -127,6 +404,37 @@ public class DynamoDBMapperConfig {
         this(null, null, tableNameOverride);
     }
 
+    /**
+     * Constructs a new configuration object with the batch write concurrency
+     * given.
+     */
+    public DynamoDBMapperConfig(BatchWriteConcurrency batchWriteConcurrency) {
+        this(null, null, null, batchWriteConcurrency);
+    }
+
+    /**
+     * Constructs a new configuration object with the batch load concurrency
+     * given.
+     */
+    public DynamoDBMapperConfig(BatchLoadConcurrency batchLoadConcurrency) {
+        this(null, null, null, null, batchLoadConcurrency);
+    }
+
+    /**
+     * Constructs a new configuration object with the pagination loading
+     * strategy given.
+     */
+    public DynamoDBMapperConfig(PaginationLoadingStrategy paginationLoadingStrategy) {
+        this(null, null, null, null, null, paginationLoadingStrategy);
+    }
+
+    /**
+     * Constructs a new configuration object with the item caching given.
+     */
+    public DynamoDBMapperConfig(ItemCaching itemCaching) {
+        this(null, null, null, null, null, null, itemCaching);
+    }
+
     /**
      * Constructs a new configuration object from two others: a set of defaults
      * and a set of overrides. Any non-null overrides will be applied to the
@@ -140,6 +448,10 @@ public class DynamoDBMapperConfig {
             this.saveBehavior = defaults.getSaveBehavior();
             this.consistentReads = defaults.getConsistentReads();
             this.tableNameOverride = defaults.getTableNameOverride();
+            this.batchWriteConcurrency = defaults.getBatchWriteConcurrency();
+            this.batchLoadConcurrency = defaults.getBatchLoadConcurrency();
+            this.paginationLoadingStrategy = defaults.getPaginationLoadingStrategy();
+            this.itemCaching = defaults.getItemCaching();
         } else {
             this.saveBehavior = overrides.getSaveBehavior() == null ? defaults.getSaveBehavior() : overrides
                     .getSaveBehavior();
@@ -147,6 +459,14 @@ public class DynamoDBMapperConfig {
                     .getConsistentReads();
             this.tableNameOverride = overrides.getTableNameOverride() == null ? defaults.getTableNameOverride()
                     : overrides.getTableNameOverride();
+            this.batchWriteConcurrency = overrides.getBatchWriteConcurrency() == null ? defaults
+                    .getBatchWriteConcurrency() : overrides.getBatchWriteConcurrency();
+            this.batchLoadConcurrency = overrides.getBatchLoadConcurrency() == null ? defaults
+                    .getBatchLoadConcurrency() : overrides.getBatchLoadConcurrency();
+            this.paginationLoadingStrategy = overrides.getPaginationLoadingStrategy() == null ? defaults
+                    .getPaginationLoadingStrategy() : overrides.getPaginationLoadingStrategy();
+            this.itemCaching = overrides.getItemCaching() == null ? defaults.getItemCaching() : overrides
+                    .getItemCaching();
         }
     }
 
@@ -173,10 +493,45 @@ public class DynamoDBMapperConfig {
         return tableNameOverride;
     }
 
+    /**
+     * Returns the batch write concurrency for this configuration: how many
+     * BatchWriteItem requests a batch write keeps in flight at once.
+     */
+    public BatchWriteConcurrency getBatchWriteConcurrency() {
+        return batchWriteConcurrency;
+    }
+
+    /**
+     * Returns the batch load concurrency for this configuration: how many
+     * BatchGetItem requests a batch load keeps in flight at once.
+     */
+    public BatchLoadConcurrency getBatchLoadConcurrency() {
+        return batchLoadConcurrency;
+    }
+
+    /**
+     * Returns the pagination loading strategy for this configuration: how the
+     * lists returned by scan and query operations load and keep their results.
+     */
+    public PaginationLoadingStrategy getPaginationLoadingStrategy() {
+        return paginationLoadingStrategy;
+    }
+
+    /**
+     * Returns the item caching for this configuration: which tables' items
+     * loads are served from memory for, and how many for how long.
+     */
+    public ItemCaching getItemCaching() {
+        return itemCaching;
+    }
+
     /**
      * Default configuration uses UPDATE behavior for saves and EVENTUALly
-     * consistent reads, with no table name override.
+     * consistent reads, with no table name override, makes one batch write
+     * request at a time, keeps up to four batch load requests in flight,
+     * lazily loads scan and query results and doesn't cache items.
      */
     public static final DynamoDBMapperConfig DEFAULT = new DynamoDBMapperConfig(SaveBehavior.UPDATE,
-            ConsistentReads.EVENTUAL, null);
+            ConsistentReads.EVENTUAL, null, new BatchWriteConcurrency(1), new BatchLoadConcurrency(4),
+            PaginationLoadingStrategy.LAZY_LOADING, new ItemCaching());
 }
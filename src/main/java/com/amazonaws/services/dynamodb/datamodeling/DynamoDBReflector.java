@@ -23,15 +23,16 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.GregorianCalendar;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import com.amazonaws.services.dynamodb.model.AttributeValue;
 import com.amazonaws.util.DateUtils;
@@ -42,43 +43,167 @@ import com.amazonaws.util.DateUtils;
 public class DynamoDBReflector {
 
     /*
-     * Several caches for performance. Collectively, they can make this class
-     * over twice as fast.
+     * Everything the mapper needs to know about a class is worked out once, the
+     * first time the class is seen, and kept in an immutable model. The models
+     * are published through concurrent maps, so once a class has been seen,
+     * marshalling and unmarshalling its instances takes no locks. Properties
+     * are looked up by their getter method.
      */
-    private final Map<Class<?>, Collection<Method>> getterCache = new HashMap<Class<?>, Collection<Method>>();
-    private final Map<Class<?>, Method> hashKeyGetterCache = new HashMap<Class<?>, Method>();
-    private final Map<Class<?>, Method> rangeKeyGetterCache = new HashMap<Class<?>, Method>();
+    private final ConcurrentMap<Class<?>, ClassModel> classModels = new ConcurrentHashMap<Class<?>, ClassModel>();
+    private final ConcurrentMap<Method, PropertyModel> propertyModels = new ConcurrentHashMap<Method, PropertyModel>();
 
-    /*
-     * All caches keyed by a Method use the getter for a particular mapped
-     * property
+    /**
+     * The mapped properties of a class, along with its key properties.
      */
-    private final Map<Method, Method> setterCache = new HashMap<Method, Method>();
-    private final Map<Method, String> attributeNameCache = new HashMap<Method, String>();
-    private final Map<Method, ArgumentUnmarshaller> argumentUnmarshallerCache = new HashMap<Method, ArgumentUnmarshaller>();
-    private final Map<Method, ArgumentMarshaller> argumentMarshallerCache = new HashMap<Method, ArgumentMarshaller>();
-    private final Map<Method, ArgumentMarshaller> versionArgumentMarshallerCache = new HashMap<Method, ArgumentMarshaller>();
-    private final Map<Method, ArgumentMarshaller> keyArgumentMarshallerCache = new HashMap<Method, ArgumentMarshaller>();
-    private final Map<Method, Boolean> versionAttributeGetterCache = new HashMap<Method, Boolean>();
-    private final Map<Method, Boolean> autoGeneratedKeyGetterCache = new HashMap<Method, Boolean>();
+    private static final class ClassModel {
+
+        private final List<Method> relevantGetters;
+        private final Method hashKeyGetter;
+        private final Method rangeKeyGetter;
+
+        private ClassModel(List<Method> relevantGetters, Method hashKeyGetter, Method rangeKeyGetter) {
+            this.relevantGetters = Collections.unmodifiableList(relevantGetters);
+            this.hashKeyGetter = hashKeyGetter;
+            this.rangeKeyGetter = rangeKeyGetter;
+        }
+    }
 
     /**
-     * Returns the set of getter methods which are relevant when marshalling or
-     * unmarshalling an object.
+     * Everything about a single mapped property: its name, setter, and the
+     * marshallers used to convert its values. Problems with the property, such
+     * as a missing setter or an unsupported type, are only reported when the
+     * part of the model affected is asked for, just as they would be if the
+     * model weren't built ahead of time.
      */
-    Collection<Method> getRelevantGetters(Class<?> clazz) {
-        synchronized (getterCache) {
-            if ( !getterCache.containsKey(clazz) ) {
-                List<Method> relevantGetters = new LinkedList<Method>();
-                for ( Method m : clazz.getMethods() ) {
-                    if ( isRelevantGetter(m) ) {
-                        relevantGetters.add(m);
+    private final class PropertyModel {
+
+        private final String attributeName;
+        private final boolean versionAttribute;
+        private final boolean assignableKey;
+
+        private Method setter;
+        private ArgumentMarshaller marshaller;
+        private ArgumentUnmarshaller unmarshaller;
+        private ArgumentMarshaller versionedMarshaller;
+        private ArgumentMarshaller autoGeneratedKeyMarshaller;
+
+        private RuntimeException setterFailure;
+        private RuntimeException marshallerFailure;
+        private RuntimeException unmarshallerFailure;
+        private RuntimeException versionedMarshallerFailure;
+        private RuntimeException autoGeneratedKeyMarshallerFailure;
+
+        /*
+         * Only ever constructed by newPropertyModel, which publishes the model
+         * through a concurrent map once it is complete.
+         */
+        private PropertyModel(Method getter) {
+            this.attributeName = findAttributeName(getter);
+            this.versionAttribute = getter.getName().startsWith("get") && getter.getParameterTypes().length == 0
+                    && getter.isAnnotationPresent(DynamoDBVersionAttribute.class);
+            this.assignableKey = getter.isAnnotationPresent(DynamoDBAutoGeneratedKey.class)
+                    && (getter.isAnnotationPresent(DynamoDBHashKey.class) || getter
+                            .isAnnotationPresent(DynamoDBRangeKey.class));
+
+            try {
+                setter = findSetter(getter);
+                makeAccessible(setter);
+            } catch ( RuntimeException e ) {
+                setterFailure = e;
+            }
+            try {
+                marshaller = newArgumentMarshaller(getter);
+            } catch ( RuntimeException e ) {
+                marshallerFailure = e;
+            }
+            if ( setter == null ) {
+                unmarshallerFailure = setterFailure;
+            } else {
+                try {
+                    unmarshaller = newArgumentUnmarshaller(getter, setter);
+                } catch ( RuntimeException e ) {
+                    unmarshallerFailure = e;
+                }
+            }
+            try {
+                versionedMarshaller = newVersionedArgumentMarshaller(getter);
+            } catch ( RuntimeException e ) {
+                versionedMarshallerFailure = e;
+            }
+            try {
+                autoGeneratedKeyMarshaller = newAutoGeneratedKeyArgumentMarshaller(getter);
+            } catch ( RuntimeException e ) {
+                autoGeneratedKeyMarshallerFailure = e;
+            }
+        }
+    }
+
+    /**
+     * Returns the model of the class given, building it the first time the
+     * class is seen.
+     */
+    private ClassModel getClassModel(Class<?> clazz) {
+        ClassModel model = classModels.get(clazz);
+        if ( model == null ) {
+            List<Method> relevantGetters = new ArrayList<Method>();
+            Method hashKeyGetter = null;
+            Method rangeKeyGetter = null;
+            for ( Method m : clazz.getMethods() ) {
+                if ( isRelevantGetter(m) ) {
+                    makeAccessible(m);
+                    relevantGetters.add(m);
+                    getPropertyModel(m);
+
+                    if ( hashKeyGetter == null && m.isAnnotationPresent(DynamoDBHashKey.class) ) {
+                        hashKeyGetter = m;
+                    }
+                    if ( rangeKeyGetter == null && m.isAnnotationPresent(DynamoDBRangeKey.class) ) {
+                        rangeKeyGetter = m;
                     }
                 }
-                getterCache.put(clazz, relevantGetters);
             }
+
+            // Another thread may have built the same model in the meantime;
+            // either copy is as good as the other
+            model = new ClassModel(relevantGetters, hashKeyGetter, rangeKeyGetter);
+            ClassModel existing = classModels.putIfAbsent(clazz, model);
+            if ( existing != null ) model = existing;
+        }
+        return model;
+    }
+
+    /**
+     * Returns the model of the property with the getter given, building it the
+     * first time the getter is seen.
+     */
+    private PropertyModel getPropertyModel(Method getter) {
+        PropertyModel model = propertyModels.get(getter);
+        if ( model == null ) {
+            model = new PropertyModel(getter);
+            PropertyModel existing = propertyModels.putIfAbsent(getter, model);
+            if ( existing != null ) model = existing;
         }
-        return getterCache.get(clazz);
+        return model;
+    }
+
+    /**
+     * Turns off the language access checks made on every invocation of the
+     * method given, where the security manager allows it.
+     */
+    private static void makeAccessible(Method method) {
+        try {
+            method.setAccessible(true);
+        } catch ( SecurityException e ) {
+            // Invocations still work, just with access checks
+        }
+    }
+
+    /**
+     * Returns the set of getter methods which are relevant when marshalling or
+     * unmarshalling an object.
+     */
+    Collection<Method> getRelevantGetters(Class<?> clazz) {
+        return getClassModel(clazz).relevantGetters;
     }
 
     /**
@@ -98,19 +223,7 @@ public class DynamoDBReflector {
      * given, or null if the class doesn't have one.
      */
     <T> Method getRangeKeyGetter(Class<T> clazz) {
-        synchronized (rangeKeyGetterCache) {
-            if ( !rangeKeyGetterCache.containsKey(clazz) ) {
-                Method rangeKeyMethod = null;
-                for ( Method method : getRelevantGetters(clazz) ) {
-                    if ( method.getParameterTypes().length == 0 && method.isAnnotationPresent(DynamoDBRangeKey.class)) {
-                        rangeKeyMethod = method;
-                        break;
-                    }
-                }
-                rangeKeyGetterCache.put(clazz, rangeKeyMethod);
-            }
-        }
-        return rangeKeyGetterCache.get(clazz);
+        return getClassModel(clazz).rangeKeyGetter;
     }
 
     /**
@@ -118,18 +231,7 @@ public class DynamoDBReflector {
      * throwing an exception if there isn't one.
      */
     <T> Method getHashKeyGetter(Class<T> clazz) {
-        synchronized (hashKeyGetterCache) {
-            if ( !hashKeyGetterCache.containsKey(clazz) ) {
-                for ( Method method : getRelevantGetters(clazz) ) {
-                    if ( method.getParameterTypes().length == 0 && method.isAnnotationPresent(DynamoDBHashKey.class)) {
-                        hashKeyGetterCache.put(clazz, method);
-                        break;
-                    }
-                }
-            }
-        }
-
-        Method hashKeyMethod = hashKeyGetterCache.get(clazz);
+        Method hashKeyMethod = getClassModel(clazz).hashKeyGetter;
         if ( hashKeyMethod == null ) {
             throw new DynamoDBMappingException("Public, zero-parameter hash key property must be annotated with "
                     + DynamoDBHashKey.class);
@@ -161,322 +263,325 @@ public class DynamoDBReflector {
      * <p>
      * Determining how to unmarshall a response, especially a numeric one,
      * requires checking it against all supported types. This is expensive, so
-     * we cache a lookup table of getter method to argument unmarhsaller which
-     * can be reused.
+     * it's done once per property, when the property's model is built.
+     * 
+     * @param getter
+     *            The getter method being considered
+     */
+    ArgumentUnmarshaller getArgumentUnmarshaller(Method getter) {
+        PropertyModel property = getPropertyModel(getter);
+        if ( property.unmarshallerFailure != null )
+            throw property.unmarshallerFailure;
+        return property.unmarshaller;
+    }
+
+    /**
+     * Builds the argument unmarshaller for the getter / setter pair given.
      * 
-     * @param toReturn
-     *            The typed domain object being unmarshalled for the client
      * @param getter
      *            The getter method being considered
      * @param setter
      *            The corresponding setter method being considered
      */
-    <T> ArgumentUnmarshaller getArgumentUnmarshaller(final T toReturn, final Method getter, final Method setter) {
-        synchronized (argumentUnmarshallerCache) {
-            if ( !argumentUnmarshallerCache.containsKey(getter) ) {
-
-                Class<?>[] parameterTypes = setter.getParameterTypes();
-                Class<?> paramType = parameterTypes[0];
-                if ( parameterTypes.length != 1 ) {
-                    throw new DynamoDBMappingException("Expected exactly one agument to " + setter);
+    private ArgumentUnmarshaller newArgumentUnmarshaller(final Method getter, final Method setter) {
+        Class<?>[] parameterTypes = setter.getParameterTypes();
+        Class<?> paramType = parameterTypes[0];
+        if ( parameterTypes.length != 1 ) {
+            throw new DynamoDBMappingException("Expected exactly one agument to " + setter);
+        }
+
+        ArgumentUnmarshaller unmarshaller = null;
+        if ( isCustomMarshaller(getter) ) {
+            unmarshaller = new SUnmarshaller() {
+
+                @Override
+                public Object unmarshall(AttributeValue value) {
+                    return getCustomMarshalledValue(getter, value);
                 }
+            };
+        } else {
 
-                ArgumentUnmarshaller unmarshaller = null;
-                if ( isCustomMarshaller(getter) ) {
-                    unmarshaller = new SUnmarshaller() {
+            // If we're dealing with a collection, we need to get the
+            // underlying type out of it
+            boolean isCollection = false;
+            if ( Set.class.isAssignableFrom(paramType) ) {
+                isCollection = true;
+                Type genericType = setter.getGenericParameterTypes()[0];
+                if ( genericType instanceof ParameterizedType ) {
+                    paramType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                }
+            } else if ( Collection.class.isAssignableFrom(paramType) ) {
+                throw new DynamoDBMappingException("Only java.util.Set collection types are permitted for "
+                        + DynamoDBAttribute.class);
+            }
+
+            if ( double.class.isAssignableFrom(paramType) || Double.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
                         @Override
                         public Object unmarshall(AttributeValue value) {
-                            return getCustomMarshalledValue(toReturn, getter, value);
+                            Set<Double> argument = new HashSet<Double>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(Double.parseDouble(s));
+                            }
+                            return argument;
                         }
+
                     };
                 } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                    // If we're dealing with a collection, we need to get the
-                    // underlying type out of it
-                    boolean isCollection = false;
-                    if ( Set.class.isAssignableFrom(paramType) ) {
-                        isCollection = true;
-                        Type genericType = setter.getGenericParameterTypes()[0];
-                        if ( genericType instanceof ParameterizedType ) {
-                            paramType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
-                        }
-                    } else if ( Collection.class.isAssignableFrom(paramType) ) {
-                        throw new DynamoDBMappingException("Only java.util.Set collection types are permitted for "
-                                + DynamoDBAttribute.class);
-                    }
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return Double.parseDouble(value.getN());
+                        }
+                    };
+                }
+            } else if ( BigDecimal.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                    if ( double.class.isAssignableFrom(paramType) || Double.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<Double> argument = new HashSet<Double>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(Double.parseDouble(s));
-                                    }
-                                    return argument;
-                                }
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<BigDecimal> argument = new HashSet<BigDecimal>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(new BigDecimal(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return new BigDecimal(value.getN());
+                        }
+                    };
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return Double.parseDouble(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( BigDecimal.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<BigDecimal> argument = new HashSet<BigDecimal>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(new BigDecimal(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                }
+            } else if ( BigInteger.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return new BigDecimal(value.getN());
-                                }
-                            };
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<BigInteger> argument = new HashSet<BigInteger>();
+                            for ( String s : value.getNS() ) {
+                                ((Set<BigInteger>) argument).add(new BigInteger(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return new BigInteger(value.getN());
                         }
-                    } else if ( BigInteger.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
+                    };
+                }
+            } else if ( int.class.isAssignableFrom(paramType) || Integer.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<BigInteger> argument = new HashSet<BigInteger>();
-                                    for ( String s : value.getNS() ) {
-                                        ((Set<BigInteger>) argument).add(new BigInteger(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<Integer> argument = new HashSet<Integer>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(Integer.parseInt(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return new BigInteger(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( int.class.isAssignableFrom(paramType) || Integer.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<Integer> argument = new HashSet<Integer>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(Integer.parseInt(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return Integer.parseInt(value.getN());
+                        }
+                    };
+                }
+            } else if ( float.class.isAssignableFrom(paramType) || Float.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return Integer.parseInt(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( float.class.isAssignableFrom(paramType) || Float.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<Float> argument = new HashSet<Float>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(Float.parseFloat(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<Float> argument = new HashSet<Float>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(Float.parseFloat(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return Float.parseFloat(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( byte.class.isAssignableFrom(paramType) || Byte.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<Byte> argument = new HashSet<Byte>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(Byte.parseByte(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return Float.parseFloat(value.getN());
+                        }
+                    };
+                }
+            } else if ( byte.class.isAssignableFrom(paramType) || Byte.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return Byte.parseByte(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( long.class.isAssignableFrom(paramType) || Long.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<Long> argument = new HashSet<Long>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(Long.parseLong(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<Byte> argument = new HashSet<Byte>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(Byte.parseByte(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return Long.parseLong(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( boolean.class.isAssignableFrom(paramType) || Boolean.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new NSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<Boolean> argument = new HashSet<Boolean>();
-                                    for ( String s : value.getNS() ) {
-                                        argument.add(parseBoolean(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new NUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return Byte.parseByte(value.getN());
+                        }
+                    };
+                }
+            } else if ( long.class.isAssignableFrom(paramType) || Long.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return parseBoolean(value.getN());
-                                }
-                            };
-                        }
-                    } else if ( Date.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new SSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) throws ParseException {
-                                    Set<Date> argument = new HashSet<Date>();
-                                    for ( String s : value.getSS() ) {
-                                        argument.add(new DateUtils().parseIso8601Date(s));
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new SUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<Long> argument = new HashSet<Long>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(Long.parseLong(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) throws ParseException {
-                                    return new DateUtils().parseIso8601Date(value.getS());
-                                }
-                            };
-                        }
-                    } else if ( Calendar.class.isAssignableFrom(paramType) ) {
-                        if ( isCollection ) {
-                            unmarshaller = new SSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) throws ParseException {
-                                    Set<Calendar> argument = new HashSet<Calendar>();
-                                    for ( String s : value.getSS() ) {
-                                        Calendar cal = GregorianCalendar.getInstance();
-                                        cal.setTime(new DateUtils().parseIso8601Date(s));
-                                        argument.add(cal);
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new SUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) throws ParseException {
-                                    Calendar cal = GregorianCalendar.getInstance();
-                                    cal.setTime(new DateUtils().parseIso8601Date(value.getS()));
-                                    return cal;
-                                }
-                            };
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return Long.parseLong(value.getN());
                         }
-                    }
+                    };
+                }
+            } else if ( boolean.class.isAssignableFrom(paramType) || Boolean.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new NSUnmarshaller() {
 
-                    /*
-                     * After checking all other supported types, enforce a
-                     * String match
-                     */
-                    else if ( !String.class.isAssignableFrom(paramType) ) {
-                        throw new DynamoDBMappingException("Expected a String, but was " + paramType);
-                    } else {
-                        if ( isCollection ) {
-                            unmarshaller = new SSUnmarshaller() {
-
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    Set<String> argument = new HashSet<String>();
-                                    for ( String s : value.getSS() ) {
-                                        argument.add(s);
-                                    }
-                                    return argument;
-                                }
-                            };
-                        } else {
-                            unmarshaller = new SUnmarshaller() {
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<Boolean> argument = new HashSet<Boolean>();
+                            for ( String s : value.getNS() ) {
+                                argument.add(parseBoolean(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new NUnmarshaller() {
 
-                                @Override
-                                public Object unmarshall(AttributeValue value) {
-                                    return value.getS();
-                                }
-                            };
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return parseBoolean(value.getN());
                         }
-                    }
+                    };
+                }
+            } else if ( Date.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new SSUnmarshaller() {
+
+                        @Override
+                        public Object unmarshall(AttributeValue value) throws ParseException {
+                            Set<Date> argument = new HashSet<Date>();
+                            for ( String s : value.getSS() ) {
+                                argument.add(new DateUtils().parseIso8601Date(s));
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new SUnmarshaller() {
+
+                        @Override
+                        public Object unmarshall(AttributeValue value) throws ParseException {
+                            return new DateUtils().parseIso8601Date(value.getS());
+                        }
+                    };
                 }
+            } else if ( Calendar.class.isAssignableFrom(paramType) ) {
+                if ( isCollection ) {
+                    unmarshaller = new SSUnmarshaller() {
 
-                argumentUnmarshallerCache.put(getter, unmarshaller);
+                        @Override
+                        public Object unmarshall(AttributeValue value) throws ParseException {
+                            Set<Calendar> argument = new HashSet<Calendar>();
+                            for ( String s : value.getSS() ) {
+                                Calendar cal = GregorianCalendar.getInstance();
+                                cal.setTime(new DateUtils().parseIso8601Date(s));
+                                argument.add(cal);
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new SUnmarshaller() {
+
+                        @Override
+                        public Object unmarshall(AttributeValue value) throws ParseException {
+                            Calendar cal = GregorianCalendar.getInstance();
+                            cal.setTime(new DateUtils().parseIso8601Date(value.getS()));
+                            return cal;
+                        }
+                    };
+                }
+            }
+
+            /*
+             * After checking all other supported types, enforce a
+             * String match
+             */
+            else if ( !String.class.isAssignableFrom(paramType) ) {
+                throw new DynamoDBMappingException("Expected a String, but was " + paramType);
+            } else {
+                if ( isCollection ) {
+                    unmarshaller = new SSUnmarshaller() {
+
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            Set<String> argument = new HashSet<String>();
+                            for ( String s : value.getSS() ) {
+                                argument.add(s);
+                            }
+                            return argument;
+                        }
+                    };
+                } else {
+                    unmarshaller = new SUnmarshaller() {
+
+                        @Override
+                        public Object unmarshall(AttributeValue value) {
+                            return value.getS();
+                        }
+                    };
+                }
             }
         }
 
-        return argumentUnmarshallerCache.get(getter);
+        return unmarshaller;
     }
 
     /**
      * Marshalls the custom value given into the proper return type.
      */
     @SuppressWarnings({ "rawtypes", "unchecked" })
-    private <T> T getCustomMarshalledValue(T toReturn, Method getter, AttributeValue value) {
+    private Object getCustomMarshalledValue(Method getter, AttributeValue value) {
         DynamoDBMarshalling annotation = getter.getAnnotation(DynamoDBMarshalling.class);
         Class<? extends DynamoDBMarshaller<? extends Object>> marshallerClass = annotation.marshallerClass();
 
@@ -489,7 +594,7 @@ public class DynamoDBReflector {
             throw new DynamoDBMappingException("Couldn't instantiate marshaller of class " + marshallerClass, e);
         }
 
-        return (T) marshaller.unmarshall(getter.getReturnType(), value.getS());
+        return marshaller.unmarshall(getter.getReturnType(), value.getS());
     }
 
     /**
@@ -519,157 +624,160 @@ public class DynamoDBReflector {
      * Returns a marshaller that knows how to provide an AttributeValue for the
      * result of the getter given.
      */
-    ArgumentMarshaller getArgumentMarshaller(final Method getter) {
+    ArgumentMarshaller getArgumentMarshaller(Method getter) {
+        PropertyModel property = getPropertyModel(getter);
+        if ( property.marshallerFailure != null )
+            throw property.marshallerFailure;
+        return property.marshaller;
+    }
+
+    /**
+     * Builds the marshaller for the results of the getter given.
+     */
+    private ArgumentMarshaller newArgumentMarshaller(final Method getter) {
+        ArgumentMarshaller marshaller = null;
+
+        if ( isCustomMarshaller(getter) ) {
+            marshaller = new ArgumentMarshaller() {
+
+                @Override
+                public AttributeValue marshall(Object obj) {
+                    return getCustomerMarshallerAttributeValue(getter, obj);
+                }
+            };
+        } else {
+
+            Class<?> returnType = getter.getReturnType();
+            if ( Set.class.isAssignableFrom(returnType) ) {
+                Type genericType = getter.getGenericReturnType();
+                if ( genericType instanceof ParameterizedType ) {
+                    returnType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                }
+
+                if ( Date.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
+
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            List<String> timestamps = new LinkedList<String>();
+                            for ( Object o : (Set<?>) obj ) {
+                                timestamps.add(new DateUtils().formatIso8601Date((Date) o));
+                            }
+                            return new AttributeValue().withSS(timestamps);
+                        }
+                    };
+                } else if ( Calendar.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
 
-        synchronized (argumentMarshallerCache) {
-            if ( !argumentMarshallerCache.containsKey(getter) ) {
-                ArgumentMarshaller marshaller = null;
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            List<String> timestamps = new LinkedList<String>();
+                            for ( Object o : (Set<?>) obj ) {
+                                timestamps.add(new DateUtils().formatIso8601Date(((Calendar) o).getTime()));
+                            }
+                            return new AttributeValue().withSS(timestamps);
+                        }
+                    };
+                } else if ( boolean.class.isAssignableFrom(returnType)
+                        || Boolean.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
 
-                if ( isCustomMarshaller(getter) ) {
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            List<String> booleanAttributes = new ArrayList<String>();
+                            for ( Object b : (Set<?>) obj ) {
+                                if ( b == null || !(Boolean) b ) {
+                                    booleanAttributes.add("0");
+                                } else {
+                                    booleanAttributes.add("1");
+                                }
+                            }
+                            return new AttributeValue().withNS(booleanAttributes);
+                        }
+                    };
+                } else if ( returnType.isPrimitive() || Number.class.isAssignableFrom(returnType) ) {
                     marshaller = new ArgumentMarshaller() {
 
                         @Override
                         public AttributeValue marshall(Object obj) {
-                            return getCustomerMarshallerAttributeValue(getter, obj);
+                            List<String> attributes = new ArrayList<String>();
+                            for ( Object o : (Set<?>) obj ) {
+                                attributes.add(String.valueOf(o));
+                            }
+                            return new AttributeValue().withNS(attributes);
                         }
                     };
                 } else {
+                    marshaller = new ArgumentMarshaller() {
 
-                    Class<?> returnType = getter.getReturnType();
-                    if ( Set.class.isAssignableFrom(returnType) ) {
-                        Type genericType = getter.getGenericReturnType();
-                        if ( genericType instanceof ParameterizedType ) {
-                            returnType = (Class<?>) ((ParameterizedType) genericType).getActualTypeArguments()[0];
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            List<String> attributes = new ArrayList<String>();
+                            for ( Object o : (Set<?>) obj ) {
+                                attributes.add(String.valueOf(o));
+                            }
+                            return new AttributeValue().withSS(attributes);
                         }
+                    };
+                }
+            } else if ( Collection.class.isAssignableFrom(returnType) ) {
+                throw new DynamoDBMappingException("Non-set collections aren't supported: "
+                        + (getter.getDeclaringClass() + "." + getter.getName()));
+            } else {
+                if ( Date.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
 
-                        if ( Date.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            return new AttributeValue().withS(new DateUtils().formatIso8601Date((Date) obj));
+                        }
+                    };
+                } else if ( Calendar.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
 
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    List<String> timestamps = new LinkedList<String>();
-                                    for ( Object o : (Set<?>) obj ) {
-                                        timestamps.add(new DateUtils().formatIso8601Date((Date) o));
-                                    }
-                                    return new AttributeValue().withSS(timestamps);
-                                }
-                            };
-                        } else if ( Calendar.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    List<String> timestamps = new LinkedList<String>();
-                                    for ( Object o : (Set<?>) obj ) {
-                                        timestamps.add(new DateUtils().formatIso8601Date(((Calendar) o).getTime()));
-                                    }
-                                    return new AttributeValue().withSS(timestamps);
-                                }
-                            };
-                        } else if ( boolean.class.isAssignableFrom(returnType)
-                                || Boolean.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    List<String> booleanAttributes = new ArrayList<String>();
-                                    for ( Object b : (Set<?>) obj ) {
-                                        if ( b == null || !(Boolean) b ) {
-                                            booleanAttributes.add("0");
-                                        } else {
-                                            booleanAttributes.add("1");
-                                        }
-                                    }
-                                    return new AttributeValue().withNS(booleanAttributes);
-                                }
-                            };
-                        } else if ( returnType.isPrimitive() || Number.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    List<String> attributes = new ArrayList<String>();
-                                    for ( Object o : (Set<?>) obj ) {
-                                        attributes.add(String.valueOf(o));
-                                    }
-                                    return new AttributeValue().withNS(attributes);
-                                }
-                            };
-                        } else {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    List<String> attributes = new ArrayList<String>();
-                                    for ( Object o : (Set<?>) obj ) {
-                                        attributes.add(String.valueOf(o));
-                                    }
-                                    return new AttributeValue().withSS(attributes);
-                                }
-                            };
-                        }
-                    } else if ( Collection.class.isAssignableFrom(returnType) ) {
-                        throw new DynamoDBMappingException("Non-set collections aren't supported: "
-                                + (getter.getDeclaringClass() + "." + getter.getName()));
-                    } else {
-                        if ( Date.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    return new AttributeValue().withS(new DateUtils().formatIso8601Date((Date) obj));
-                                }
-                            };
-                        } else if ( Calendar.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    return new AttributeValue().withS(new DateUtils()
-                                            .formatIso8601Date(((Calendar) obj).getTime()));
-                                }
-                            };
-                        } else if ( boolean.class.isAssignableFrom(returnType)
-                                || Boolean.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    if ( obj == null || !(Boolean) obj ) {
-                                        return new AttributeValue().withN("0");
-                                    } else {
-                                        return new AttributeValue().withN("1");
-                                    }
-                                }
-                            };
-                        } else if ( returnType.isPrimitive() || Number.class.isAssignableFrom(returnType) ) {
-                            marshaller = new ArgumentMarshaller() {
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            return new AttributeValue().withS(new DateUtils()
+                                    .formatIso8601Date(((Calendar) obj).getTime()));
+                        }
+                    };
+                } else if ( boolean.class.isAssignableFrom(returnType)
+                        || Boolean.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
 
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    return new AttributeValue().withN(String.valueOf(obj));
-                                }
-                            };
-                        } else if ( returnType == String.class ) {
-                            marshaller = new ArgumentMarshaller() {
-
-                                @Override
-                                public AttributeValue marshall(Object obj) {
-                                    if ( ((String) obj).length() == 0 )
-                                        return null;
-                                    return new AttributeValue().withS(String.valueOf(obj));
-                                }
-                            };
-                        } else {
-                            throw new DynamoDBMappingException("Unsupported type: " + returnType + " for " + getter);
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            if ( obj == null || !(Boolean) obj ) {
+                                return new AttributeValue().withN("0");
+                            } else {
+                                return new AttributeValue().withN("1");
+                            }
                         }
-                    }
+                    };
+                } else if ( returnType.isPrimitive() || Number.class.isAssignableFrom(returnType) ) {
+                    marshaller = new ArgumentMarshaller() {
+
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            return new AttributeValue().withN(String.valueOf(obj));
+                        }
+                    };
+                } else if ( returnType == String.class ) {
+                    marshaller = new ArgumentMarshaller() {
+
+                        @Override
+                        public AttributeValue marshall(Object obj) {
+                            if ( ((String) obj).length() == 0 )
+                                return null;
+                            return new AttributeValue().withS(String.valueOf(obj));
+                        }
+                    };
+                } else {
+                    throw new DynamoDBMappingException("Unsupported type: " + returnType + " for " + getter);
                 }
-                argumentMarshallerCache.put(getter, marshaller);
             }
         }
-
-        return argumentMarshallerCache.get(getter);
+        return marshaller;
     }
 
     /**
@@ -690,183 +798,196 @@ public class DynamoDBReflector {
      * Returns the attribute name corresponding to the given getter method.
      */
     String getAttributeName(Method getter) {
-        synchronized (attributeNameCache) {
-            if ( !attributeNameCache.containsKey(getter) ) {
-
-                // First check for a hash key annotation
-                DynamoDBHashKey hashKeyAnnotation = getter.getAnnotation(DynamoDBHashKey.class);
-                if ( hashKeyAnnotation != null && hashKeyAnnotation.attributeName() != null
-                        && hashKeyAnnotation.attributeName().length() > 0 )
-                    return hashKeyAnnotation.attributeName();
-
-                // Then a range key
-                DynamoDBRangeKey rangeKey = getter.getAnnotation(DynamoDBRangeKey.class);
-                if ( rangeKey != null && rangeKey.attributeName() != null && rangeKey.attributeName().length() > 0 )
-                    return rangeKey.attributeName();
-
-                // Then an attribute
-                DynamoDBAttribute attribute = getter.getAnnotation(DynamoDBAttribute.class);
-                if ( attribute != null && attribute.attributeName() != null && attribute.attributeName().length() > 0 )
-                    return attribute.attributeName();
-
-                // Finally a version attribute
-                DynamoDBVersionAttribute version = getter.getAnnotation(DynamoDBVersionAttribute.class);
-                if ( version != null && version.attributeName() != null && version.attributeName().length() > 0 )
-                    return version.attributeName();
-
-                // Default to method name
-                String attributeName = null;
-                if ( getter.getName().startsWith("get") ) {
-                    attributeName = getter.getName().substring("get".length());
-                } else if ( getter.getName().startsWith("is") ) {
-                    attributeName = getter.getName().substring("is".length());
-                } else {
-                    throw new DynamoDBMappingException("Getter must begin with 'get' or 'is'");
-                }
+        return getPropertyModel(getter).attributeName;
+    }
 
-                // Lowercase the first letter of the name
-                attributeName = attributeName.substring(0, 1).toLowerCase() + attributeName.substring(1);
-                attributeNameCache.put(getter, attributeName);
-            }
+    /**
+     * Works out the attribute name for the given getter method from its
+     * annotations or, failing that, its name.
+     */
+    private String findAttributeName(Method getter) {
+        // First check for a hash key annotation
+        DynamoDBHashKey hashKeyAnnotation = getter.getAnnotation(DynamoDBHashKey.class);
+        if ( hashKeyAnnotation != null && hashKeyAnnotation.attributeName() != null
+                && hashKeyAnnotation.attributeName().length() > 0 )
+            return hashKeyAnnotation.attributeName();
+
+        // Then a range key
+        DynamoDBRangeKey rangeKey = getter.getAnnotation(DynamoDBRangeKey.class);
+        if ( rangeKey != null && rangeKey.attributeName() != null && rangeKey.attributeName().length() > 0 )
+            return rangeKey.attributeName();
+
+        // Then an attribute
+        DynamoDBAttribute attribute = getter.getAnnotation(DynamoDBAttribute.class);
+        if ( attribute != null && attribute.attributeName() != null && attribute.attributeName().length() > 0 )
+            return attribute.attributeName();
+
+        // Finally a version attribute
+        DynamoDBVersionAttribute version = getter.getAnnotation(DynamoDBVersionAttribute.class);
+        if ( version != null && version.attributeName() != null && version.attributeName().length() > 0 )
+            return version.attributeName();
+
+        // Default to method name
+        String attributeName = null;
+        if ( getter.getName().startsWith("get") ) {
+            attributeName = getter.getName().substring("get".length());
+        } else if ( getter.getName().startsWith("is") ) {
+            attributeName = getter.getName().substring("is".length());
+        } else {
+            throw new DynamoDBMappingException("Getter must begin with 'get' or 'is'");
         }
-        
-        return attributeNameCache.get(getter);
+
+        // Lowercase the first letter of the name
+        attributeName = attributeName.substring(0, 1).toLowerCase() + attributeName.substring(1);
+        return attributeName;
     }
 
     /**
-     * Returns the setter corresponding to the getter given, or null if no such
-     * setter exists.
+     * Returns the setter corresponding to the getter given, throwing an
+     * exception if no such setter exists.
      */
     Method getSetter(Method getter) {
-        synchronized (setterCache) {
-            if ( !setterCache.containsKey(getter) ) {
-                String attributeName = null;
-                if ( getter.getName().startsWith("get") ) {
-                    attributeName = getter.getName().substring("get".length());
-                } else if ( getter.getName().startsWith("is") ) {
-                    attributeName = getter.getName().substring("is".length());
-                } else {
-                    // should be impossible to reach this exception
-                    throw new RuntimeException("Getter method must start with 'is' or 'get'");
-                }
-                String setterName = "set" + attributeName;
-                Method setter = null;
-                try {
-                    setter = getter.getDeclaringClass().getMethod(setterName, getter.getReturnType());
-                } catch ( NoSuchMethodException e ) {
-                    throw new DynamoDBMappingException("Expected a public, one-argument method called " + setterName
-                            + " on class " + getter.getDeclaringClass(), e);
-                } catch ( SecurityException e ) {
-                    throw new DynamoDBMappingException("No access to public, one-argument method called " + setterName
-                            + " on class " + getter.getDeclaringClass(), e);
-                }
-                setterCache.put(getter, setter);
-            }
+        PropertyModel property = getPropertyModel(getter);
+        if ( property.setterFailure != null )
+            throw property.setterFailure;
+        return property.setter;
+    }
+
+    /**
+     * Looks up the setter corresponding to the getter given.
+     */
+    private Method findSetter(Method getter) {
+        String attributeName = null;
+        if ( getter.getName().startsWith("get") ) {
+            attributeName = getter.getName().substring("get".length());
+        } else if ( getter.getName().startsWith("is") ) {
+            attributeName = getter.getName().substring("is".length());
+        } else {
+            // should be impossible to reach this exception
+            throw new RuntimeException("Getter method must start with 'is' or 'get'");
+        }
+        String setterName = "set" + attributeName;
+        Method setter = null;
+        try {
+            setter = getter.getDeclaringClass().getMethod(setterName, getter.getReturnType());
+        } catch ( NoSuchMethodException e ) {
+            throw new DynamoDBMappingException("Expected a public, one-argument method called " + setterName
+                    + " on class " + getter.getDeclaringClass(), e);
+        } catch ( SecurityException e ) {
+            throw new DynamoDBMappingException("No access to public, one-argument method called " + setterName
+                    + " on class " + getter.getDeclaringClass(), e);
         }
-        
-        return setterCache.get(getter);
+        return setter;
     }
 
     /**
      * Returns a marshaller that knows how to provide an AttributeValue for the
-     * getter method given. Also increments the value of the getterReturnResult
-     * given.
+     * getter method given. The marshaller increments the value it is given,
+     * such as the getterReturnResult given.
      */
-    ArgumentMarshaller getVersionedArgumentMarshaller(final Method getter, Object getterReturnResult) {
-
-        synchronized (versionArgumentMarshallerCache) {
-            if ( !versionArgumentMarshallerCache.containsKey(getter) ) {
-
-                ArgumentMarshaller marshaller = null;
-
-                final Class<?> returnType = getter.getReturnType();
-                if ( BigInteger.class.isAssignableFrom(returnType) ) {
-                    marshaller = new ArgumentMarshaller() {
+    ArgumentMarshaller getVersionedArgumentMarshaller(Method getter, Object getterReturnResult) {
+        PropertyModel property = getPropertyModel(getter);
+        if ( property.versionedMarshallerFailure != null )
+            throw property.versionedMarshallerFailure;
+        return property.versionedMarshaller;
+    }
 
-                        @Override
-                        public AttributeValue marshall(Object obj) {
-                            if ( obj == null )
-                                obj = BigInteger.ZERO;
-                            Object newValue = ((BigInteger) obj).add(BigInteger.ONE);
-                            return getArgumentMarshaller(getter).marshall(newValue);
-                        }
-                    };
+    /**
+     * Builds the marshaller for the version attribute returned by the getter
+     * given.
+     */
+    private ArgumentMarshaller newVersionedArgumentMarshaller(final Method getter) {
+        ArgumentMarshaller marshaller = null;
+
+        final Class<?> returnType = getter.getReturnType();
+        if ( BigInteger.class.isAssignableFrom(returnType) ) {
+            marshaller = new ArgumentMarshaller() {
+
+                @Override
+                public AttributeValue marshall(Object obj) {
+                    if ( obj == null )
+                        obj = BigInteger.ZERO;
+                    Object newValue = ((BigInteger) obj).add(BigInteger.ONE);
+                    return getArgumentMarshaller(getter).marshall(newValue);
+                }
+            };
 
-                } else if ( Integer.class.isAssignableFrom(returnType) ) {
-                    marshaller = new ArgumentMarshaller() {
+        } else if ( Integer.class.isAssignableFrom(returnType) ) {
+            marshaller = new ArgumentMarshaller() {
 
-                        @Override
-                        public AttributeValue marshall(Object obj) {
-                            if ( obj == null )
-                                obj = new Integer(0);
-                            Object newValue = ((Integer) obj).intValue() + 1;
-                            return getArgumentMarshaller(getter).marshall(newValue);
-                        }
-                    };
+                @Override
+                public AttributeValue marshall(Object obj) {
+                    if ( obj == null )
+                        obj = new Integer(0);
+                    Object newValue = ((Integer) obj).intValue() + 1;
+                    return getArgumentMarshaller(getter).marshall(newValue);
+                }
+            };
 
-                } else if ( Byte.class.isAssignableFrom(returnType) ) {
-                    marshaller = new ArgumentMarshaller() {
+        } else if ( Byte.class.isAssignableFrom(returnType) ) {
+            marshaller = new ArgumentMarshaller() {
 
-                        @Override
-                        public AttributeValue marshall(Object obj) {
-                            if ( obj == null )
-                                obj = new Byte((byte) 0);
-                            Object newValue = (byte) ((((Byte) obj).byteValue() + 1) % Byte.MAX_VALUE);
-                            return getArgumentMarshaller(getter).marshall(newValue);
-                        }
-                    };
+                @Override
+                public AttributeValue marshall(Object obj) {
+                    if ( obj == null )
+                        obj = new Byte((byte) 0);
+                    Object newValue = (byte) ((((Byte) obj).byteValue() + 1) % Byte.MAX_VALUE);
+                    return getArgumentMarshaller(getter).marshall(newValue);
+                }
+            };
 
-                } else if ( Long.class.isAssignableFrom(returnType) ) {
-                    marshaller = new ArgumentMarshaller() {
+        } else if ( Long.class.isAssignableFrom(returnType) ) {
+            marshaller = new ArgumentMarshaller() {
 
-                        @Override
-                        public AttributeValue marshall(Object obj) {
-                            if ( obj == null )
-                                obj = new Long(0);
-                            Object newValue = ((Long) obj).longValue() + 1L;
-                            return getArgumentMarshaller(getter).marshall(newValue);
-                        }
-                    };
-                } else {
-                    throw new DynamoDBMappingException("Unsupported parameter type for "
-                            + DynamoDBVersionAttribute.class + ": " + returnType + ". Must be a whole-number type.");
+                @Override
+                public AttributeValue marshall(Object obj) {
+                    if ( obj == null )
+                        obj = new Long(0);
+                    Object newValue = ((Long) obj).longValue() + 1L;
+                    return getArgumentMarshaller(getter).marshall(newValue);
                 }
-
-                versionArgumentMarshallerCache.put(getter, marshaller);
-            }
+            };
+        } else {
+            throw new DynamoDBMappingException("Unsupported parameter type for "
+                    + DynamoDBVersionAttribute.class + ": " + returnType + ". Must be a whole-number type.");
         }
 
-        return versionArgumentMarshallerCache.get(getter);
+        return marshaller;
     }
 
     /**
      * Returns a marshaller for the auto-generated key returned by the getter given.
      */
-    ArgumentMarshaller getAutoGeneratedKeyArgumentMarshaller(final Method getter) {
-        synchronized (keyArgumentMarshallerCache) {
-            if ( !keyArgumentMarshallerCache.containsKey(getter) ) {
-                ArgumentMarshaller marshaller = null;
+    ArgumentMarshaller getAutoGeneratedKeyArgumentMarshaller(Method getter) {
+        PropertyModel property = getPropertyModel(getter);
+        if ( property.autoGeneratedKeyMarshallerFailure != null )
+            throw property.autoGeneratedKeyMarshallerFailure;
+        return property.autoGeneratedKeyMarshaller;
+    }
 
-                Class<?> returnType = getter.getReturnType();
-                if ( String.class.isAssignableFrom(returnType) ) {
-                    marshaller = new ArgumentMarshaller() {
+    /**
+     * Builds the marshaller for the auto-generated key returned by the getter
+     * given.
+     */
+    private ArgumentMarshaller newAutoGeneratedKeyArgumentMarshaller(final Method getter) {
+        ArgumentMarshaller marshaller = null;
 
-                        @Override
-                        public AttributeValue marshall(Object obj) {
-                            String newValue = UUID.randomUUID().toString();
-                            return getArgumentMarshaller(getter).marshall(newValue);
-                        }
-                    };
-                } else {
-                    throw new DynamoDBMappingException("Unsupported type for " + getter + ": " + returnType
-                            + ".  Only Strings are supported when auto-generating keys.");
-                }
+        Class<?> returnType = getter.getReturnType();
+        if ( String.class.isAssignableFrom(returnType) ) {
+            marshaller = new ArgumentMarshaller() {
 
-                keyArgumentMarshallerCache.put(getter, marshaller);
-            }
+                @Override
+                public AttributeValue marshall(Object obj) {
+                    String newValue = UUID.randomUUID().toString();
+                    return getArgumentMarshaller(getter).marshall(newValue);
+                }
+            };
+        } else {
+            throw new DynamoDBMappingException("Unsupported type for " + getter + ": " + returnType
+                    + ".  Only Strings are supported when auto-generating keys.");
         }
 
-        return keyArgumentMarshallerCache.get(getter);
+        return marshaller;
     }
 
     /**
@@ -874,33 +995,14 @@ public class DynamoDBReflector {
      * version attribute.
      */
     boolean isVersionAttributeGetter(Method getter) {
-        synchronized (versionAttributeGetterCache) {
-            if ( !versionAttributeGetterCache.containsKey(getter) ) {
-                versionAttributeGetterCache.put(
-                        getter,
-                        getter.getName().startsWith("get") && getter.getParameterTypes().length == 0
-                                && getter.isAnnotationPresent(DynamoDBVersionAttribute.class));
-            }
-        }
-        
-        return versionAttributeGetterCache.get(getter);
+        return getPropertyModel(getter).versionAttribute;
     }
-    
+
     /**
      * Returns whether the method given is an assignable key getter.
      */
     boolean isAssignableKey(Method getter) {
-        synchronized (autoGeneratedKeyGetterCache) {
-            if ( !autoGeneratedKeyGetterCache.containsKey(getter) ) {
-                autoGeneratedKeyGetterCache.put(
-                        getter,
-                        getter.isAnnotationPresent(DynamoDBAutoGeneratedKey.class)
-                                && (getter.isAnnotationPresent(DynamoDBHashKey.class) || getter
-                                        .isAnnotationPresent(DynamoDBRangeKey.class)));
-            }
-        }
-
-        return autoGeneratedKeyGetterCache.get(getter);
+        return getPropertyModel(getter).assignableKey;
     }
 
 }
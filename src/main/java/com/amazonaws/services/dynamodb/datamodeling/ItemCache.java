@@ -0,0 +1,195 @@
+/*
+ * Copyright 2012 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.ItemCaching;
+import com.amazonaws.services.dynamodb.model.AttributeValue;
+import com.amazonaws.services.dynamodb.model.Key;
+
+/**
+ * A {@link DynamoDBMapper}'s in-memory cache of items, keyed by table name and
+ * primary key. Each table's items are held in a bounded, least recently used
+ * map, and expire once they have been cached for longer than the table's time
+ * to live.
+ * <p>
+ * The cache holds the attributes of items rather than the objects they were
+ * marshalled into, so every load still returns an object of its own.
+ *
+ * @see DynamoDBMapperConfig.ItemCaching
+ */
+final class ItemCache {
+
+    /**
+     * The cached items of a single table.
+     */
+    static final class TableCache {
+
+        private static final class CachedItem {
+            private final Map<String, AttributeValue> attributes;
+            private final long expiresAtNanos;
+
+            CachedItem(Map<String, AttributeValue> attributes, long expiresAtNanos) {
+                this.attributes = attributes;
+                this.expiresAtNanos = expiresAtNanos;
+            }
+        }
+
+        private final String tableName;
+        private final int maxItems;
+        private final long timeToLiveNanos;
+        private final LinkedHashMap<Key, CachedItem> items;
+
+        /** Incremented by every write through the mapper to this table */
+        private long writes;
+
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long expirations;
+
+        TableCache(String tableName, int maxItems, long timeToLiveMillis) {
+            this.tableName = tableName;
+            this.maxItems = maxItems;
+            this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+            this.items = new LinkedHashMap<Key, CachedItem>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, CachedItem> eldest) {
+                    if ( size() > TableCache.this.maxItems ) {
+                        evictions++;
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        /**
+         * Returns the attributes of the item with the key given, or null if
+         * it isn't cached or has expired.
+         */
+        synchronized Map<String, AttributeValue> get(Key key) {
+            CachedItem item = items.get(key);
+            if ( item != null && item.expiresAtNanos - System.nanoTime() <= 0 ) {
+                items.remove(key);
+                expirations++;
+                item = null;
+            }
+
+            if ( item == null ) {
+                misses++;
+                return null;
+            }
+            hits++;
+            return item.attributes;
+        }
+
+        /**
+         * Returns a count of the writes made to this table so far, to be
+         * passed to {@link #putIfNotWritten(Key, Map, long)}.
+         */
+        synchronized long getWriteCount() {
+            return writes;
+        }
+
+        /**
+         * Caches the item given, read from DynamoDB, unless this table has
+         * been written to since the write count given was taken. A read that
+         * overlapped a write may have returned the item as it was before the
+         * write, so it isn't cached.
+         */
+        synchronized void putIfNotWritten(Key key, Map<String, AttributeValue> attributes, long writeCount) {
+            if ( writes == writeCount ) {
+                items.put(key, new CachedItem(attributes, System.nanoTime() + timeToLiveNanos));
+            }
+        }
+
+        /**
+         * Records a write to the item with the key given, replacing its
+         * cached attributes with those given, or removing it from the cache
+         * if they're null.
+         */
+        synchronized void written(Key key, Map<String, AttributeValue> attributes) {
+            writes++;
+            if ( attributes == null ) {
+                items.remove(key);
+            } else {
+                items.put(key, new CachedItem(attributes, System.nanoTime() + timeToLiveNanos));
+            }
+        }
+
+        synchronized ItemCacheStatistics.TableStatistics getStatistics() {
+            return new ItemCacheStatistics.TableStatistics(tableName, hits, misses, evictions, expirations,
+                    items.size());
+        }
+    }
+
+    private final ConcurrentMap<String, TableCache> tables = new ConcurrentHashMap<String, TableCache>();
+
+    /**
+     * Returns the cache for the table given, creating it if necessary, or
+     * null if the configuration given doesn't cache its items. A cache
+     * created with different settings is replaced, dropping its items.
+     */
+    TableCache getTableCache(String tableName, ItemCaching itemCaching) {
+        if ( itemCaching == null || !itemCaching.isCached(tableName) )
+            return null;
+
+        int maxItems = itemCaching.getMaxItems(tableName);
+        long timeToLiveMillis = itemCaching.getTimeToLiveMillis(tableName);
+        while ( true ) {
+            TableCache existing = tables.get(tableName);
+            if ( existing != null && existing.maxItems == maxItems
+                    && existing.timeToLiveNanos == TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis) )
+                return existing;
+
+            TableCache created = new TableCache(tableName, maxItems, timeToLiveMillis);
+            if ( existing == null ? tables.putIfAbsent(tableName, created) == null : tables.replace(tableName,
+                    existing, created) )
+                return created;
+        }
+    }
+
+    /**
+     * Records a write to the item with the key given, whichever
+     * configuration it was made with. The item's cached attributes are
+     * replaced with those given, or removed if they're null.
+     */
+    void written(String tableName, Key key, Map<String, AttributeValue> attributes) {
+        TableCache table = tables.get(tableName);
+        if ( table != null ) {
+            table.written(key, attributes);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the statistics of every cached table.
+     */
+    ItemCacheStatistics getStatistics() {
+        ItemCacheStatistics statistics = new ItemCacheStatistics();
+        for ( TableCache table : new TreeMap<String, TableCache>(tables).values() ) {
+            statistics.add(table.getStatistics());
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2012 Amazon Technologies, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *    http://aws.amazon.com/apache2.0
+ *
+ * This file is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES
+ * OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.amazonaws.services.dynamodb.datamodeling;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A snapshot of the activity of a {@link DynamoDBMapper}'s item cache: for
+ * each cached table, how many loads were served from memory, how many had to
+ * call DynamoDB, and how many items the cache holds.
+ *
+ * @see DynamoDBMapper#getItemCacheStatistics()
+ * @see DynamoDBMapperConfig.ItemCaching
+ */
+public class ItemCacheStatistics {
+
+    /**
+     * Statistics for the items cached for a single table.
+     */
+    public static final class TableStatistics {
+
+        private final String tableName;
+        private final long hits;
+        private final long misses;
+        private final long evictions;
+        private final long expirations;
+        private final int size;
+
+        TableStatistics(String tableName, long hits, long misses, long evictions, long expirations, int size) {
+            this.tableName = tableName;
+            this.hits = hits;
+            this.misses = misses;
+            this.evictions = evictions;
+            this.expirations = expirations;
+            this.size = size;
+        }
+
+        /**
+         * Returns the name of the table.
+         */
+        public String getTableName() {
+            return tableName;
+        }
+
+        /**
+         * Returns the number of loads served from the cache.
+         */
+        public long getHits() {
+            return hits;
+        }
+
+        /**
+         * Returns the number of eventually consistent loads that didn't find
+         * their item in the cache and called DynamoDB.
+         */
+        public long getMisses() {
+            return misses;
+        }
+
+        /**
+         * Returns the fraction of eventually consistent loads served from the
+         * cache.
+         */
+        public double getHitRatio() {
+            return hits + misses == 0 ? 0 : (double) hits / (hits + misses);
+        }
+
+        /**
+         * Returns the number of items removed from the cache to make room for
+         * others.
+         */
+        public long getEvictions() {
+            return evictions;
+        }
+
+        /**
+         * Returns the number of items removed from the cache because they had
+         * outlived the table's time to live.
+         */
+        public long getExpirations() {
+            return expirations;
+        }
+
+        /**
+         * Returns the number of items in the cache.
+         */
+        public int getSize() {
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return tableName + ": " + hits + " hits, " + misses + " misses (" + String.format("%.1f", getHitRatio() * 100)
+                    + "%), " + evictions + " evictions, " + expirations + " expirations, " + size + " items";
+        }
+    }
+
+    private final Map<String, TableStatistics> tables = new LinkedHashMap<String, TableStatistics>();
+
+    /**
+     * Returns the statistics for each cached table.
+     */
+    public Collection<TableStatistics> getTableStatistics() {
+        return Collections.unmodifiableCollection(tables.values());
+    }
+
+    /**
+     * Returns the statistics for the table given, or null if its items
+     * aren't cached.
+     */
+    public TableStatistics getTableStatistics(String tableName) {
+        return tables.get(tableName);
+    }
+
+    @Override
+    public String toString() {
+        return tables.values().toString();
+    }
+
+    void add(TableStatistics table) {
+        tables.put(table.getTableName(), table);
+    }
+}
@@ -22,8 +22,17 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.NoSuchElementException;
-
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
 import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 
 /**
  * Unmodifiable list supporting paginated result sets from Amazon DynamoDB.
@@ -32,6 +41,13 @@ import com.amazonaws.services.dynamodb.AmazonDynamoDB;
  * methods, such as {@link PaginatedList#size()} and
  * {@link PaginatedList#toArray()}, require fetching the entire result set
  * eagerly. See the javadoc of individual methods for details on which are lazy.
+ * <p>
+ * With the {@link PaginationLoadingStrategy#ITERATION_ONLY} strategy, the list
+ * can only be iterated over, once. Pages are then discarded as soon as they
+ * have been iterated over, and the next page is fetched in the background
+ * while the current one is consumed, so arbitrarily large result sets can be
+ * walked through in constant memory. All other read operations throw an
+ * UnsupportedOperationException.
  * 
  * @param <T>
  *            The domain object type stored in this list.
@@ -40,6 +56,24 @@ public abstract class PaginatedList<T> implements List<T> {
 
     private static final String UNMODIFIABLE_MESSAGE = "This is an unmodifiable list";
 
+    private static final String ITERATION_ONLY_MESSAGE = "The list can only be iterated over, once, with the "
+            + PaginationLoadingStrategy.ITERATION_ONLY + " pagination loading strategy";
+
+    private static final AtomicInteger threadCount = new AtomicInteger();
+
+    /**
+     * Fetches the next page of results in the background for lists iterated
+     * with the ITERATION_ONLY strategy. Idle threads are released after a
+     * minute.
+     */
+    private static final ExecutorService prefetchExecutor = Executors.newCachedThreadPool(new ThreadFactory() {
+        public Thread newThread(Runnable r) {
+            Thread thread = new Thread(r, "dynamodb-mapper-page-prefetch-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
     /**
      * Reference to the DynamoDB mapper for marshalling DynamoDB attributes back
      * into objects
@@ -64,10 +98,23 @@ public abstract class PaginatedList<T> implements List<T> {
     /** Lazily loaded next results waiting to be added into allResults */
     protected final List<T> nextResults = new LinkedList<T>();
 
+    /** How results are loaded and kept */
+    private final PaginationLoadingStrategy paginationLoadingStrategy;
+
+    /** Tracks if the single iterator allowed in ITERATION_ONLY mode was returned */
+    private boolean iteratorReturned = false;
+
     public PaginatedList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo) {
+        this(mapper, clazz, dynamo, PaginationLoadingStrategy.LAZY_LOADING);
+    }
+
+    public PaginatedList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+            PaginationLoadingStrategy paginationLoadingStrategy) {
         this.mapper = mapper;
         this.clazz = clazz;
         this.dynamo = dynamo;
+        this.paginationLoadingStrategy = paginationLoadingStrategy == null ? PaginationLoadingStrategy.LAZY_LOADING
+                : paginationLoadingStrategy;
 
         this.allResults = new ArrayList<T>();
     }
@@ -76,6 +123,7 @@ public abstract class PaginatedList<T> implements List<T> {
      * Eagerly loads all results for this list.
      */
     public synchronized void loadAllResults() {
+        checkUnsupportedOperationForIterationOnlyMode();
         if ( allResultsLoaded )
             return;
 
@@ -139,7 +187,9 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public Iterator<T> iterator() {
-        
+        if ( paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY )
+            return iterationOnlyIterator();
+
         /*
          * We make a copy of the allResults list to iterate over in order to
          * avoid ConcurrentModificationExceptions caused by other methods
@@ -195,12 +245,100 @@ public abstract class PaginatedList<T> implements List<T> {
         };
     }
 
+    /**
+     * Returns the single iterator allowed in ITERATION_ONLY mode. The iterator
+     * holds on to no more than the page being iterated over and the next one,
+     * which is fetched in the background as soon as the previous page has
+     * been handed over.
+     */
+    private synchronized Iterator<T> iterationOnlyIterator() {
+        if ( iteratorReturned )
+            throw new UnsupportedOperationException(ITERATION_ONLY_MESSAGE);
+        iteratorReturned = true;
+
+        final List<T> firstPage = new ArrayList<T>(allResults);
+        allResults.clear();
+
+        return new Iterator<T>() {
+
+            Iterator<T> page = firstPage.iterator();
+            Future<List<T>> nextPage = prefetchNextPage();
+
+            @Override
+            public boolean hasNext() {
+                while ( !page.hasNext() ) {
+                    if ( nextPage == null )
+                        return false;
+                    List<T> fetched = waitForPage(nextPage);
+                    nextPage = prefetchNextPage();
+                    page = fetched.iterator();
+                }
+                return true;
+            }
+
+            @Override
+            public T next() {
+                if ( !hasNext() )
+                    throw new NoSuchElementException();
+                return page.next();
+            }
+
+            @Override
+            public void remove() {
+                throw new UnsupportedOperationException(UNMODIFIABLE_MESSAGE);
+            }
+        };
+    }
+
+    /**
+     * Starts fetching the next page of results in the background, returning
+     * null if there are no more pages.
+     */
+    private Future<List<T>> prefetchNextPage() {
+        if ( atEndOfResults() )
+            return null;
+        return prefetchExecutor.submit(new Callable<List<T>>() {
+            public List<T> call() throws Exception {
+                return fetchNextPage();
+            }
+        });
+    }
+
+    /**
+     * Waits for a page being fetched in the background and returns it.
+     */
+    private List<T> waitForPage(Future<List<T>> page) {
+        try {
+            return page.get();
+        } catch ( InterruptedException e ) {
+            page.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for the next page of results", e);
+        } catch ( ExecutionException e ) {
+            if ( e.getCause() instanceof RuntimeException )
+                throw (RuntimeException) e.getCause();
+            if ( e.getCause() instanceof Error )
+                throw (Error) e.getCause();
+            throw new AmazonClientException("Unable to fetch the next page of results", e.getCause());
+        }
+    }
+
+    /**
+     * Throws an UnsupportedOperationException if this list only supports
+     * iteration.
+     */
+    private void checkUnsupportedOperationForIterationOnlyMode() {
+        if ( paginationLoadingStrategy == PaginationLoadingStrategy.ITERATION_ONLY )
+            throw new UnsupportedOperationException(ITERATION_ONLY_MESSAGE);
+    }
+
     /**
      * Returns whether the collection is empty. At most one (non-empty) page of
      * results is loaded to make the check.
      */
     @Override
     public boolean isEmpty() {
+        checkUnsupportedOperationForIterationOnlyMode();
         return !iterator().hasNext();
     }
 
@@ -210,6 +348,7 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public T get(int n) {
+        checkUnsupportedOperationForIterationOnlyMode();
         while ( allResults.size() <= n && nextResultsAvailable() ) {
             moveNextResults();
         }
@@ -224,6 +363,7 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public boolean contains(Object arg0) {
+        checkUnsupportedOperationForIterationOnlyMode();
         if ( allResults.contains(arg0) )
             return true;
         
@@ -243,6 +383,7 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public List<T> subList(int arg0, int arg1) {
+        checkUnsupportedOperationForIterationOnlyMode();
         while ( allResults.size() < arg1 && nextResultsAvailable() ) {
             moveNextResults();
         }
@@ -256,6 +397,7 @@ public abstract class PaginatedList<T> implements List<T> {
      */
     @Override
     public int indexOf(Object arg0) {
+        checkUnsupportedOperationForIterationOnlyMode();
         int indexOf = allResults.indexOf(arg0);
         if ( indexOf >= 0 )
             return indexOf;
@@ -17,6 +17,7 @@ package com.amazonaws.services.dynamodb.datamodeling;
 import java.util.List;
 
 import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodb.model.QueryRequest;
 import com.amazonaws.services.dynamodb.model.QueryResult;
 
@@ -55,7 +56,13 @@ public class PaginatedQueryList<T> extends PaginatedList<T> {
 
     public PaginatedQueryList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
             QueryRequest queryRequest, QueryResult queryResult, TypeDispatcher<T> dispatcher) {
-        super(mapper, clazz, dynamo);
+        this(mapper, clazz, dynamo, queryRequest, queryResult, dispatcher, PaginationLoadingStrategy.LAZY_LOADING);
+    }
+
+    public PaginatedQueryList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+            QueryRequest queryRequest, QueryResult queryResult, TypeDispatcher<T> dispatcher,
+            PaginationLoadingStrategy paginationLoadingStrategy) {
+        super(mapper, clazz, dynamo, paginationLoadingStrategy);
 
         this.queryRequest = queryRequest;
         this.queryResult  = queryResult;
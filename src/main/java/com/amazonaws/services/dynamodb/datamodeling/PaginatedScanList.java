@@ -17,6 +17,7 @@ package com.amazonaws.services.dynamodb.datamodeling;
 import java.util.List;
 
 import com.amazonaws.services.dynamodb.AmazonDynamoDB;
+import com.amazonaws.services.dynamodb.datamodeling.DynamoDBMapperConfig.PaginationLoadingStrategy;
 import com.amazonaws.services.dynamodb.model.ScanRequest;
 import com.amazonaws.services.dynamodb.model.ScanResult;
 
@@ -55,7 +56,13 @@ public class PaginatedScanList<T> extends PaginatedList<T> {
 
     public PaginatedScanList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
             ScanRequest scanRequest, ScanResult scanResult, TypeDispatcher<T> dispatcher) {
-        super(mapper, clazz, dynamo);
+        this(mapper, clazz, dynamo, scanRequest, scanResult, dispatcher, PaginationLoadingStrategy.LAZY_LOADING);
+    }
+
+    public PaginatedScanList(DynamoDBMapper mapper, Class<T> clazz, AmazonDynamoDB dynamo,
+            ScanRequest scanRequest, ScanResult scanResult, TypeDispatcher<T> dispatcher,
+            PaginationLoadingStrategy paginationLoadingStrategy) {
+        super(mapper, clazz, dynamo, paginationLoadingStrategy);
 
         this.scanRequest = scanRequest;
         this.scanResult = scanResult;
@@ -18,7 +18,6 @@ package com.amazonaws.services.dynamodb.model.transform;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.OutputStreamWriter;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Map;
 import java.util.List;
@@ -29,7 +28,7 @@ import com.amazonaws.DefaultRequest;
 import com.amazonaws.services.dynamodb.model.*;
 import com.amazonaws.transform.Marshaller;
 import com.amazonaws.util.StringUtils;
-import com.amazonaws.util.StringInputStream;
+import com.amazonaws.util.PayloadInputStream;
 import com.amazonaws.util.json.*;
 
 import static com.amazonaws.http.HttpMethodName.POST;
@@ -51,8 +50,7 @@ public class DeleteItemRequestMarshaller implements Marshaller<Request<DeleteIte
         request.setHttpMethod(POST);
 
         try {
-        	StringWriter stringWriter = new StringWriter();
-        	JSONWriter jsonWriter = new JSONWriter(stringWriter);
+        	JsonContentWriter jsonWriter = new JsonContentWriter();
         	jsonWriter.object();
 	        
             if (deleteItemRequest.getTableName() != null) {
@@ -171,10 +169,9 @@ public class DeleteItemRequestMarshaller implements Marshaller<Request<DeleteIte
 
     	    jsonWriter.endObject();
 
-    	    String snippet = stringWriter.toString();
-    	    byte[] content = snippet.getBytes("UTF-8");
-        	request.setContent(new StringInputStream(snippet));
-	        request.addHeader("Content-Length", Integer.toString(content.length));
+    	    PayloadInputStream content = jsonWriter.getContent();
+        	request.setContent(content);
+	        request.addHeader("Content-Length", Integer.toString(content.getLength()));
             return request;
         } catch(Throwable t) {
           throw new AmazonClientException("Unable to marshall request to JSON: " + t.getMessage(), t);
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.ec2;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.ec2.model.*;
+import com.amazonaws.services.ec2.model.transform.*;
 
 
 /**
@@ -238,12 +240,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> rebootInstancesAsync(final RebootInstancesRequest rebootInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebootInstances(rebootInstancesRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(rebootInstancesRequest, new RebootInstancesRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -269,11 +266,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesResult> describeReservedInstancesAsync(final DescribeReservedInstancesRequest describeReservedInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesResult>() {
-            public DescribeReservedInstancesResult call() throws Exception {
-                return describeReservedInstances(describeReservedInstancesRequest);
-		    }
-		});
+        return invokeAsync(describeReservedInstancesRequest, new DescribeReservedInstancesRequestMarshaller(), new DescribeReservedInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -305,11 +298,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAvailabilityZonesResult> describeAvailabilityZonesAsync(final DescribeAvailabilityZonesRequest describeAvailabilityZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAvailabilityZonesResult>() {
-            public DescribeAvailabilityZonesResult call() throws Exception {
-                return describeAvailabilityZones(describeAvailabilityZonesRequest);
-		    }
-		});
+        return invokeAsync(describeAvailabilityZonesRequest, new DescribeAvailabilityZonesRequestMarshaller(), new DescribeAvailabilityZonesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -333,11 +322,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DetachVolumeResult> detachVolumeAsync(final DetachVolumeRequest detachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachVolumeResult>() {
-            public DetachVolumeResult call() throws Exception {
-                return detachVolume(detachVolumeRequest);
-		    }
-		});
+        return invokeAsync(detachVolumeRequest, new DetachVolumeRequestMarshaller(), new DetachVolumeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -361,12 +346,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteKeyPairAsync(final DeleteKeyPairRequest deleteKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteKeyPair(deleteKeyPairRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteKeyPairRequest, new DeleteKeyPairRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -390,11 +370,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<UnmonitorInstancesResult> unmonitorInstancesAsync(final UnmonitorInstancesRequest unmonitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UnmonitorInstancesResult>() {
-            public UnmonitorInstancesResult call() throws Exception {
-                return unmonitorInstances(unmonitorInstancesRequest);
-		    }
-		});
+        return invokeAsync(unmonitorInstancesRequest, new UnmonitorInstancesRequestMarshaller(), new UnmonitorInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -421,11 +397,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVpnGatewayResult> attachVpnGatewayAsync(final AttachVpnGatewayRequest attachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVpnGatewayResult>() {
-            public AttachVpnGatewayResult call() throws Exception {
-                return attachVpnGateway(attachVpnGatewayRequest);
-		    }
-		});
+        return invokeAsync(attachVpnGatewayRequest, new AttachVpnGatewayRequestMarshaller(), new AttachVpnGatewayResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -453,11 +425,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateImageResult> createImageAsync(final CreateImageRequest createImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateImageResult>() {
-            public CreateImageResult call() throws Exception {
-                return createImage(createImageRequest);
-		    }
-		});
+        return invokeAsync(createImageRequest, new CreateImageRequestMarshaller(), new CreateImageResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -489,12 +457,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSecurityGroupAsync(final DeleteSecurityGroupRequest deleteSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSecurityGroup(deleteSecurityGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteSecurityGroupRequest, new DeleteSecurityGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -543,12 +506,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupEgressAsync(final AuthorizeSecurityGroupEgressRequest authorizeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupEgress(authorizeSecurityGroupEgressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(authorizeSecurityGroupEgressRequest, new AuthorizeSecurityGroupEgressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -579,11 +537,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetPasswordDataResult> getPasswordDataAsync(final GetPasswordDataRequest getPasswordDataRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetPasswordDataResult>() {
-            public GetPasswordDataResult call() throws Exception {
-                return getPasswordData(getPasswordDataRequest);
-		    }
-		});
+        return invokeAsync(getPasswordDataRequest, new GetPasswordDataRequestMarshaller(), new GetPasswordDataResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -615,12 +569,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> associateDhcpOptionsAsync(final AssociateDhcpOptionsRequest associateDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                associateDhcpOptions(associateDhcpOptionsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(associateDhcpOptionsRequest, new AssociateDhcpOptionsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -656,11 +605,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StopInstancesResult> stopInstancesAsync(final StopInstancesRequest stopInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StopInstancesResult>() {
-            public StopInstancesResult call() throws Exception {
-                return stopInstances(stopInstancesRequest);
-		    }
-		});
+        return invokeAsync(stopInstancesRequest, new StopInstancesRequestMarshaller(), new StopInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -704,11 +649,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportKeyPairResult> importKeyPairAsync(final ImportKeyPairRequest importKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportKeyPairResult>() {
-            public ImportKeyPairResult call() throws Exception {
-                return importKeyPair(importKeyPairRequest);
-		    }
-		});
+        return invokeAsync(importKeyPairRequest, new ImportKeyPairRequestMarshaller(), new ImportKeyPairResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -730,12 +671,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkInterfaceAsync(final DeleteNetworkInterfaceRequest deleteNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkInterface(deleteNetworkInterfaceRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteNetworkInterfaceRequest, new DeleteNetworkInterfaceRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -769,11 +705,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSecurityGroupResult> createSecurityGroupAsync(final CreateSecurityGroupRequest createSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSecurityGroupResult>() {
-            public CreateSecurityGroupResult call() throws Exception {
-                return createSecurityGroup(createSecurityGroupRequest);
-		    }
-		});
+        return invokeAsync(createSecurityGroupRequest, new CreateSecurityGroupRequestMarshaller(), new CreateSecurityGroupResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -810,11 +742,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotPriceHistoryResult> describeSpotPriceHistoryAsync(final DescribeSpotPriceHistoryRequest describeSpotPriceHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotPriceHistoryResult>() {
-            public DescribeSpotPriceHistoryResult call() throws Exception {
-                return describeSpotPriceHistory(describeSpotPriceHistoryRequest);
-		    }
-		});
+        return invokeAsync(describeSpotPriceHistoryRequest, new DescribeSpotPriceHistoryRequestMarshaller(), new DescribeSpotPriceHistoryResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -836,11 +764,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfacesResult> describeNetworkInterfacesAsync(final DescribeNetworkInterfacesRequest describeNetworkInterfacesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfacesResult>() {
-            public DescribeNetworkInterfacesResult call() throws Exception {
-                return describeNetworkInterfaces(describeNetworkInterfacesRequest);
-		    }
-		});
+        return invokeAsync(describeNetworkInterfacesRequest, new DescribeNetworkInterfacesRequestMarshaller(), new DescribeNetworkInterfacesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -865,11 +789,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRegionsResult> describeRegionsAsync(final DescribeRegionsRequest describeRegionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRegionsResult>() {
-            public DescribeRegionsResult call() throws Exception {
-                return describeRegions(describeRegionsRequest);
-		    }
-		});
+        return invokeAsync(describeRegionsRequest, new DescribeRegionsRequestMarshaller(), new DescribeRegionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -899,11 +819,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateDhcpOptionsResult> createDhcpOptionsAsync(final CreateDhcpOptionsRequest createDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateDhcpOptionsResult>() {
-            public CreateDhcpOptionsResult call() throws Exception {
-                return createDhcpOptions(createDhcpOptionsRequest);
-		    }
-		});
+        return invokeAsync(createDhcpOptionsRequest, new CreateDhcpOptionsRequestMarshaller(), new CreateDhcpOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -928,12 +844,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetSnapshotAttributeAsync(final ResetSnapshotAttributeRequest resetSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetSnapshotAttribute(resetSnapshotAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(resetSnapshotAttributeRequest, new ResetSnapshotAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -960,12 +871,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteAsync(final DeleteRouteRequest deleteRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRoute(deleteRouteRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteRouteRequest, new DeleteRouteRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1010,11 +916,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInternetGatewaysResult> describeInternetGatewaysAsync(final DescribeInternetGatewaysRequest describeInternetGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInternetGatewaysResult>() {
-            public DescribeInternetGatewaysResult call() throws Exception {
-                return describeInternetGateways(describeInternetGatewaysRequest);
-		    }
-		});
+        return invokeAsync(describeInternetGatewaysRequest, new DescribeInternetGatewaysRequestMarshaller(), new DescribeInternetGatewaysResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1035,11 +937,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportVolumeResult> importVolumeAsync(final ImportVolumeRequest importVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportVolumeResult>() {
-            public ImportVolumeResult call() throws Exception {
-                return importVolume(importVolumeRequest);
-		    }
-		});
+        return invokeAsync(importVolumeRequest, new ImportVolumeRequestMarshaller(), new ImportVolumeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1071,11 +969,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSecurityGroupsResult> describeSecurityGroupsAsync(final DescribeSecurityGroupsRequest describeSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSecurityGroupsResult>() {
-            public DescribeSecurityGroupsResult call() throws Exception {
-                return describeSecurityGroups(describeSecurityGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeSecurityGroupsRequest, new DescribeSecurityGroupsRequestMarshaller(), new DescribeSecurityGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1106,12 +1000,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachVpnGatewayAsync(final DetachVpnGatewayRequest detachVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachVpnGateway(detachVpnGatewayRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(detachVpnGatewayRequest, new DetachVpnGatewayRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1136,12 +1025,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deregisterImageAsync(final DeregisterImageRequest deregisterImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deregisterImage(deregisterImageRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deregisterImageRequest, new DeregisterImageRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1173,11 +1057,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotDatafeedSubscriptionResult> describeSpotDatafeedSubscriptionAsync(final DescribeSpotDatafeedSubscriptionRequest describeSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotDatafeedSubscriptionResult>() {
-            public DescribeSpotDatafeedSubscriptionResult call() throws Exception {
-                return describeSpotDatafeedSubscription(describeSpotDatafeedSubscriptionRequest);
-		    }
-		});
+        return invokeAsync(describeSpotDatafeedSubscriptionRequest, new DescribeSpotDatafeedSubscriptionRequestMarshaller(), new DescribeSpotDatafeedSubscriptionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1201,12 +1081,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteTagsAsync(final DeleteTagsRequest deleteTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteTags(deleteTagsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteTagsRequest, new DeleteTagsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1232,12 +1107,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSubnetAsync(final DeleteSubnetRequest deleteSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSubnet(deleteSubnetRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteSubnetRequest, new DeleteSubnetRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1263,11 +1133,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnGatewayResult> createVpnGatewayAsync(final CreateVpnGatewayRequest createVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnGatewayResult>() {
-            public CreateVpnGatewayResult call() throws Exception {
-                return createVpnGateway(createVpnGatewayRequest);
-		    }
-		});
+        return invokeAsync(createVpnGatewayRequest, new CreateVpnGatewayRequestMarshaller(), new CreateVpnGatewayResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1291,12 +1157,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> enableVolumeIOAsync(final EnableVolumeIORequest enableVolumeIORequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableVolumeIO(enableVolumeIORequest);
-                return null;
-		    }
-		});
+        return invokeAsync(enableVolumeIORequest, new EnableVolumeIORequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1325,12 +1186,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnGatewayAsync(final DeleteVpnGatewayRequest deleteVpnGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnGateway(deleteVpnGatewayRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteVpnGatewayRequest, new DeleteVpnGatewayRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1354,11 +1210,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachVolumeResult> attachVolumeAsync(final AttachVolumeRequest attachVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachVolumeResult>() {
-            public AttachVolumeResult call() throws Exception {
-                return attachVolume(attachVolumeRequest);
-		    }
-		});
+        return invokeAsync(attachVolumeRequest, new AttachVolumeRequestMarshaller(), new AttachVolumeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1384,11 +1236,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeLicensesResult> describeLicensesAsync(final DescribeLicensesRequest describeLicensesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLicensesResult>() {
-            public DescribeLicensesResult call() throws Exception {
-                return describeLicenses(describeLicensesRequest);
-		    }
-		});
+        return invokeAsync(describeLicensesRequest, new DescribeLicensesRequestMarshaller(), new DescribeLicensesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1412,11 +1260,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeStatusResult> describeVolumeStatusAsync(final DescribeVolumeStatusRequest describeVolumeStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeStatusResult>() {
-            public DescribeVolumeStatusResult call() throws Exception {
-                return describeVolumeStatus(describeVolumeStatusRequest);
-		    }
-		});
+        return invokeAsync(describeVolumeStatusRequest, new DescribeVolumeStatusRequestMarshaller(), new DescribeVolumeStatusResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1441,12 +1285,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> activateLicenseAsync(final ActivateLicenseRequest activateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                activateLicense(activateLicenseRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(activateLicenseRequest, new ActivateLicenseRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1474,12 +1313,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetImageAttributeAsync(final ResetImageAttributeRequest resetImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetImageAttribute(resetImageAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(resetImageAttributeRequest, new ResetImageAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1519,11 +1353,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnConnectionsResult> describeVpnConnectionsAsync(final DescribeVpnConnectionsRequest describeVpnConnectionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnConnectionsResult>() {
-            public DescribeVpnConnectionsResult call() throws Exception {
-                return describeVpnConnections(describeVpnConnectionsRequest);
-		    }
-		});
+        return invokeAsync(describeVpnConnectionsRequest, new DescribeVpnConnectionsRequestMarshaller(), new DescribeVpnConnectionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1557,11 +1387,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-		    }
-		});
+        return invokeAsync(createSnapshotRequest, new CreateSnapshotRequestMarshaller(), new CreateSnapshotResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1586,12 +1412,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVolume(deleteVolumeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteVolumeRequest, new DeleteVolumeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1613,11 +1434,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkInterfaceResult> createNetworkInterfaceAsync(final CreateNetworkInterfaceRequest createNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkInterfaceResult>() {
-            public CreateNetworkInterfaceResult call() throws Exception {
-                return createNetworkInterface(createNetworkInterfaceRequest);
-		    }
-		});
+        return invokeAsync(createNetworkInterfaceRequest, new CreateNetworkInterfaceRequestMarshaller(), new CreateNetworkInterfaceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1654,11 +1471,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpcsResult> describeVpcsAsync(final DescribeVpcsRequest describeVpcsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpcsResult>() {
-            public DescribeVpcsResult call() throws Exception {
-                return describeVpcs(describeVpcsRequest);
-		    }
-		});
+        return invokeAsync(describeVpcsRequest, new DescribeVpcsRequestMarshaller(), new DescribeVpcsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1684,12 +1497,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deactivateLicenseAsync(final DeactivateLicenseRequest deactivateLicenseRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deactivateLicense(deactivateLicenseRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deactivateLicenseRequest, new DeactivateLicenseRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1720,11 +1528,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateAddressResult> associateAddressAsync(final AssociateAddressRequest associateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateAddressResult>() {
-            public AssociateAddressResult call() throws Exception {
-                return associateAddress(associateAddressRequest);
-		    }
-		});
+        return invokeAsync(associateAddressRequest, new AssociateAddressRequestMarshaller(), new AssociateAddressResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1745,12 +1549,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> cancelConversionTaskAsync(final CancelConversionTaskRequest cancelConversionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                cancelConversionTask(cancelConversionTaskRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(cancelConversionTaskRequest, new CancelConversionTaskRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1782,12 +1581,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteCustomerGatewayAsync(final DeleteCustomerGatewayRequest deleteCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCustomerGateway(deleteCustomerGatewayRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteCustomerGatewayRequest, new DeleteCustomerGatewayRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1831,12 +1625,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createNetworkAclEntryAsync(final CreateNetworkAclEntryRequest createNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createNetworkAclEntry(createNetworkAclEntryRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createNetworkAclEntryRequest, new CreateNetworkAclEntryRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1869,12 +1658,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachInternetGatewayAsync(final DetachInternetGatewayRequest detachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachInternetGateway(detachInternetGatewayRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(detachInternetGatewayRequest, new DetachInternetGatewayRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1902,11 +1686,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateRouteTableResult> createRouteTableAsync(final CreateRouteTableRequest createRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateRouteTableResult>() {
-            public CreateRouteTableResult call() throws Exception {
-                return createRouteTable(createRouteTableRequest);
-		    }
-		});
+        return invokeAsync(createRouteTableRequest, new CreateRouteTableRequestMarshaller(), new CreateRouteTableResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1932,11 +1712,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumesResult> describeVolumesAsync(final DescribeVolumesRequest describeVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumesResult>() {
-            public DescribeVolumesResult call() throws Exception {
-                return describeVolumes(describeVolumesRequest);
-		    }
-		});
+        return invokeAsync(describeVolumesRequest, new DescribeVolumesRequestMarshaller(), new DescribeVolumesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1957,12 +1733,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> reportInstanceStatusAsync(final ReportInstanceStatusRequest reportInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                reportInstanceStatus(reportInstanceStatusRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(reportInstanceStatusRequest, new ReportInstanceStatusRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2006,11 +1777,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeRouteTablesResult> describeRouteTablesAsync(final DescribeRouteTablesRequest describeRouteTablesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeRouteTablesResult>() {
-            public DescribeRouteTablesResult call() throws Exception {
-                return describeRouteTables(describeRouteTablesRequest);
-		    }
-		});
+        return invokeAsync(describeRouteTablesRequest, new DescribeRouteTablesRequestMarshaller(), new DescribeRouteTablesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2042,11 +1809,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeDhcpOptionsResult> describeDhcpOptionsAsync(final DescribeDhcpOptionsRequest describeDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDhcpOptionsResult>() {
-            public DescribeDhcpOptionsResult call() throws Exception {
-                return describeDhcpOptions(describeDhcpOptionsRequest);
-		    }
-		});
+        return invokeAsync(describeDhcpOptionsRequest, new DescribeDhcpOptionsRequestMarshaller(), new DescribeDhcpOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2070,11 +1833,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<MonitorInstancesResult> monitorInstancesAsync(final MonitorInstancesRequest monitorInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<MonitorInstancesResult>() {
-            public MonitorInstancesResult call() throws Exception {
-                return monitorInstances(monitorInstancesRequest);
-		    }
-		});
+        return invokeAsync(monitorInstancesRequest, new MonitorInstancesRequestMarshaller(), new MonitorInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2117,11 +1876,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkAclsResult> describeNetworkAclsAsync(final DescribeNetworkAclsRequest describeNetworkAclsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkAclsResult>() {
-            public DescribeNetworkAclsResult call() throws Exception {
-                return describeNetworkAcls(describeNetworkAclsRequest);
-		    }
-		});
+        return invokeAsync(describeNetworkAclsRequest, new DescribeNetworkAclsRequestMarshaller(), new DescribeNetworkAclsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2148,11 +1903,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeBundleTasksResult> describeBundleTasksAsync(final DescribeBundleTasksRequest describeBundleTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBundleTasksResult>() {
-            public DescribeBundleTasksResult call() throws Exception {
-                return describeBundleTasks(describeBundleTasksRequest);
-		    }
-		});
+        return invokeAsync(describeBundleTasksRequest, new DescribeBundleTasksRequestMarshaller(), new DescribeBundleTasksResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2173,11 +1924,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ImportInstanceResult> importInstanceAsync(final ImportInstanceRequest importInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ImportInstanceResult>() {
-            public ImportInstanceResult call() throws Exception {
-                return importInstance(importInstanceRequest);
-		    }
-		});
+        return invokeAsync(importInstanceRequest, new ImportInstanceRequestMarshaller(), new ImportInstanceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2215,12 +1962,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupIngressAsync(final RevokeSecurityGroupIngressRequest revokeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupIngress(revokeSecurityGroupIngressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(revokeSecurityGroupIngressRequest, new RevokeSecurityGroupIngressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2251,11 +1993,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<GetConsoleOutputResult> getConsoleOutputAsync(final GetConsoleOutputRequest getConsoleOutputRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetConsoleOutputResult>() {
-            public GetConsoleOutputResult call() throws Exception {
-                return getConsoleOutput(getConsoleOutputRequest);
-		    }
-		});
+        return invokeAsync(getConsoleOutputRequest, new GetConsoleOutputRequestMarshaller(), new GetConsoleOutputResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2284,11 +2022,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateInternetGatewayResult> createInternetGatewayAsync(final CreateInternetGatewayRequest createInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateInternetGatewayResult>() {
-            public CreateInternetGatewayResult call() throws Exception {
-                return createInternetGateway(createInternetGatewayRequest);
-		    }
-		});
+        return invokeAsync(createInternetGatewayRequest, new CreateInternetGatewayRequestMarshaller(), new CreateInternetGatewayResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2310,12 +2044,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> detachNetworkInterfaceAsync(final DetachNetworkInterfaceRequest detachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                detachNetworkInterface(detachNetworkInterfaceRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(detachNetworkInterfaceRequest, new DetachNetworkInterfaceRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2339,12 +2068,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyImageAttributeAsync(final ModifyImageAttributeRequest modifyImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyImageAttribute(modifyImageAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(modifyImageAttributeRequest, new ModifyImageAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2389,11 +2113,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateCustomerGatewayResult> createCustomerGatewayAsync(final CreateCustomerGatewayRequest createCustomerGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateCustomerGatewayResult>() {
-            public CreateCustomerGatewayResult call() throws Exception {
-                return createCustomerGateway(createCustomerGatewayRequest);
-		    }
-		});
+        return invokeAsync(createCustomerGatewayRequest, new CreateCustomerGatewayRequestMarshaller(), new CreateCustomerGatewayResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2426,11 +2146,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSpotDatafeedSubscriptionResult> createSpotDatafeedSubscriptionAsync(final CreateSpotDatafeedSubscriptionRequest createSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSpotDatafeedSubscriptionResult>() {
-            public CreateSpotDatafeedSubscriptionResult call() throws Exception {
-                return createSpotDatafeedSubscription(createSpotDatafeedSubscriptionRequest);
-		    }
-		});
+        return invokeAsync(createSpotDatafeedSubscriptionRequest, new CreateSpotDatafeedSubscriptionRequestMarshaller(), new CreateSpotDatafeedSubscriptionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2457,12 +2173,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> attachInternetGatewayAsync(final AttachInternetGatewayRequest attachInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                attachInternetGateway(attachInternetGatewayRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(attachInternetGatewayRequest, new AttachInternetGatewayRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2498,12 +2209,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpnConnectionAsync(final DeleteVpnConnectionRequest deleteVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpnConnection(deleteVpnConnectionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteVpnConnectionRequest, new DeleteVpnConnectionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2525,11 +2231,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeConversionTasksResult> describeConversionTasksAsync(final DescribeConversionTasksRequest describeConversionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConversionTasksResult>() {
-            public DescribeConversionTasksResult call() throws Exception {
-                return describeConversionTasks(describeConversionTasksRequest);
-		    }
-		});
+        return invokeAsync(describeConversionTasksRequest, new DescribeConversionTasksRequestMarshaller(), new DescribeConversionTasksResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2572,11 +2274,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpnConnectionResult> createVpnConnectionAsync(final CreateVpnConnectionRequest createVpnConnectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpnConnectionResult>() {
-            public CreateVpnConnectionResult call() throws Exception {
-                return createVpnConnection(createVpnConnectionRequest);
-		    }
-		});
+        return invokeAsync(createVpnConnectionRequest, new CreateVpnConnectionRequestMarshaller(), new CreateVpnConnectionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2602,11 +2300,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceAttributeResult> describeInstanceAttributeAsync(final DescribeInstanceAttributeRequest describeInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceAttributeResult>() {
-            public DescribeInstanceAttributeResult call() throws Exception {
-                return describeInstanceAttribute(describeInstanceAttributeRequest);
-		    }
-		});
+        return invokeAsync(describeInstanceAttributeRequest, new DescribeInstanceAttributeRequestMarshaller(), new DescribeInstanceAttributeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2644,11 +2338,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSubnetsResult> describeSubnetsAsync(final DescribeSubnetsRequest describeSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSubnetsResult>() {
-            public DescribeSubnetsResult call() throws Exception {
-                return describeSubnets(describeSubnetsRequest);
-		    }
-		});
+        return invokeAsync(describeSubnetsRequest, new DescribeSubnetsRequestMarshaller(), new DescribeSubnetsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2721,11 +2411,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RunInstancesResult> runInstancesAsync(final RunInstancesRequest runInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunInstancesResult>() {
-            public RunInstancesResult call() throws Exception {
-                return runInstances(runInstancesRequest);
-		    }
-		});
+        return invokeAsync(runInstancesRequest, new RunInstancesRequestMarshaller(), new RunInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2751,11 +2437,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribePlacementGroupsResult> describePlacementGroupsAsync(final DescribePlacementGroupsRequest describePlacementGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribePlacementGroupsResult>() {
-            public DescribePlacementGroupsResult call() throws Exception {
-                return describePlacementGroups(describePlacementGroupsRequest);
-		    }
-		});
+        return invokeAsync(describePlacementGroupsRequest, new DescribePlacementGroupsRequestMarshaller(), new DescribePlacementGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2789,11 +2471,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AssociateRouteTableResult> associateRouteTableAsync(final AssociateRouteTableRequest associateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AssociateRouteTableResult>() {
-            public AssociateRouteTableResult call() throws Exception {
-                return associateRouteTable(associateRouteTableRequest);
-		    }
-		});
+        return invokeAsync(associateRouteTableRequest, new AssociateRouteTableRequestMarshaller(), new AssociateRouteTableResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2830,11 +2508,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstancesResult> describeInstancesAsync(final DescribeInstancesRequest describeInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstancesResult>() {
-            public DescribeInstancesResult call() throws Exception {
-                return describeInstances(describeInstancesRequest);
-		    }
-		});
+        return invokeAsync(describeInstancesRequest, new DescribeInstancesRequestMarshaller(), new DescribeInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2861,12 +2535,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclAsync(final DeleteNetworkAclRequest deleteNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAcl(deleteNetworkAclRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteNetworkAclRequest, new DeleteNetworkAclRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2888,12 +2557,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyVolumeAttributeAsync(final ModifyVolumeAttributeRequest modifyVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyVolumeAttribute(modifyVolumeAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(modifyVolumeAttributeRequest, new ModifyVolumeAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2964,11 +2628,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImagesResult> describeImagesAsync(final DescribeImagesRequest describeImagesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImagesResult>() {
-            public DescribeImagesResult call() throws Exception {
-                return describeImages(describeImagesRequest);
-		    }
-		});
+        return invokeAsync(describeImagesRequest, new DescribeImagesRequestMarshaller(), new DescribeImagesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3002,11 +2662,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<StartInstancesResult> startInstancesAsync(final StartInstancesRequest startInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartInstancesResult>() {
-            public StartInstancesResult call() throws Exception {
-                return startInstances(startInstancesRequest);
-		    }
-		});
+        return invokeAsync(startInstancesRequest, new StartInstancesRequestMarshaller(), new StartInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3031,12 +2687,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyInstanceAttributeAsync(final ModifyInstanceAttributeRequest modifyInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceAttribute(modifyInstanceAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(modifyInstanceAttributeRequest, new ModifyInstanceAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3063,12 +2714,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteDhcpOptionsAsync(final DeleteDhcpOptionsRequest deleteDhcpOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDhcpOptions(deleteDhcpOptionsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteDhcpOptionsRequest, new DeleteDhcpOptionsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3107,12 +2753,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> authorizeSecurityGroupIngressAsync(final AuthorizeSecurityGroupIngressRequest authorizeSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                authorizeSecurityGroupIngress(authorizeSecurityGroupIngressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(authorizeSecurityGroupIngressRequest, new AuthorizeSecurityGroupIngressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3171,11 +2812,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSpotInstanceRequestsResult> describeSpotInstanceRequestsAsync(final DescribeSpotInstanceRequestsRequest describeSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSpotInstanceRequestsResult>() {
-            public DescribeSpotInstanceRequestsResult call() throws Exception {
-                return describeSpotInstanceRequests(describeSpotInstanceRequestsRequest);
-		    }
-		});
+        return invokeAsync(describeSpotInstanceRequestsRequest, new DescribeSpotInstanceRequestsRequestMarshaller(), new DescribeSpotInstanceRequestsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3208,11 +2845,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVpcResult> createVpcAsync(final CreateVpcRequest createVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVpcResult>() {
-            public CreateVpcResult call() throws Exception {
-                return createVpc(createVpcRequest);
-		    }
-		});
+        return invokeAsync(createVpcRequest, new CreateVpcRequestMarshaller(), new CreateVpcResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3248,11 +2881,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeCustomerGatewaysResult> describeCustomerGatewaysAsync(final DescribeCustomerGatewaysRequest describeCustomerGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCustomerGatewaysResult>() {
-            public DescribeCustomerGatewaysResult call() throws Exception {
-                return describeCustomerGateways(describeCustomerGatewaysRequest);
-		    }
-		});
+        return invokeAsync(describeCustomerGatewaysRequest, new DescribeCustomerGatewaysRequestMarshaller(), new DescribeCustomerGatewaysResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3300,12 +2929,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createRouteAsync(final CreateRouteRequest createRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createRoute(createRouteRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createRouteRequest, new CreateRouteRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3328,12 +2952,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifyNetworkInterfaceAttributeAsync(final ModifyNetworkInterfaceAttributeRequest modifyNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyNetworkInterfaceAttribute(modifyNetworkInterfaceAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(modifyNetworkInterfaceAttributeRequest, new ModifyNetworkInterfaceAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3361,12 +2980,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteRouteTableAsync(final DeleteRouteTableRequest deleteRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteRouteTable(deleteRouteTableRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteRouteTableRequest, new DeleteRouteTableRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3389,11 +3003,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeNetworkInterfaceAttributeResult> describeNetworkInterfaceAttributeAsync(final DescribeNetworkInterfaceAttributeRequest describeNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeNetworkInterfaceAttributeResult>() {
-            public DescribeNetworkInterfaceAttributeResult call() throws Exception {
-                return describeNetworkInterfaceAttribute(describeNetworkInterfaceAttributeRequest);
-		    }
-		});
+        return invokeAsync(describeNetworkInterfaceAttributeRequest, new DescribeNetworkInterfaceAttributeRequestMarshaller(), new DescribeNetworkInterfaceAttributeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3428,11 +3038,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RequestSpotInstancesResult> requestSpotInstancesAsync(final RequestSpotInstancesRequest requestSpotInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RequestSpotInstancesResult>() {
-            public RequestSpotInstancesResult call() throws Exception {
-                return requestSpotInstances(requestSpotInstancesRequest);
-		    }
-		});
+        return invokeAsync(requestSpotInstancesRequest, new RequestSpotInstancesRequestMarshaller(), new RequestSpotInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3458,12 +3064,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createTagsAsync(final CreateTagsRequest createTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createTags(createTagsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createTagsRequest, new CreateTagsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3485,11 +3086,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AttachNetworkInterfaceResult> attachNetworkInterfaceAsync(final AttachNetworkInterfaceRequest attachNetworkInterfaceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachNetworkInterfaceResult>() {
-            public AttachNetworkInterfaceResult call() throws Exception {
-                return attachNetworkInterface(attachNetworkInterfaceRequest);
-		    }
-		});
+        return invokeAsync(attachNetworkInterfaceRequest, new AttachNetworkInterfaceRequestMarshaller(), new AttachNetworkInterfaceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3511,11 +3108,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVolumeAttributeResult> describeVolumeAttributeAsync(final DescribeVolumeAttributeRequest describeVolumeAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVolumeAttributeResult>() {
-            public DescribeVolumeAttributeResult call() throws Exception {
-                return describeVolumeAttribute(describeVolumeAttributeRequest);
-		    }
-		});
+        return invokeAsync(describeVolumeAttributeRequest, new DescribeVolumeAttributeRequestMarshaller(), new DescribeVolumeAttributeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3542,12 +3135,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceRouteAsync(final ReplaceRouteRequest replaceRouteRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceRoute(replaceRouteRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(replaceRouteRequest, new ReplaceRouteRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3571,11 +3159,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeTagsResult> describeTagsAsync(final DescribeTagsRequest describeTagsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeTagsResult>() {
-            public DescribeTagsResult call() throws Exception {
-                return describeTags(describeTagsRequest);
-		    }
-		});
+        return invokeAsync(describeTagsRequest, new DescribeTagsRequestMarshaller(), new DescribeTagsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3603,11 +3187,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelBundleTaskResult> cancelBundleTaskAsync(final CancelBundleTaskRequest cancelBundleTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelBundleTaskResult>() {
-            public CancelBundleTaskResult call() throws Exception {
-                return cancelBundleTask(cancelBundleTaskRequest);
-		    }
-		});
+        return invokeAsync(cancelBundleTaskRequest, new CancelBundleTaskRequestMarshaller(), new CancelBundleTaskResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3644,11 +3224,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CancelSpotInstanceRequestsResult> cancelSpotInstanceRequestsAsync(final CancelSpotInstanceRequestsRequest cancelSpotInstanceRequestsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelSpotInstanceRequestsResult>() {
-            public CancelSpotInstanceRequestsResult call() throws Exception {
-                return cancelSpotInstanceRequests(cancelSpotInstanceRequestsRequest);
-		    }
-		});
+        return invokeAsync(cancelSpotInstanceRequestsRequest, new CancelSpotInstanceRequestsRequestMarshaller(), new CancelSpotInstanceRequestsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3678,11 +3254,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<PurchaseReservedInstancesOfferingResult> purchaseReservedInstancesOfferingAsync(final PurchaseReservedInstancesOfferingRequest purchaseReservedInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PurchaseReservedInstancesOfferingResult>() {
-            public PurchaseReservedInstancesOfferingResult call() throws Exception {
-                return purchaseReservedInstancesOffering(purchaseReservedInstancesOfferingRequest);
-		    }
-		});
+        return invokeAsync(purchaseReservedInstancesOfferingRequest, new PurchaseReservedInstancesOfferingRequestMarshaller(), new PurchaseReservedInstancesOfferingResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3707,12 +3279,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> modifySnapshotAttributeAsync(final ModifySnapshotAttributeRequest modifySnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifySnapshotAttribute(modifySnapshotAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(modifySnapshotAttributeRequest, new ModifySnapshotAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3742,11 +3309,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<TerminateInstancesResult> terminateInstancesAsync(final TerminateInstancesRequest terminateInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateInstancesResult>() {
-            public TerminateInstancesResult call() throws Exception {
-                return terminateInstances(terminateInstancesRequest);
-		    }
-		});
+        return invokeAsync(terminateInstancesRequest, new TerminateInstancesRequestMarshaller(), new TerminateInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3778,12 +3341,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSpotDatafeedSubscriptionAsync(final DeleteSpotDatafeedSubscriptionRequest deleteSpotDatafeedSubscriptionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSpotDatafeedSubscription(deleteSpotDatafeedSubscriptionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteSpotDatafeedSubscriptionRequest, new DeleteSpotDatafeedSubscriptionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3810,12 +3368,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteInternetGatewayAsync(final DeleteInternetGatewayRequest deleteInternetGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteInternetGateway(deleteInternetGatewayRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteInternetGatewayRequest, new DeleteInternetGatewayRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -3841,11 +3394,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotAttributeResult> describeSnapshotAttributeAsync(final DescribeSnapshotAttributeRequest describeSnapshotAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotAttributeResult>() {
-            public DescribeSnapshotAttributeResult call() throws Exception {
-                return describeSnapshotAttribute(describeSnapshotAttributeRequest);
-		    }
-		});
+        return invokeAsync(describeSnapshotAttributeRequest, new DescribeSnapshotAttributeRequestMarshaller(), new DescribeSnapshotAttributeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3880,11 +3429,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceRouteTableAssociationResult> replaceRouteTableAssociationAsync(final ReplaceRouteTableAssociationRequest replaceRouteTableAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceRouteTableAssociationResult>() {
-            public ReplaceRouteTableAssociationResult call() throws Exception {
-                return replaceRouteTableAssociation(replaceRouteTableAssociationRequest);
-		    }
-		});
+        return invokeAsync(replaceRouteTableAssociationRequest, new ReplaceRouteTableAssociationRequestMarshaller(), new ReplaceRouteTableAssociationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3909,11 +3454,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeAddressesResult> describeAddressesAsync(final DescribeAddressesRequest describeAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeAddressesResult>() {
-            public DescribeAddressesResult call() throws Exception {
-                return describeAddresses(describeAddressesRequest);
-		    }
-		});
+        return invokeAsync(describeAddressesRequest, new DescribeAddressesRequestMarshaller(), new DescribeAddressesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3939,11 +3480,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeImageAttributeResult> describeImageAttributeAsync(final DescribeImageAttributeRequest describeImageAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeImageAttributeResult>() {
-            public DescribeImageAttributeResult call() throws Exception {
-                return describeImageAttribute(describeImageAttributeRequest);
-		    }
-		});
+        return invokeAsync(describeImageAttributeRequest, new DescribeImageAttributeRequestMarshaller(), new DescribeImageAttributeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -3970,11 +3507,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeKeyPairsResult> describeKeyPairsAsync(final DescribeKeyPairsRequest describeKeyPairsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeKeyPairsResult>() {
-            public DescribeKeyPairsResult call() throws Exception {
-                return describeKeyPairs(describeKeyPairsRequest);
-		    }
-		});
+        return invokeAsync(describeKeyPairsRequest, new DescribeKeyPairsRequestMarshaller(), new DescribeKeyPairsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4007,11 +3540,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ConfirmProductInstanceResult> confirmProductInstanceAsync(final ConfirmProductInstanceRequest confirmProductInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfirmProductInstanceResult>() {
-            public ConfirmProductInstanceResult call() throws Exception {
-                return confirmProductInstance(confirmProductInstanceRequest);
-		    }
-		});
+        return invokeAsync(confirmProductInstanceRequest, new ConfirmProductInstanceRequestMarshaller(), new ConfirmProductInstanceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4043,12 +3572,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateRouteTableAsync(final DisassociateRouteTableRequest disassociateRouteTableRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateRouteTable(disassociateRouteTableRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(disassociateRouteTableRequest, new DisassociateRouteTableRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4092,12 +3616,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> revokeSecurityGroupEgressAsync(final RevokeSecurityGroupEgressRequest revokeSecurityGroupEgressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                revokeSecurityGroupEgress(revokeSecurityGroupEgressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(revokeSecurityGroupEgressRequest, new RevokeSecurityGroupEgressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4124,12 +3643,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteNetworkAclEntryAsync(final DeleteNetworkAclEntryRequest deleteNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteNetworkAclEntry(deleteNetworkAclEntryRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteNetworkAclEntryRequest, new DeleteNetworkAclEntryRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4153,11 +3667,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateVolumeResult> createVolumeAsync(final CreateVolumeRequest createVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVolumeResult>() {
-            public CreateVolumeResult call() throws Exception {
-                return createVolume(createVolumeRequest);
-		    }
-		});
+        return invokeAsync(createVolumeRequest, new CreateVolumeRequestMarshaller(), new CreateVolumeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4248,11 +3758,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeInstanceStatusResult> describeInstanceStatusAsync(final DescribeInstanceStatusRequest describeInstanceStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceStatusResult>() {
-            public DescribeInstanceStatusResult call() throws Exception {
-                return describeInstanceStatus(describeInstanceStatusRequest);
-		    }
-		});
+        return invokeAsync(describeInstanceStatusRequest, new DescribeInstanceStatusRequestMarshaller(), new DescribeInstanceStatusResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4291,11 +3797,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeVpnGatewaysResult> describeVpnGatewaysAsync(final DescribeVpnGatewaysRequest describeVpnGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeVpnGatewaysResult>() {
-            public DescribeVpnGatewaysResult call() throws Exception {
-                return describeVpnGateways(describeVpnGatewaysRequest);
-		    }
-		});
+        return invokeAsync(describeVpnGatewaysRequest, new DescribeVpnGatewaysRequestMarshaller(), new DescribeVpnGatewaysResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4333,11 +3835,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateSubnetResult> createSubnetAsync(final CreateSubnetRequest createSubnetRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSubnetResult>() {
-            public CreateSubnetResult call() throws Exception {
-                return createSubnet(createSubnetRequest);
-		    }
-		});
+        return invokeAsync(createSubnetRequest, new CreateSubnetRequestMarshaller(), new CreateSubnetResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4367,11 +3865,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeReservedInstancesOfferingsResult> describeReservedInstancesOfferingsAsync(final DescribeReservedInstancesOfferingsRequest describeReservedInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedInstancesOfferingsResult>() {
-            public DescribeReservedInstancesOfferingsResult call() throws Exception {
-                return describeReservedInstancesOfferings(describeReservedInstancesOfferingsRequest);
-		    }
-		});
+        return invokeAsync(describeReservedInstancesOfferingsRequest, new DescribeReservedInstancesOfferingsRequestMarshaller(), new DescribeReservedInstancesOfferingsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4396,12 +3890,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteSnapshotAsync(final DeleteSnapshotRequest deleteSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSnapshot(deleteSnapshotRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteSnapshotRequest, new DeleteSnapshotRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4429,11 +3918,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<ReplaceNetworkAclAssociationResult> replaceNetworkAclAssociationAsync(final ReplaceNetworkAclAssociationRequest replaceNetworkAclAssociationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReplaceNetworkAclAssociationResult>() {
-            public ReplaceNetworkAclAssociationResult call() throws Exception {
-                return replaceNetworkAclAssociation(replaceNetworkAclAssociationRequest);
-		    }
-		});
+        return invokeAsync(replaceNetworkAclAssociationRequest, new ReplaceNetworkAclAssociationRequestMarshaller(), new ReplaceNetworkAclAssociationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4460,12 +3945,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> disassociateAddressAsync(final DisassociateAddressRequest disassociateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                disassociateAddress(disassociateAddressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(disassociateAddressRequest, new DisassociateAddressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4491,12 +3971,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> createPlacementGroupAsync(final CreatePlacementGroupRequest createPlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createPlacementGroup(createPlacementGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createPlacementGroupRequest, new CreatePlacementGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4524,11 +3999,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<BundleInstanceResult> bundleInstanceAsync(final BundleInstanceRequest bundleInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<BundleInstanceResult>() {
-            public BundleInstanceResult call() throws Exception {
-                return bundleInstance(bundleInstanceRequest);
-		    }
-		});
+        return invokeAsync(bundleInstanceRequest, new BundleInstanceRequestMarshaller(), new BundleInstanceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4553,12 +4024,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deletePlacementGroupAsync(final DeletePlacementGroupRequest deletePlacementGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deletePlacementGroup(deletePlacementGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deletePlacementGroupRequest, new DeletePlacementGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4586,12 +4052,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> deleteVpcAsync(final DeleteVpcRequest deleteVpcRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVpc(deleteVpcRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteVpcRequest, new DeleteVpcRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4616,11 +4077,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<AllocateAddressResult> allocateAddressAsync(final AllocateAddressRequest allocateAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AllocateAddressResult>() {
-            public AllocateAddressResult call() throws Exception {
-                return allocateAddress(allocateAddressRequest);
-		    }
-		});
+        return invokeAsync(allocateAddressRequest, new AllocateAddressRequestMarshaller(), new AllocateAddressResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4659,12 +4116,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> releaseAddressAsync(final ReleaseAddressRequest releaseAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                releaseAddress(releaseAddressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(releaseAddressRequest, new ReleaseAddressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4689,12 +4141,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetInstanceAttributeAsync(final ResetInstanceAttributeRequest resetInstanceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetInstanceAttribute(resetInstanceAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(resetInstanceAttributeRequest, new ResetInstanceAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4720,11 +4167,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateKeyPairResult> createKeyPairAsync(final CreateKeyPairRequest createKeyPairRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateKeyPairResult>() {
-            public CreateKeyPairResult call() throws Exception {
-                return createKeyPair(createKeyPairRequest);
-		    }
-		});
+        return invokeAsync(createKeyPairRequest, new CreateKeyPairRequestMarshaller(), new CreateKeyPairResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4751,12 +4194,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> replaceNetworkAclEntryAsync(final ReplaceNetworkAclEntryRequest replaceNetworkAclEntryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                replaceNetworkAclEntry(replaceNetworkAclEntryRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(replaceNetworkAclEntryRequest, new ReplaceNetworkAclEntryRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -4784,11 +4222,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<DescribeSnapshotsResult> describeSnapshotsAsync(final DescribeSnapshotsRequest describeSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotsResult>() {
-            public DescribeSnapshotsResult call() throws Exception {
-                return describeSnapshots(describeSnapshotsRequest);
-		    }
-		});
+        return invokeAsync(describeSnapshotsRequest, new DescribeSnapshotsRequestMarshaller(), new DescribeSnapshotsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4815,11 +4249,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<CreateNetworkAclResult> createNetworkAclAsync(final CreateNetworkAclRequest createNetworkAclRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateNetworkAclResult>() {
-            public CreateNetworkAclResult call() throws Exception {
-                return createNetworkAcl(createNetworkAclRequest);
-		    }
-		});
+        return invokeAsync(createNetworkAclRequest, new CreateNetworkAclRequestMarshaller(), new CreateNetworkAclResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4859,11 +4289,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<RegisterImageResult> registerImageAsync(final RegisterImageRequest registerImageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterImageResult>() {
-            public RegisterImageResult call() throws Exception {
-                return registerImage(registerImageRequest);
-		    }
-		});
+        return invokeAsync(registerImageRequest, new RegisterImageRequestMarshaller(), new RegisterImageResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -4886,12 +4312,7 @@ public class AmazonEC2AsyncClient extends AmazonEC2Client
      */
     public Future<Void> resetNetworkInterfaceAttributeAsync(final ResetNetworkInterfaceAttributeRequest resetNetworkInterfaceAttributeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resetNetworkInterfaceAttribute(resetNetworkInterfaceAttributeRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(resetNetworkInterfaceAttributeRequest, new ResetNetworkInterfaceAttributeRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
 }
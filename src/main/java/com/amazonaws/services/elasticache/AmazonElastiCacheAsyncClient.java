@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.elasticache;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.elasticache.model.*;
+import com.amazonaws.services.elasticache.model.transform.*;
 
 
 /**
@@ -237,11 +239,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ModifyCacheParameterGroupResult> modifyCacheParameterGroupAsync(final ModifyCacheParameterGroupRequest modifyCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyCacheParameterGroupResult>() {
-            public ModifyCacheParameterGroupResult call() throws Exception {
-                return modifyCacheParameterGroup(modifyCacheParameterGroupRequest);
-		    }
-		});
+        return invokeAsync(modifyCacheParameterGroupRequest, new ModifyCacheParameterGroupRequestMarshaller(), new ModifyCacheParameterGroupResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -274,11 +272,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> authorizeCacheSecurityGroupIngressAsync(final AuthorizeCacheSecurityGroupIngressRequest authorizeCacheSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
-            public CacheSecurityGroup call() throws Exception {
-                return authorizeCacheSecurityGroupIngress(authorizeCacheSecurityGroupIngressRequest);
-		    }
-		});
+        return invokeAsync(authorizeCacheSecurityGroupIngressRequest, new AuthorizeCacheSecurityGroupIngressRequestMarshaller(), new CacheSecurityGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -310,11 +304,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> rebootCacheClusterAsync(final RebootCacheClusterRequest rebootCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return rebootCacheCluster(rebootCacheClusterRequest);
-		    }
-		});
+        return invokeAsync(rebootCacheClusterRequest, new RebootCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -340,11 +330,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReservedCacheNodesOfferingsResult> describeReservedCacheNodesOfferingsAsync(final DescribeReservedCacheNodesOfferingsRequest describeReservedCacheNodesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesOfferingsResult>() {
-            public DescribeReservedCacheNodesOfferingsResult call() throws Exception {
-                return describeReservedCacheNodesOfferings(describeReservedCacheNodesOfferingsRequest);
-		    }
-		});
+        return invokeAsync(describeReservedCacheNodesOfferingsRequest, new DescribeReservedCacheNodesOfferingsRequestMarshaller(), new DescribeReservedCacheNodesOfferingsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -373,11 +359,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> deleteCacheClusterAsync(final DeleteCacheClusterRequest deleteCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return deleteCacheCluster(deleteCacheClusterRequest);
-		    }
-		});
+        return invokeAsync(deleteCacheClusterRequest, new DeleteCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -402,11 +384,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> createCacheClusterAsync(final CreateCacheClusterRequest createCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return createCacheCluster(createCacheClusterRequest);
-		    }
-		});
+        return invokeAsync(createCacheClusterRequest, new CreateCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -433,11 +411,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> revokeCacheSecurityGroupIngressAsync(final RevokeCacheSecurityGroupIngressRequest revokeCacheSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
-            public CacheSecurityGroup call() throws Exception {
-                return revokeCacheSecurityGroupIngress(revokeCacheSecurityGroupIngressRequest);
-		    }
-		});
+        return invokeAsync(revokeCacheSecurityGroupIngressRequest, new RevokeCacheSecurityGroupIngressRequestMarshaller(), new CacheSecurityGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -464,11 +438,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheParameterGroup> createCacheParameterGroupAsync(final CreateCacheParameterGroupRequest createCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheParameterGroup>() {
-            public CacheParameterGroup call() throws Exception {
-                return createCacheParameterGroup(createCacheParameterGroupRequest);
-		    }
-		});
+        return invokeAsync(createCacheParameterGroupRequest, new CreateCacheParameterGroupRequestMarshaller(), new CacheParameterGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -496,11 +466,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-		    }
-		});
+        return invokeAsync(describeEventsRequest, new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -527,11 +493,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeReservedCacheNodesResult> describeReservedCacheNodesAsync(final DescribeReservedCacheNodesRequest describeReservedCacheNodesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedCacheNodesResult>() {
-            public DescribeReservedCacheNodesResult call() throws Exception {
-                return describeReservedCacheNodes(describeReservedCacheNodesRequest);
-		    }
-		});
+        return invokeAsync(describeReservedCacheNodesRequest, new DescribeReservedCacheNodesRequestMarshaller(), new DescribeReservedCacheNodesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -559,11 +521,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheParameterGroupsResult> describeCacheParameterGroupsAsync(final DescribeCacheParameterGroupsRequest describeCacheParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParameterGroupsResult>() {
-            public DescribeCacheParameterGroupsResult call() throws Exception {
-                return describeCacheParameterGroups(describeCacheParameterGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeCacheParameterGroupsRequest, new DescribeCacheParameterGroupsRequestMarshaller(), new DescribeCacheParameterGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -590,12 +548,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheParameterGroupAsync(final DeleteCacheParameterGroupRequest deleteCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCacheParameterGroup(deleteCacheParameterGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteCacheParameterGroupRequest, new DeleteCacheParameterGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -625,12 +578,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<Void> deleteCacheSecurityGroupAsync(final DeleteCacheSecurityGroupRequest deleteCacheSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteCacheSecurityGroup(deleteCacheSecurityGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteCacheSecurityGroupRequest, new DeleteCacheSecurityGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -656,11 +604,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ReservedCacheNode> purchaseReservedCacheNodesOfferingAsync(final PurchaseReservedCacheNodesOfferingRequest purchaseReservedCacheNodesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedCacheNode>() {
-            public ReservedCacheNode call() throws Exception {
-                return purchaseReservedCacheNodesOffering(purchaseReservedCacheNodesOfferingRequest);
-		    }
-		});
+        return invokeAsync(purchaseReservedCacheNodesOfferingRequest, new PurchaseReservedCacheNodesOfferingRequestMarshaller(), new ReservedCacheNodeStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -716,11 +660,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheClustersResult> describeCacheClustersAsync(final DescribeCacheClustersRequest describeCacheClustersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheClustersResult>() {
-            public DescribeCacheClustersResult call() throws Exception {
-                return describeCacheClusters(describeCacheClustersRequest);
-		    }
-		});
+        return invokeAsync(describeCacheClustersRequest, new DescribeCacheClustersRequestMarshaller(), new DescribeCacheClustersResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -747,11 +687,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheCluster> modifyCacheClusterAsync(final ModifyCacheClusterRequest modifyCacheClusterRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheCluster>() {
-            public CacheCluster call() throws Exception {
-                return modifyCacheCluster(modifyCacheClusterRequest);
-		    }
-		});
+        return invokeAsync(modifyCacheClusterRequest, new ModifyCacheClusterRequestMarshaller(), new CacheClusterStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -779,11 +715,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheSecurityGroupsResult> describeCacheSecurityGroupsAsync(final DescribeCacheSecurityGroupsRequest describeCacheSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheSecurityGroupsResult>() {
-            public DescribeCacheSecurityGroupsResult call() throws Exception {
-                return describeCacheSecurityGroups(describeCacheSecurityGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeCacheSecurityGroupsRequest, new DescribeCacheSecurityGroupsRequestMarshaller(), new DescribeCacheSecurityGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -810,11 +742,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<CacheSecurityGroup> createCacheSecurityGroupAsync(final CreateCacheSecurityGroupRequest createCacheSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CacheSecurityGroup>() {
-            public CacheSecurityGroup call() throws Exception {
-                return createCacheSecurityGroup(createCacheSecurityGroupRequest);
-		    }
-		});
+        return invokeAsync(createCacheSecurityGroupRequest, new CreateCacheSecurityGroupRequestMarshaller(), new CacheSecurityGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -841,11 +769,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<DescribeCacheParametersResult> describeCacheParametersAsync(final DescribeCacheParametersRequest describeCacheParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeCacheParametersResult>() {
-            public DescribeCacheParametersResult call() throws Exception {
-                return describeCacheParameters(describeCacheParametersRequest);
-		    }
-		});
+        return invokeAsync(describeCacheParametersRequest, new DescribeCacheParametersRequestMarshaller(), new DescribeCacheParametersResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -872,11 +796,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<EngineDefaults> describeEngineDefaultParametersAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
-            public EngineDefaults call() throws Exception {
-                return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
-		    }
-		});
+        return invokeAsync(describeEngineDefaultParametersRequest, new DescribeEngineDefaultParametersRequestMarshaller(), new EngineDefaultsStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -905,11 +825,7 @@ public class AmazonElastiCacheAsyncClient extends AmazonElastiCacheClient
      */
     public Future<ResetCacheParameterGroupResult> resetCacheParameterGroupAsync(final ResetCacheParameterGroupRequest resetCacheParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetCacheParameterGroupResult>() {
-            public ResetCacheParameterGroupResult call() throws Exception {
-                return resetCacheParameterGroup(resetCacheParameterGroupRequest);
-		    }
-		});
+        return invokeAsync(resetCacheParameterGroupRequest, new ResetCacheParameterGroupRequestMarshaller(), new ResetCacheParameterGroupResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.elasticbeanstalk;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.elasticbeanstalk.model.*;
+import com.amazonaws.services.elasticbeanstalk.model.transform.*;
 
 
 /**
@@ -246,11 +248,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CheckDNSAvailabilityResult> checkDNSAvailabilityAsync(final CheckDNSAvailabilityRequest checkDNSAvailabilityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CheckDNSAvailabilityResult>() {
-            public CheckDNSAvailabilityResult call() throws Exception {
-                return checkDNSAvailability(checkDNSAvailabilityRequest);
-		    }
-		});
+        return invokeAsync(checkDNSAvailabilityRequest, new CheckDNSAvailabilityRequestMarshaller(), new CheckDNSAvailabilityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -280,11 +278,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeConfigurationOptionsResult> describeConfigurationOptionsAsync(final DescribeConfigurationOptionsRequest describeConfigurationOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationOptionsResult>() {
-            public DescribeConfigurationOptionsResult call() throws Exception {
-                return describeConfigurationOptions(describeConfigurationOptionsRequest);
-		    }
-		});
+        return invokeAsync(describeConfigurationOptionsRequest, new DescribeConfigurationOptionsRequestMarshaller(), new DescribeConfigurationOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -316,12 +310,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteConfigurationTemplateAsync(final DeleteConfigurationTemplateRequest deleteConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteConfigurationTemplate(deleteConfigurationTemplateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteConfigurationTemplateRequest, new DeleteConfigurationTemplateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -346,11 +335,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateEnvironmentResult> createEnvironmentAsync(final CreateEnvironmentRequest createEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateEnvironmentResult>() {
-            public CreateEnvironmentResult call() throws Exception {
-                return createEnvironment(createEnvironmentRequest);
-		    }
-		});
+        return invokeAsync(createEnvironmentRequest, new CreateEnvironmentRequestMarshaller(), new CreateEnvironmentResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -379,11 +364,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateStorageLocationResult> createStorageLocationAsync(final CreateStorageLocationRequest createStorageLocationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorageLocationResult>() {
-            public CreateStorageLocationResult call() throws Exception {
-                return createStorageLocation(createStorageLocationRequest);
-		    }
-		});
+        return invokeAsync(createStorageLocationRequest, new CreateStorageLocationRequestMarshaller(), new CreateStorageLocationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -424,12 +405,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> requestEnvironmentInfoAsync(final RequestEnvironmentInfoRequest requestEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                requestEnvironmentInfo(requestEnvironmentInfoRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(requestEnvironmentInfoRequest, new RequestEnvironmentInfoRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -462,11 +438,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateApplicationVersionResult> createApplicationVersionAsync(final CreateApplicationVersionRequest createApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationVersionResult>() {
-            public CreateApplicationVersionResult call() throws Exception {
-                return createApplicationVersion(createApplicationVersionRequest);
-		    }
-		});
+        return invokeAsync(createApplicationVersionRequest, new CreateApplicationVersionRequestMarshaller(), new CreateApplicationVersionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -496,12 +468,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteApplicationVersionAsync(final DeleteApplicationVersionRequest deleteApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApplicationVersion(deleteApplicationVersionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteApplicationVersionRequest, new DeleteApplicationVersionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -527,11 +494,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeApplicationVersionsResult> describeApplicationVersionsAsync(final DescribeApplicationVersionsRequest describeApplicationVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationVersionsResult>() {
-            public DescribeApplicationVersionsResult call() throws Exception {
-                return describeApplicationVersions(describeApplicationVersionsRequest);
-		    }
-		});
+        return invokeAsync(describeApplicationVersionsRequest, new DescribeApplicationVersionsRequestMarshaller(), new DescribeApplicationVersionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -560,12 +523,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteApplicationAsync(final DeleteApplicationRequest deleteApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteApplication(deleteApplicationRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteApplicationRequest, new DeleteApplicationRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -597,11 +555,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateApplicationVersionResult> updateApplicationVersionAsync(final UpdateApplicationVersionRequest updateApplicationVersionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationVersionResult>() {
-            public UpdateApplicationVersionResult call() throws Exception {
-                return updateApplicationVersion(updateApplicationVersionRequest);
-		    }
-		});
+        return invokeAsync(updateApplicationVersionRequest, new UpdateApplicationVersionRequestMarshaller(), new UpdateApplicationVersionResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -631,11 +585,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateApplicationResult> createApplicationAsync(final CreateApplicationRequest createApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateApplicationResult>() {
-            public CreateApplicationResult call() throws Exception {
-                return createApplication(createApplicationRequest);
-		    }
-		});
+        return invokeAsync(createApplicationRequest, new CreateApplicationRequestMarshaller(), new CreateApplicationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -661,12 +611,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> swapEnvironmentCNAMEsAsync(final SwapEnvironmentCNAMEsRequest swapEnvironmentCNAMEsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                swapEnvironmentCNAMEs(swapEnvironmentCNAMEsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(swapEnvironmentCNAMEsRequest, new SwapEnvironmentCNAMEsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -706,11 +651,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateConfigurationTemplateResult> updateConfigurationTemplateAsync(final UpdateConfigurationTemplateRequest updateConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateConfigurationTemplateResult>() {
-            public UpdateConfigurationTemplateResult call() throws Exception {
-                return updateConfigurationTemplate(updateConfigurationTemplateRequest);
-		    }
-		});
+        return invokeAsync(updateConfigurationTemplateRequest, new UpdateConfigurationTemplateRequestMarshaller(), new UpdateConfigurationTemplateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -745,11 +686,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<RetrieveEnvironmentInfoResult> retrieveEnvironmentInfoAsync(final RetrieveEnvironmentInfoRequest retrieveEnvironmentInfoRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RetrieveEnvironmentInfoResult>() {
-            public RetrieveEnvironmentInfoResult call() throws Exception {
-                return retrieveEnvironmentInfo(retrieveEnvironmentInfoRequest);
-		    }
-		});
+        return invokeAsync(retrieveEnvironmentInfoRequest, new RetrieveEnvironmentInfoRequestMarshaller(), new RetrieveEnvironmentInfoResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -775,11 +712,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<ListAvailableSolutionStacksResult> listAvailableSolutionStacksAsync(final ListAvailableSolutionStacksRequest listAvailableSolutionStacksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAvailableSolutionStacksResult>() {
-            public ListAvailableSolutionStacksResult call() throws Exception {
-                return listAvailableSolutionStacks(listAvailableSolutionStacksRequest);
-		    }
-		});
+        return invokeAsync(listAvailableSolutionStacksRequest, new ListAvailableSolutionStacksRequestMarshaller(), new ListAvailableSolutionStacksResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -808,11 +741,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateApplicationResult> updateApplicationAsync(final UpdateApplicationRequest updateApplicationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateApplicationResult>() {
-            public UpdateApplicationResult call() throws Exception {
-                return updateApplication(updateApplicationRequest);
-		    }
-		});
+        return invokeAsync(updateApplicationRequest, new UpdateApplicationRequestMarshaller(), new UpdateApplicationResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -838,11 +767,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEnvironmentsResult> describeEnvironmentsAsync(final DescribeEnvironmentsRequest describeEnvironmentsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentsResult>() {
-            public DescribeEnvironmentsResult call() throws Exception {
-                return describeEnvironments(describeEnvironmentsRequest);
-		    }
-		});
+        return invokeAsync(describeEnvironmentsRequest, new DescribeEnvironmentsRequestMarshaller(), new DescribeEnvironmentsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -868,11 +793,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEnvironmentResourcesResult> describeEnvironmentResourcesAsync(final DescribeEnvironmentResourcesRequest describeEnvironmentResourcesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEnvironmentResourcesResult>() {
-            public DescribeEnvironmentResourcesResult call() throws Exception {
-                return describeEnvironmentResources(describeEnvironmentResourcesRequest);
-		    }
-		});
+        return invokeAsync(describeEnvironmentResourcesRequest, new DescribeEnvironmentResourcesRequestMarshaller(), new DescribeEnvironmentResourcesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -898,11 +819,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<TerminateEnvironmentResult> terminateEnvironmentAsync(final TerminateEnvironmentRequest terminateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<TerminateEnvironmentResult>() {
-            public TerminateEnvironmentResult call() throws Exception {
-                return terminateEnvironment(terminateEnvironmentRequest);
-		    }
-		});
+        return invokeAsync(terminateEnvironmentRequest, new TerminateEnvironmentRequestMarshaller(), new TerminateEnvironmentResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -934,11 +851,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<ValidateConfigurationSettingsResult> validateConfigurationSettingsAsync(final ValidateConfigurationSettingsRequest validateConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ValidateConfigurationSettingsResult>() {
-            public ValidateConfigurationSettingsResult call() throws Exception {
-                return validateConfigurationSettings(validateConfigurationSettingsRequest);
-		    }
-		});
+        return invokeAsync(validateConfigurationSettingsRequest, new ValidateConfigurationSettingsRequestMarshaller(), new ValidateConfigurationSettingsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -963,12 +876,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> restartAppServerAsync(final RestartAppServerRequest restartAppServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                restartAppServer(restartAppServerRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(restartAppServerRequest, new RestartAppServerRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1004,12 +912,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> deleteEnvironmentConfigurationAsync(final DeleteEnvironmentConfigurationRequest deleteEnvironmentConfigurationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteEnvironmentConfiguration(deleteEnvironmentConfigurationRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteEnvironmentConfigurationRequest, new DeleteEnvironmentConfigurationRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1047,11 +950,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<UpdateEnvironmentResult> updateEnvironmentAsync(final UpdateEnvironmentRequest updateEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateEnvironmentResult>() {
-            public UpdateEnvironmentResult call() throws Exception {
-                return updateEnvironment(updateEnvironmentRequest);
-		    }
-		});
+        return invokeAsync(updateEnvironmentRequest, new UpdateEnvironmentRequestMarshaller(), new UpdateEnvironmentResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1089,11 +988,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<CreateConfigurationTemplateResult> createConfigurationTemplateAsync(final CreateConfigurationTemplateRequest createConfigurationTemplateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateConfigurationTemplateResult>() {
-            public CreateConfigurationTemplateResult call() throws Exception {
-                return createConfigurationTemplate(createConfigurationTemplateRequest);
-		    }
-		});
+        return invokeAsync(createConfigurationTemplateRequest, new CreateConfigurationTemplateRequestMarshaller(), new CreateConfigurationTemplateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1136,11 +1031,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeConfigurationSettingsResult> describeConfigurationSettingsAsync(final DescribeConfigurationSettingsRequest describeConfigurationSettingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeConfigurationSettingsResult>() {
-            public DescribeConfigurationSettingsResult call() throws Exception {
-                return describeConfigurationSettings(describeConfigurationSettingsRequest);
-		    }
-		});
+        return invokeAsync(describeConfigurationSettingsRequest, new DescribeConfigurationSettingsRequestMarshaller(), new DescribeConfigurationSettingsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1166,11 +1057,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeApplicationsResult> describeApplicationsAsync(final DescribeApplicationsRequest describeApplicationsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeApplicationsResult>() {
-            public DescribeApplicationsResult call() throws Exception {
-                return describeApplications(describeApplicationsRequest);
-		    }
-		});
+        return invokeAsync(describeApplicationsRequest, new DescribeApplicationsRequestMarshaller(), new DescribeApplicationsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1197,12 +1084,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<Void> rebuildEnvironmentAsync(final RebuildEnvironmentRequest rebuildEnvironmentRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                rebuildEnvironment(rebuildEnvironmentRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(rebuildEnvironmentRequest, new RebuildEnvironmentRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1231,11 +1113,7 @@ public class AWSElasticBeanstalkAsyncClient extends AWSElasticBeanstalkClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-		    }
-		});
+        return invokeAsync(describeEventsRequest, new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller(), executorService);
     }
     
 }
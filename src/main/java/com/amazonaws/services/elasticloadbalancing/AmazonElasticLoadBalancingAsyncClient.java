@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.elasticloadbalancing;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.elasticloadbalancing.model.*;
+import com.amazonaws.services.elasticloadbalancing.model.transform.*;
 
 
 /**
@@ -227,12 +229,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerListenersAsync(final DeleteLoadBalancerListenersRequest deleteLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoadBalancerListeners(deleteLoadBalancerListenersRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteLoadBalancerListenersRequest, new DeleteLoadBalancerListenersRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -259,11 +256,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesOfListenerResult> setLoadBalancerPoliciesOfListenerAsync(final SetLoadBalancerPoliciesOfListenerRequest setLoadBalancerPoliciesOfListenerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesOfListenerResult>() {
-            public SetLoadBalancerPoliciesOfListenerResult call() throws Exception {
-                return setLoadBalancerPoliciesOfListener(setLoadBalancerPoliciesOfListenerRequest);
-		    }
-		});
+        return invokeAsync(setLoadBalancerPoliciesOfListenerRequest, new SetLoadBalancerPoliciesOfListenerRequestMarshaller(), new SetLoadBalancerPoliciesOfListenerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -301,11 +294,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<EnableAvailabilityZonesForLoadBalancerResult> enableAvailabilityZonesForLoadBalancerAsync(final EnableAvailabilityZonesForLoadBalancerRequest enableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EnableAvailabilityZonesForLoadBalancerResult>() {
-            public EnableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return enableAvailabilityZonesForLoadBalancer(enableAvailabilityZonesForLoadBalancerRequest);
-		    }
-		});
+        return invokeAsync(enableAvailabilityZonesForLoadBalancerRequest, new EnableAvailabilityZonesForLoadBalancerRequestMarshaller(), new EnableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -337,11 +326,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeregisterInstancesFromLoadBalancerResult> deregisterInstancesFromLoadBalancerAsync(final DeregisterInstancesFromLoadBalancerRequest deregisterInstancesFromLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeregisterInstancesFromLoadBalancerResult>() {
-            public DeregisterInstancesFromLoadBalancerResult call() throws Exception {
-                return deregisterInstancesFromLoadBalancer(deregisterInstancesFromLoadBalancerRequest);
-		    }
-		});
+        return invokeAsync(deregisterInstancesFromLoadBalancerRequest, new DeregisterInstancesFromLoadBalancerRequestMarshaller(), new DeregisterInstancesFromLoadBalancerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -373,11 +358,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPoliciesResult> describeLoadBalancerPoliciesAsync(final DescribeLoadBalancerPoliciesRequest describeLoadBalancerPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPoliciesResult>() {
-            public DescribeLoadBalancerPoliciesResult call() throws Exception {
-                return describeLoadBalancerPolicies(describeLoadBalancerPoliciesRequest);
-		    }
-		});
+        return invokeAsync(describeLoadBalancerPoliciesRequest, new DescribeLoadBalancerPoliciesRequestMarshaller(), new DescribeLoadBalancerPoliciesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -407,11 +388,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancerPolicyTypesResult> describeLoadBalancerPolicyTypesAsync(final DescribeLoadBalancerPolicyTypesRequest describeLoadBalancerPolicyTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancerPolicyTypesResult>() {
-            public DescribeLoadBalancerPolicyTypesResult call() throws Exception {
-                return describeLoadBalancerPolicyTypes(describeLoadBalancerPolicyTypesRequest);
-		    }
-		});
+        return invokeAsync(describeLoadBalancerPolicyTypesRequest, new DescribeLoadBalancerPolicyTypesRequestMarshaller(), new DescribeLoadBalancerPolicyTypesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -440,12 +417,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> setLoadBalancerListenerSSLCertificateAsync(final SetLoadBalancerListenerSSLCertificateRequest setLoadBalancerListenerSSLCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setLoadBalancerListenerSSLCertificate(setLoadBalancerListenerSSLCertificateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(setLoadBalancerListenerSSLCertificateRequest, new SetLoadBalancerListenerSSLCertificateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -489,11 +461,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLBCookieStickinessPolicyResult> createLBCookieStickinessPolicyAsync(final CreateLBCookieStickinessPolicyRequest createLBCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLBCookieStickinessPolicyResult>() {
-            public CreateLBCookieStickinessPolicyResult call() throws Exception {
-                return createLBCookieStickinessPolicy(createLBCookieStickinessPolicyRequest);
-		    }
-		});
+        return invokeAsync(createLBCookieStickinessPolicyRequest, new CreateLBCookieStickinessPolicyRequestMarshaller(), new CreateLBCookieStickinessPolicyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -520,11 +488,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DeleteLoadBalancerPolicyResult> deleteLoadBalancerPolicyAsync(final DeleteLoadBalancerPolicyRequest deleteLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteLoadBalancerPolicyResult>() {
-            public DeleteLoadBalancerPolicyResult call() throws Exception {
-                return deleteLoadBalancerPolicy(deleteLoadBalancerPolicyRequest);
-		    }
-		});
+        return invokeAsync(deleteLoadBalancerPolicyRequest, new DeleteLoadBalancerPolicyRequestMarshaller(), new DeleteLoadBalancerPolicyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -568,11 +532,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<RegisterInstancesWithLoadBalancerResult> registerInstancesWithLoadBalancerAsync(final RegisterInstancesWithLoadBalancerRequest registerInstancesWithLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RegisterInstancesWithLoadBalancerResult>() {
-            public RegisterInstancesWithLoadBalancerResult call() throws Exception {
-                return registerInstancesWithLoadBalancer(registerInstancesWithLoadBalancerRequest);
-		    }
-		});
+        return invokeAsync(registerInstancesWithLoadBalancerRequest, new RegisterInstancesWithLoadBalancerRequestMarshaller(), new RegisterInstancesWithLoadBalancerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -599,11 +559,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ConfigureHealthCheckResult> configureHealthCheckAsync(final ConfigureHealthCheckRequest configureHealthCheckRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ConfigureHealthCheckResult>() {
-            public ConfigureHealthCheckResult call() throws Exception {
-                return configureHealthCheck(configureHealthCheckRequest);
-		    }
-		});
+        return invokeAsync(configureHealthCheckRequest, new ConfigureHealthCheckRequestMarshaller(), new ConfigureHealthCheckResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -638,11 +594,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeLoadBalancersResult> describeLoadBalancersAsync(final DescribeLoadBalancersRequest describeLoadBalancersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeLoadBalancersResult>() {
-            public DescribeLoadBalancersResult call() throws Exception {
-                return describeLoadBalancers(describeLoadBalancersRequest);
-		    }
-		});
+        return invokeAsync(describeLoadBalancersRequest, new DescribeLoadBalancersRequestMarshaller(), new DescribeLoadBalancersResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -676,11 +628,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DescribeInstanceHealthResult> describeInstanceHealthAsync(final DescribeInstanceHealthRequest describeInstanceHealthRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeInstanceHealthResult>() {
-            public DescribeInstanceHealthResult call() throws Exception {
-                return describeInstanceHealth(describeInstanceHealthRequest);
-		    }
-		});
+        return invokeAsync(describeInstanceHealthRequest, new DescribeInstanceHealthRequestMarshaller(), new DescribeInstanceHealthResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -711,11 +659,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<AttachLoadBalancerToSubnetsResult> attachLoadBalancerToSubnetsAsync(final AttachLoadBalancerToSubnetsRequest attachLoadBalancerToSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AttachLoadBalancerToSubnetsResult>() {
-            public AttachLoadBalancerToSubnetsResult call() throws Exception {
-                return attachLoadBalancerToSubnets(attachLoadBalancerToSubnetsRequest);
-		    }
-		});
+        return invokeAsync(attachLoadBalancerToSubnetsRequest, new AttachLoadBalancerToSubnetsRequestMarshaller(), new AttachLoadBalancerToSubnetsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -760,11 +704,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DisableAvailabilityZonesForLoadBalancerResult> disableAvailabilityZonesForLoadBalancerAsync(final DisableAvailabilityZonesForLoadBalancerRequest disableAvailabilityZonesForLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DisableAvailabilityZonesForLoadBalancerResult>() {
-            public DisableAvailabilityZonesForLoadBalancerResult call() throws Exception {
-                return disableAvailabilityZonesForLoadBalancer(disableAvailabilityZonesForLoadBalancerRequest);
-		    }
-		});
+        return invokeAsync(disableAvailabilityZonesForLoadBalancerRequest, new DisableAvailabilityZonesForLoadBalancerRequestMarshaller(), new DisableAvailabilityZonesForLoadBalancerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -793,12 +733,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> createLoadBalancerListenersAsync(final CreateLoadBalancerListenersRequest createLoadBalancerListenersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createLoadBalancerListeners(createLoadBalancerListenersRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createLoadBalancerListenersRequest, new CreateLoadBalancerListenersRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -828,11 +763,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerPolicyResult> createLoadBalancerPolicyAsync(final CreateLoadBalancerPolicyRequest createLoadBalancerPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerPolicyResult>() {
-            public CreateLoadBalancerPolicyResult call() throws Exception {
-                return createLoadBalancerPolicy(createLoadBalancerPolicyRequest);
-		    }
-		});
+        return invokeAsync(createLoadBalancerPolicyRequest, new CreateLoadBalancerPolicyRequestMarshaller(), new CreateLoadBalancerPolicyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -864,11 +795,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<SetLoadBalancerPoliciesForBackendServerResult> setLoadBalancerPoliciesForBackendServerAsync(final SetLoadBalancerPoliciesForBackendServerRequest setLoadBalancerPoliciesForBackendServerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SetLoadBalancerPoliciesForBackendServerResult>() {
-            public SetLoadBalancerPoliciesForBackendServerResult call() throws Exception {
-                return setLoadBalancerPoliciesForBackendServer(setLoadBalancerPoliciesForBackendServerRequest);
-		    }
-		});
+        return invokeAsync(setLoadBalancerPoliciesForBackendServerRequest, new SetLoadBalancerPoliciesForBackendServerRequestMarshaller(), new SetLoadBalancerPoliciesForBackendServerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -902,11 +829,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<DetachLoadBalancerFromSubnetsResult> detachLoadBalancerFromSubnetsAsync(final DetachLoadBalancerFromSubnetsRequest detachLoadBalancerFromSubnetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DetachLoadBalancerFromSubnetsResult>() {
-            public DetachLoadBalancerFromSubnetsResult call() throws Exception {
-                return detachLoadBalancerFromSubnets(detachLoadBalancerFromSubnetsRequest);
-		    }
-		});
+        return invokeAsync(detachLoadBalancerFromSubnetsRequest, new DetachLoadBalancerFromSubnetsRequestMarshaller(), new DetachLoadBalancerFromSubnetsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -934,11 +857,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<ApplySecurityGroupsToLoadBalancerResult> applySecurityGroupsToLoadBalancerAsync(final ApplySecurityGroupsToLoadBalancerRequest applySecurityGroupsToLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ApplySecurityGroupsToLoadBalancerResult>() {
-            public ApplySecurityGroupsToLoadBalancerResult call() throws Exception {
-                return applySecurityGroupsToLoadBalancer(applySecurityGroupsToLoadBalancerRequest);
-		    }
-		});
+        return invokeAsync(applySecurityGroupsToLoadBalancerRequest, new ApplySecurityGroupsToLoadBalancerRequestMarshaller(), new ApplySecurityGroupsToLoadBalancerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -981,12 +900,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<Void> deleteLoadBalancerAsync(final DeleteLoadBalancerRequest deleteLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoadBalancer(deleteLoadBalancerRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteLoadBalancerRequest, new DeleteLoadBalancerRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1033,11 +947,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateLoadBalancerResult> createLoadBalancerAsync(final CreateLoadBalancerRequest createLoadBalancerRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoadBalancerResult>() {
-            public CreateLoadBalancerResult call() throws Exception {
-                return createLoadBalancer(createLoadBalancerRequest);
-		    }
-		});
+        return invokeAsync(createLoadBalancerRequest, new CreateLoadBalancerRequestMarshaller(), new CreateLoadBalancerResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1083,11 +993,7 @@ public class AmazonElasticLoadBalancingAsyncClient extends AmazonElasticLoadBala
      */
     public Future<CreateAppCookieStickinessPolicyResult> createAppCookieStickinessPolicyAsync(final CreateAppCookieStickinessPolicyRequest createAppCookieStickinessPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAppCookieStickinessPolicyResult>() {
-            public CreateAppCookieStickinessPolicyResult call() throws Exception {
-                return createAppCookieStickinessPolicy(createAppCookieStickinessPolicyRequest);
-		    }
-		});
+        return invokeAsync(createAppCookieStickinessPolicyRequest, new CreateAppCookieStickinessPolicyRequestMarshaller(), new CreateAppCookieStickinessPolicyResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.elasticmapreduce;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.elasticmapreduce.model.*;
+import com.amazonaws.services.elasticmapreduce.model.transform.*;
 
 
 /**
@@ -229,11 +231,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<AddInstanceGroupsResult> addInstanceGroupsAsync(final AddInstanceGroupsRequest addInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddInstanceGroupsResult>() {
-            public AddInstanceGroupsResult call() throws Exception {
-                return addInstanceGroups(addInstanceGroupsRequest);
-		    }
-		});
+        return invokeAsync(addInstanceGroupsRequest, new AddInstanceGroupsRequestMarshaller(), new AddInstanceGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -286,12 +284,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> addJobFlowStepsAsync(final AddJobFlowStepsRequest addJobFlowStepsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addJobFlowSteps(addJobFlowStepsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(addJobFlowStepsRequest, new AddJobFlowStepsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -320,12 +313,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> terminateJobFlowsAsync(final TerminateJobFlowsRequest terminateJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                terminateJobFlows(terminateJobFlowsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(terminateJobFlowsRequest, new TerminateJobFlowsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -376,11 +364,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<DescribeJobFlowsResult> describeJobFlowsAsync(final DescribeJobFlowsRequest describeJobFlowsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeJobFlowsResult>() {
-            public DescribeJobFlowsResult call() throws Exception {
-                return describeJobFlows(describeJobFlowsRequest);
-		    }
-		});
+        return invokeAsync(describeJobFlowsRequest, new DescribeJobFlowsRequestMarshaller(), new DescribeJobFlowsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -431,12 +415,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> setTerminationProtectionAsync(final SetTerminationProtectionRequest setTerminationProtectionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                setTerminationProtection(setTerminationProtectionRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(setTerminationProtectionRequest, new SetTerminationProtectionRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -491,11 +470,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<RunJobFlowResult> runJobFlowAsync(final RunJobFlowRequest runJobFlowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<RunJobFlowResult>() {
-            public RunJobFlowResult call() throws Exception {
-                return runJobFlow(runJobFlowRequest);
-		    }
-		});
+        return invokeAsync(runJobFlowRequest, new RunJobFlowRequestMarshaller(), new RunJobFlowResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -524,12 +499,7 @@ public class AmazonElasticMapReduceAsyncClient extends AmazonElasticMapReduceCli
      */
     public Future<Void> modifyInstanceGroupsAsync(final ModifyInstanceGroupsRequest modifyInstanceGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                modifyInstanceGroups(modifyInstanceGroupsRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(modifyInstanceGroupsRequest, new ModifyInstanceGroupsRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.identitymanagement;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.identitymanagement.model.*;
+import com.amazonaws.services.identitymanagement.model.transform.*;
 
 
 /**
@@ -241,12 +243,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccountAliasAsync(final DeleteAccountAliasRequest deleteAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAccountAlias(deleteAccountAliasRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteAccountAliasRequest, new DeleteAccountAliasRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -274,11 +271,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupsResult> listGroupsAsync(final ListGroupsRequest listGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsResult>() {
-            public ListGroupsResult call() throws Exception {
-                return listGroups(listGroupsRequest);
-		    }
-		});
+        return invokeAsync(listGroupsRequest, new ListGroupsRequestMarshaller(), new ListGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -310,12 +303,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccessKeyAsync(final DeleteAccessKeyRequest deleteAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAccessKey(deleteAccessKeyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteAccessKeyRequest, new DeleteAccessKeyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -346,12 +334,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteVirtualMFADeviceAsync(final DeleteVirtualMFADeviceRequest deleteVirtualMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVirtualMFADevice(deleteVirtualMFADeviceRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteVirtualMFADeviceRequest, new DeleteVirtualMFADeviceRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -376,12 +359,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteUserPolicyAsync(final DeleteUserPolicyRequest deleteUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUserPolicy(deleteUserPolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteUserPolicyRequest, new DeleteUserPolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -421,12 +399,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putUserPolicyAsync(final PutUserPolicyRequest putUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putUserPolicy(putUserPolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(putUserPolicyRequest, new PutUserPolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -457,11 +430,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListServerCertificatesResult> listServerCertificatesAsync(final ListServerCertificatesRequest listServerCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListServerCertificatesResult>() {
-            public ListServerCertificatesResult call() throws Exception {
-                return listServerCertificates(listServerCertificatesRequest);
-		    }
-		});
+        return invokeAsync(listServerCertificatesRequest, new ListServerCertificatesRequestMarshaller(), new ListServerCertificatesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -489,11 +458,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetUserPolicyResult> getUserPolicyAsync(final GetUserPolicyRequest getUserPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserPolicyResult>() {
-            public GetUserPolicyResult call() throws Exception {
-                return getUserPolicy(getUserPolicyRequest);
-		    }
-		});
+        return invokeAsync(getUserPolicyRequest, new GetUserPolicyRequestMarshaller(), new GetUserPolicyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -532,12 +497,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateServerCertificateAsync(final UpdateServerCertificateRequest updateServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateServerCertificate(updateServerCertificateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateServerCertificateRequest, new UpdateServerCertificateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -573,12 +533,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateUserAsync(final UpdateUserRequest updateUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateUser(updateUserRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateUserRequest, new UpdateUserRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -619,12 +574,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateSigningCertificateAsync(final UpdateSigningCertificateRequest updateSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateSigningCertificate(updateSigningCertificateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateSigningCertificateRequest, new UpdateSigningCertificateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -651,12 +601,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteGroupPolicyAsync(final DeleteGroupPolicyRequest deleteGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteGroupPolicy(deleteGroupPolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteGroupPolicyRequest, new DeleteGroupPolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -693,12 +638,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateGroupAsync(final UpdateGroupRequest updateGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateGroup(updateGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateGroupRequest, new UpdateGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -727,11 +667,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListUsersResult> listUsersAsync(final ListUsersRequest listUsersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUsersResult>() {
-            public ListUsersResult call() throws Exception {
-                return listUsers(listUsersRequest);
-		    }
-		});
+        return invokeAsync(listUsersRequest, new ListUsersRequestMarshaller(), new ListUsersResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -762,11 +698,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateUserResult> createUserAsync(final CreateUserRequest createUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateUserResult>() {
-            public CreateUserResult call() throws Exception {
-                return createUser(createUserRequest);
-		    }
-		});
+        return invokeAsync(createUserRequest, new CreateUserRequestMarshaller(), new CreateUserResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -793,12 +725,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> enableMFADeviceAsync(final EnableMFADeviceRequest enableMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                enableMFADevice(enableMFADeviceRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(enableMFADeviceRequest, new EnableMFADeviceRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -824,12 +751,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteAccountPasswordPolicyAsync(final DeleteAccountPasswordPolicyRequest deleteAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteAccountPasswordPolicy(deleteAccountPasswordPolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteAccountPasswordPolicyRequest, new DeleteAccountPasswordPolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -855,11 +777,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetLoginProfileResult> getLoginProfileAsync(final GetLoginProfileRequest getLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetLoginProfileResult>() {
-            public GetLoginProfileResult call() throws Exception {
-                return getLoginProfile(getLoginProfileRequest);
-		    }
-		});
+        return invokeAsync(getLoginProfileRequest, new GetLoginProfileRequestMarshaller(), new GetLoginProfileResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -901,11 +819,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UploadServerCertificateResult> uploadServerCertificateAsync(final UploadServerCertificateRequest uploadServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadServerCertificateResult>() {
-            public UploadServerCertificateResult call() throws Exception {
-                return uploadServerCertificate(uploadServerCertificateRequest);
-		    }
-		});
+        return invokeAsync(uploadServerCertificateRequest, new UploadServerCertificateRequestMarshaller(), new UploadServerCertificateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -935,11 +849,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateGroupResult> createGroupAsync(final CreateGroupRequest createGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateGroupResult>() {
-            public CreateGroupResult call() throws Exception {
-                return createGroup(createGroupRequest);
-		    }
-		});
+        return invokeAsync(createGroupRequest, new CreateGroupRequestMarshaller(), new CreateGroupResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -969,12 +879,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> createAccountAliasAsync(final CreateAccountAliasRequest createAccountAliasRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                createAccountAlias(createAccountAliasRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(createAccountAliasRequest, new CreateAccountAliasRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -999,12 +904,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteUserAsync(final DeleteUserRequest deleteUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteUser(deleteUserRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteUserRequest, new DeleteUserRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1031,12 +931,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deactivateMFADeviceAsync(final DeactivateMFADeviceRequest deactivateMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deactivateMFADevice(deactivateMFADeviceRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deactivateMFADeviceRequest, new DeactivateMFADeviceRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1062,12 +957,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> removeUserFromGroupAsync(final RemoveUserFromGroupRequest removeUserFromGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                removeUserFromGroup(removeUserFromGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(removeUserFromGroupRequest, new RemoveUserFromGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1105,12 +995,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteServerCertificateAsync(final DeleteServerCertificateRequest deleteServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteServerCertificate(deleteServerCertificateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteServerCertificateRequest, new DeleteServerCertificateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1158,11 +1043,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateAccessKeyResult> createAccessKeyAsync(final CreateAccessKeyRequest createAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateAccessKeyResult>() {
-            public CreateAccessKeyResult call() throws Exception {
-                return createAccessKey(createAccessKeyRequest);
-		    }
-		});
+        return invokeAsync(createAccessKeyRequest, new CreateAccessKeyRequestMarshaller(), new CreateAccessKeyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1191,11 +1072,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetUserResult> getUserAsync(final GetUserRequest getUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetUserResult>() {
-            public GetUserResult call() throws Exception {
-                return getUser(getUserRequest);
-		    }
-		});
+        return invokeAsync(getUserRequest, new GetUserRequestMarshaller(), new GetUserResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1220,12 +1097,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> resyncMFADeviceAsync(final ResyncMFADeviceRequest resyncMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                resyncMFADevice(resyncMFADeviceRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(resyncMFADeviceRequest, new ResyncMFADeviceRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1257,11 +1129,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListMFADevicesResult> listMFADevicesAsync(final ListMFADevicesRequest listMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListMFADevicesResult>() {
-            public ListMFADevicesResult call() throws Exception {
-                return listMFADevices(listMFADevicesRequest);
-		    }
-		});
+        return invokeAsync(listMFADevicesRequest, new ListMFADevicesRequestMarshaller(), new ListMFADevicesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1309,11 +1177,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateVirtualMFADeviceResult> createVirtualMFADeviceAsync(final CreateVirtualMFADeviceRequest createVirtualMFADeviceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateVirtualMFADeviceResult>() {
-            public CreateVirtualMFADeviceResult call() throws Exception {
-                return createVirtualMFADevice(createVirtualMFADeviceRequest);
-		    }
-		});
+        return invokeAsync(createVirtualMFADeviceRequest, new CreateVirtualMFADeviceRequestMarshaller(), new CreateVirtualMFADeviceResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1353,12 +1217,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAccessKeyAsync(final UpdateAccessKeyRequest updateAccessKeyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccessKey(updateAccessKeyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateAccessKeyRequest, new UpdateAccessKeyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1383,12 +1242,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> addUserToGroupAsync(final AddUserToGroupRequest addUserToGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                addUserToGroup(addUserToGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(addUserToGroupRequest, new AddUserToGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1414,11 +1268,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetGroupResult> getGroupAsync(final GetGroupRequest getGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupResult>() {
-            public GetGroupResult call() throws Exception {
-                return getGroup(getGroupRequest);
-		    }
-		});
+        return invokeAsync(getGroupRequest, new GetGroupRequestMarshaller(), new GetGroupResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1452,11 +1302,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAccountAliasesResult> listAccountAliasesAsync(final ListAccountAliasesRequest listAccountAliasesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccountAliasesResult>() {
-            public ListAccountAliasesResult call() throws Exception {
-                return listAccountAliases(listAccountAliasesRequest);
-		    }
-		});
+        return invokeAsync(listAccountAliasesRequest, new ListAccountAliasesRequestMarshaller(), new ListAccountAliasesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1481,12 +1327,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteGroupAsync(final DeleteGroupRequest deleteGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteGroup(deleteGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteGroupRequest, new DeleteGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1525,11 +1366,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListSigningCertificatesResult> listSigningCertificatesAsync(final ListSigningCertificatesRequest listSigningCertificatesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListSigningCertificatesResult>() {
-            public ListSigningCertificatesResult call() throws Exception {
-                return listSigningCertificates(listSigningCertificatesRequest);
-		    }
-		});
+        return invokeAsync(listSigningCertificatesRequest, new ListSigningCertificatesRequestMarshaller(), new ListSigningCertificatesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1572,11 +1409,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<UploadSigningCertificateResult> uploadSigningCertificateAsync(final UploadSigningCertificateRequest uploadSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UploadSigningCertificateResult>() {
-            public UploadSigningCertificateResult call() throws Exception {
-                return uploadSigningCertificate(uploadSigningCertificateRequest);
-		    }
-		});
+        return invokeAsync(uploadSigningCertificateRequest, new UploadSigningCertificateRequestMarshaller(), new UploadSigningCertificateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1602,12 +1435,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateLoginProfileAsync(final UpdateLoginProfileRequest updateLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateLoginProfile(updateLoginProfileRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateLoginProfileRequest, new UpdateLoginProfileRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1642,12 +1470,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteLoginProfileAsync(final DeleteLoginProfileRequest deleteLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteLoginProfile(deleteLoginProfileRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteLoginProfileRequest, new DeleteLoginProfileRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1677,12 +1500,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> changePasswordAsync(final ChangePasswordRequest changePasswordRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                changePassword(changePasswordRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(changePasswordRequest, new ChangePasswordRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1708,11 +1526,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetServerCertificateResult> getServerCertificateAsync(final GetServerCertificateRequest getServerCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetServerCertificateResult>() {
-            public GetServerCertificateResult call() throws Exception {
-                return getServerCertificate(getServerCertificateRequest);
-		    }
-		});
+        return invokeAsync(getServerCertificateRequest, new GetServerCertificateRequestMarshaller(), new GetServerCertificateResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1753,12 +1567,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> putGroupPolicyAsync(final PutGroupPolicyRequest putGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                putGroupPolicy(putGroupPolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(putGroupPolicyRequest, new PutGroupPolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1792,12 +1601,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> deleteSigningCertificateAsync(final DeleteSigningCertificateRequest deleteSigningCertificateRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteSigningCertificate(deleteSigningCertificateRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteSigningCertificateRequest, new DeleteSigningCertificateRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -1827,11 +1631,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListUserPoliciesResult> listUserPoliciesAsync(final ListUserPoliciesRequest listUserPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListUserPoliciesResult>() {
-            public ListUserPoliciesResult call() throws Exception {
-                return listUserPolicies(listUserPoliciesRequest);
-		    }
-		});
+        return invokeAsync(listUserPoliciesRequest, new ListUserPoliciesRequestMarshaller(), new ListUserPoliciesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1873,11 +1673,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListAccessKeysResult> listAccessKeysAsync(final ListAccessKeysRequest listAccessKeysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListAccessKeysResult>() {
-            public ListAccessKeysResult call() throws Exception {
-                return listAccessKeys(listAccessKeysRequest);
-		    }
-		});
+        return invokeAsync(listAccessKeysRequest, new ListAccessKeysRequestMarshaller(), new ListAccessKeysResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1907,11 +1703,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupsForUserResult> listGroupsForUserAsync(final ListGroupsForUserRequest listGroupsForUserRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupsForUserResult>() {
-            public ListGroupsForUserResult call() throws Exception {
-                return listGroupsForUser(listGroupsForUserRequest);
-		    }
-		});
+        return invokeAsync(listGroupsForUserRequest, new ListGroupsForUserRequestMarshaller(), new ListGroupsForUserResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1940,11 +1732,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetGroupPolicyResult> getGroupPolicyAsync(final GetGroupPolicyRequest getGroupPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetGroupPolicyResult>() {
-            public GetGroupPolicyResult call() throws Exception {
-                return getGroupPolicy(getGroupPolicyRequest);
-		    }
-		});
+        return invokeAsync(getGroupPolicyRequest, new GetGroupPolicyRequestMarshaller(), new GetGroupPolicyResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1980,11 +1768,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListVirtualMFADevicesResult> listVirtualMFADevicesAsync(final ListVirtualMFADevicesRequest listVirtualMFADevicesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVirtualMFADevicesResult>() {
-            public ListVirtualMFADevicesResult call() throws Exception {
-                return listVirtualMFADevices(listVirtualMFADevicesRequest);
-		    }
-		});
+        return invokeAsync(listVirtualMFADevicesRequest, new ListVirtualMFADevicesRequestMarshaller(), new ListVirtualMFADevicesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2015,11 +1799,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<ListGroupPoliciesResult> listGroupPoliciesAsync(final ListGroupPoliciesRequest listGroupPoliciesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGroupPoliciesResult>() {
-            public ListGroupPoliciesResult call() throws Exception {
-                return listGroupPolicies(listGroupPoliciesRequest);
-		    }
-		});
+        return invokeAsync(listGroupPoliciesRequest, new ListGroupPoliciesRequestMarshaller(), new ListGroupPoliciesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2049,11 +1829,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<CreateLoginProfileResult> createLoginProfileAsync(final CreateLoginProfileRequest createLoginProfileRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateLoginProfileResult>() {
-            public CreateLoginProfileResult call() throws Exception {
-                return createLoginProfile(createLoginProfileRequest);
-		    }
-		});
+        return invokeAsync(createLoginProfileRequest, new CreateLoginProfileRequestMarshaller(), new CreateLoginProfileResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2082,12 +1858,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<Void> updateAccountPasswordPolicyAsync(final UpdateAccountPasswordPolicyRequest updateAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                updateAccountPasswordPolicy(updateAccountPasswordPolicyRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(updateAccountPasswordPolicyRequest, new UpdateAccountPasswordPolicyRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -2120,11 +1891,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountSummaryResult> getAccountSummaryAsync(final GetAccountSummaryRequest getAccountSummaryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountSummaryResult>() {
-            public GetAccountSummaryResult call() throws Exception {
-                return getAccountSummary(getAccountSummaryRequest);
-		    }
-		});
+        return invokeAsync(getAccountSummaryRequest, new GetAccountSummaryRequestMarshaller(), new GetAccountSummaryResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -2153,11 +1920,7 @@ public class AmazonIdentityManagementAsyncClient extends AmazonIdentityManagemen
      */
     public Future<GetAccountPasswordPolicyResult> getAccountPasswordPolicyAsync(final GetAccountPasswordPolicyRequest getAccountPasswordPolicyRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetAccountPasswordPolicyResult>() {
-            public GetAccountPasswordPolicyResult call() throws Exception {
-                return getAccountPasswordPolicy(getAccountPasswordPolicyRequest);
-		    }
-		});
+        return invokeAsync(getAccountPasswordPolicyRequest, new GetAccountPasswordPolicyRequestMarshaller(), new GetAccountPasswordPolicyResultStaxUnmarshaller(), executorService);
     }
     
 }
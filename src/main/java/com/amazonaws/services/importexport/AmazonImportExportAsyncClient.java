@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.importexport;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -26,6 +25,7 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 
 import com.amazonaws.services.importexport.model.*;
+import com.amazonaws.services.importexport.model.transform.*;
 
 
 /**
@@ -230,11 +230,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<CreateJobResult> createJobAsync(final CreateJobRequest createJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateJobResult>() {
-            public CreateJobResult call() throws Exception {
-                return createJob(createJobRequest);
-		    }
-		});
+        return invokeAsync(createJobRequest, new CreateJobRequestMarshaller(), new CreateJobResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -259,11 +255,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<CancelJobResult> cancelJobAsync(final CancelJobRequest cancelJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CancelJobResult>() {
-            public CancelJobResult call() throws Exception {
-                return cancelJob(cancelJobRequest);
-		    }
-		});
+        return invokeAsync(cancelJobRequest, new CancelJobRequestMarshaller(), new CancelJobResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -290,11 +282,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<GetStatusResult> getStatusAsync(final GetStatusRequest getStatusRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetStatusResult>() {
-            public GetStatusResult call() throws Exception {
-                return getStatus(getStatusRequest);
-		    }
-		});
+        return invokeAsync(getStatusRequest, new GetStatusRequestMarshaller(), new GetStatusResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -322,11 +310,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<ListJobsResult> listJobsAsync(final ListJobsRequest listJobsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListJobsResult>() {
-            public ListJobsResult call() throws Exception {
-                return listJobs(listJobsRequest);
-		    }
-		});
+        return invokeAsync(listJobsRequest, new ListJobsRequestMarshaller(), new ListJobsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -354,11 +338,7 @@ public class AmazonImportExportAsyncClient extends AmazonImportExportClient
      */
     public Future<UpdateJobResult> updateJobAsync(final UpdateJobRequest updateJobRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateJobResult>() {
-            public UpdateJobResult call() throws Exception {
-                return updateJob(updateJobRequest);
-		    }
-		});
+        return invokeAsync(updateJobRequest, new UpdateJobRequestMarshaller(), new UpdateJobResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.rds;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.rds.model.*;
+import com.amazonaws.services.rds.model.transform.*;
 
 
 /**
@@ -243,11 +245,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> deleteDBInstanceAsync(final DeleteDBInstanceRequest deleteDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return deleteDBInstance(deleteDBInstanceRequest);
-		    }
-		});
+        return invokeAsync(deleteDBInstanceRequest, new DeleteDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -279,11 +277,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSubnetGroupsResult> describeDBSubnetGroupsAsync(final DescribeDBSubnetGroupsRequest describeDBSubnetGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSubnetGroupsResult>() {
-            public DescribeDBSubnetGroupsResult call() throws Exception {
-                return describeDBSubnetGroups(describeDBSubnetGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeDBSubnetGroupsRequest, new DescribeDBSubnetGroupsRequestMarshaller(), new DescribeDBSubnetGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -316,11 +310,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ModifyDBParameterGroupResult> modifyDBParameterGroupAsync(final ModifyDBParameterGroupRequest modifyDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ModifyDBParameterGroupResult>() {
-            public ModifyDBParameterGroupResult call() throws Exception {
-                return modifyDBParameterGroup(modifyDBParameterGroupRequest);
-		    }
-		});
+        return invokeAsync(modifyDBParameterGroupRequest, new ModifyDBParameterGroupRequestMarshaller(), new ModifyDBParameterGroupResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -346,11 +336,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> modifyDBInstanceAsync(final ModifyDBInstanceRequest modifyDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return modifyDBInstance(modifyDBInstanceRequest);
-		    }
-		});
+        return invokeAsync(modifyDBInstanceRequest, new ModifyDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -376,11 +362,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeReservedDBInstancesResult> describeReservedDBInstancesAsync(final DescribeReservedDBInstancesRequest describeReservedDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesResult>() {
-            public DescribeReservedDBInstancesResult call() throws Exception {
-                return describeReservedDBInstances(describeReservedDBInstancesRequest);
-		    }
-		});
+        return invokeAsync(describeReservedDBInstancesRequest, new DescribeReservedDBInstancesRequestMarshaller(), new DescribeReservedDBInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -408,12 +390,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBSubnetGroupAsync(final DeleteDBSubnetGroupRequest deleteDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDBSubnetGroup(deleteDBSubnetGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteDBSubnetGroupRequest, new DeleteDBSubnetGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -438,11 +415,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSubnetGroup> createDBSubnetGroupAsync(final CreateDBSubnetGroupRequest createDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
-            public DBSubnetGroup call() throws Exception {
-                return createDBSubnetGroup(createDBSubnetGroupRequest);
-		    }
-		});
+        return invokeAsync(createDBSubnetGroupRequest, new CreateDBSubnetGroupRequestMarshaller(), new DBSubnetGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -474,11 +447,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSecurityGroupsResult> describeDBSecurityGroupsAsync(final DescribeDBSecurityGroupsRequest describeDBSecurityGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSecurityGroupsResult>() {
-            public DescribeDBSecurityGroupsResult call() throws Exception {
-                return describeDBSecurityGroups(describeDBSecurityGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeDBSecurityGroupsRequest, new DescribeDBSecurityGroupsRequestMarshaller(), new DescribeDBSecurityGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -504,11 +473,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ReservedDBInstance> purchaseReservedDBInstancesOfferingAsync(final PurchaseReservedDBInstancesOfferingRequest purchaseReservedDBInstancesOfferingRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ReservedDBInstance>() {
-            public ReservedDBInstance call() throws Exception {
-                return purchaseReservedDBInstancesOffering(purchaseReservedDBInstancesOfferingRequest);
-		    }
-		});
+        return invokeAsync(purchaseReservedDBInstancesOfferingRequest, new PurchaseReservedDBInstancesOfferingRequestMarshaller(), new ReservedDBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -537,12 +502,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBSecurityGroupAsync(final DeleteDBSecurityGroupRequest deleteDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDBSecurityGroup(deleteDBSecurityGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteDBSecurityGroupRequest, new DeleteDBSecurityGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -567,11 +527,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSubnetGroup> modifyDBSubnetGroupAsync(final ModifyDBSubnetGroupRequest modifyDBSubnetGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSubnetGroup>() {
-            public DBSubnetGroup call() throws Exception {
-                return modifyDBSubnetGroup(modifyDBSubnetGroupRequest);
-		    }
-		});
+        return invokeAsync(modifyDBSubnetGroupRequest, new ModifyDBSubnetGroupRequestMarshaller(), new DBSubnetGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -596,11 +552,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> createDBSnapshotAsync(final CreateDBSnapshotRequest createDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
-            public DBSnapshot call() throws Exception {
-                return createDBSnapshot(createDBSnapshotRequest);
-		    }
-		});
+        return invokeAsync(createDBSnapshotRequest, new CreateDBSnapshotRequestMarshaller(), new DBSnapshotStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -625,11 +577,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBEngineVersionsResult> describeDBEngineVersionsAsync(final DescribeDBEngineVersionsRequest describeDBEngineVersionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBEngineVersionsResult>() {
-            public DescribeDBEngineVersionsResult call() throws Exception {
-                return describeDBEngineVersions(describeDBEngineVersionsRequest);
-		    }
-		});
+        return invokeAsync(describeDBEngineVersionsRequest, new DescribeDBEngineVersionsRequestMarshaller(), new DescribeDBEngineVersionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -660,11 +608,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> restoreDBInstanceToPointInTimeAsync(final RestoreDBInstanceToPointInTimeRequest restoreDBInstanceToPointInTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return restoreDBInstanceToPointInTime(restoreDBInstanceToPointInTimeRequest);
-		    }
-		});
+        return invokeAsync(restoreDBInstanceToPointInTimeRequest, new RestoreDBInstanceToPointInTimeRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -689,11 +633,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> copyDBSnapshotAsync(final CopyDBSnapshotRequest copyDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
-            public DBSnapshot call() throws Exception {
-                return copyDBSnapshot(copyDBSnapshotRequest);
-		    }
-		});
+        return invokeAsync(copyDBSnapshotRequest, new CopyDBSnapshotRequestMarshaller(), new DBSnapshotStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -725,11 +665,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<ResetDBParameterGroupResult> resetDBParameterGroupAsync(final ResetDBParameterGroupRequest resetDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ResetDBParameterGroupResult>() {
-            public ResetDBParameterGroupResult call() throws Exception {
-                return resetDBParameterGroup(resetDBParameterGroupRequest);
-		    }
-		});
+        return invokeAsync(resetDBParameterGroupRequest, new ResetDBParameterGroupRequestMarshaller(), new ResetDBParameterGroupResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -756,11 +692,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeOrderableDBInstanceOptionsResult> describeOrderableDBInstanceOptionsAsync(final DescribeOrderableDBInstanceOptionsRequest describeOrderableDBInstanceOptionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeOrderableDBInstanceOptionsResult>() {
-            public DescribeOrderableDBInstanceOptionsResult call() throws Exception {
-                return describeOrderableDBInstanceOptions(describeOrderableDBInstanceOptionsRequest);
-		    }
-		});
+        return invokeAsync(describeOrderableDBInstanceOptionsRequest, new DescribeOrderableDBInstanceOptionsRequestMarshaller(), new DescribeOrderableDBInstanceOptionsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -788,11 +720,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSnapshot> deleteDBSnapshotAsync(final DeleteDBSnapshotRequest deleteDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSnapshot>() {
-            public DBSnapshot call() throws Exception {
-                return deleteDBSnapshot(deleteDBSnapshotRequest);
-		    }
-		});
+        return invokeAsync(deleteDBSnapshotRequest, new DeleteDBSnapshotRequestMarshaller(), new DBSnapshotStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -817,11 +745,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBParametersResult> describeDBParametersAsync(final DescribeDBParametersRequest describeDBParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParametersResult>() {
-            public DescribeDBParametersResult call() throws Exception {
-                return describeDBParameters(describeDBParametersRequest);
-		    }
-		});
+        return invokeAsync(describeDBParametersRequest, new DescribeDBParametersRequestMarshaller(), new DescribeDBParametersResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -845,11 +769,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> createDBInstanceAsync(final CreateDBInstanceRequest createDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return createDBInstance(createDBInstanceRequest);
-		    }
-		});
+        return invokeAsync(createDBInstanceRequest, new CreateDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -879,12 +799,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<Void> deleteDBParameterGroupAsync(final DeleteDBParameterGroupRequest deleteDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteDBParameterGroup(deleteDBParameterGroupRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteDBParameterGroupRequest, new DeleteDBParameterGroupRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -913,11 +828,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> revokeDBSecurityGroupIngressAsync(final RevokeDBSecurityGroupIngressRequest revokeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
-            public DBSecurityGroup call() throws Exception {
-                return revokeDBSecurityGroupIngress(revokeDBSecurityGroupIngressRequest);
-		    }
-		});
+        return invokeAsync(revokeDBSecurityGroupIngressRequest, new RevokeDBSecurityGroupIngressRequestMarshaller(), new DBSecurityGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -943,11 +854,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> createDBSecurityGroupAsync(final CreateDBSecurityGroupRequest createDBSecurityGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
-            public DBSecurityGroup call() throws Exception {
-                return createDBSecurityGroup(createDBSecurityGroupRequest);
-		    }
-		});
+        return invokeAsync(createDBSecurityGroupRequest, new CreateDBSecurityGroupRequestMarshaller(), new DBSecurityGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -974,11 +881,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBParameterGroupsResult> describeDBParameterGroupsAsync(final DescribeDBParameterGroupsRequest describeDBParameterGroupsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBParameterGroupsResult>() {
-            public DescribeDBParameterGroupsResult call() throws Exception {
-                return describeDBParameterGroups(describeDBParameterGroupsRequest);
-		    }
-		});
+        return invokeAsync(describeDBParameterGroupsRequest, new DescribeDBParameterGroupsRequestMarshaller(), new DescribeDBParameterGroupsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1006,11 +909,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeEventsResult> describeEventsAsync(final DescribeEventsRequest describeEventsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeEventsResult>() {
-            public DescribeEventsResult call() throws Exception {
-                return describeEvents(describeEventsRequest);
-		    }
-		});
+        return invokeAsync(describeEventsRequest, new DescribeEventsRequestMarshaller(), new DescribeEventsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1037,11 +936,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<EngineDefaults> describeEngineDefaultParametersAsync(final DescribeEngineDefaultParametersRequest describeEngineDefaultParametersRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<EngineDefaults>() {
-            public EngineDefaults call() throws Exception {
-                return describeEngineDefaultParameters(describeEngineDefaultParametersRequest);
-		    }
-		});
+        return invokeAsync(describeEngineDefaultParametersRequest, new DescribeEngineDefaultParametersRequestMarshaller(), new EngineDefaultsStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1076,11 +971,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBParameterGroup> createDBParameterGroupAsync(final CreateDBParameterGroupRequest createDBParameterGroupRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBParameterGroup>() {
-            public DBParameterGroup call() throws Exception {
-                return createDBParameterGroup(createDBParameterGroupRequest);
-		    }
-		});
+        return invokeAsync(createDBParameterGroupRequest, new CreateDBParameterGroupRequestMarshaller(), new DBParameterGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1106,11 +997,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeReservedDBInstancesOfferingsResult> describeReservedDBInstancesOfferingsAsync(final DescribeReservedDBInstancesOfferingsRequest describeReservedDBInstancesOfferingsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeReservedDBInstancesOfferingsResult>() {
-            public DescribeReservedDBInstancesOfferingsResult call() throws Exception {
-                return describeReservedDBInstancesOfferings(describeReservedDBInstancesOfferingsRequest);
-		    }
-		});
+        return invokeAsync(describeReservedDBInstancesOfferingsRequest, new DescribeReservedDBInstancesOfferingsRequestMarshaller(), new DescribeReservedDBInstancesOfferingsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1135,11 +1022,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBInstancesResult> describeDBInstancesAsync(final DescribeDBInstancesRequest describeDBInstancesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBInstancesResult>() {
-            public DescribeDBInstancesResult call() throws Exception {
-                return describeDBInstances(describeDBInstancesRequest);
-		    }
-		});
+        return invokeAsync(describeDBInstancesRequest, new DescribeDBInstancesRequestMarshaller(), new DescribeDBInstancesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1168,11 +1051,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> rebootDBInstanceAsync(final RebootDBInstanceRequest rebootDBInstanceRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return rebootDBInstance(rebootDBInstanceRequest);
-		    }
-		});
+        return invokeAsync(rebootDBInstanceRequest, new RebootDBInstanceRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1201,11 +1080,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> restoreDBInstanceFromDBSnapshotAsync(final RestoreDBInstanceFromDBSnapshotRequest restoreDBInstanceFromDBSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return restoreDBInstanceFromDBSnapshot(restoreDBInstanceFromDBSnapshotRequest);
-		    }
-		});
+        return invokeAsync(restoreDBInstanceFromDBSnapshotRequest, new RestoreDBInstanceFromDBSnapshotRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1249,11 +1124,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBSecurityGroup> authorizeDBSecurityGroupIngressAsync(final AuthorizeDBSecurityGroupIngressRequest authorizeDBSecurityGroupIngressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBSecurityGroup>() {
-            public DBSecurityGroup call() throws Exception {
-                return authorizeDBSecurityGroupIngress(authorizeDBSecurityGroupIngressRequest);
-		    }
-		});
+        return invokeAsync(authorizeDBSecurityGroupIngressRequest, new AuthorizeDBSecurityGroupIngressRequestMarshaller(), new DBSecurityGroupStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1289,11 +1160,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DBInstance> createDBInstanceReadReplicaAsync(final CreateDBInstanceReadReplicaRequest createDBInstanceReadReplicaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DBInstance>() {
-            public DBInstance call() throws Exception {
-                return createDBInstanceReadReplica(createDBInstanceReadReplicaRequest);
-		    }
-		});
+        return invokeAsync(createDBInstanceReadReplicaRequest, new CreateDBInstanceReadReplicaRequestMarshaller(), new DBInstanceStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -1317,11 +1184,7 @@ public class AmazonRDSAsyncClient extends AmazonRDSClient
      */
     public Future<DescribeDBSnapshotsResult> describeDBSnapshotsAsync(final DescribeDBSnapshotsRequest describeDBSnapshotsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeDBSnapshotsResult>() {
-            public DescribeDBSnapshotsResult call() throws Exception {
-                return describeDBSnapshots(describeDBSnapshotsRequest);
-		    }
-		});
+        return invokeAsync(describeDBSnapshotsRequest, new DescribeDBSnapshotsRequestMarshaller(), new DescribeDBSnapshotsResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.route53;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -26,6 +25,7 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 
 import com.amazonaws.services.route53.model.*;
+import com.amazonaws.services.route53.model.transform.*;
 
 
 /**
@@ -244,11 +244,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<CreateHostedZoneResult> createHostedZoneAsync(final CreateHostedZoneRequest createHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateHostedZoneResult>() {
-            public CreateHostedZoneResult call() throws Exception {
-                return createHostedZone(createHostedZoneRequest);
-		    }
-		});
+        return invokeAsync(createHostedZoneRequest, new CreateHostedZoneRequestMarshaller(), new CreateHostedZoneResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -284,11 +280,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListHostedZonesResult> listHostedZonesAsync(final ListHostedZonesRequest listHostedZonesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListHostedZonesResult>() {
-            public ListHostedZonesResult call() throws Exception {
-                return listHostedZones(listHostedZonesRequest);
-		    }
-		});
+        return invokeAsync(listHostedZonesRequest, new ListHostedZonesRequestMarshaller(), new ListHostedZonesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -354,11 +346,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ChangeResourceRecordSetsResult> changeResourceRecordSetsAsync(final ChangeResourceRecordSetsRequest changeResourceRecordSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ChangeResourceRecordSetsResult>() {
-            public ChangeResourceRecordSetsResult call() throws Exception {
-                return changeResourceRecordSets(changeResourceRecordSetsRequest);
-		    }
-		});
+        return invokeAsync(changeResourceRecordSetsRequest, new ChangeResourceRecordSetsRequestMarshaller(), new ChangeResourceRecordSetsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -392,11 +380,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetChangeResult> getChangeAsync(final GetChangeRequest getChangeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetChangeResult>() {
-            public GetChangeResult call() throws Exception {
-                return getChange(getChangeRequest);
-		    }
-		});
+        return invokeAsync(getChangeRequest, new GetChangeRequestMarshaller(), new GetChangeResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -471,11 +455,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<ListResourceRecordSetsResult> listResourceRecordSetsAsync(final ListResourceRecordSetsRequest listResourceRecordSetsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListResourceRecordSetsResult>() {
-            public ListResourceRecordSetsResult call() throws Exception {
-                return listResourceRecordSets(listResourceRecordSetsRequest);
-		    }
-		});
+        return invokeAsync(listResourceRecordSetsRequest, new ListResourceRecordSetsRequestMarshaller(), new ListResourceRecordSetsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -502,11 +482,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<GetHostedZoneResult> getHostedZoneAsync(final GetHostedZoneRequest getHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetHostedZoneResult>() {
-            public GetHostedZoneResult call() throws Exception {
-                return getHostedZone(getHostedZoneRequest);
-		    }
-		});
+        return invokeAsync(getHostedZoneRequest, new GetHostedZoneRequestMarshaller(), new GetHostedZoneResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -546,11 +522,7 @@ public class AmazonRoute53AsyncClient extends AmazonRoute53Client
      */
     public Future<DeleteHostedZoneResult> deleteHostedZoneAsync(final DeleteHostedZoneRequest deleteHostedZoneRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteHostedZoneResult>() {
-            public DeleteHostedZoneResult call() throws Exception {
-                return deleteHostedZone(deleteHostedZoneRequest);
-		    }
-		});
+        return invokeAsync(deleteHostedZoneRequest, new DeleteHostedZoneRequestMarshaller(), new DeleteHostedZoneResultStaxUnmarshaller(), executorService);
     }
     
 }
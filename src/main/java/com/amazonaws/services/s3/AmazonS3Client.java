@@ -18,11 +18,13 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Date;
@@ -55,12 +57,11 @@ import com.amazonaws.internal.StaticCredentialsProvider;
 import com.amazonaws.services.s3.internal.BucketNameUtils;
 import com.amazonaws.services.s3.internal.Constants;
 import com.amazonaws.services.s3.internal.DeleteObjectsResponse;
-import com.amazonaws.services.s3.internal.InputSubstream;
 import com.amazonaws.services.s3.internal.MD5DigestCalculatingInputStream;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.ObjectExpirationHeaderHandler;
+import com.amazonaws.services.s3.internal.ProgressReportingFileRegionInputStream;
 import com.amazonaws.services.s3.internal.ProgressReportingInputStream;
-import com.amazonaws.services.s3.internal.RepeatableFileInputStream;
 import com.amazonaws.services.s3.internal.RepeatableInputStream;
 import com.amazonaws.services.s3.internal.ResponseHeaderHandlerChain;
 import com.amazonaws.services.s3.internal.S3ErrorResponseHandler;
@@ -73,6 +74,7 @@ import com.amazonaws.services.s3.internal.S3VersionHeaderHandler;
 import com.amazonaws.services.s3.internal.S3XmlResponseHandler;
 import com.amazonaws.services.s3.internal.ServerSideEncryptionHeaderHandler;
 import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.internal.SpillingInputBuffer;
 import com.amazonaws.services.s3.internal.XmlWriter;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AccessControlList;
@@ -110,6 +112,7 @@ import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.GroupGrantee;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.IntegrityCheckMode;
 import com.amazonaws.services.s3.model.ListBucketsRequest;
 import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
 import com.amazonaws.services.s3.model.ListObjectsRequest;
@@ -888,7 +891,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         // getObject can return null if constraints were specified but not met
         if (s3Object == null) return null;
 
-        ServiceUtils.downloadObjectToFile(s3Object, destinationFile);
+        ServiceUtils.downloadObjectToFile(s3Object, destinationFile, getObjectRequest.getIntegrityCheckMode());
         return s3Object.getObjectMetadata();
     }
 
@@ -947,6 +950,7 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         InputStream input = putObjectRequest.getInputStream();
         ProgressListener progressListener = putObjectRequest.getProgressListener();
         if (metadata == null) metadata = new ObjectMetadata();
+        ProgressReportingFileRegionInputStream fileStream = null;
 
         assertParameterNotNull(bucketName, "The bucket name parameter must be specified when uploading an object");
         assertParameterNotNull(key, "The key parameter must be specified when uploading an object");
@@ -964,20 +968,28 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
                 metadata.setContentType(Mimetypes.getInstance().getMimetype(file));
             }
 
-            FileInputStream fileInputStream = null;
-            try {
-                fileInputStream = new FileInputStream(file);
-                byte[] md5Hash = Md5Utils.computeMD5Hash(fileInputStream);
-                metadata.setContentMD5(BinaryUtils.toBase64(md5Hash));
-            } catch (Exception e) {
-                throw new AmazonClientException(
-                        "Unable to calculate MD5 hash: " + e.getMessage(), e);
-            } finally {
-                try {fileInputStream.close();} catch (Exception e) {}
+            /*
+             * In inline mode, the MD5 hash is calculated as the file is
+             * uploaded and checked against the returned ETag below, instead
+             * of reading the whole file an extra time up front.
+             */
+            if (putObjectRequest.getIntegrityCheckMode() != IntegrityCheckMode.Inline) {
+                FileInputStream fileInputStream = null;
+                try {
+                    fileInputStream = new FileInputStream(file);
+                    byte[] md5Hash = Md5Utils.computeMD5Hash(fileInputStream);
+                    metadata.setContentMD5(BinaryUtils.toBase64(md5Hash));
+                } catch (Exception e) {
+                    throw new AmazonClientException(
+                            "Unable to calculate MD5 hash: " + e.getMessage(), e);
+                } finally {
+                    try {fileInputStream.close();} catch (Exception e) {}
+                }
             }
 
             try {
-                input = new RepeatableFileInputStream(file);
+                fileStream = new ProgressReportingFileRegionInputStream(file);
+                input = fileStream;
             } catch (FileNotFoundException fnfe) {
                 throw new AmazonClientException("Unable to find file to upload", fnfe);
             }
@@ -993,22 +1005,53 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             request.addHeader(Headers.STORAGE_CLASS, putObjectRequest.getStorageClass());
         }
 
+        SpillingInputBuffer inputBuffer = null;
         // Use internal interface to differentiate 0 from unset.
         if (metadata.getRawMetadata().get(Headers.CONTENT_LENGTH) == null) {
             /*
-             * There's nothing we can do except for let the HTTP client buffer
-             * the input stream contents if the caller doesn't tell us how much
-             * data to expect in a stream since we have to explicitly tell
-             * Amazon S3 how much we're sending before we start sending any of
-             * it.
+             * We have to explicitly tell Amazon S3 how much we're sending
+             * before we start sending any of it, so if the caller doesn't tell
+             * us how much data to expect in a stream, we buffer it first. Only
+             * the beginning of the stream is held in memory; the rest is
+             * spilled to a temporary file, which is then uploaded like any
+             * other file.
              */
-            log.warn("No content length specified for stream data.  " +
-                     "Stream contents will be buffered in memory and could result in " +
-                     "out of memory errors.");
+            inputBuffer = new SpillingInputBuffer(Constants.DEFAULT_STREAM_BUFFER_SIZE);
+            try {
+                inputBuffer.fill(input);
+            } catch (IOException e) {
+                inputBuffer.release();
+                throw new AmazonClientException("Unable to buffer stream data: " + e.getMessage(), e);
+            } finally {
+                try {input.close();} catch (Exception e) {
+                    log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
+                }
+            }
+
+            if (inputBuffer.getFile() != null) {
+                try {
+                    fileStream = new ProgressReportingFileRegionInputStream(inputBuffer.getFile());
+                } catch (FileNotFoundException fnfe) {
+                    inputBuffer.release();
+                    throw new AmazonClientException("Unable to read buffered stream data", fnfe);
+                }
+                input = fileStream;
+            } else {
+                input = inputBuffer.getMemoryInputStream();
+            }
         }
 
+        /*
+         * Files are left unwrapped so that the HTTP client can send them
+         * straight from the file's channel; the file stream itself reports
+         * progress and calculates the MD5 digest.
+         */
         if (progressListener != null) {
-            input = new ProgressReportingInputStream(input, progressListener);
+            if (fileStream != null) {
+                fileStream.setProgressListener(progressListener);
+            } else {
+                input = new ProgressReportingInputStream(input, progressListener);
+            }
             fireProgressEvent(progressListener, ProgressEvent.STARTED_EVENT_CODE);
         }
 
@@ -1017,7 +1060,8 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
 
         MD5DigestCalculatingInputStream md5DigestStream = null;
-        if (metadata.getContentMD5() == null) {
+        boolean bufferedMd5 = inputBuffer != null && inputBuffer.getMd5Digest() != null;
+        if (metadata.getContentMD5() == null && !bufferedMd5) {
             /*
              * If the user hasn't set the content MD5, then we don't want to
              * buffer the whole stream in memory just to calculate it. Instead,
@@ -1025,8 +1069,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
              * ETag from the object upload.
              */
             try {
-                md5DigestStream = new MD5DigestCalculatingInputStream(input);
-                input = md5DigestStream;
+                if (fileStream != null) {
+                    fileStream.setMessageDigest(MessageDigest.getInstance("MD5"));
+                } else {
+                    md5DigestStream = new MD5DigestCalculatingInputStream(input);
+                    input = md5DigestStream;
+                }
             } catch (NoSuchAlgorithmException e) {
                 log.warn("No MD5 digest algorithm available.  Unable to calculate " +
                          "checksum and verify data integrity.", e);
@@ -1042,6 +1090,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         }
 
         populateRequestMetadata(request, metadata);
+        if (inputBuffer != null) {
+            request.addHeader(Headers.CONTENT_LENGTH, Long.toString(inputBuffer.getLength()));
+            if (metadata.getContentMD5() == null && inputBuffer.getMd5Digest() != null) {
+                request.addHeader(Headers.CONTENT_MD5, BinaryUtils.toBase64(inputBuffer.getMd5Digest()));
+            }
+        }
         request.setContent(input);
 
         ObjectMetadata returnedMetadata = null;
@@ -1054,11 +1108,16 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             try {input.close();} catch (Exception e) {
                 log.warn("Unable to cleanly close input stream: " + e.getMessage(), e);
             }
+            if (inputBuffer != null) inputBuffer.release();
         }
 
         String contentMd5 = metadata.getContentMD5();
-        if (md5DigestStream != null) {
+        if (contentMd5 == null && inputBuffer != null && inputBuffer.getMd5Digest() != null) {
+            contentMd5 = BinaryUtils.toBase64(inputBuffer.getMd5Digest());
+        } else if (md5DigestStream != null) {
             contentMd5 = BinaryUtils.toBase64(md5DigestStream.getMd5Digest());
+        } else if (fileStream != null && fileStream.getMessageDigest() != null) {
+            contentMd5 = BinaryUtils.toBase64(fileStream.getMessageDigest().digest());
         }
 
         if (returnedMetadata != null && contentMd5 != null) {
@@ -2023,12 +2082,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
         request.addHeader(Headers.CONTENT_LENGTH, Long.toString(partSize));
 
         InputStream inputStream = null;
+        ProgressReportingFileRegionInputStream fileStream = null;
         if (uploadPartRequest.getInputStream() != null) {
             inputStream = uploadPartRequest.getInputStream();
         } else if (uploadPartRequest.getFile() != null) {
             try {
-                inputStream = new InputSubstream(new RepeatableFileInputStream(uploadPartRequest.getFile()),
-                        uploadPartRequest.getFileOffset(), partSize, true);
+                fileStream = new ProgressReportingFileRegionInputStream(uploadPartRequest.getFile(),
+                        uploadPartRequest.getFileOffset(), partSize);
+                inputStream = fileStream;
             } catch (FileNotFoundException e) {
                 throw new IllegalArgumentException("The specified file doesn't exist", e);
             }
@@ -2045,8 +2106,12 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
              * ETag from the object upload.
              */
             try {
-                md5DigestStream = new MD5DigestCalculatingInputStream(inputStream);
-                inputStream = md5DigestStream;
+                if (fileStream != null) {
+                    fileStream.setMessageDigest(MessageDigest.getInstance("MD5"));
+                } else {
+                    md5DigestStream = new MD5DigestCalculatingInputStream(inputStream);
+                    inputStream = md5DigestStream;
+                }
             } catch (NoSuchAlgorithmException e) {
                 log.warn("No MD5 digest algorithm available.  Unable to calculate " +
                          "checksum and verify data integrity.", e);
@@ -2055,7 +2120,11 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
 
         ProgressListener progressListener = uploadPartRequest.getProgressListener();
         if (progressListener != null) {
-            inputStream = new ProgressReportingInputStream(inputStream, progressListener);
+            if (fileStream != null) {
+                fileStream.setProgressListener(progressListener);
+            } else {
+                inputStream = new ProgressReportingInputStream(inputStream, progressListener);
+            }
             fireProgressEvent(progressListener, ProgressEvent.PART_STARTED_EVENT_CODE);
         }
 
@@ -2063,9 +2132,14 @@ public class AmazonS3Client extends AmazonWebServiceClient implements AmazonS3 {
             request.setContent(inputStream);
             ObjectMetadata metadata = invoke(request, new S3MetadataResponseHandler(), bucketName, key);
 
-            if (metadata != null && md5DigestStream != null) {
-            	String contentMd5 = BinaryUtils.toBase64(md5DigestStream.getMd5Digest());
-                byte[] clientSideHash = BinaryUtils.fromBase64(contentMd5);
+            byte[] clientSideHash = null;
+            if (md5DigestStream != null) {
+                clientSideHash = md5DigestStream.getMd5Digest();
+            } else if (fileStream != null && fileStream.getMessageDigest() != null) {
+                clientSideHash = fileStream.getMessageDigest().digest();
+            }
+
+            if (metadata != null && clientSideHash != null) {
                 byte[] serverSideHash = BinaryUtils.fromHex(metadata.getETag());
 
                 if (!Arrays.equals(clientSideHash, serverSideHash)) {
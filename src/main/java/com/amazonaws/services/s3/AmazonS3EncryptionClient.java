@@ -56,6 +56,7 @@ import com.amazonaws.services.s3.model.PutObjectResult;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.amazonaws.services.s3.model.UploadPartResult;
+import com.amazonaws.util.BufferPool;
 
 /**
  * The AmazonS3Encryption class extends the Amazon S3 Client, allowing you to store data securely in S3.
@@ -280,9 +281,9 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
         if (s3Object == null) return null;
 
         OutputStream outputStream = null;
+        byte[] buffer = BufferPool.getSharedPool().acquire(1024*10);
         try {
             outputStream = new BufferedOutputStream(new FileOutputStream(destinationFile));
-            byte[] buffer = new byte[1024*10];
             int bytesRead;
             while ((bytesRead = s3Object.getObjectContent().read(buffer)) > -1) {
                 outputStream.write(buffer, 0, bytesRead);
@@ -291,6 +292,7 @@ public class AmazonS3EncryptionClient extends AmazonS3Client {
             throw new AmazonClientException(
                     "Unable to store object contents to disk: " + e.getMessage(), e);
         } finally {
+            BufferPool.getSharedPool().release(buffer);
             try {outputStream.close();} catch (Exception e) {}
             try {s3Object.getObjectContent().close();} catch (Exception e) {}
         }
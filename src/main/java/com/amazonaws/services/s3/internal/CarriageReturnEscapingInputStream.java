@@ -0,0 +1,160 @@
+/*
+ * Copyright 2010-2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ * 
+ *  http://aws.amazon.com/apache2.0
+ * 
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.amazonaws.util.BufferPool;
+
+/**
+ * InputStream wrapper that replaces every carriage return (\r) byte in a UTF-8
+ * encoded XML document with an explicit "&amp;#013;" character entity as the
+ * document is read, to prevent a SAX parser from normalizing the 0x0D
+ * characters in S3 object keys to 0x0A.
+ * <p>
+ * 0x0D never occurs inside a multi-byte UTF-8 sequence, so the replacement
+ * can safely be done on the raw bytes without decoding the document.
+ * <p>
+ * The read buffer is taken from the shared {@link BufferPool} and returned to
+ * it once the wrapped stream runs out or is closed.
+ */
+public class CarriageReturnEscapingInputStream extends FilterInputStream {
+
+    /** The bytes written in place of each carriage return */
+    private static final byte[] ESCAPED_CARRIAGE_RETURN = {'&', '#', '0', '1', '3', ';'};
+
+    /** Bytes read from the wrapped stream that haven't been returned yet */
+    private byte[] buffer = BufferPool.getSharedPool().acquire(8192);
+    private int position;
+    private int limit;
+
+    /**
+     * The index of the next byte of the escaped carriage return to return, or
+     * -1 if not in the middle of returning one.
+     */
+    private int escapePosition = -1;
+
+    public CarriageReturnEscapingInputStream(InputStream in) {
+        super(in);
+    }
+
+    /**
+     * @see java.io.InputStream#read()
+     */
+    @Override
+    public int read() throws IOException {
+        byte[] b = new byte[1];
+        int result = read(b, 0, 1);
+        return (result == -1) ? -1 : (b[0] & 0xFF);
+    }
+
+    /**
+     * @see java.io.InputStream#read(byte[], int, int)
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int count = 0;
+        while (count < len) {
+            if (escapePosition > -1) {
+                b[off + count++] = ESCAPED_CARRIAGE_RETURN[escapePosition++];
+                if (escapePosition == ESCAPED_CARRIAGE_RETURN.length) escapePosition = -1;
+                continue;
+            }
+
+            if (position == limit) {
+                // Only block on the wrapped stream if we have nothing to return
+                if (count > 0) break;
+
+                if (buffer == null) return -1;
+                int read = in.read(buffer, 0, buffer.length);
+                if (read == -1) {
+                    releaseBuffer();
+                    return -1;
+                }
+                position = 0;
+                limit = read;
+                continue;
+            }
+
+            byte next = buffer[position++];
+            if (next == '\r') {
+                escapePosition = 0;
+            } else {
+                b[off + count++] = next;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Skips over the escaped stream contents, rather than the wrapped stream's.
+     *
+     * @see java.io.InputStream#skip(long)
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] skipBuffer = new byte[(int)Math.min(n, 2048)];
+        long remaining = n;
+        while (remaining > 0) {
+            int read = read(skipBuffer, 0, (int)Math.min(remaining, skipBuffer.length));
+            if (read == -1) break;
+            remaining -= read;
+        }
+        return n - remaining;
+    }
+
+    /**
+     * @see java.io.InputStream#available()
+     */
+    @Override
+    public int available() throws IOException {
+        int pending = limit - position;
+        if (escapePosition > -1) pending += ESCAPED_CARRIAGE_RETURN.length - escapePosition;
+        return (pending > 0) ? pending : in.available();
+    }
+
+    @Override
+    public void close() throws IOException {
+        super.close();
+        releaseBuffer();
+    }
+
+    private void releaseBuffer() {
+        BufferPool.getSharedPool().release(buffer);
+        buffer = null;
+        position = limit = 0;
+    }
+
+    /**
+     * Marking isn't supported, since the stream holds escaped data that the
+     * wrapped stream's mark wouldn't cover.
+     *
+     * @see java.io.InputStream#markSupported()
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readlimit) {}
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+}
@@ -15,7 +15,6 @@
 package com.amazonaws.services.s3.internal;
 
 import java.text.ParseException;
-import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -64,9 +63,8 @@ public class ObjectExpirationHeaderHandler<T extends ObjectExpirationResult> imp
         Matcher matcher = datePattern.matcher(expirationHeader);
         if ( matcher.find() ) {
             String date = matcher.group(1);
-            SimpleDateFormat fmt = new SimpleDateFormat("EEE, dd MMM yyyy HH:MM:SS z");
             try {
-                return fmt.parse(date);
+                return ServiceUtils.parseRfc822Date(date);
             } catch ( ParseException e ) {
                 return null;
             }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.ProgressListener;
+import com.amazonaws.util.FileRegionInputStream;
+
+/**
+ * Stream over a file, or a region of one, being uploaded, that notifies an
+ * optional progress listener about the number of bytes transfered the same
+ * way {@link ProgressReportingInputStream} does. Unlike a wrapped stream, it
+ * can still be written out straight from the file's channel.
+ */
+public class ProgressReportingFileRegionInputStream extends FileRegionInputStream {
+
+    /** The threshold of bytes between notifications. */
+    private static final int NOTIFICATION_THRESHOLD = 8 * Constants.KB;
+
+    /** The listener to notify, if any. */
+    private ProgressListener listener;
+
+    /** The number of bytes transfered that the listener hasn't been notified about yet. */
+    private long unnotifiedByteCount;
+
+    public ProgressReportingFileRegionInputStream(File file) throws FileNotFoundException {
+        super(file);
+    }
+
+    public ProgressReportingFileRegionInputStream(File file, long offset, long length) throws FileNotFoundException {
+        super(file, offset, length);
+    }
+
+    /**
+     * Sets the listener to notify about progress.
+     */
+    public void setProgressListener(ProgressListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    protected void transferred(long count) {
+        if (listener == null) return;
+
+        unnotifiedByteCount += count;
+        if (unnotifiedByteCount >= NOTIFICATION_THRESHOLD) {
+            listener.progressChanged(new ProgressEvent((int)unnotifiedByteCount));
+            unnotifiedByteCount = 0;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (listener != null && unnotifiedByteCount > 0) {
+            listener.progressChanged(new ProgressEvent((int)unnotifiedByteCount));
+            unnotifiedByteCount = 0;
+        }
+        super.close();
+    }
+}
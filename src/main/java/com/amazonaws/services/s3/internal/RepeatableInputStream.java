@@ -23,6 +23,8 @@ import java.io.InputStream;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.util.BufferPool;
+
 /**
  * A repeatable input stream wrapper for any input stream. This input stream
  * relies on buffered data to repeat, and can therefore only be repeated when
@@ -31,6 +33,10 @@ import org.apache.commons.logging.LogFactory;
  * <b>Note:</b> Always use a {@link RepeatableFileInputStream} instead of this
  * class if you are sourcing data from a file, as the file-based repeatable
  * input stream can be repeated without any limitations.
+ * <p>
+ * The buffer is taken from the shared {@link BufferPool} and returned to it
+ * when the stream is closed, or as soon as more data has been read than it
+ * can hold.
  */
 public class RepeatableInputStream extends InputStream {
     private static final Log log = LogFactory.getLog(RepeatableInputStream.class);
@@ -58,11 +64,11 @@ public class RepeatableInputStream extends InputStream {
 
         this.is = inputStream;
         this.bufferSize = bufferSize;
-        this.buffer = new byte[this.bufferSize];
+        this.buffer = BufferPool.getSharedPool().acquire(this.bufferSize);
 
         if (log.isDebugEnabled()) {
         	log.debug("Underlying input stream will be repeatable up to "
-        	        + this.buffer.length + " bytes");
+        	        + this.bufferSize + " bytes");
         }
     }
 
@@ -105,20 +111,19 @@ public class RepeatableInputStream extends InputStream {
     	}
     	if (bytesReadPastMark <= bufferSize && buffer != null) {
             /*
-             * Clear buffer of already-read data to make more space. It's safe
-             * to cast bytesReadPastMark to an int because it is known to be
-             * less than bufferSize, which is an int.
+             * Clear buffer of already-read data to make more space, by moving
+             * the data not yet repeated to its start. It's safe to cast
+             * bytesReadPastMark to an int because it is known to be less than
+             * bufferSize, which is an int.
              */
-            byte[] newBuffer = new byte[this.bufferSize];
-    		System.arraycopy(buffer, bufferOffset, newBuffer, 0, (int)(bytesReadPastMark - bufferOffset));
-            this.buffer = newBuffer;
+    		System.arraycopy(buffer, bufferOffset, buffer, 0, (int)(bytesReadPastMark - bufferOffset));
             this.bytesReadPastMark -= bufferOffset;
     		this.bufferOffset = 0;
     	} else {
-            // If mark is called after the buffer was already exceeded, create a new buffer.
+            // If mark is called after the buffer was already exceeded, take a new buffer.
     		this.bufferOffset = 0;
             this.bytesReadPastMark = 0;
-            this.buffer = new byte[this.bufferSize];
+            if (this.buffer == null) this.buffer = BufferPool.getSharedPool().acquire(this.bufferSize);
     	}
     }
 
@@ -134,18 +139,17 @@ public class RepeatableInputStream extends InputStream {
      */
     public void close() throws IOException {
         is.close();
+        releaseBuffer();
     }
 
     /**
      * @see java.io.InputStream#read(byte[], int, int)
      */
     public int read(byte[] out, int outOffset, int outLength) throws IOException {
-        byte[] tmp = new byte[outLength];
-
         // Check whether we already have buffered data.
         if (bufferOffset < bytesReadPastMark && buffer != null) {
             // Data is being repeated, so read from buffer instead of wrapped input stream.
-            int bytesFromBuffer = tmp.length;
+            int bytesFromBuffer = outLength;
             if (bufferOffset + bytesFromBuffer > bytesReadPastMark) {
                 bytesFromBuffer = (int) bytesReadPastMark - bufferOffset;
             }
@@ -156,16 +160,16 @@ public class RepeatableInputStream extends InputStream {
             return bytesFromBuffer;
         }
 
-        // Read data from input stream.
-        int count = is.read(tmp);
+        // Read data from input stream straight into the output byte array.
+        int count = is.read(out, outOffset, outLength);
 
         if (count <= 0) {
             return count;
         }
 
         // Fill the buffer with data, as long as we won't exceed its capacity.
-        if (bytesReadPastMark + count <= bufferSize) {
-            System.arraycopy(tmp, 0, buffer, (int) bytesReadPastMark, count);
+        if (bytesReadPastMark + count <= bufferSize && buffer != null) {
+            System.arraycopy(out, outOffset, buffer, (int) bytesReadPastMark, count);
             bufferOffset += count;
         } else if (buffer != null) {
             // We have exceeded the buffer capacity, after which point it is of no use. Free the memory.
@@ -173,11 +177,9 @@ public class RepeatableInputStream extends InputStream {
         		log.debug("Buffer size " + bufferSize + " has been exceeded and the input stream "
                 + "will not be repeatable until the next mark. Freeing buffer memory");
         	}
-            buffer = null;
+            releaseBuffer();
         }
 
-        // Write to output byte array.
-        System.arraycopy(tmp, 0, out, outOffset, count);
         bytesReadPastMark += count;
 
         return count;
@@ -200,4 +202,9 @@ public class RepeatableInputStream extends InputStream {
         return is;
     }
 
+    private void releaseBuffer() {
+        BufferPool.getSharedPool().release(buffer);
+        buffer = null;
+    }
+
 }
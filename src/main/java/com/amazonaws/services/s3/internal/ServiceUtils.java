@@ -27,6 +27,8 @@ import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.Date;
@@ -38,8 +40,10 @@ import org.apache.commons.logging.LogFactory;
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.Request;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.model.IntegrityCheckMode;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.util.BinaryUtils;
+import com.amazonaws.util.BufferPool;
 import com.amazonaws.util.DateUtils;
 import com.amazonaws.util.Md5Utils;
 
@@ -218,20 +222,51 @@ public class ServiceUtils {
      *            The file to store the object's data in.
      */
     public static void downloadObjectToFile(S3Object s3Object, File destinationFile) {
+        downloadObjectToFile(s3Object, destinationFile, IntegrityCheckMode.SeparatePass);
+    }
+
+    /**
+     * Downloads an S3Object, as returned from
+     * {@link AmazonS3Client#getObject(com.amazonaws.services.s3.model.GetObjectRequest)},
+     * to the specified file, verifying the downloaded data as specified by
+     * the integrity check mode.
+     *
+     * @param s3Object
+     *            The S3Object containing a reference to an InputStream
+     *            containing the object's data.
+     * @param destinationFile
+     *            The file to store the object's data in.
+     * @param integrityCheckMode
+     *            Whether the MD5 hash of the data is calculated while it's
+     *            written to the file, or by reading back the file afterwards.
+     */
+    public static void downloadObjectToFile(S3Object s3Object, File destinationFile,
+            IntegrityCheckMode integrityCheckMode) {
 
         // attempt to create the parent if it doesn't exist
         File parentDirectory = destinationFile.getParentFile();
         if ( parentDirectory != null && !parentDirectory.exists() ) {
             parentDirectory.mkdirs();
         }
-        
+
+        MessageDigest digest = null;
+        if (integrityCheckMode == IntegrityCheckMode.Inline) {
+            try {
+                digest = MessageDigest.getInstance("MD5");
+            } catch (NoSuchAlgorithmException e) {
+                log.warn("No MD5 digest algorithm available.  Falling back to " +
+                         "verifying the downloaded file separately.", e);
+            }
+        }
+
         OutputStream outputStream = null;
+        byte[] buffer = BufferPool.getSharedPool().acquire(1024*10);
         try {
             outputStream = new BufferedOutputStream(new FileOutputStream(destinationFile));
-            byte[] buffer = new byte[1024*10];
             int bytesRead;
             while ((bytesRead = s3Object.getObjectContent().read(buffer)) > -1) {
                 outputStream.write(buffer, 0, bytesRead);
+                if (digest != null) digest.update(buffer, 0, bytesRead);
             }
         } catch (IOException e) {
             try {
@@ -242,14 +277,53 @@ public class ServiceUtils {
             throw new AmazonClientException(
                     "Unable to store object contents to disk: " + e.getMessage(), e);
         } finally {
+            BufferPool.getSharedPool().release(buffer);
             try {outputStream.close();} catch (Exception e) {}
             try {s3Object.getObjectContent().close();} catch (Exception e) {}
         }
 
+        if (digest != null) {
+            verifyDownloadedHash(s3Object, destinationFile, digest.digest());
+        } else {
+            verifyDownloadedFile(s3Object, destinationFile);
+        }
+    }
+
+    /**
+     * Compares the MD5 hash of a file downloaded from the specified object
+     * with the object's ETag, logging a warning if they can't be compared or
+     * don't match. Objects uploaded in parts are skipped, since their ETags
+     * aren't an MD5 hash of their content.
+     *
+     * @param s3Object
+     *            The object the file was downloaded from.
+     * @param destinationFile
+     *            The file containing the object's downloaded data.
+     */
+    public static void verifyDownloadedFile(S3Object s3Object, File destinationFile) {
+        // Multipart Uploads don't have an MD5 calculated on the service side
+        if (isMultipartUploadETag(s3Object.getObjectMetadata().getETag())) return;
+
+        FileInputStream fileInputStream = null;
+        try {
+            fileInputStream = new FileInputStream(destinationFile);
+            verifyDownloadedHash(s3Object, destinationFile, Md5Utils.computeMD5Hash(fileInputStream));
+        } catch (Exception e) {
+            log.warn("Unable to calculate MD5 hash to validate download: " + e.getMessage(), e);
+        } finally {
+            try {if (fileInputStream != null) fileInputStream.close();} catch (Exception e) {}
+        }
+    }
+
+    /**
+     * Compares the MD5 hash calculated for the data downloaded to a file from
+     * the specified object with the object's ETag, the same way as
+     * {@link #verifyDownloadedFile(S3Object, File)}.
+     */
+    private static void verifyDownloadedHash(S3Object s3Object, File destinationFile, byte[] clientSideHash) {
         try {
             // Multipart Uploads don't have an MD5 calculated on the service side
-            if (ServiceUtils.isMultipartUploadETag(s3Object.getObjectMetadata().getETag()) == false) {
-                byte[] clientSideHash = Md5Utils.computeMD5Hash(new FileInputStream(destinationFile));
+            if (isMultipartUploadETag(s3Object.getObjectMetadata().getETag()) == false) {
                 byte[] serverSideHash = BinaryUtils.fromHex(s3Object.getObjectMetadata().getETag());
 
                 if (!Arrays.equals(clientSideHash, serverSideHash)) {
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.internal;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.util.BufferPool;
+import com.amazonaws.util.PayloadInputStream;
+
+/**
+ * Buffers the contents of a stream of unknown length, so that it can be
+ * uploaded with the Content-Length Amazon S3 requires up front. Content up to
+ * a fixed size is kept in memory; anything larger is spilled to a temporary
+ * file, so memory use doesn't grow with the size of the stream. The content's
+ * MD5 digest is calculated as it's buffered. The memory buffer is taken from
+ * the shared {@link BufferPool}.
+ */
+public class SpillingInputBuffer {
+    private static final Log log = LogFactory.getLog(SpillingInputBuffer.class);
+
+    private final int memoryLimit;
+
+    private byte[] memory;
+    private int memoryLength;
+    private File file;
+    private long length;
+    private byte[] md5Digest;
+
+    /**
+     * Constructs a new buffer that keeps up to the specified number of bytes
+     * in memory before spilling to a temporary file.
+     */
+    public SpillingInputBuffer(int memoryLimit) {
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Reads the specified stream to its end into this buffer. The stream
+     * isn't closed.
+     *
+     * @throws IOException
+     *             If the stream can't be read, or the temporary file can't be
+     *             written.
+     */
+    public void fill(InputStream input) throws IOException {
+        MessageDigest digest = null;
+        try {
+            digest = MessageDigest.getInstance("MD5");
+        } catch (NoSuchAlgorithmException e) {
+            log.warn("No MD5 digest algorithm available.  Unable to calculate " +
+                     "checksum of buffered stream data.", e);
+        }
+
+        memory = BufferPool.getSharedPool().acquire(memoryLimit);
+        while (memoryLength < memoryLimit) {
+            int count = input.read(memory, memoryLength, memoryLimit - memoryLength);
+            if (count == -1) break;
+            memoryLength += count;
+        }
+        if (digest != null) digest.update(memory, 0, memoryLength);
+        length = memoryLength;
+
+        int next = (memoryLength == memoryLimit) ? input.read() : -1;
+        if (next != -1) {
+            file = File.createTempFile("aws-s3-upload-", ".tmp");
+            OutputStream output = new BufferedOutputStream(new FileOutputStream(file));
+            try {
+                output.write(memory, 0, memoryLength);
+                output.write(next);
+                if (digest != null) digest.update((byte)next);
+                length++;
+
+                // Reuse the memory buffer to copy the rest of the stream
+                int count;
+                while ((count = input.read(memory)) != -1) {
+                    output.write(memory, 0, count);
+                    if (digest != null) digest.update(memory, 0, count);
+                    length += count;
+                }
+            } finally {
+                output.close();
+            }
+            BufferPool.getSharedPool().release(memory);
+            memory = null;
+            memoryLength = 0;
+        }
+
+        if (digest != null) md5Digest = digest.digest();
+    }
+
+    /**
+     * Returns the number of bytes buffered.
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the MD5 digest of the buffered content, or null if it couldn't
+     * be calculated.
+     */
+    public byte[] getMd5Digest() {
+        return md5Digest;
+    }
+
+    /**
+     * Returns the temporary file the content was spilled to, or null if it's
+     * held in memory.
+     */
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns a new repeatable stream over the buffered content, if it's held
+     * in memory.
+     */
+    public InputStream getMemoryInputStream() {
+        return new PayloadInputStream(memory, 0, memoryLength);
+    }
+
+    /**
+     * Releases the buffered content, deleting the temporary file if the
+     * content was spilled to one.
+     */
+    public void release() {
+        BufferPool.getSharedPool().release(memory);
+        memory = null;
+        if (file != null && file.exists() && !file.delete()) {
+            log.warn("Unable to delete temporary file " + file.getAbsolutePath());
+        }
+    }
+}
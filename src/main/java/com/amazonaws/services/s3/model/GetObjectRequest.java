@@ -96,6 +96,12 @@ public class GetObjectRequest extends AmazonWebServiceRequest {
      */
     private ProgressListener progressListener;
 
+    /**
+     * How the MD5 checksum used to verify the download is calculated when the
+     * object is downloaded to a file.
+     */
+    private IntegrityCheckMode integrityCheckMode = IntegrityCheckMode.SeparatePass;
+
 
     /**
      * Constructs a new {@link GetObjectRequest} with all the required parameters.
@@ -714,4 +720,43 @@ public class GetObjectRequest extends AmazonWebServiceRequest {
         return this;
     }
 
+    /**
+     * Returns how the MD5 checksum used to verify the download is calculated
+     * when the object is downloaded to a file. Defaults to
+     * {@link IntegrityCheckMode#SeparatePass}.
+     *
+     * @return How the checksum used to verify the download is calculated.
+     */
+    public IntegrityCheckMode getIntegrityCheckMode() {
+        return integrityCheckMode;
+    }
+
+    /**
+     * Sets how the MD5 checksum used to verify the download is calculated when
+     * the object is downloaded to a file. With {@link IntegrityCheckMode#Inline},
+     * the checksum is calculated as the data is transferred, so that the file
+     * is only read once.
+     *
+     * @param integrityCheckMode
+     *            How the checksum used to verify the download is calculated.
+     */
+    public void setIntegrityCheckMode(IntegrityCheckMode integrityCheckMode) {
+        this.integrityCheckMode = integrityCheckMode;
+    }
+
+    /**
+     * Sets how the MD5 checksum used to verify the download is calculated when
+     * the object is downloaded to a file, and returns this updated object so that
+     * additional method calls can be chained together.
+     *
+     * @param integrityCheckMode
+     *            How the checksum used to verify the download is calculated.
+     *
+     * @return This updated GetObjectRequest object.
+     */
+    public GetObjectRequest withIntegrityCheckMode(IntegrityCheckMode integrityCheckMode) {
+        setIntegrityCheckMode(integrityCheckMode);
+        return this;
+    }
+
 }
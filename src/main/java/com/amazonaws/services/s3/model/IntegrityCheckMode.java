@@ -0,0 +1,50 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.model;
+
+/**
+ * <p>
+ * Specifies how the MD5 checksum used to verify the integrity of an object
+ * uploaded from a file, or downloaded to a file, is calculated.
+ * </p>
+ * <p>
+ * Both modes verify the whole content against the checksum calculated by
+ * Amazon S3; they only differ in how many times the file is read.
+ * </p>
+ *
+ * @see PutObjectRequest#setIntegrityCheckMode(IntegrityCheckMode)
+ * @see GetObjectRequest#setIntegrityCheckMode(IntegrityCheckMode)
+ */
+public enum IntegrityCheckMode {
+
+    /**
+     * The checksum is calculated by reading the file in a pass of its own:
+     * before an upload, so that it can be sent as the object's Content-MD5 and
+     * Amazon S3 rejects corrupted data before storing it, and after a
+     * download, by reading back the file that was written. This is the
+     * default mode.
+     */
+    SeparatePass,
+
+    /**
+     * The checksum is calculated as the data is sent or received, so the file
+     * is only read or written once. An upload is verified against the ETag
+     * Amazon S3 returns once it's complete, which means corrupted data is
+     * detected only after it has been stored. Downloads split into ranges
+     * fetched in parallel are always verified in a separate pass.
+     */
+    Inline;
+
+}
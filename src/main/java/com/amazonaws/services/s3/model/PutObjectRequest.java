@@ -112,8 +112,9 @@ public class PutObjectRequest extends AmazonWebServiceRequest {
      * (e.g. custom user metadata, hooks for specifying content type, etc.). If
      * you are uploading from an InputStream, you <bold>should always</bold>
      * specify metadata with the content size set, otherwise the contents of the
-     * InputStream will have to be buffered in memory before they can be sent to
-     * Amazon S3, which can have very negative performance impacts.
+     * InputStream will have to be buffered, in a temporary file beyond a small
+     * amount held in memory, before they can be sent to Amazon S3, which can
+     * have very negative performance impacts.
      */
     private ObjectMetadata metadata;
 
@@ -137,6 +138,12 @@ public class PutObjectRequest extends AmazonWebServiceRequest {
      * status.
      */
     private ProgressListener progressListener;
+
+    /**
+     * How the MD5 checksum used to verify the upload is calculated when the
+     * object is uploaded from a file.
+     */
+    private IntegrityCheckMode integrityCheckMode = IntegrityCheckMode.SeparatePass;
     
     /**
      * Constructs a new 
@@ -483,9 +490,9 @@ public class PutObjectRequest extends AmazonWebServiceRequest {
      * <p>
      * If uploading from an input stream,
      * <b>always</b> specify metadata with the content size set. Otherwise the
-     * contents of the input stream have to be buffered in memory before
-     * being sent to Amazon S3. This can cause very negative performance
-     * impacts.
+     * contents of the input stream have to be buffered, in a temporary file
+     * beyond a small amount held in memory, before being sent to Amazon S3.
+     * This can cause very negative performance impacts.
      * </p>
      *
      * @return The optional metadata instructing Amazon S3 how to handle the
@@ -506,9 +513,9 @@ public class PutObjectRequest extends AmazonWebServiceRequest {
      * <p>
      * If uploading from an input stream,
      * <b>always</b> specify metadata with the content size set. Otherwise the
-     * contents of the input stream have to be buffered in memory before
-     * being sent to Amazon S3. This can cause very negative performance
-     * impacts.
+     * contents of the input stream have to be buffered, in a temporary file
+     * beyond a small amount held in memory, before being sent to Amazon S3.
+     * This can cause very negative performance impacts.
      * </p>
      *
      * @param metadata
@@ -531,9 +538,9 @@ public class PutObjectRequest extends AmazonWebServiceRequest {
      * <p>
      * If uploading from an input stream,
      * <b>always</b> specify metadata with the content size set. Otherwise the
-     * contents of the input stream have to be buffered in memory before
-     * being sent to Amazon S3. This can cause very negative performance
-     * impacts.
+     * contents of the input stream have to be buffered, in a temporary file
+     * beyond a small amount held in memory, before being sent to Amazon S3.
+     * This can cause very negative performance impacts.
      * </p>
      *
      * @param metadata
@@ -702,4 +709,43 @@ public class PutObjectRequest extends AmazonWebServiceRequest {
         return this;
     }
 
+    /**
+     * Returns how the MD5 checksum used to verify the upload is calculated
+     * when the object is uploaded from a file. Defaults to
+     * {@link IntegrityCheckMode#SeparatePass}.
+     *
+     * @return How the checksum used to verify the upload is calculated.
+     */
+    public IntegrityCheckMode getIntegrityCheckMode() {
+        return integrityCheckMode;
+    }
+
+    /**
+     * Sets how the MD5 checksum used to verify the upload is calculated when
+     * the object is uploaded from a file. With {@link IntegrityCheckMode#Inline},
+     * the checksum is calculated as the data is transferred, so that the file
+     * is only read once.
+     *
+     * @param integrityCheckMode
+     *            How the checksum used to verify the upload is calculated.
+     */
+    public void setIntegrityCheckMode(IntegrityCheckMode integrityCheckMode) {
+        this.integrityCheckMode = integrityCheckMode;
+    }
+
+    /**
+     * Sets how the MD5 checksum used to verify the upload is calculated when
+     * the object is uploaded from a file, and returns this updated object so that
+     * additional method calls can be chained together.
+     *
+     * @param integrityCheckMode
+     *            How the checksum used to verify the upload is calculated.
+     *
+     * @return This updated PutObjectRequest object.
+     */
+    public PutObjectRequest withIntegrityCheckMode(IntegrityCheckMode integrityCheckMode) {
+        setIntegrityCheckMode(integrityCheckMode);
+        return this;
+    }
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer;
+
+/**
+ * An asynchronous upload to Amazon S3 that records its progress in a local
+ * checkpoint file, and can be paused and resumed later.
+ * <p>
+ * Returned by {@link TransferManager#upload(com.amazonaws.services.s3.model.PutObjectRequest, java.io.File)}
+ * and {@link TransferManager#resumeUpload(java.io.File)}.
+ * </p>
+ */
+public interface PausableUpload extends Upload {
+
+    /**
+     * Pauses this upload. Parts that haven't started uploading yet are
+     * canceled and the transfer ends in the
+     * {@link Transfer.TransferState#Canceled} state, but the multipart upload
+     * is not aborted. Parts already in flight are allowed to finish and are
+     * recorded in the checkpoint file, and the upload can be resumed later with
+     * {@link TransferManager#resumeUpload(java.io.File)}.
+     *
+     * @throws IllegalStateException
+     *             If this upload is too small to be uploaded in parts, or is
+     *             uploaded through an encryption client, and so isn't recorded
+     *             in its checkpoint file.
+     */
+    public void pause();
+}
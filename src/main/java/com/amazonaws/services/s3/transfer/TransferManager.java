@@ -16,12 +16,13 @@ package com.amazonaws.services.s3.transfer;
 
 import java.io.File;
 import java.io.InputStream;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Stack;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
@@ -36,33 +37,34 @@ import com.amazonaws.AmazonWebServiceRequest;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
 import com.amazonaws.services.s3.internal.Mimetypes;
 import com.amazonaws.services.s3.internal.ServiceUtils;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.ListMultipartUploadsRequest;
-import com.amazonaws.services.s3.model.ListObjectsRequest;
 import com.amazonaws.services.s3.model.MultipartUpload;
 import com.amazonaws.services.s3.model.MultipartUploadListing;
-import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.ProgressListener;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.S3Object;
-import com.amazonaws.services.s3.model.S3ObjectSummary;
 import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.internal.DirectoryDownloadMonitor;
 import com.amazonaws.services.s3.transfer.internal.DownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.DownloadMonitor;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileDownloadImpl;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileTransfer;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileTransferMonitor;
 import com.amazonaws.services.s3.transfer.internal.MultipleFileUploadImpl;
+import com.amazonaws.services.s3.transfer.internal.ParallelDownloadCallable;
 import com.amazonaws.services.s3.transfer.internal.ProgressListenerChain;
 import com.amazonaws.services.s3.transfer.internal.TransferManagerUtils;
 import com.amazonaws.services.s3.transfer.internal.TransferProgressImpl;
 import com.amazonaws.services.s3.transfer.internal.TransferProgressUpdatingListener;
 import com.amazonaws.services.s3.transfer.internal.TransferStateChangeListener;
 import com.amazonaws.services.s3.transfer.internal.UploadCallable;
+import com.amazonaws.services.s3.transfer.internal.UploadCheckpoint;
 import com.amazonaws.services.s3.transfer.internal.UploadImpl;
 import com.amazonaws.services.s3.transfer.internal.UploadMonitor;
 import com.amazonaws.util.VersionInfoUtils;
@@ -102,7 +104,10 @@ import com.amazonaws.util.VersionInfoUtils;
  * <p>
  * Note: Transfers are stored in memory. If the JVM is restarted, previous
  * transfers are no longer accessible. If needed, clean up any multipart uploads
- * that are incomplete.
+ * that are incomplete. Uploads of large files started with
+ * {@link #upload(PutObjectRequest, File)} also record their progress in a
+ * local checkpoint file, and can be continued with {@link #resumeUpload(File)}
+ * instead.
  */
 public class TransferManager {
 
@@ -228,10 +233,11 @@ public class TransferManager {
      * options in the stream through the content length field in the
      * <code>ObjectMetadata</code> parameter.
      * If no content length is specified for the input
-     * stream, then TransferManager will attempt to buffer all the stream
-     * contents in memory and upload the options as a traditional, single part
-     * upload. Because the entire stream contents must be buffered in memory,
-     * this can be very expensive, and should be avoided whenever possible.
+     * stream, then TransferManager will buffer all the stream contents, in a
+     * temporary file beyond a small amount held in memory, and upload them as
+     * a traditional, single part upload. Because the entire stream contents
+     * must be buffered before any of it is sent, this can be very expensive,
+     * and should be avoided whenever possible.
      * </p>
      * <p>
      * Use the returned <code>Upload<code> object to query the progress of the
@@ -341,9 +347,116 @@ public class TransferManager {
      */
     public Upload upload(final PutObjectRequest putObjectRequest)
         throws AmazonServiceException, AmazonClientException {
-        return upload(putObjectRequest, null);
+        return upload(putObjectRequest, (TransferStateChangeListener)null);
     }
-    
+
+    /**
+     * Schedules a new resumable transfer to upload data to Amazon S3. This
+     * method is non-blocking and returns immediately (i.e. before the upload
+     * has finished).
+     * <p>
+     * The request must upload a file. When the file is large enough to be
+     * uploaded in parts, the multipart upload id, the part size and each
+     * completed part are recorded in the specified checkpoint file as the
+     * upload progresses. If the JVM exits or the upload fails or is paused
+     * with {@link PausableUpload#pause()} before completing, the multipart
+     * upload is left in place, and the transfer can be continued later with
+     * {@link #resumeUpload(File)}, or by calling this method again with the
+     * same request and checkpoint file. Only the parts that Amazon S3 doesn't
+     * already have are then uploaded.
+     * The checkpoint file is deleted once the upload completes.
+     * <p>
+     * If the checkpoint file already exists but records an upload of a
+     * different file, or of a file that has changed since, the multipart upload
+     * it records is aborted and a new upload is started.
+     * <p>
+     * Uploads through an {@link AmazonS3EncryptionClient} can't be resumed and
+     * ignore the checkpoint file.
+     *
+     * @param putObjectRequest
+     *            The request containing all the parameters for the upload.
+     * @param checkpointFile
+     *            The local file in which to record the upload's progress.
+     *
+     * @return A new <code>PausableUpload</code> object to use to check the
+     *         state of the upload, listen for progress notifications, pause
+     *         it, and otherwise manage the upload.
+     *
+     * @throws AmazonClientException
+     *             If any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public PausableUpload upload(final PutObjectRequest putObjectRequest, final File checkpointFile)
+        throws AmazonServiceException, AmazonClientException {
+        File file = TransferManagerUtils.getRequestFile(putObjectRequest);
+        if (file == null) {
+            throw new IllegalArgumentException("Only uploads of files can be resumed");
+        }
+
+        String bucketName = putObjectRequest.getBucketName();
+        String key = putObjectRequest.getKey();
+        UploadCheckpoint checkpoint = UploadCheckpoint.load(checkpointFile);
+        if (checkpoint != null && !checkpoint.isForUpload(bucketName, key, file)) {
+            log.info("Checkpoint " + checkpointFile + " records a different upload, aborting multipart upload "
+                    + checkpoint.getUploadId());
+            try {
+                s3.abortMultipartUpload(new AbortMultipartUploadRequest(
+                        checkpoint.getBucketName(), checkpoint.getKey(), checkpoint.getUploadId()));
+            } catch (Exception e) {
+                log.info("Unable to abort multipart upload, you may need to manually remove uploaded parts: " + e.getMessage(), e);
+            }
+            checkpoint.delete();
+            checkpoint = null;
+        }
+        if (checkpoint == null) {
+            checkpoint = new UploadCheckpoint(checkpointFile, bucketName, key, file);
+        }
+
+        return upload(putObjectRequest, null, checkpoint);
+    }
+
+    /**
+     * Resumes the upload recorded in the specified checkpoint file, typically
+     * one started by another <code>TransferManager</code> in a JVM that has
+     * since exited. The parts already stored in Amazon S3 are listed and only
+     * the missing parts are uploaded. This method is non-blocking and returns
+     * immediately (i.e. before the upload has finished).
+     *
+     * @param checkpointFile
+     *            The checkpoint file written by
+     *            {@link #upload(PutObjectRequest, File)}.
+     *
+     * @return A new <code>PausableUpload</code> object to use to check the
+     *         state of the upload, listen for progress notifications, pause
+     *         it, and otherwise manage the upload.
+     *
+     * @throws AmazonClientException
+     *             If the checkpoint file doesn't exist or can't be read, if the
+     *             file being uploaded has changed since the upload started, or
+     *             if any errors are encountered in the client while making the
+     *             request or handling the response.
+     * @throws AmazonServiceException
+     *             If any errors occurred in Amazon S3 while processing the
+     *             request.
+     */
+    public PausableUpload resumeUpload(final File checkpointFile)
+        throws AmazonServiceException, AmazonClientException {
+        UploadCheckpoint checkpoint = UploadCheckpoint.load(checkpointFile);
+        if (checkpoint == null) {
+            throw new AmazonClientException("No upload checkpoint found at " + checkpointFile);
+        }
+        if (!checkpoint.isFileUnchanged()) {
+            throw new AmazonClientException("Unable to resume upload: " + checkpoint.getFile()
+                    + " has changed since the upload was started");
+        }
+
+        return upload(new PutObjectRequest(checkpoint.getBucketName(), checkpoint.getKey(), checkpoint.getFile()),
+                null, checkpoint);
+    }
+
     /**
      * Same as public version of upload, but attaches a
      * {@link TransferStateChangeListener} to the upload object so that it can be
@@ -351,6 +464,15 @@ public class TransferManager {
      */
     private Upload upload(final PutObjectRequest putObjectRequest, final TransferStateChangeListener stateListener)
             throws AmazonServiceException, AmazonClientException {
+        return upload(putObjectRequest, stateListener, null);
+    }
+
+    /**
+     * Same as above, but records the upload's progress in the given checkpoint,
+     * if any, so that it can be resumed.
+     */
+    private UploadImpl upload(final PutObjectRequest putObjectRequest, final TransferStateChangeListener stateListener,
+            final UploadCheckpoint checkpoint) throws AmazonServiceException, AmazonClientException {
 
             appendUserAgent(putObjectRequest, USER_AGENT);
 
@@ -380,7 +502,7 @@ public class TransferManager {
 
             UploadImpl upload = new UploadImpl(description, transferProgress, listenerChain, stateListener);
 
-            UploadCallable uploadCallable = new UploadCallable(this, threadPool, upload, putObjectRequest, listenerChain);
+            UploadCallable uploadCallable = new UploadCallable(this, threadPool, upload, putObjectRequest, listenerChain, checkpoint);
             UploadMonitor watcher = new UploadMonitor(this, upload, threadPool, uploadCallable, putObjectRequest, listenerChain);
             watcher.setTimedThreadPool(timedThreadPool);
             upload.setMonitor(watcher);
@@ -485,12 +607,21 @@ public class TransferManager {
         }
         transferProgress.setTotalBytesToTransfer(contentLength);
 
+        if (TransferManagerUtils.shouldUseParallelDownload(getObjectRequest, s3Object, configuration,
+                s3 instanceof AmazonS3EncryptionClient)) {
+            ParallelDownloadCallable parallelDownload = new ParallelDownloadCallable(s3, threadPool, download,
+                    getObjectRequest, s3Object, file, configuration.getDownloadPartSize());
+            download.setParallelDownload(parallelDownload);
+            download.setMonitor(new DownloadMonitor(download, threadPool.submit(parallelDownload)));
+            return download;
+        }
+
         Future<?> future = threadPool.submit(new Callable<Object>() {
             @Override
             public Object call() throws Exception {
                 try {
                     download.setState(TransferState.InProgress);
-                    ServiceUtils.downloadObjectToFile(s3Object, file);
+                    ServiceUtils.downloadObjectToFile(s3Object, file, getObjectRequest.getIntegrityCheckMode());
                     download.setState(TransferState.Completed);
                     return true;
                 } catch (Exception e) {
@@ -511,6 +642,12 @@ public class TransferManager {
      * Downloads all objects in the virtual directory designated by the
      * keyPrefix given to the destination directory given. All virtual
      * subdirectories will be downloaded recursively.
+     * <p>
+     * This method is non-blocking and returns immediately. The virtual
+     * directory is listed in the background, several subdirectories at a
+     * time, and each object is queued for download as soon as it is found, so
+     * the total size reported by the transfer's progress grows as the listing
+     * proceeds.
      * 
      * @param bucketName
      *            The bucket containing the virtual directory
@@ -527,79 +664,23 @@ public class TransferManager {
         if ( keyPrefix == null )
             keyPrefix = "";
 
-        List<S3ObjectSummary> objectSummaries = new LinkedList<S3ObjectSummary>();
-        Stack<String> commonPrefixes = new Stack<String>();
-        commonPrefixes.add(keyPrefix);
-        long totalSize = 0;
-        
-        // Recurse all virtual subdirectories to get a list of object summaries.
-        // This is a depth-first search.
-        do {
-            String prefix = commonPrefixes.pop();
-            ObjectListing listObjectsResponse = null;
-
-            do {
-                if ( listObjectsResponse == null ) {
-                    ListObjectsRequest listObjectsRequest = new ListObjectsRequest().withBucketName(bucketName)
-                            .withDelimiter(DEFAULT_DELIMITER).withPrefix(prefix);
-                    listObjectsResponse = s3.listObjects(listObjectsRequest);
-                } else {
-                    listObjectsResponse = s3.listNextBatchOfObjects(listObjectsResponse);
-                }
-
-                for ( S3ObjectSummary s : listObjectsResponse.getObjectSummaries() ) {
-                    // Skip any files that are also virtual directories, since
-                    // we can't save both a directory and a file of the same
-                    // name.
-                    if ( !s.getKey().equals(prefix)
-                            && !listObjectsResponse.getCommonPrefixes().contains(s.getKey() + DEFAULT_DELIMITER) ) {
-                        objectSummaries.add(s);
-                        totalSize += s.getSize();
-                    } else {
-                        log.debug("Skipping download for object " + s.getKey()
-                                + " since it is also a virtual directory");
-                    }
-                }
-
-                commonPrefixes.addAll(listObjectsResponse.getCommonPrefixes());
-            } while ( listObjectsResponse.isTruncated() );
-        } while ( !commonPrefixes.isEmpty() );
-        
         TransferProgressImpl transferProgress = new TransferProgressImpl();
-        transferProgress.setTotalBytesToTransfer(totalSize);
-        ProgressListener listener = new TransferProgressUpdatingListener(transferProgress);
-        
-        List<DownloadImpl> downloads = new ArrayList<DownloadImpl>();
+        transferProgress.setTotalBytesToTransfer(0);
+        ProgressListenerChain listenerChain = new ProgressListenerChain(
+                new TransferProgressUpdatingListener(transferProgress));
+
+        // Only the downloads currently running are kept, so memory use doesn't
+        // grow with the number of objects in the directory
+        Collection<DownloadImpl> downloads = Collections.newSetFromMap(new ConcurrentHashMap<DownloadImpl, Boolean>());
 
         String description = "Downloading from " + bucketName + "/" + keyPrefix;
         final MultipleFileDownloadImpl multipleFileDownload = new MultipleFileDownloadImpl(description, transferProgress,
-                new ProgressListenerChain(listener), keyPrefix, bucketName, downloads);
-        multipleFileDownload.setMonitor(new MultipleFileTransferMonitor(multipleFileDownload, downloads));
+                listenerChain, keyPrefix, bucketName, downloads);
+        DirectoryDownloadMonitor monitor = new DirectoryDownloadMonitor(this, threadPool, multipleFileDownload,
+                downloads, transferProgress, listenerChain, bucketName, keyPrefix, destinationDirectory, USER_AGENT);
+        multipleFileDownload.setMonitor(monitor);
+        monitor.start();
 
-        final AllDownloadsQueuedLock allTransfersQueuedLock = new AllDownloadsQueuedLock();        
-        MultipleFileTransferStateChangeListener stateChangeListener = new MultipleFileTransferStateChangeListener(
-                allTransfersQueuedLock, multipleFileDownload);
-        
-        for ( S3ObjectSummary summary : objectSummaries ) {
-            // TODO: non-standard delimiters
-            File f = new File(destinationDirectory, summary.getKey());
-            File parentFile = f.getParentFile();
-            if ( !parentFile.exists() && !parentFile.mkdirs() ) {
-                throw new RuntimeException("Couldn't create parent directories for " + f.getAbsolutePath());
-            }
-                        
-            downloads.add((DownloadImpl) download(
-                    new GetObjectRequest(summary.getBucketName(), summary.getKey()).withProgressListener(listener), f,
-                    stateChangeListener));
-        }
-        
-        // Notify all state changes waiting for the downloads to all be queued
-        // to wake up and continue.
-        synchronized (allTransfersQueuedLock) {
-            allTransfersQueuedLock.allQueued = true;
-            allTransfersQueuedLock.notifyAll();
-        }
-        
         return multipleFileDownload;
     }
     
@@ -807,6 +888,4 @@ public class TransferManager {
     }
 
     private static final String USER_AGENT = TransferManager.class.getName() + "/" + VersionInfoUtils.getVersion();
-
-    private static final String DEFAULT_DELIMITER = "/";
 }
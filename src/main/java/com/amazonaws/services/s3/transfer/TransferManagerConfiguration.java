@@ -33,6 +33,12 @@ public class TransferManagerConfiguration {
     /** Default size threshold for when to use multipart uploads.  */
     private static final int DEFAULT_MULTIPART_UPLOAD_THRESHOLD = 16 * MB;
 
+    /** Default size threshold for when to download objects in parallel parts. */
+    private static final long DEFAULT_PARALLEL_DOWNLOAD_THRESHOLD = 64 * MB;
+
+    /** Default size of each byte range in a parallel download. */
+    private static final long DEFAULT_DOWNLOAD_PART_SIZE = 16 * MB;
+
     
     /**
      * The minimum part size for upload parts. Decreasing the minimum part size
@@ -57,6 +63,19 @@ public class TransferManagerConfiguration {
      */
     private int multipartUploadThreshold = DEFAULT_MULTIPART_UPLOAD_THRESHOLD;
 
+    /**
+     * The size threshold, in bytes, for when to download objects in parallel
+     * parts. Objects over this size are downloaded as several byte ranges
+     * fetched concurrently, while smaller objects are downloaded over a single
+     * connection.
+     */
+    private long parallelDownloadThreshold = DEFAULT_PARALLEL_DOWNLOAD_THRESHOLD;
+
+    /**
+     * The size, in bytes, of each byte range fetched in a parallel download.
+     */
+    private long downloadPartSize = DEFAULT_DOWNLOAD_PART_SIZE;
+
     
     /**
      * Returns the minimum part size for upload parts. 
@@ -124,4 +143,61 @@ public class TransferManagerConfiguration {
     public void setMultipartUploadThreshold(int multipartUploadThreshold) {
         this.multipartUploadThreshold = multipartUploadThreshold;
     }
+
+    /**
+     * Returns the size threshold in bytes for when to download objects in
+     * parallel parts. Downloads of objects over this size are split into
+     * byte ranges that are fetched concurrently and written directly into the
+     * destination file, while smaller objects are downloaded over a single
+     * connection.
+     * <p>
+     * Parallel downloads aren't used for encrypted objects, or for requests
+     * that specify their own byte range.
+     *
+     * @return The size threshold in bytes for when to download objects in
+     *         parallel parts.
+     */
+    public long getParallelDownloadThreshold() {
+        return parallelDownloadThreshold;
+    }
+
+    /**
+     * Sets the size threshold in bytes for when to download objects in
+     * parallel parts. Downloads of objects over this size are split into
+     * byte ranges that are fetched concurrently and written directly into the
+     * destination file, while smaller objects are downloaded over a single
+     * connection. Use <code>Long.MAX_VALUE</code> to always download over a
+     * single connection.
+     *
+     * @param parallelDownloadThreshold
+     *            The size threshold in bytes for when to download objects in
+     *            parallel parts.
+     */
+    public void setParallelDownloadThreshold(long parallelDownloadThreshold) {
+        this.parallelDownloadThreshold = parallelDownloadThreshold;
+    }
+
+    /**
+     * Returns the size in bytes of each byte range fetched in a parallel
+     * download.
+     *
+     * @return The size in bytes of each byte range fetched in a parallel
+     *         download.
+     */
+    public long getDownloadPartSize() {
+        return downloadPartSize;
+    }
+
+    /**
+     * Sets the size in bytes of each byte range fetched in a parallel
+     * download. Smaller parts spread a download over more connections, at the
+     * cost of extra requests and latency for each part.
+     *
+     * @param downloadPartSize
+     *            The size in bytes of each byte range fetched in a parallel
+     *            download.
+     */
+    public void setDownloadPartSize(long downloadPartSize) {
+        this.downloadPartSize = downloadPartSize;
+    }
 }
@@ -0,0 +1,410 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3EncryptionClient;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsRequest;
+import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
+
+/**
+ * Drives the download of a virtual directory as a pipeline: pages of object
+ * listings are fetched as tasks in the thread pool, several prefixes at a time,
+ * and every object found is queued for download as soon as its page arrives.
+ * The total size of the transfer grows as objects are discovered.
+ * <p>
+ * Nothing in the thread pool ever blocks waiting for other tasks. Instead,
+ * once {@link #MAX_QUEUED_DOWNLOADS} object downloads are queued or running,
+ * the remaining listings are held back and resumed as downloads finish, so
+ * memory use stays bounded no matter how many keys the directory holds.
+ * Objects are only opened once their download task runs, so queued downloads
+ * don't hold on to HTTP connections.
+ */
+public class DirectoryDownloadMonitor implements TransferMonitor {
+
+    private static final Log log = LogFactory.getLog(DirectoryDownloadMonitor.class);
+
+    /** Listing is held back while this many object downloads are queued or running */
+    private static final int MAX_QUEUED_DOWNLOADS = 1000;
+
+    /** The maximum number of listing requests in flight at once */
+    private static final int MAX_CONCURRENT_LISTINGS = 4;
+
+    private static final String DELIMITER = "/";
+
+    private final TransferManager manager;
+    private final AmazonS3 s3;
+    private final ThreadPoolExecutor threadPool;
+    private final TransferManagerConfiguration configuration;
+    private final MultipleFileDownloadImpl transfer;
+    private final TransferProgressImpl transferProgress;
+    private final ProgressListenerChain progressListenerChain;
+    private final String bucketName;
+    private final String keyPrefix;
+    private final File destinationDirectory;
+    private final String userAgent;
+
+    /** The object downloads currently running, so they can be aborted */
+    private final Collection<DownloadImpl> downloads;
+
+    /*
+     * Pipeline state, guarded by this monitor's lock
+     */
+    private final LinkedList<ListObjectsRequest> pendingListings = new LinkedList<ListObjectsRequest>();
+    private int activeListings;
+    private int queuedDownloads;
+    private long totalBytes;
+    private boolean stopped;
+    private boolean aborted;
+    private boolean done;
+    private Exception failure;
+
+    private final FutureTask<Object> future = new FutureTask<Object>(new Callable<Object>() {
+        public Object call() throws Exception {
+            synchronized (DirectoryDownloadMonitor.this) {
+                if (aborted) throw new AmazonClientException("Download canceled");
+                if (failure != null) throw failure;
+            }
+            return true;
+        }
+    });
+
+    /**
+     * Constructs a new monitor for downloading the given virtual directory.
+     * Call {@link #start()} to begin listing and downloading.
+     *
+     * @param manager
+     *            The {@link TransferManager} that owns this download.
+     * @param threadPool
+     *            The thread pool in which to list and download objects.
+     * @param transfer
+     *            The transfer being processed.
+     * @param downloads
+     *            A thread safe collection, shared with the transfer, in which
+     *            the object downloads currently running are kept.
+     * @param transferProgress
+     *            The progress of the whole transfer.
+     * @param progressListenerChain
+     *            The listeners to notify of the progress of each object.
+     * @param bucketName
+     *            The bucket containing the virtual directory.
+     * @param keyPrefix
+     *            The key prefix of the virtual directory.
+     * @param destinationDirectory
+     *            The directory to place downloaded files in.
+     * @param userAgent
+     *            The user agent marker to add to each request.
+     */
+    public DirectoryDownloadMonitor(TransferManager manager, ThreadPoolExecutor threadPool,
+            MultipleFileDownloadImpl transfer, Collection<DownloadImpl> downloads,
+            TransferProgressImpl transferProgress, ProgressListenerChain progressListenerChain,
+            String bucketName, String keyPrefix, File destinationDirectory, String userAgent) {
+        this.manager = manager;
+        this.s3 = manager.getAmazonS3Client();
+        this.configuration = manager.getConfiguration();
+        this.threadPool = threadPool;
+        this.transfer = transfer;
+        this.downloads = downloads;
+        this.transferProgress = transferProgress;
+        this.progressListenerChain = progressListenerChain;
+        this.bucketName = bucketName;
+        this.keyPrefix = keyPrefix;
+        this.destinationDirectory = destinationDirectory;
+        this.userAgent = userAgent;
+    }
+
+    /**
+     * Starts listing the virtual directory.
+     */
+    public void start() {
+        transfer.setState(TransferState.InProgress);
+        synchronized (this) {
+            pendingListings.add(newListObjectsRequest(keyPrefix, null));
+        }
+        scheduleWork();
+    }
+
+    @Override
+    public Future<?> getFuture() {
+        return future;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return done;
+    }
+
+    /**
+     * Stops listing and aborts all object downloads that are running. Queued
+     * downloads that haven't started are skipped.
+     */
+    public void abort() {
+        synchronized (this) {
+            stopped = true;
+            aborted = true;
+        }
+        for (DownloadImpl download : downloads) {
+            try {
+                download.abort();
+            } catch (Exception e) {
+                log.debug("Unable to abort download of " + download.getKey() + ": " + e.getMessage(), e);
+            }
+        }
+        scheduleWork();
+    }
+
+    /**
+     * Submits as many held back listings as the limits allow, and completes
+     * the transfer once there is nothing left to do.
+     */
+    private void scheduleWork() {
+        boolean finished;
+        synchronized (this) {
+            while (!stopped && !pendingListings.isEmpty()
+                    && activeListings < MAX_CONCURRENT_LISTINGS
+                    && queuedDownloads < MAX_QUEUED_DOWNLOADS) {
+                final ListObjectsRequest request = pendingListings.removeFirst();
+                try {
+                    threadPool.submit(new Runnable() {
+                        public void run() {
+                            list(request);
+                        }
+                    });
+                    activeListings++;
+                } catch (RejectedExecutionException e) {
+                    fail(new AmazonClientException("TransferManager has been shutdown", e), true);
+                }
+            }
+
+            finished = !done && activeListings == 0 && queuedDownloads == 0
+                && (stopped || pendingListings.isEmpty());
+            if (finished) done = true;
+        }
+
+        if (finished) complete();
+    }
+
+    /**
+     * Lists one page of a prefix, queues a download for each object on it, and
+     * records the page's common prefixes and continuation for later listing.
+     */
+    private void list(ListObjectsRequest request) {
+        ObjectListing listing = null;
+        Exception exception = null;
+        try {
+            listing = s3.listObjects(request);
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        synchronized (this) {
+            activeListings--;
+            if (exception != null) {
+                fail(exception, true);
+            } else if (!stopped) {
+                String prefix = request.getPrefix();
+                for (S3ObjectSummary s : listing.getObjectSummaries()) {
+                    // Skip any files that are also virtual directories, since
+                    // we can't save both a directory and a file of the same
+                    // name.
+                    if ( !s.getKey().equals(prefix)
+                            && !listing.getCommonPrefixes().contains(s.getKey() + DELIMITER) ) {
+                        queueDownload(s);
+                    } else {
+                        log.debug("Skipping download for object " + s.getKey()
+                                + " since it is also a virtual directory");
+                    }
+                }
+
+                // Finish the pages of this prefix before moving on to its
+                // subdirectories, so the backlog of listings stays small.
+                List<String> commonPrefixes = listing.getCommonPrefixes();
+                for (int i = commonPrefixes.size() - 1; i >= 0; i--) {
+                    pendingListings.addFirst(newListObjectsRequest(commonPrefixes.get(i), null));
+                }
+                if (listing.isTruncated()) {
+                    pendingListings.addFirst(newListObjectsRequest(prefix, getNextMarker(listing)));
+                }
+            }
+        }
+
+        scheduleWork();
+    }
+
+    /**
+     * Queues the download of the given object. Must be called while holding
+     * this monitor's lock.
+     */
+    private void queueDownload(S3ObjectSummary summary) {
+        final GetObjectRequest getObjectRequest = manager.appendUserAgent(
+                new GetObjectRequest(summary.getBucketName(), summary.getKey()), userAgent);
+        getObjectRequest.setProgressListener(progressListenerChain);
+        // TODO: non-standard delimiters
+        final File file = new File(destinationDirectory, summary.getKey());
+
+        try {
+            threadPool.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    try {
+                        downloadObject(getObjectRequest, file);
+                    } catch (Exception e) {
+                        synchronized (DirectoryDownloadMonitor.this) {
+                            fail(e, false);
+                        }
+                    } finally {
+                        synchronized (DirectoryDownloadMonitor.this) {
+                            queuedDownloads--;
+                        }
+                        scheduleWork();
+                    }
+                    return null;
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            fail(new AmazonClientException("TransferManager has been shutdown", e), true);
+            return;
+        }
+
+        queuedDownloads++;
+        totalBytes += summary.getSize();
+        transferProgress.setTotalBytesToTransfer(totalBytes);
+    }
+
+    /**
+     * Downloads a single object to the given file, in parallel byte ranges if
+     * it is large enough.
+     */
+    private void downloadObject(GetObjectRequest getObjectRequest, File file) throws Exception {
+        synchronized (this) {
+            if (stopped) return;
+        }
+
+        File parentFile = file.getParentFile();
+        if ( !parentFile.exists() && !parentFile.mkdirs() && !parentFile.isDirectory() ) {
+            throw new AmazonClientException("Couldn't create parent directories for " + file.getAbsolutePath());
+        }
+
+        S3Object s3Object = s3.getObject(getObjectRequest);
+        // null is returned when constraints aren't met
+        if (s3Object == null) return;
+
+        String description = "Downloading from " + getObjectRequest.getBucketName() + "/" + getObjectRequest.getKey();
+        DownloadImpl download = new DownloadImpl(description, new TransferProgressImpl(), progressListenerChain,
+                s3Object, null);
+        downloads.add(download);
+        try {
+            synchronized (this) {
+                if (stopped) {
+                    download.abort();
+                    return;
+                }
+            }
+
+            if (TransferManagerUtils.shouldUseParallelDownload(getObjectRequest, s3Object, configuration,
+                    s3 instanceof AmazonS3EncryptionClient)) {
+                new ParallelDownloadCallable(s3, threadPool, download, getObjectRequest, s3Object, file,
+                        configuration.getDownloadPartSize()).call();
+            } else {
+                download.setState(TransferState.InProgress);
+                ServiceUtils.downloadObjectToFile(s3Object, file);
+                download.setState(TransferState.Completed);
+            }
+        } catch (Exception e) {
+            // Downloads aren't allowed to move from canceled to failed
+            if (download.getState() != TransferState.Canceled) {
+                download.setState(TransferState.Failed);
+                throw e;
+            }
+        } finally {
+            downloads.remove(download);
+        }
+    }
+
+    /**
+     * Records the first error seen. A failed listing stops the whole transfer,
+     * while a failed object download leaves the others running but fails the
+     * transfer at the end. Must be called while holding this monitor's lock.
+     */
+    private void fail(Exception e, boolean stop) {
+        if (failure == null) {
+            failure = e;
+        } else {
+            log.debug("Additional error downloading " + bucketName + "/" + keyPrefix + ": " + e.getMessage(), e);
+        }
+        if (stop) stopped = true;
+    }
+
+    /**
+     * Sets the final state of the transfer and releases anyone waiting on it.
+     */
+    private void complete() {
+        TransferState state;
+        synchronized (this) {
+            if (aborted) state = TransferState.Canceled;
+            else if (failure != null) state = TransferState.Failed;
+            else state = TransferState.Completed;
+        }
+        transfer.setState(state);
+        future.run();
+    }
+
+    private ListObjectsRequest newListObjectsRequest(String prefix, String marker) {
+        return manager.appendUserAgent(new ListObjectsRequest()
+                .withBucketName(bucketName)
+                .withPrefix(prefix)
+                .withMarker(marker)
+                .withDelimiter(DELIMITER), userAgent);
+    }
+
+    /**
+     * Returns the marker from which to list the page following the given one.
+     */
+    private static String getNextMarker(ObjectListing listing) {
+        if (listing.getNextMarker() != null) return listing.getNextMarker();
+
+        // Amazon S3 only returns a next marker when listing with a delimiter,
+        // otherwise the last key (or common prefix) listed is the marker
+        String marker = null;
+        List<S3ObjectSummary> summaries = listing.getObjectSummaries();
+        if (!summaries.isEmpty()) marker = summaries.get(summaries.size() - 1).getKey();
+        List<String> commonPrefixes = listing.getCommonPrefixes();
+        if (!commonPrefixes.isEmpty()) {
+            String lastPrefix = commonPrefixes.get(commonPrefixes.size() - 1);
+            if (marker == null || lastPrefix.compareTo(marker) > 0) marker = lastPrefix;
+        }
+        return marker;
+    }
+}
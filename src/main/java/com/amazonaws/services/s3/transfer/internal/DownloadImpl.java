@@ -25,12 +25,23 @@ public class DownloadImpl extends AbstractTransfer implements Download {
     
     final S3Object s3Object;
 
+    /** Set if the object is being downloaded in parallel byte ranges */
+    private volatile ParallelDownloadCallable parallelDownload;
+
     public DownloadImpl(String description, TransferProgress transferProgress,
             ProgressListenerChain progressListenerChain, S3Object s3Object, TransferStateChangeListener listener) {
         super(description, transferProgress, progressListenerChain, listener);
         this.s3Object = s3Object;
     }
     
+    /**
+     * Sets the parallel download fetching this object's data, so that aborting
+     * this download also stops any byte ranges being downloaded.
+     */
+    public void setParallelDownload(ParallelDownloadCallable parallelDownload) {
+        this.parallelDownload = parallelDownload;
+    }
+
     /**
      * Returns the ObjectMetadata for the object being downloaded.
      *
@@ -65,6 +76,7 @@ public class DownloadImpl extends AbstractTransfer implements Download {
      */
     public void abort() throws IOException {
         s3Object.getObjectContent().abort();
+        if (parallelDownload != null) parallelDownload.abort();
         setState(TransferState.Canceled);
     }
 
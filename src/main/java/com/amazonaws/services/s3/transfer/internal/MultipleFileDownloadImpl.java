@@ -52,9 +52,14 @@ public class MultipleFileDownloadImpl extends MultipleFileTransfer implements Mu
     }
 
     /**
-     * Aborts all outstanding downloads.
+     * Aborts all outstanding downloads, and stops listing the virtual
+     * directory for more objects to download.
      */
     public void abort() throws IOException {
+        if (monitor instanceof DirectoryDownloadMonitor) {
+            ((DirectoryDownloadMonitor)monitor).abort();
+            return;
+        }
         for (Transfer fileDownload : subTransfers) {
             ((Download)fileDownload).abort();
         }
@@ -0,0 +1,365 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.internal.ServiceUtils;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ProgressEvent;
+import com.amazonaws.services.s3.model.ProgressListener;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectInputStream;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.util.BufferPool;
+
+/**
+ * Downloads an object into a file as a series of byte ranges fetched
+ * concurrently on the TransferManager thread pool, each written directly to
+ * its position in the file.
+ * <p>
+ * The first range is read from the already open response to the original
+ * GET request. The remaining ranges are claimed in order by this callable and
+ * by helper tasks submitted to the thread pool. Since this callable keeps
+ * claiming ranges until none are left, the download completes even if the
+ * thread pool is too busy to ever run the helpers, and helpers that haven't
+ * started by then are simply revoked.
+ * <p>
+ * Every range request is made with a matching ETag constraint, so the download
+ * fails instead of mixing data if the object is overwritten part way through.
+ */
+public class ParallelDownloadCallable implements Callable<Object> {
+    private static final Log log = LogFactory.getLog(ParallelDownloadCallable.class);
+
+    private final AmazonS3 s3;
+    private final ThreadPoolExecutor threadPool;
+    private final DownloadImpl download;
+    private final GetObjectRequest getObjectRequest;
+    private final S3Object s3Object;
+    private final File file;
+    private final long partSize;
+
+    private final long contentLength;
+    private final int partCount;
+
+    /** The index of the next range to download */
+    private final AtomicInteger nextPart = new AtomicInteger();
+
+    /** Set when any range fails or the download is aborted, to stop the rest */
+    private volatile boolean stopped;
+
+    /** The first error downloading a range, which fails the whole download */
+    private final AtomicReference<Exception> failure = new AtomicReference<Exception>();
+
+    /** Responses currently being read, so they can be aborted */
+    private final Set<S3ObjectInputStream> openStreams =
+        Collections.newSetFromMap(new ConcurrentHashMap<S3ObjectInputStream, Boolean>());
+
+    /** Forwards the byte counts of each range to the download's listeners */
+    private final ProgressListener partProgressListener;
+
+    private FileChannel channel;
+
+    public ParallelDownloadCallable(AmazonS3 s3, ThreadPoolExecutor threadPool, DownloadImpl download,
+            GetObjectRequest getObjectRequest, S3Object s3Object, File file, long partSize) {
+        this.s3 = s3;
+        this.threadPool = threadPool;
+        this.download = download;
+        this.getObjectRequest = getObjectRequest;
+        this.s3Object = s3Object;
+        this.file = file;
+        this.partSize = partSize;
+
+        this.contentLength = s3Object.getObjectMetadata().getContentLength();
+        this.partCount = (int)((contentLength + partSize - 1) / partSize);
+        this.partProgressListener = new PartProgressListener(getObjectRequest.getProgressListener());
+    }
+
+    public Object call() throws Exception {
+        download.setState(TransferState.InProgress);
+
+        File parentDirectory = file.getParentFile();
+        if (parentDirectory != null && !parentDirectory.exists()) {
+            parentDirectory.mkdirs();
+        }
+
+        RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw");
+        List<Helper> helpers = new ArrayList<Helper>();
+        try {
+            randomAccessFile.setLength(contentLength);
+            channel = randomAccessFile.getChannel();
+
+            // The first range comes from the response we already have
+            nextPart.set(1);
+            downloadFirstPart();
+
+            int helperCount = Math.min(partCount - 1, threadPool.getMaximumPoolSize() - 1);
+            for (int i = 0; i < helperCount; i++) {
+                Helper helper = new Helper();
+                try {
+                    helper.future = threadPool.submit(helper);
+                } catch (RejectedExecutionException e) {
+                    break;
+                }
+                helpers.add(helper);
+            }
+
+            try {
+                downloadRemainingParts();
+            } catch (Exception e) {
+                fail(e);
+            }
+
+            for (Helper helper : helpers) {
+                // Helpers that never started can't claim any more ranges
+                if (helper.started.compareAndSet(false, true)) continue;
+                try {
+                    helper.future.get();
+                } catch (ExecutionException e) {
+                    // Already recorded by the helper
+                }
+            }
+
+            if (failure.get() != null) throw failure.get();
+            if (download.getState() == TransferState.Canceled) {
+                throw new AmazonClientException("Download of " + getObjectRequest.getKey() + " was canceled");
+            }
+        } catch (Exception e) {
+            stopped = true;
+            abortOpenStreams();
+            for (Helper helper : helpers) helper.started.set(true);
+
+            // Downloads aren't allowed to move from canceled to failed
+            if (download.getState() != TransferState.Canceled) {
+                download.setState(TransferState.Failed);
+            }
+            throw e;
+        } finally {
+            try {randomAccessFile.close();} catch (Exception e) {}
+        }
+
+        ServiceUtils.verifyDownloadedFile(s3Object, file);
+
+        fireProgressEvent(ProgressEvent.COMPLETED_EVENT_CODE);
+        download.setState(TransferState.Completed);
+        return true;
+    }
+
+    /**
+     * Aborts the download, closing the connections for any ranges currently
+     * being downloaded.
+     */
+    void abort() {
+        stopped = true;
+        abortOpenStreams();
+    }
+
+    /**
+     * Reads the first range from the response to the original request and
+     * then drops the connection, since the rest of the object is fetched by
+     * range requests.
+     */
+    private void downloadFirstPart() throws IOException {
+        S3ObjectInputStream content = s3Object.getObjectContent();
+        openStreams.add(content);
+        try {
+            writeRange(content, 0, partSize);
+        } finally {
+            openStreams.remove(content);
+            try {content.abort();} catch (IOException e) {}
+        }
+    }
+
+    /**
+     * Claims and downloads ranges until there are none left.
+     */
+    private void downloadRemainingParts() throws IOException {
+        int part;
+        while (!stopped && (part = nextPart.getAndIncrement()) < partCount) {
+            downloadPart(part);
+        }
+    }
+
+    /**
+     * Returns a request for the specified range of the object, carrying over
+     * the credentials, response header overrides, and other per-request
+     * settings of the original request. The range is pinned to the ETag of
+     * the object the first range came from, which also satisfies the
+     * original request's constraints.
+     */
+    private GetObjectRequest newRangeRequest(long start, long end) {
+        GetObjectRequest rangeRequest =
+            new GetObjectRequest(getObjectRequest.getBucketName(), getObjectRequest.getKey(),
+                    getObjectRequest.getVersionId())
+                .withRange(start, end)
+                .withMatchingETagConstraint(s3Object.getObjectMetadata().getETag())
+                .withResponseHeaders(getObjectRequest.getResponseHeaders())
+                .withIntegrityCheckMode(getObjectRequest.getIntegrityCheckMode())
+                .withProgressListener(partProgressListener);
+        rangeRequest.setRequestCredentials(getObjectRequest.getRequestCredentials());
+
+        String clientMarker = getObjectRequest.getRequestClientOptions().getClientMarker();
+        if (clientMarker != null) {
+            rangeRequest.getRequestClientOptions().addClientMarker(clientMarker.trim());
+        }
+        return rangeRequest;
+    }
+
+    private void downloadPart(int part) throws IOException {
+        long start = part * partSize;
+        long end = Math.min(start + partSize, contentLength) - 1;
+
+        S3Object range = s3.getObject(newRangeRequest(start, end));
+        if (range == null) {
+            throw new AmazonClientException("Unable to download " + getObjectRequest.getKey()
+                    + " in parts, the object was modified while it was being downloaded");
+        }
+
+        S3ObjectInputStream content = range.getObjectContent();
+        openStreams.add(content);
+        try {
+            writeRange(content, start, end - start + 1);
+        } catch (IOException e) {
+            try {content.abort();} catch (IOException abortException) {}
+            throw e;
+        } finally {
+            openStreams.remove(content);
+            try {content.close();} catch (IOException e) {}
+        }
+    }
+
+    /**
+     * Copies exactly the specified number of bytes from the input stream to
+     * the file, starting at the specified position.
+     */
+    private void writeRange(InputStream input, long position, long length) throws IOException {
+        byte[] buffer = BufferPool.getSharedPool().acquire(1024 * 10);
+        try {
+            long remaining = length;
+            while (remaining > 0) {
+                if (stopped) throw new IOException("Download of " + getObjectRequest.getKey() + " was stopped");
+
+                int bytesRead = input.read(buffer, 0, (int)Math.min(buffer.length, remaining));
+                if (bytesRead == -1) {
+                    throw new IOException("Unexpected end of data downloading " + getObjectRequest.getKey()
+                            + " at byte " + (position + length - remaining));
+                }
+
+                ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, bytesRead);
+                long writePosition = position + (length - remaining);
+                while (byteBuffer.hasRemaining()) {
+                    writePosition += channel.write(byteBuffer, writePosition);
+                }
+                remaining -= bytesRead;
+            }
+        } finally {
+            BufferPool.getSharedPool().release(buffer);
+        }
+    }
+
+    private void abortOpenStreams() {
+        for (S3ObjectInputStream stream : openStreams) {
+            try {stream.abort();} catch (Exception e) {
+                log.debug("Unable to abort range download: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Records the first error downloading a range and stops all other ranges.
+     */
+    private void fail(Exception e) {
+        failure.compareAndSet(null, e);
+        stopped = true;
+        abortOpenStreams();
+    }
+
+    private void fireProgressEvent(int eventType) {
+        ProgressListener listener = getObjectRequest.getProgressListener();
+        if (listener == null) return;
+        ProgressEvent event = new ProgressEvent(0);
+        event.setEventCode(eventType);
+        listener.progressChanged(event);
+    }
+
+    /**
+     * A task run on the thread pool that downloads ranges alongside the
+     * callable, unless it was revoked before it got to run.
+     */
+    private final class Helper implements Callable<Object> {
+        private final AtomicBoolean started = new AtomicBoolean();
+        private Future<?> future;
+
+        public Object call() throws Exception {
+            if (!started.compareAndSet(false, true)) return null;
+            try {
+                downloadRemainingParts();
+            } catch (Exception e) {
+                fail(e);
+                throw e;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Reports the progress of each range request as part progress of the
+     * overall download, so listeners only see a single started and completed
+     * event for the whole object.
+     */
+    private static final class PartProgressListener implements ProgressListener {
+        private final ProgressListener listener;
+
+        private PartProgressListener(ProgressListener listener) {
+            this.listener = listener;
+        }
+
+        public void progressChanged(ProgressEvent progressEvent) {
+            if (listener == null) return;
+
+            if (progressEvent.getEventCode() == ProgressEvent.STARTED_EVENT_CODE) {
+                progressEvent.setEventCode(ProgressEvent.PART_STARTED_EVENT_CODE);
+            } else if (progressEvent.getEventCode() == ProgressEvent.COMPLETED_EVENT_CODE) {
+                progressEvent.setEventCode(ProgressEvent.PART_COMPLETED_EVENT_CODE);
+            } else if (progressEvent.getEventCode() == ProgressEvent.CANCELED_EVENT_CODE) {
+                progressEvent.setEventCode(ProgressEvent.PART_FAILED_EVENT_CODE);
+            }
+            listener.progressChanged(progressEvent);
+        }
+    }
+}
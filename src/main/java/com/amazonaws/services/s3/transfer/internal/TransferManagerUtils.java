@@ -21,11 +21,14 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
+import com.amazonaws.services.s3.model.GetObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.transfer.TransferManagerConfiguration;
 
 /**
- * Internal utilities for multipart uploads with TransferManager.
+ * Internal utilities for multipart uploads and parallel downloads with
+ * TransferManager.
  */
 public class TransferManagerUtils {
 
@@ -129,6 +132,39 @@ public class TransferManagerUtils {
         return (contentLength > configuration.getMultipartUploadThreshold());
     }
 
+    /**
+     * Returns true if the specified download should be processed as a series
+     * of byte ranges downloaded in parallel, rather than over the single
+     * connection already opened for the object.
+     *
+     * @param getObjectRequest
+     *            The request for the object being downloaded.
+     * @param s3Object
+     *            The object returned for the request.
+     * @param configuration
+     *            Configuration settings controlling how transfer manager
+     *            processes requests.
+     * @param isUsingEncryption
+     *            True if the object is being decrypted as it is downloaded.
+     *
+     * @return True if the object should be downloaded in parallel parts.
+     */
+    public static boolean shouldUseParallelDownload(GetObjectRequest getObjectRequest, S3Object s3Object,
+            TransferManagerConfiguration configuration, boolean isUsingEncryption) {
+        // Encrypted objects can only be decrypted as a whole
+        if (isUsingEncryption) return false;
+
+        // Callers asking for a specific range get exactly that
+        if (getObjectRequest.getRange() != null) return false;
+
+        // Range requests are pinned to this version of the object by its ETag
+        if (s3Object.getObjectMetadata().getETag() == null) return false;
+
+        long contentLength = s3Object.getObjectMetadata().getContentLength();
+        return contentLength > configuration.getParallelDownloadThreshold()
+            && contentLength > configuration.getDownloadPartSize();
+    }
+
     /**
      * Convenience method for getting the file specified in a request.
      */
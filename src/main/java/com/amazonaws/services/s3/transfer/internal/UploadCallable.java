@@ -16,22 +16,30 @@ package com.amazonaws.services.s3.transfer.internal;
 
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import com.amazonaws.AmazonServiceException;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3EncryptionClient;
 import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CompleteMultipartUploadResult;
 import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListPartsRequest;
 import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PartListing;
+import com.amazonaws.services.s3.model.PartSummary;
 import com.amazonaws.services.s3.model.ProgressEvent;
 import com.amazonaws.services.s3.model.PutObjectRequest;
 import com.amazonaws.services.s3.model.PutObjectResult;
@@ -52,9 +60,21 @@ public class UploadCallable implements Callable<UploadResult> {
     private static final Log log = LogFactory.getLog(UploadCallable.class);
     private final TransferManagerConfiguration configuration;
     private final ProgressListenerChain progressListenerChain;
-    private final List<Future<PartETag>> futures = new ArrayList<Future<PartETag>>();
+    private final List<Future<PartETag>> futures = Collections.synchronizedList(new ArrayList<Future<PartETag>>());
+    private final UploadCheckpoint checkpoint;
+    private volatile boolean paused;
 
     public UploadCallable(TransferManager transferManager, ExecutorService threadPool, UploadImpl upload, PutObjectRequest putObjectRequest, ProgressListenerChain progressListenerChain) {
+        this(transferManager, threadPool, upload, putObjectRequest, progressListenerChain, null);
+    }
+
+    /**
+     * Constructs a callable whose multipart upload is recorded in, and if
+     * possible resumed from, the given checkpoint. Only parallelizable uploads
+     * (those reading from a file, without client side encryption) use the
+     * checkpoint; it is ignored for all others.
+     */
+    public UploadCallable(TransferManager transferManager, ExecutorService threadPool, UploadImpl upload, PutObjectRequest putObjectRequest, ProgressListenerChain progressListenerChain, UploadCheckpoint checkpoint) {
         this.s3 = transferManager.getAmazonS3Client();
         this.configuration = transferManager.getConfiguration();
 
@@ -62,6 +82,7 @@ public class UploadCallable implements Callable<UploadResult> {
         this.putObjectRequest = putObjectRequest;
         this.progressListenerChain = progressListenerChain;
         this.upload = upload;
+        this.checkpoint = checkpoint;
     }
 
     List<Future<PartETag>> getFutures() {
@@ -72,6 +93,33 @@ public class UploadCallable implements Callable<UploadResult> {
         return multipartUploadId;
     }
 
+    UploadCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Returns true if this UploadCallable records its progress in a checkpoint
+     * so that it can be paused and later resumed.
+     */
+    boolean isResumable() {
+        return checkpoint != null && isMultipartUpload()
+            && TransferManagerUtils.isUploadParallelizable(putObjectRequest, s3 instanceof AmazonS3EncryptionClient);
+    }
+
+    /**
+     * Stops submitting new parts and cancels the parts that haven't started
+     * yet, without aborting the multipart upload. Parts already being uploaded
+     * are allowed to finish so that they are recorded in the checkpoint.
+     */
+    void pause() {
+        paused = true;
+        synchronized (futures) {
+            for (Future<PartETag> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
     /**
      * Returns true if this UploadCallable is processing a multipart upload.
      * @return True if this UploadCallable is processing a multipart upload.
@@ -114,26 +162,48 @@ public class UploadCallable implements Callable<UploadResult> {
         final String key        = putObjectRequest.getKey();
 
         boolean isUsingEncryption = s3 instanceof AmazonS3EncryptionClient;
-        long optimalPartSize = getOptimalPartSize(isUsingEncryption);
+        boolean isParallelizable = TransferManagerUtils.isUploadParallelizable(putObjectRequest, isUsingEncryption);
+        boolean isResumable = isResumable();
 
-        multipartUploadId = initiateMultipartUpload(putObjectRequest);
+        Map<Integer, PartETag> completedParts = null;
+        if (isResumable && checkpoint.isStarted()) {
+            completedParts = listCompletedParts();
+        }
+
+        long optimalPartSize;
+        if (completedParts != null) {
+            multipartUploadId = checkpoint.getUploadId();
+            optimalPartSize = checkpoint.getPartSize();
+            log.debug("Resuming multipart upload " + multipartUploadId + " with " + completedParts.size() + " parts already uploaded");
+        } else {
+            optimalPartSize = getOptimalPartSize(isUsingEncryption);
+            multipartUploadId = initiateMultipartUpload(putObjectRequest);
+            if (isResumable) checkpoint.start(multipartUploadId, optimalPartSize);
+            completedParts = new HashMap<Integer, PartETag>();
+        }
 
         try {
             UploadPartRequestFactory requestFactory = new UploadPartRequestFactory(putObjectRequest, multipartUploadId, optimalPartSize);
 
-            if (TransferManagerUtils.isUploadParallelizable(putObjectRequest, isUsingEncryption)) {
-                uploadPartsInParallel(requestFactory);
+            if (isParallelizable) {
+                uploadPartsInParallel(requestFactory, completedParts, isResumable ? checkpoint : null);
                 return null;
             } else {
                 return uploadPartsInSeries(requestFactory);
             }
         } catch (Exception e) {
-            fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE);
+            if (!paused) fireProgressEvent(ProgressEvent.FAILED_EVENT_CODE);
 
-            try {
-                s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, multipartUploadId));
-            } catch (Exception e2) {
-                log.info("Unable to abort multipart upload, you may need to manually remove uploaded parts: " + e2.getMessage(), e2);
+            if (isResumable) {
+                // Keep the uploaded parts around so the upload can be resumed
+                log.info("Multipart upload " + multipartUploadId + " stopped; it can be resumed from "
+                        + checkpoint.getCheckpointFile());
+            } else {
+                try {
+                    s3.abortMultipartUpload(new AbortMultipartUploadRequest(bucketName, key, multipartUploadId));
+                } catch (Exception e2) {
+                    log.info("Unable to abort multipart upload, you may need to manually remove uploaded parts: " + e2.getMessage(), e2);
+                }
             }
             throw e;
         } finally {
@@ -197,15 +267,91 @@ public class UploadCallable implements Callable<UploadResult> {
 
     /**
      * Submits a callable for each part to upload to our thread pool and records its corresponding Future.
+     * Parts that were already uploaded are recorded as completed futures
+     * instead, and their bytes are reported as transferred.
      */
-    private void uploadPartsInParallel(UploadPartRequestFactory requestFactory) {
+    private void uploadPartsInParallel(UploadPartRequestFactory requestFactory,
+            Map<Integer, PartETag> completedParts, UploadCheckpoint checkpoint) {
+        long resumedBytes = 0;
         while (requestFactory.hasMoreRequests()) {
             if (threadPool.isShutdown()) throw new CancellationException("TransferManager has been shutdown");
             UploadPartRequest request = requestFactory.getNextUploadPartRequest();
-            futures.add(threadPool.submit(new UploadPartCallable(s3, request)));
+            PartETag completedPart = completedParts.get(request.getPartNumber());
+            if (completedPart != null) {
+                futures.add(completedFuture(completedPart));
+                resumedBytes += request.getPartSize();
+                continue;
+            }
+            futures.add(threadPool.submit(new UploadPartCallable(s3, request, checkpoint)));
+            if (paused) {
+                pause();
+                throw new CancellationException("Upload paused");
+            }
+        }
+
+        // Progress events carry an int byte count, so report large amounts in chunks
+        while (resumedBytes > 0 && progressListenerChain != null) {
+            int bytes = (int)Math.min(resumedBytes, Integer.MAX_VALUE);
+            progressListenerChain.progressChanged(new ProgressEvent(bytes));
+            resumedBytes -= bytes;
         }
     }
 
+    private static Future<PartETag> completedFuture(final PartETag partETag) {
+        FutureTask<PartETag> future = new FutureTask<PartETag>(new Callable<PartETag>() {
+            public PartETag call() {
+                return partETag;
+            }
+        });
+        future.run();
+        return future;
+    }
+
+    /**
+     * Lists the parts already stored for the checkpointed multipart upload and
+     * returns those that can be reused, keyed by part number. A part is reused
+     * only if it has the size expected for its position in the file and the
+     * ETag the checkpoint recorded for it. Parts the checkpoint has no record
+     * of, such as a part whose upload was cut off before it was recorded, are
+     * uploaded again.
+     *
+     * @return The reusable parts, or null if the multipart upload no longer
+     *         exists and a new one must be started.
+     */
+    private Map<Integer, PartETag> listCompletedParts() {
+        final long partSize = checkpoint.getPartSize();
+        final long contentLength = TransferManagerUtils.getContentLength(putObjectRequest);
+        final Map<Integer, String> recordedETags = checkpoint.getPartETags();
+        final Map<Integer, PartETag> completedParts = new HashMap<Integer, PartETag>();
+
+        ListPartsRequest listPartsRequest = new ListPartsRequest(
+                putObjectRequest.getBucketName(), putObjectRequest.getKey(), checkpoint.getUploadId());
+        PartListing partListing;
+        do {
+            try {
+                partListing = s3.listParts(listPartsRequest);
+            } catch (AmazonServiceException ase) {
+                if (ase.getStatusCode() == 404) {
+                    log.info("Multipart upload " + checkpoint.getUploadId() + " no longer exists, starting a new upload");
+                    return null;
+                }
+                throw ase;
+            }
+
+            for (PartSummary part : partListing.getParts()) {
+                int partNumber = part.getPartNumber();
+                long expectedSize = Math.min(partSize, contentLength - (partNumber - 1) * partSize);
+                String recordedETag = recordedETags.get(partNumber);
+                if (part.getSize() == expectedSize && recordedETag != null && recordedETag.equals(part.getETag())) {
+                    completedParts.put(partNumber, new PartETag(partNumber, part.getETag()));
+                }
+            }
+            listPartsRequest.setPartNumberMarker(partListing.getNextPartNumberMarker());
+        } while (partListing.isTruncated());
+
+        return completedParts;
+    }
+
     /**
      * Initiates a multipart upload and returns the upload id
      */
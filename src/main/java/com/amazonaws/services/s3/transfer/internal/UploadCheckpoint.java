@@ -0,0 +1,274 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.s3.transfer.internal;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.s3.model.PartETag;
+
+/**
+ * Local record of an in-progress multipart upload, kept in a small properties
+ * file so that a later {@link com.amazonaws.services.s3.transfer.TransferManager}
+ * (possibly in another JVM) can resume the upload instead of starting over.
+ * <p>
+ * The upload id and part size are written once, when the multipart upload is
+ * initiated. Each completed part is then appended to the same file as a
+ * <code>part.N=ETag</code> line, so recording a part costs one small write no
+ * matter how many parts the upload has. The file is removed once the upload
+ * completes.
+ * <p>
+ * On resume, the parts actually stored in Amazon S3 are listed, and a part is
+ * only skipped if the checkpoint recorded an ETag for it that matches the
+ * listed one. Any other part, including a stored part the checkpoint has no
+ * record of, is uploaded again.
+ */
+public class UploadCheckpoint {
+
+    private static final Log log = LogFactory.getLog(UploadCheckpoint.class);
+
+    private static final String BUCKET_NAME = "bucketName";
+    private static final String KEY = "key";
+    private static final String FILE = "file";
+    private static final String FILE_LENGTH = "fileLength";
+    private static final String FILE_LAST_MODIFIED = "fileLastModified";
+    private static final String UPLOAD_ID = "uploadId";
+    private static final String PART_SIZE = "partSize";
+    private static final String PART_PREFIX = "part.";
+
+    private final File checkpointFile;
+    private final String bucketName;
+    private final String key;
+    private final File file;
+    private final long fileLength;
+    private final long fileLastModified;
+
+    private String uploadId;
+    private long partSize;
+    private final Map<Integer, String> partETags = new TreeMap<Integer, String>();
+
+    /**
+     * Creates a new, not yet started checkpoint for uploading the specified
+     * file, capturing the file's current length and modification time.
+     */
+    public UploadCheckpoint(File checkpointFile, String bucketName, String key, File file) {
+        this(checkpointFile, bucketName, key, file, file.length(), file.lastModified());
+    }
+
+    private UploadCheckpoint(File checkpointFile, String bucketName, String key, File file,
+            long fileLength, long fileLastModified) {
+        this.checkpointFile = checkpointFile;
+        this.bucketName = bucketName;
+        this.key = key;
+        this.file = file;
+        this.fileLength = fileLength;
+        this.fileLastModified = fileLastModified;
+    }
+
+    /**
+     * Reads the checkpoint stored in the specified file.
+     *
+     * @return The checkpoint, or null if the file does not exist.
+     *
+     * @throws AmazonClientException
+     *             If the file exists but can't be read or isn't a valid upload
+     *             checkpoint.
+     */
+    public static UploadCheckpoint load(File checkpointFile) {
+        if (!checkpointFile.exists()) return null;
+
+        Properties properties = new Properties();
+        InputStream input = null;
+        try {
+            input = new FileInputStream(checkpointFile);
+            properties.load(input);
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to read upload checkpoint " + checkpointFile + ": " + e.getMessage(), e);
+        } finally {
+            try {if (input != null) input.close();} catch (Exception e) {}
+        }
+
+        UploadCheckpoint checkpoint;
+        try {
+            checkpoint = new UploadCheckpoint(checkpointFile,
+                    required(properties, BUCKET_NAME),
+                    required(properties, KEY),
+                    new File(required(properties, FILE)),
+                    Long.parseLong(required(properties, FILE_LENGTH)),
+                    Long.parseLong(required(properties, FILE_LAST_MODIFIED)));
+            checkpoint.uploadId = required(properties, UPLOAD_ID);
+            checkpoint.partSize = Long.parseLong(required(properties, PART_SIZE));
+
+            for (String name : properties.stringPropertyNames()) {
+                if (!name.startsWith(PART_PREFIX)) continue;
+                String eTag = properties.getProperty(name).trim();
+                // A crash in the middle of appending can leave a truncated last line
+                if (eTag.length() == 0) continue;
+                checkpoint.partETags.put(Integer.parseInt(name.substring(PART_PREFIX.length())), eTag);
+            }
+        } catch (NumberFormatException e) {
+            throw new AmazonClientException("Invalid upload checkpoint " + checkpointFile + ": " + e.getMessage(), e);
+        }
+        return checkpoint;
+    }
+
+    private static String required(Properties properties, String name) {
+        String value = properties.getProperty(name);
+        if (value == null) throw new AmazonClientException("Invalid upload checkpoint: missing " + name);
+        return value;
+    }
+
+    public File getCheckpointFile() {
+        return checkpointFile;
+    }
+
+    public String getBucketName() {
+        return bucketName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    /**
+     * Returns true if this checkpoint records an upload of the specified file
+     * to the specified bucket and key, and the file hasn't changed since the
+     * upload was started.
+     */
+    public boolean isForUpload(String bucketName, String key, File file) {
+        return this.bucketName.equals(bucketName)
+            && this.key.equals(key)
+            && this.file.getAbsoluteFile().equals(file.getAbsoluteFile())
+            && isFileUnchanged();
+    }
+
+    /**
+     * Returns true if the file being uploaded still has the length and
+     * modification time it had when this checkpoint was created.
+     */
+    public boolean isFileUnchanged() {
+        return file.length() == fileLength && file.lastModified() == fileLastModified;
+    }
+
+    /**
+     * Returns true if a multipart upload has been initiated for this checkpoint.
+     */
+    public synchronized boolean isStarted() {
+        return uploadId != null;
+    }
+
+    public synchronized String getUploadId() {
+        return uploadId;
+    }
+
+    public synchronized long getPartSize() {
+        return partSize;
+    }
+
+    /**
+     * Returns the ETags of the parts recorded as completed, keyed by part
+     * number.
+     */
+    public synchronized Map<Integer, String> getPartETags() {
+        return new TreeMap<Integer, String>(partETags);
+    }
+
+    /**
+     * Records a newly initiated multipart upload, replacing any state
+     * previously stored in the checkpoint file.
+     */
+    public synchronized void start(String uploadId, long partSize) {
+        this.uploadId = uploadId;
+        this.partSize = partSize;
+        this.partETags.clear();
+
+        Properties properties = new Properties();
+        properties.setProperty(BUCKET_NAME, bucketName);
+        properties.setProperty(KEY, key);
+        properties.setProperty(FILE, file.getAbsolutePath());
+        properties.setProperty(FILE_LENGTH, Long.toString(fileLength));
+        properties.setProperty(FILE_LAST_MODIFIED, Long.toString(fileLastModified));
+        properties.setProperty(UPLOAD_ID, uploadId);
+        properties.setProperty(PART_SIZE, Long.toString(partSize));
+
+        // Write to a temporary file first so that a crash never leaves a
+        // half-written header behind
+        File temp = new File(checkpointFile.getPath() + ".tmp");
+        OutputStream output = null;
+        try {
+            output = new FileOutputStream(temp);
+            properties.store(output, "Amazon S3 multipart upload checkpoint");
+            output.close();
+            output = null;
+            if (!temp.renameTo(checkpointFile)) {
+                checkpointFile.delete();
+                if (!temp.renameTo(checkpointFile)) {
+                    throw new IOException("Unable to rename " + temp + " to " + checkpointFile);
+                }
+            }
+        } catch (IOException e) {
+            throw new AmazonClientException("Unable to write upload checkpoint " + checkpointFile + ": " + e.getMessage(), e);
+        } finally {
+            try {if (output != null) output.close();} catch (Exception e) {}
+        }
+    }
+
+    /**
+     * Records a completed part by appending it to the checkpoint file.
+     */
+    public synchronized void partCompleted(PartETag partETag) {
+        if (uploadId == null) return;
+        partETags.put(partETag.getPartNumber(), partETag.getETag());
+
+        String line = PART_PREFIX + partETag.getPartNumber() + "=" + partETag.getETag() + "\n";
+        OutputStream output = null;
+        try {
+            output = new FileOutputStream(checkpointFile, true);
+            output.write(line.getBytes("ISO-8859-1"));
+        } catch (IOException e) {
+            // A resumed upload only reuses parts recorded here, so this part
+            // will be uploaded again if the upload is resumed
+            log.warn("Unable to update upload checkpoint " + checkpointFile + ": " + e.getMessage(), e);
+        } finally {
+            try {if (output != null) output.close();} catch (Exception e) {}
+        }
+    }
+
+    /**
+     * Deletes the checkpoint file, once the upload it records has completed or
+     * been abandoned.
+     */
+    public synchronized void delete() {
+        uploadId = null;
+        partETags.clear();
+        checkpointFile.delete();
+    }
+
+}
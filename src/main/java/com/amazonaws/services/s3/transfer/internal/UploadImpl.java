@@ -19,10 +19,11 @@ import java.util.concurrent.Future;
 
 import com.amazonaws.AmazonClientException;
 import com.amazonaws.AmazonServiceException;
-import com.amazonaws.services.s3.transfer.Upload;
+import com.amazonaws.services.s3.transfer.Transfer.TransferState;
+import com.amazonaws.services.s3.transfer.PausableUpload;
 import com.amazonaws.services.s3.transfer.model.UploadResult;
 
-public class UploadImpl extends AbstractTransfer implements Upload {
+public class UploadImpl extends AbstractTransfer implements PausableUpload {
     
     public UploadImpl(String description, TransferProgressImpl transferProgressInternalState,
             ProgressListenerChain progressListenerChain, TransferStateChangeListener listener) {
@@ -62,4 +63,22 @@ public class UploadImpl extends AbstractTransfer implements Upload {
         }
     }
 
+    /**
+     * Pauses this upload. Parts that haven't started uploading yet are
+     * canceled, but the multipart upload itself is left in place so that it
+     * can be resumed from its checkpoint file later.
+     *
+     * @throws IllegalStateException
+     *             If this upload wasn't started with a checkpoint file, or is
+     *             too small to be uploaded in parts.
+     */
+    public void pause() {
+        UploadMonitor uploadMonitor = (UploadMonitor)monitor;
+        if (!uploadMonitor.isResumable()) {
+            throw new IllegalStateException("Only multipart uploads of files started with a checkpoint file can be paused");
+        }
+        if (getState() == TransferState.Completed) return;
+        uploadMonitor.pause();
+    }
+
 }
@@ -130,6 +130,22 @@ public class UploadMonitor implements Callable<UploadResult>, TransferMonitor {
         this.timedThreadPool = timedThreadPool;
     }
 
+    /**
+     * Returns true if this upload is recorded in a checkpoint and can be
+     * paused.
+     */
+    public boolean isResumable() {
+        return multipartUploadCallable.isResumable();
+    }
+
+    /**
+     * Stops uploading new parts without aborting the multipart upload, leaving
+     * its checkpoint in place so the upload can be resumed later.
+     */
+    public void pause() {
+        multipartUploadCallable.pause();
+    }
+
     @Override
     public UploadResult call() throws Exception {
         try {
@@ -224,6 +240,9 @@ public class UploadMonitor implements Callable<UploadResult>, TransferMonitor {
                 .completeMultipartUpload(new CompleteMultipartUploadRequest(putObjectRequest.getBucketName(),
                         putObjectRequest.getKey(), uploadId, collectPartETags()));
 
+        if (multipartUploadCallable.getCheckpoint() != null) {
+            multipartUploadCallable.getCheckpoint().delete();
+        }
         uploadComplete();
 
         UploadResult uploadResult = new UploadResult();
@@ -23,13 +23,25 @@ import com.amazonaws.services.s3.model.UploadPartRequest;
 public class UploadPartCallable implements Callable<PartETag> {
     private final AmazonS3 s3;
     private final UploadPartRequest request;
+    private final UploadCheckpoint checkpoint;
 
     public UploadPartCallable(AmazonS3 s3, UploadPartRequest request) {
+        this(s3, request, null);
+    }
+
+    /**
+     * Constructs a callable that also records the uploaded part in the given
+     * checkpoint, if one is provided.
+     */
+    public UploadPartCallable(AmazonS3 s3, UploadPartRequest request, UploadCheckpoint checkpoint) {
         this.s3 = s3;
         this.request = request;
+        this.checkpoint = checkpoint;
     }
 
     public PartETag call() throws Exception {
-        return s3.uploadPart(request).getPartETag();
+        PartETag partETag = s3.uploadPart(request).getPartETag();
+        if (checkpoint != null) checkpoint.partCompleted(partETag);
+        return partETag;
     }
 }
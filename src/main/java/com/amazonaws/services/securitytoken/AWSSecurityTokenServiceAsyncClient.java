@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.securitytoken;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -26,6 +25,7 @@ import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
 
 import com.amazonaws.services.securitytoken.model.*;
+import com.amazonaws.services.securitytoken.model.transform.*;
 
 
 /**
@@ -254,11 +254,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<GetSessionTokenResult> getSessionTokenAsync(final GetSessionTokenRequest getSessionTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSessionTokenResult>() {
-            public GetSessionTokenResult call() throws Exception {
-                return getSessionToken(getSessionTokenRequest);
-		    }
-		});
+        return invokeAsync(getSessionTokenRequest, new GetSessionTokenRequestMarshaller(), new GetSessionTokenResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -303,11 +299,7 @@ public class AWSSecurityTokenServiceAsyncClient extends AWSSecurityTokenServiceC
      */
     public Future<GetFederationTokenResult> getFederationTokenAsync(final GetFederationTokenRequest getFederationTokenRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetFederationTokenResult>() {
-            public GetFederationTokenResult call() throws Exception {
-                return getFederationToken(getFederationTokenRequest);
-		    }
-		});
+        return invokeAsync(getFederationTokenRequest, new GetFederationTokenRequestMarshaller(), new GetFederationTokenResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.simpleemail;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,11 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.transform.StaxUnmarshallerContext;
+import com.amazonaws.transform.Unmarshaller;
 
 import com.amazonaws.services.simpleemail.model.*;
+import com.amazonaws.services.simpleemail.model.transform.*;
 
 
 /**
@@ -231,11 +233,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendQuotaResult> getSendQuotaAsync(final GetSendQuotaRequest getSendQuotaRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendQuotaResult>() {
-            public GetSendQuotaResult call() throws Exception {
-                return getSendQuota(getSendQuotaRequest);
-		    }
-		});
+        return invokeAsync(getSendQuotaRequest, new GetSendQuotaRequestMarshaller(), new GetSendQuotaResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -261,11 +259,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<DeleteIdentityResult> deleteIdentityAsync(final DeleteIdentityRequest deleteIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteIdentityResult>() {
-            public DeleteIdentityResult call() throws Exception {
-                return deleteIdentity(deleteIdentityRequest);
-		    }
-		});
+        return invokeAsync(deleteIdentityRequest, new DeleteIdentityRequestMarshaller(), new DeleteIdentityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -297,11 +291,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListVerifiedEmailAddressesResult> listVerifiedEmailAddressesAsync(final ListVerifiedEmailAddressesRequest listVerifiedEmailAddressesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVerifiedEmailAddressesResult>() {
-            public ListVerifiedEmailAddressesResult call() throws Exception {
-                return listVerifiedEmailAddresses(listVerifiedEmailAddressesRequest);
-		    }
-		});
+        return invokeAsync(listVerifiedEmailAddressesRequest, new ListVerifiedEmailAddressesRequestMarshaller(), new ListVerifiedEmailAddressesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -332,11 +322,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetSendStatisticsResult> getSendStatisticsAsync(final GetSendStatisticsRequest getSendStatisticsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetSendStatisticsResult>() {
-            public GetSendStatisticsResult call() throws Exception {
-                return getSendStatistics(getSendStatisticsRequest);
-		    }
-		});
+        return invokeAsync(getSendStatisticsRequest, new GetSendStatisticsRequestMarshaller(), new GetSendStatisticsResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -363,11 +349,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyEmailIdentityResult> verifyEmailIdentityAsync(final VerifyEmailIdentityRequest verifyEmailIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyEmailIdentityResult>() {
-            public VerifyEmailIdentityResult call() throws Exception {
-                return verifyEmailIdentity(verifyEmailIdentityRequest);
-		    }
-		});
+        return invokeAsync(verifyEmailIdentityRequest, new VerifyEmailIdentityRequestMarshaller(), new VerifyEmailIdentityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -417,11 +399,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendEmailResult> sendEmailAsync(final SendEmailRequest sendEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendEmailResult>() {
-            public SendEmailResult call() throws Exception {
-                return sendEmail(sendEmailRequest);
-		    }
-		});
+        return invokeAsync(sendEmailRequest, new SendEmailRequestMarshaller(), new SendEmailResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -447,11 +425,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<VerifyDomainIdentityResult> verifyDomainIdentityAsync(final VerifyDomainIdentityRequest verifyDomainIdentityRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<VerifyDomainIdentityResult>() {
-            public VerifyDomainIdentityResult call() throws Exception {
-                return verifyDomainIdentity(verifyDomainIdentityRequest);
-		    }
-		});
+        return invokeAsync(verifyDomainIdentityRequest, new VerifyDomainIdentityRequestMarshaller(), new VerifyDomainIdentityResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -483,12 +457,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> deleteVerifiedEmailAddressAsync(final DeleteVerifiedEmailAddressRequest deleteVerifiedEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deleteVerifiedEmailAddress(deleteVerifiedEmailAddressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(deleteVerifiedEmailAddressRequest, new DeleteVerifiedEmailAddressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -520,12 +489,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<Void> verifyEmailAddressAsync(final VerifyEmailAddressRequest verifyEmailAddressRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                verifyEmailAddress(verifyEmailAddressRequest);
-                return null;
-		    }
-		});
+        return invokeAsync(verifyEmailAddressRequest, new VerifyEmailAddressRequestMarshaller(), (Unmarshaller<Void, StaxUnmarshallerContext>)null, executorService);
     }
     
     /**
@@ -578,11 +542,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<SendRawEmailResult> sendRawEmailAsync(final SendRawEmailRequest sendRawEmailRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<SendRawEmailResult>() {
-            public SendRawEmailResult call() throws Exception {
-                return sendRawEmail(sendRawEmailRequest);
-		    }
-		});
+        return invokeAsync(sendRawEmailRequest, new SendRawEmailRequestMarshaller(), new SendRawEmailResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -609,11 +569,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<ListIdentitiesResult> listIdentitiesAsync(final ListIdentitiesRequest listIdentitiesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListIdentitiesResult>() {
-            public ListIdentitiesResult call() throws Exception {
-                return listIdentities(listIdentitiesRequest);
-		    }
-		});
+        return invokeAsync(listIdentitiesRequest, new ListIdentitiesRequestMarshaller(), new ListIdentitiesResultStaxUnmarshaller(), executorService);
     }
     
     /**
@@ -641,11 +597,7 @@ public class AmazonSimpleEmailServiceAsyncClient extends AmazonSimpleEmailServic
      */
     public Future<GetIdentityVerificationAttributesResult> getIdentityVerificationAttributesAsync(final GetIdentityVerificationAttributesRequest getIdentityVerificationAttributesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<GetIdentityVerificationAttributesResult>() {
-            public GetIdentityVerificationAttributesResult call() throws Exception {
-                return getIdentityVerificationAttributes(getIdentityVerificationAttributesRequest);
-		    }
-		});
+        return invokeAsync(getIdentityVerificationAttributesRequest, new GetIdentityVerificationAttributesRequestMarshaller(), new GetIdentityVerificationAttributesResultStaxUnmarshaller(), executorService);
     }
     
 }
@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.simpleworkflow;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,10 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.http.JsonResponseHandler;
 
 import com.amazonaws.services.simpleworkflow.model.*;
+import com.amazonaws.services.simpleworkflow.model.transform.*;
 
 
 /**
@@ -522,12 +523,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateWorkflowTypeAsync(final DeprecateWorkflowTypeRequest deprecateWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deprecateWorkflowType(deprecateWorkflowTypeRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(deprecateWorkflowTypeRequest, new DeprecateWorkflowTypeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -560,12 +557,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateDomainAsync(final DeprecateDomainRequest deprecateDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deprecateDomain(deprecateDomainRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(deprecateDomainRequest, new DeprecateDomainRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -598,12 +591,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerWorkflowTypeAsync(final RegisterWorkflowTypeRequest registerWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerWorkflowType(registerWorkflowTypeRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(registerWorkflowTypeRequest, new RegisterWorkflowTypeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -629,11 +618,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowTypeInfos> listWorkflowTypesAsync(final ListWorkflowTypesRequest listWorkflowTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeInfos>() {
-            public WorkflowTypeInfos call() throws Exception {
-                return listWorkflowTypes(listWorkflowTypesRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowTypeInfos> responseHandler = new JsonResponseHandler<WorkflowTypeInfos>(new WorkflowTypeInfosJsonUnmarshaller());
+        return invokeAsync(listWorkflowTypesRequest, new ListWorkflowTypesRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -663,11 +649,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Run> startWorkflowExecutionAsync(final StartWorkflowExecutionRequest startWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Run>() {
-            public Run call() throws Exception {
-                return startWorkflowExecution(startWorkflowExecutionRequest);
-		    }
-		});
+        JsonResponseHandler<Run> responseHandler = new JsonResponseHandler<Run>(new RunJsonUnmarshaller());
+        return invokeAsync(startWorkflowExecutionRequest, new StartWorkflowExecutionRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -706,12 +689,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> signalWorkflowExecutionAsync(final SignalWorkflowExecutionRequest signalWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                signalWorkflowExecution(signalWorkflowExecutionRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(signalWorkflowExecutionRequest, new SignalWorkflowExecutionRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -741,11 +720,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DomainInfos> listDomainsAsync(final ListDomainsRequest listDomainsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainInfos>() {
-            public DomainInfos call() throws Exception {
-                return listDomains(listDomainsRequest);
-		    }
-		});
+        JsonResponseHandler<DomainInfos> responseHandler = new JsonResponseHandler<DomainInfos>(new DomainInfosJsonUnmarshaller());
+        return invokeAsync(listDomainsRequest, new ListDomainsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -787,12 +763,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> requestCancelWorkflowExecutionAsync(final RequestCancelWorkflowExecutionRequest requestCancelWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                requestCancelWorkflowExecution(requestCancelWorkflowExecutionRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(requestCancelWorkflowExecutionRequest, new RequestCancelWorkflowExecutionRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -820,11 +792,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowTypeDetail> describeWorkflowTypeAsync(final DescribeWorkflowTypeRequest describeWorkflowTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowTypeDetail>() {
-            public WorkflowTypeDetail call() throws Exception {
-                return describeWorkflowType(describeWorkflowTypeRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowTypeDetail> responseHandler = new JsonResponseHandler<WorkflowTypeDetail>(new WorkflowTypeDetailJsonUnmarshaller());
+        return invokeAsync(describeWorkflowTypeRequest, new DescribeWorkflowTypeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -857,12 +826,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> deprecateActivityTypeAsync(final DeprecateActivityTypeRequest deprecateActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                deprecateActivityType(deprecateActivityTypeRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(deprecateActivityTypeRequest, new DeprecateActivityTypeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -893,11 +858,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionCount> countClosedWorkflowExecutionsAsync(final CountClosedWorkflowExecutionsRequest countClosedWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
-            public WorkflowExecutionCount call() throws Exception {
-                return countClosedWorkflowExecutions(countClosedWorkflowExecutionsRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowExecutionCount> responseHandler = new JsonResponseHandler<WorkflowExecutionCount>(new WorkflowExecutionCountJsonUnmarshaller());
+        return invokeAsync(countClosedWorkflowExecutionsRequest, new CountClosedWorkflowExecutionsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -926,11 +888,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<PendingTaskCount> countPendingActivityTasksAsync(final CountPendingActivityTasksRequest countPendingActivityTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
-            public PendingTaskCount call() throws Exception {
-                return countPendingActivityTasks(countPendingActivityTasksRequest);
-		    }
-		});
+        JsonResponseHandler<PendingTaskCount> responseHandler = new JsonResponseHandler<PendingTaskCount>(new PendingTaskCountJsonUnmarshaller());
+        return invokeAsync(countPendingActivityTasksRequest, new CountPendingActivityTasksRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -968,12 +927,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskCanceledAsync(final RespondActivityTaskCanceledRequest respondActivityTaskCanceledRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondActivityTaskCanceled(respondActivityTaskCanceledRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(respondActivityTaskCanceledRequest, new RespondActivityTaskCanceledRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1008,12 +963,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondDecisionTaskCompletedAsync(final RespondDecisionTaskCompletedRequest respondDecisionTaskCompletedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondDecisionTaskCompleted(respondDecisionTaskCompletedRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(respondDecisionTaskCompletedRequest, new RespondDecisionTaskCompletedRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1052,12 +1003,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskCompletedAsync(final RespondActivityTaskCompletedRequest respondActivityTaskCompletedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondActivityTaskCompleted(respondActivityTaskCompletedRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(respondActivityTaskCompletedRequest, new RespondActivityTaskCompletedRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1097,11 +1044,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTask> pollForActivityTaskAsync(final PollForActivityTaskRequest pollForActivityTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTask>() {
-            public ActivityTask call() throws Exception {
-                return pollForActivityTask(pollForActivityTaskRequest);
-		    }
-		});
+        JsonResponseHandler<ActivityTask> responseHandler = new JsonResponseHandler<ActivityTask>(new ActivityTaskJsonUnmarshaller());
+        return invokeAsync(pollForActivityTaskRequest, new PollForActivityTaskRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1132,11 +1076,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionCount> countOpenWorkflowExecutionsAsync(final CountOpenWorkflowExecutionsRequest countOpenWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionCount>() {
-            public WorkflowExecutionCount call() throws Exception {
-                return countOpenWorkflowExecutions(countOpenWorkflowExecutionsRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowExecutionCount> responseHandler = new JsonResponseHandler<WorkflowExecutionCount>(new WorkflowExecutionCountJsonUnmarshaller());
+        return invokeAsync(countOpenWorkflowExecutionsRequest, new CountOpenWorkflowExecutionsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1164,11 +1105,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTypeDetail> describeActivityTypeAsync(final DescribeActivityTypeRequest describeActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeDetail>() {
-            public ActivityTypeDetail call() throws Exception {
-                return describeActivityType(describeActivityTypeRequest);
-		    }
-		});
+        JsonResponseHandler<ActivityTypeDetail> responseHandler = new JsonResponseHandler<ActivityTypeDetail>(new ActivityTypeDetailJsonUnmarshaller());
+        return invokeAsync(describeActivityTypeRequest, new DescribeActivityTypeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1201,11 +1139,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionInfos> listOpenWorkflowExecutionsAsync(final ListOpenWorkflowExecutionsRequest listOpenWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
-            public WorkflowExecutionInfos call() throws Exception {
-                return listOpenWorkflowExecutions(listOpenWorkflowExecutionsRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowExecutionInfos> responseHandler = new JsonResponseHandler<WorkflowExecutionInfos>(new WorkflowExecutionInfosJsonUnmarshaller());
+        return invokeAsync(listOpenWorkflowExecutionsRequest, new ListOpenWorkflowExecutionsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1238,11 +1173,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<History> getWorkflowExecutionHistoryAsync(final GetWorkflowExecutionHistoryRequest getWorkflowExecutionHistoryRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<History>() {
-            public History call() throws Exception {
-                return getWorkflowExecutionHistory(getWorkflowExecutionHistoryRequest);
-		    }
-		});
+        JsonResponseHandler<History> responseHandler = new JsonResponseHandler<History>(new HistoryJsonUnmarshaller());
+        return invokeAsync(getWorkflowExecutionHistoryRequest, new GetWorkflowExecutionHistoryRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1266,12 +1198,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerDomainAsync(final RegisterDomainRequest registerDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerDomain(registerDomainRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(registerDomainRequest, new RegisterDomainRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1304,12 +1232,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> registerActivityTypeAsync(final RegisterActivityTypeRequest registerActivityTypeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                registerActivityType(registerActivityTypeRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(registerActivityTypeRequest, new RegisterActivityTypeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1342,11 +1266,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionInfos> listClosedWorkflowExecutionsAsync(final ListClosedWorkflowExecutionsRequest listClosedWorkflowExecutionsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionInfos>() {
-            public WorkflowExecutionInfos call() throws Exception {
-                return listClosedWorkflowExecutions(listClosedWorkflowExecutionsRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowExecutionInfos> responseHandler = new JsonResponseHandler<WorkflowExecutionInfos>(new WorkflowExecutionInfosJsonUnmarshaller());
+        return invokeAsync(listClosedWorkflowExecutionsRequest, new ListClosedWorkflowExecutionsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1410,11 +1331,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTaskStatus> recordActivityTaskHeartbeatAsync(final RecordActivityTaskHeartbeatRequest recordActivityTaskHeartbeatRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTaskStatus>() {
-            public ActivityTaskStatus call() throws Exception {
-                return recordActivityTaskHeartbeat(recordActivityTaskHeartbeatRequest);
-		    }
-		});
+        JsonResponseHandler<ActivityTaskStatus> responseHandler = new JsonResponseHandler<ActivityTaskStatus>(new ActivityTaskStatusJsonUnmarshaller());
+        return invokeAsync(recordActivityTaskHeartbeatRequest, new RecordActivityTaskHeartbeatRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1467,11 +1385,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DecisionTask> pollForDecisionTaskAsync(final PollForDecisionTaskRequest pollForDecisionTaskRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DecisionTask>() {
-            public DecisionTask call() throws Exception {
-                return pollForDecisionTask(pollForDecisionTaskRequest);
-		    }
-		});
+        JsonResponseHandler<DecisionTask> responseHandler = new JsonResponseHandler<DecisionTask>(new DecisionTaskJsonUnmarshaller());
+        return invokeAsync(pollForDecisionTaskRequest, new PollForDecisionTaskRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1500,11 +1415,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<ActivityTypeInfos> listActivityTypesAsync(final ListActivityTypesRequest listActivityTypesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivityTypeInfos>() {
-            public ActivityTypeInfos call() throws Exception {
-                return listActivityTypes(listActivityTypesRequest);
-		    }
-		});
+        JsonResponseHandler<ActivityTypeInfos> responseHandler = new JsonResponseHandler<ActivityTypeInfos>(new ActivityTypeInfosJsonUnmarshaller());
+        return invokeAsync(listActivityTypesRequest, new ListActivityTypesRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1529,11 +1441,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<DomainDetail> describeDomainAsync(final DescribeDomainRequest describeDomainRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DomainDetail>() {
-            public DomainDetail call() throws Exception {
-                return describeDomain(describeDomainRequest);
-		    }
-		});
+        JsonResponseHandler<DomainDetail> responseHandler = new JsonResponseHandler<DomainDetail>(new DomainDetailJsonUnmarshaller());
+        return invokeAsync(describeDomainRequest, new DescribeDomainRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1565,12 +1474,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> respondActivityTaskFailedAsync(final RespondActivityTaskFailedRequest respondActivityTaskFailedRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                respondActivityTaskFailed(respondActivityTaskFailedRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(respondActivityTaskFailedRequest, new RespondActivityTaskFailedRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1599,11 +1504,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<PendingTaskCount> countPendingDecisionTasksAsync(final CountPendingDecisionTasksRequest countPendingDecisionTasksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<PendingTaskCount>() {
-            public PendingTaskCount call() throws Exception {
-                return countPendingDecisionTasks(countPendingDecisionTasksRequest);
-		    }
-		});
+        JsonResponseHandler<PendingTaskCount> responseHandler = new JsonResponseHandler<PendingTaskCount>(new PendingTaskCountJsonUnmarshaller());
+        return invokeAsync(countPendingDecisionTasksRequest, new CountPendingDecisionTasksRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1647,12 +1549,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<Void> terminateWorkflowExecutionAsync(final TerminateWorkflowExecutionRequest terminateWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<Void>() {
-            public Void call() throws Exception {
-                terminateWorkflowExecution(terminateWorkflowExecutionRequest);
-                return null;
-		    }
-		});
+        JsonResponseHandler<Void> responseHandler = new JsonResponseHandler<Void>(null);
+        return invokeAsync(terminateWorkflowExecutionRequest, new TerminateWorkflowExecutionRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1683,11 +1581,8 @@ public class AmazonSimpleWorkflowAsyncClient extends AmazonSimpleWorkflowClient
      */
     public Future<WorkflowExecutionDetail> describeWorkflowExecutionAsync(final DescribeWorkflowExecutionRequest describeWorkflowExecutionRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<WorkflowExecutionDetail>() {
-            public WorkflowExecutionDetail call() throws Exception {
-                return describeWorkflowExecution(describeWorkflowExecutionRequest);
-		    }
-		});
+        JsonResponseHandler<WorkflowExecutionDetail> responseHandler = new JsonResponseHandler<WorkflowExecutionDetail>(new WorkflowExecutionDetailJsonUnmarshaller());
+        return invokeAsync(describeWorkflowExecutionRequest, new DescribeWorkflowExecutionRequestMarshaller(), responseHandler, executorService);
     }
     
 }
@@ -18,6 +18,8 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -31,6 +33,7 @@ import com.amazonaws.http.JsonResponseHandler;
 import com.amazonaws.http.JsonErrorResponseHandler;
 import com.amazonaws.http.ExecutionContext;
 import com.amazonaws.internal.StaticCredentialsProvider;
+import com.amazonaws.transform.Marshaller;
 import com.amazonaws.transform.Unmarshaller;
 import com.amazonaws.transform.JsonUnmarshallerContext;
 import com.amazonaws.transform.JsonErrorUnmarshaller;
@@ -1778,5 +1781,26 @@ public class AmazonSimpleWorkflowClient extends AmazonWebServiceClient implement
         return (X)client.execute(request, responseHandler, errorResponseHandler, executionContext);
     }
 
+    /**
+     * Requests to this service carry their parameters in a JSON body, and
+     * synchronous calls don't add private request parameters, so neither do
+     * asynchronous calls.
+     */
+    @Override
+    protected void addPrivateRequestParameters(Request<?> request, AmazonWebServiceRequest originalRequest) {
+    }
+
+    /**
+     * Starts executing the request through the low level client's
+     * asynchronous path, using the specified executor to marshall the
+     * request and process the response.
+     */
+    <X, Y extends AmazonWebServiceRequest> Future<X> invokeAsync(Y originalRequest, Marshaller<Request<Y>, Y> marshaller, HttpResponseHandler<AmazonWebServiceResponse<X>> responseHandler, ExecutorService executorService) {
+        ExecutionContext executionContext = createExecutionContext();
+        executionContext.setSigner(signer);
+        return invokeAsync(originalRequest, marshaller, responseHandler,
+                new JsonErrorResponseHandler(exceptionUnmarshallers), executionContext, awsCredentialsProvider, executorService);
+    }
+
 }
         
\ No newline at end of file
@@ -0,0 +1,367 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.ResponseMetadata;
+import com.amazonaws.services.sqs.AmazonSQSAsync;
+import com.amazonaws.services.sqs.model.AddPermissionRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityRequest;
+import com.amazonaws.services.sqs.model.CreateQueueRequest;
+import com.amazonaws.services.sqs.model.CreateQueueResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.DeleteQueueRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.GetQueueAttributesResult;
+import com.amazonaws.services.sqs.model.GetQueueUrlRequest;
+import com.amazonaws.services.sqs.model.GetQueueUrlResult;
+import com.amazonaws.services.sqs.model.ListQueuesRequest;
+import com.amazonaws.services.sqs.model.ListQueuesResult;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.RemovePermissionRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+import com.amazonaws.services.sqs.model.SetQueueAttributesRequest;
+
+/**
+ * Client for accessing AmazonSQS that buffers requests on the client side to
+ * make fewer, larger requests to the service.
+ * <p>
+ * Sends, deletes and visibility changes are collected per queue and sent as
+ * batch requests, once a batch is full or has been open for the configured
+ * time; their futures complete when the batch request does. Receives are
+ * answered from messages prefetched in the background. All other requests are
+ * passed straight to the wrapped client, as are buffered kinds of requests
+ * that the buffer can't serve the same way: those carrying their own
+ * credentials, and receives that ask for message attributes or a visibility
+ * timeout of their own.
+ * <p>
+ * A message sent through the buffer is only sent once its batch is; call
+ * {@link #flush()} to send everything buffered without waiting. Prefetched
+ * messages are invisible to other consumers until they are handed out or their
+ * visibility timeout expires; {@link #shutdown()} makes those not yet handed
+ * out visible again.
+ *
+ * @see QueueBufferConfig
+ */
+public class AmazonSQSBufferedAsyncClient implements AmazonSQSAsync {
+
+    private final AmazonSQSAsync realSQS;
+    private final QueueBufferConfig config;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService timer;
+    private final ConcurrentMap<String, QueueBuffer> buffers = new ConcurrentHashMap<String, QueueBuffer>();
+
+    /**
+     * Constructs a new buffered client wrapping the client given, using the
+     * default {@link QueueBufferConfig}.
+     *
+     * @param realSQS
+     *            The client requests are made with.
+     */
+    public AmazonSQSBufferedAsyncClient(AmazonSQSAsync realSQS) {
+        this(realSQS, new QueueBufferConfig());
+    }
+
+    /**
+     * Constructs a new buffered client wrapping the client given.
+     *
+     * @param realSQS
+     *            The client requests are made with.
+     * @param config
+     *            The configuration of the buffers of every queue.
+     */
+    public AmazonSQSBufferedAsyncClient(AmazonSQSAsync realSQS, QueueBufferConfig config) {
+        this.realSQS = realSQS;
+        this.config = config;
+        this.executor = Executors.newCachedThreadPool(new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "sqs-buffer-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+        this.timer = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread thread = new Thread(r, "sqs-buffer-timer");
+                thread.setDaemon(true);
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Sends every request buffered for any queue without waiting for its batch
+     * to fill, and waits until they have all completed.
+     */
+    public void flush() {
+        for ( QueueBuffer buffer : buffers.values() ) {
+            buffer.flush();
+        }
+    }
+
+    /**
+     * Sends every buffered request, makes the messages prefetched but not yet
+     * handed out visible to other consumers again, and shuts down the wrapped
+     * client.
+     */
+    public void shutdown() {
+        for ( QueueBuffer buffer : buffers.values() ) {
+            buffer.shutdown();
+        }
+        timer.shutdown();
+        executor.shutdown();
+        realSQS.shutdown();
+    }
+
+    private QueueBuffer getBuffer(String queueUrl) {
+        QueueBuffer buffer = buffers.get(queueUrl);
+        if ( buffer == null ) {
+            QueueBuffer created = new QueueBuffer(realSQS, executor, timer, config, queueUrl);
+            buffer = buffers.putIfAbsent(queueUrl, created);
+            if ( buffer == null )
+                buffer = created;
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns whether the request given can be buffered: it's for a queue, and
+     * is made with the wrapped client's own credentials.
+     */
+    private static boolean isBufferable(AmazonWebServiceRequest request, String queueUrl) {
+        return queueUrl != null && request.getRequestCredentials() == null;
+    }
+
+    private static boolean isBufferable(ReceiveMessageRequest request) {
+        return isBufferable(request, request.getQueueUrl())
+                && (request.getAttributeNames() == null || request.getAttributeNames().isEmpty())
+                && request.getVisibilityTimeout() == null;
+    }
+
+    /**
+     * Waits for the future given and returns its result, rethrowing the
+     * exception it failed with.
+     */
+    private static <T> T waitFor(Future<T> future) {
+        try {
+            return future.get();
+        } catch ( InterruptedException e ) {
+            Thread.currentThread().interrupt();
+            throw new AmazonClientException("Interrupted while waiting for a buffered request", e);
+        } catch ( ExecutionException e ) {
+            Throwable cause = e.getCause();
+            if ( cause instanceof RuntimeException )
+                throw (RuntimeException) cause;
+            if ( cause instanceof Error )
+                throw (Error) cause;
+            throw new AmazonClientException(cause.getMessage(), cause);
+        }
+    }
+
+    public Future<SendMessageResult> sendMessageAsync(SendMessageRequest sendMessageRequest)
+            throws AmazonServiceException, AmazonClientException {
+        if ( !isBufferable(sendMessageRequest, sendMessageRequest.getQueueUrl()) )
+            return realSQS.sendMessageAsync(sendMessageRequest);
+        return getBuffer(sendMessageRequest.getQueueUrl()).sendMessage(sendMessageRequest);
+    }
+
+    public SendMessageResult sendMessage(SendMessageRequest sendMessageRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return waitFor(sendMessageAsync(sendMessageRequest));
+    }
+
+    public Future<Void> deleteMessageAsync(DeleteMessageRequest deleteMessageRequest)
+            throws AmazonServiceException, AmazonClientException {
+        if ( !isBufferable(deleteMessageRequest, deleteMessageRequest.getQueueUrl()) )
+            return realSQS.deleteMessageAsync(deleteMessageRequest);
+        return getBuffer(deleteMessageRequest.getQueueUrl()).deleteMessage(deleteMessageRequest);
+    }
+
+    public void deleteMessage(DeleteMessageRequest deleteMessageRequest) throws AmazonServiceException,
+            AmazonClientException {
+        waitFor(deleteMessageAsync(deleteMessageRequest));
+    }
+
+    public Future<Void> changeMessageVisibilityAsync(ChangeMessageVisibilityRequest changeMessageVisibilityRequest)
+            throws AmazonServiceException, AmazonClientException {
+        if ( !isBufferable(changeMessageVisibilityRequest, changeMessageVisibilityRequest.getQueueUrl()) )
+            return realSQS.changeMessageVisibilityAsync(changeMessageVisibilityRequest);
+        return getBuffer(changeMessageVisibilityRequest.getQueueUrl()).changeMessageVisibility(
+                changeMessageVisibilityRequest);
+    }
+
+    public void changeMessageVisibility(ChangeMessageVisibilityRequest changeMessageVisibilityRequest)
+            throws AmazonServiceException, AmazonClientException {
+        waitFor(changeMessageVisibilityAsync(changeMessageVisibilityRequest));
+    }
+
+    public Future<ReceiveMessageResult> receiveMessageAsync(ReceiveMessageRequest receiveMessageRequest)
+            throws AmazonServiceException, AmazonClientException {
+        if ( !isBufferable(receiveMessageRequest) )
+            return realSQS.receiveMessageAsync(receiveMessageRequest);
+        return getBuffer(receiveMessageRequest.getQueueUrl()).receiveMessage(receiveMessageRequest);
+    }
+
+    public ReceiveMessageResult receiveMessage(ReceiveMessageRequest receiveMessageRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return waitFor(receiveMessageAsync(receiveMessageRequest));
+    }
+
+    public void setEndpoint(String endpoint) throws IllegalArgumentException {
+        realSQS.setEndpoint(endpoint);
+    }
+
+    public Future<Void> setQueueAttributesAsync(SetQueueAttributesRequest setQueueAttributesRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.setQueueAttributesAsync(setQueueAttributesRequest);
+    }
+
+    public void setQueueAttributes(SetQueueAttributesRequest setQueueAttributesRequest)
+            throws AmazonServiceException, AmazonClientException {
+        realSQS.setQueueAttributes(setQueueAttributesRequest);
+    }
+
+    public Future<ChangeMessageVisibilityBatchResult> changeMessageVisibilityBatchAsync(
+            ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return realSQS.changeMessageVisibilityBatchAsync(changeMessageVisibilityBatchRequest);
+    }
+
+    public ChangeMessageVisibilityBatchResult changeMessageVisibilityBatch(
+            ChangeMessageVisibilityBatchRequest changeMessageVisibilityBatchRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return realSQS.changeMessageVisibilityBatch(changeMessageVisibilityBatchRequest);
+    }
+
+    public Future<GetQueueUrlResult> getQueueUrlAsync(GetQueueUrlRequest getQueueUrlRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.getQueueUrlAsync(getQueueUrlRequest);
+    }
+
+    public GetQueueUrlResult getQueueUrl(GetQueueUrlRequest getQueueUrlRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return realSQS.getQueueUrl(getQueueUrlRequest);
+    }
+
+    public Future<Void> removePermissionAsync(RemovePermissionRequest removePermissionRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.removePermissionAsync(removePermissionRequest);
+    }
+
+    public void removePermission(RemovePermissionRequest removePermissionRequest) throws AmazonServiceException,
+            AmazonClientException {
+        realSQS.removePermission(removePermissionRequest);
+    }
+
+    public Future<GetQueueAttributesResult> getQueueAttributesAsync(GetQueueAttributesRequest getQueueAttributesRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.getQueueAttributesAsync(getQueueAttributesRequest);
+    }
+
+    public GetQueueAttributesResult getQueueAttributes(GetQueueAttributesRequest getQueueAttributesRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.getQueueAttributes(getQueueAttributesRequest);
+    }
+
+    public Future<SendMessageBatchResult> sendMessageBatchAsync(SendMessageBatchRequest sendMessageBatchRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.sendMessageBatchAsync(sendMessageBatchRequest);
+    }
+
+    public SendMessageBatchResult sendMessageBatch(SendMessageBatchRequest sendMessageBatchRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.sendMessageBatch(sendMessageBatchRequest);
+    }
+
+    public Future<Void> deleteQueueAsync(DeleteQueueRequest deleteQueueRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return realSQS.deleteQueueAsync(deleteQueueRequest);
+    }
+
+    public void deleteQueue(DeleteQueueRequest deleteQueueRequest) throws AmazonServiceException,
+            AmazonClientException {
+        realSQS.deleteQueue(deleteQueueRequest);
+    }
+
+    public Future<ListQueuesResult> listQueuesAsync(ListQueuesRequest listQueuesRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.listQueuesAsync(listQueuesRequest);
+    }
+
+    public ListQueuesResult listQueues(ListQueuesRequest listQueuesRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return realSQS.listQueues(listQueuesRequest);
+    }
+
+    public ListQueuesResult listQueues() throws AmazonServiceException, AmazonClientException {
+        return realSQS.listQueues();
+    }
+
+    public Future<DeleteMessageBatchResult> deleteMessageBatchAsync(DeleteMessageBatchRequest deleteMessageBatchRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.deleteMessageBatchAsync(deleteMessageBatchRequest);
+    }
+
+    public DeleteMessageBatchResult deleteMessageBatch(DeleteMessageBatchRequest deleteMessageBatchRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.deleteMessageBatch(deleteMessageBatchRequest);
+    }
+
+    public Future<CreateQueueResult> createQueueAsync(CreateQueueRequest createQueueRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.createQueueAsync(createQueueRequest);
+    }
+
+    public CreateQueueResult createQueue(CreateQueueRequest createQueueRequest) throws AmazonServiceException,
+            AmazonClientException {
+        return realSQS.createQueue(createQueueRequest);
+    }
+
+    public Future<Void> addPermissionAsync(AddPermissionRequest addPermissionRequest)
+            throws AmazonServiceException, AmazonClientException {
+        return realSQS.addPermissionAsync(addPermissionRequest);
+    }
+
+    public void addPermission(AddPermissionRequest addPermissionRequest) throws AmazonServiceException,
+            AmazonClientException {
+        realSQS.addPermission(addPermissionRequest);
+    }
+
+    public ResponseMetadata getCachedResponseMetadata(AmazonWebServiceRequest request) {
+        return realSQS.getCachedResponseMetadata(request);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+/**
+ * The outbound and receive buffers of a single queue.
+ */
+class QueueBuffer {
+
+    private final SendQueueBuffer sendBuffer;
+    private final ReceiveQueueBuffer receiveBuffer;
+
+    QueueBuffer(AmazonSQS sqs, Executor executor, ScheduledExecutorService timer, QueueBufferConfig config,
+            String queueUrl) {
+        sendBuffer = new SendQueueBuffer(sqs, executor, timer, config, queueUrl);
+        receiveBuffer = new ReceiveQueueBuffer(sqs, executor, config, queueUrl);
+    }
+
+    QueueBufferFuture<SendMessageResult> sendMessage(SendMessageRequest request) {
+        return sendBuffer.sendMessage(request);
+    }
+
+    QueueBufferFuture<Void> deleteMessage(DeleteMessageRequest request) {
+        return sendBuffer.deleteMessage(request);
+    }
+
+    QueueBufferFuture<Void> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return sendBuffer.changeMessageVisibility(request);
+    }
+
+    QueueBufferFuture<ReceiveMessageResult> receiveMessage(ReceiveMessageRequest request) {
+        return receiveBuffer.receiveMessage(request);
+    }
+
+    /**
+     * Sends every buffered outbound request and waits for them to complete.
+     */
+    void flush() {
+        sendBuffer.flush();
+    }
+
+    /**
+     * Sends every buffered outbound request, then makes the messages still
+     * buffered for receive calls visible to other consumers again.
+     */
+    void shutdown() {
+        sendBuffer.flush();
+        receiveBuffer.shutdown();
+    }
+}
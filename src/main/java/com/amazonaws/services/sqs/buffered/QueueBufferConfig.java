@@ -0,0 +1,261 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+/**
+ * Configuration for the queue buffers of an
+ * {@link AmazonSQSBufferedAsyncClient}: how long and how large outbound batches
+ * may grow, how many batch requests may be in flight at once, and how many
+ * received messages are prefetched.
+ */
+public class QueueBufferConfig {
+
+    /** The most entries Amazon SQS accepts in one batch request */
+    public static final int MAX_BATCH_SIZE_DEFAULT = 10;
+
+    /** The largest total message size Amazon SQS accepts in one send batch */
+    public static final long MAX_BATCH_SIZE_BYTES_DEFAULT = 64 * 1024;
+
+    public static final long MAX_BATCH_OPEN_MS_DEFAULT = 200;
+
+    public static final int MAX_INFLIGHT_OUTBOUND_BATCHES_DEFAULT = 5;
+
+    public static final int MAX_INFLIGHT_RECEIVE_BATCHES_DEFAULT = 10;
+
+    public static final int MAX_DONE_RECEIVE_BATCHES_DEFAULT = 10;
+
+    public static final int VISIBILITY_TIMEOUT_SECONDS_DEFAULT = -1;
+
+    private int maxBatchSize = MAX_BATCH_SIZE_DEFAULT;
+    private long maxBatchSizeBytes = MAX_BATCH_SIZE_BYTES_DEFAULT;
+    private long maxBatchOpenMs = MAX_BATCH_OPEN_MS_DEFAULT;
+    private int maxInflightOutboundBatches = MAX_INFLIGHT_OUTBOUND_BATCHES_DEFAULT;
+    private int maxInflightReceiveBatches = MAX_INFLIGHT_RECEIVE_BATCHES_DEFAULT;
+    private int maxDoneReceiveBatches = MAX_DONE_RECEIVE_BATCHES_DEFAULT;
+    private int visibilityTimeoutSeconds = VISIBILITY_TIMEOUT_SECONDS_DEFAULT;
+
+    /**
+     * Returns the most messages sent, deleted or received, or visibility
+     * timeouts changed, in one batch request.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the most messages sent, deleted or received, or visibility
+     * timeouts changed, in one batch request. Defaults to ten, the most
+     * Amazon SQS allows.
+     */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if ( maxBatchSize < 1 || maxBatchSize > MAX_BATCH_SIZE_DEFAULT )
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE_DEFAULT);
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * Sets the most messages sent, deleted or received, or visibility
+     * timeouts changed, in one batch request, and returns this object so that
+     * method calls can be chained together.
+     */
+    public QueueBufferConfig withMaxBatchSize(int maxBatchSize) {
+        setMaxBatchSize(maxBatchSize);
+        return this;
+    }
+
+    /**
+     * Returns the largest total size, in bytes, of the message bodies sent in
+     * one batch request.
+     */
+    public long getMaxBatchSizeBytes() {
+        return maxBatchSizeBytes;
+    }
+
+    /**
+     * Sets the largest total size, in bytes, of the message bodies sent in one
+     * batch request. Defaults to 64 KB, the most Amazon SQS allows. A message
+     * larger than this is sent in a batch of its own.
+     */
+    public void setMaxBatchSizeBytes(long maxBatchSizeBytes) {
+        if ( maxBatchSizeBytes < 1 )
+            throw new IllegalArgumentException("Batch size in bytes must be positive");
+        this.maxBatchSizeBytes = maxBatchSizeBytes;
+    }
+
+    /**
+     * Sets the largest total size, in bytes, of the message bodies sent in one
+     * batch request, and returns this object so that method calls can be
+     * chained together.
+     */
+    public QueueBufferConfig withMaxBatchSizeBytes(long maxBatchSizeBytes) {
+        setMaxBatchSizeBytes(maxBatchSizeBytes);
+        return this;
+    }
+
+    /**
+     * Returns how long, in milliseconds, an outbound batch waits for more
+     * requests before it is sent.
+     */
+    public long getMaxBatchOpenMs() {
+        return maxBatchOpenMs;
+    }
+
+    /**
+     * Sets how long, in milliseconds, an outbound batch waits for more
+     * requests before it is sent, unless it fills up first. Defaults to 200.
+     * This is the most a send, delete or visibility change is delayed by
+     * being buffered; zero sends each request as soon as a batch request can
+     * be made.
+     */
+    public void setMaxBatchOpenMs(long maxBatchOpenMs) {
+        if ( maxBatchOpenMs < 0 )
+            throw new IllegalArgumentException("Batch open time can't be negative");
+        this.maxBatchOpenMs = maxBatchOpenMs;
+    }
+
+    /**
+     * Sets how long, in milliseconds, an outbound batch waits for more
+     * requests before it is sent, and returns this object so that method
+     * calls can be chained together.
+     */
+    public QueueBufferConfig withMaxBatchOpenMs(long maxBatchOpenMs) {
+        setMaxBatchOpenMs(maxBatchOpenMs);
+        return this;
+    }
+
+    /**
+     * Returns how many outbound batches may be open or in flight at once for
+     * each queue.
+     */
+    public int getMaxInflightOutboundBatches() {
+        return maxInflightOutboundBatches;
+    }
+
+    /**
+     * Sets how many outbound batches may be open or in flight at once for each
+     * queue. Once this many are, callers block until one completes. Defaults
+     * to five.
+     */
+    public void setMaxInflightOutboundBatches(int maxInflightOutboundBatches) {
+        if ( maxInflightOutboundBatches < 1 )
+            throw new IllegalArgumentException("At least one outbound batch must be allowed in flight");
+        this.maxInflightOutboundBatches = maxInflightOutboundBatches;
+    }
+
+    /**
+     * Sets how many outbound batches may be open or in flight at once for each
+     * queue, and returns this object so that method calls can be chained
+     * together.
+     */
+    public QueueBufferConfig withMaxInflightOutboundBatches(int maxInflightOutboundBatches) {
+        setMaxInflightOutboundBatches(maxInflightOutboundBatches);
+        return this;
+    }
+
+    /**
+     * Returns how many receive requests may be in flight at once for each
+     * queue.
+     */
+    public int getMaxInflightReceiveBatches() {
+        return maxInflightReceiveBatches;
+    }
+
+    /**
+     * Sets how many receive requests may be in flight at once for each queue.
+     * Defaults to ten.
+     */
+    public void setMaxInflightReceiveBatches(int maxInflightReceiveBatches) {
+        if ( maxInflightReceiveBatches < 1 )
+            throw new IllegalArgumentException("At least one receive batch must be allowed in flight");
+        this.maxInflightReceiveBatches = maxInflightReceiveBatches;
+    }
+
+    /**
+     * Sets how many receive requests may be in flight at once for each queue,
+     * and returns this object so that method calls can be chained together.
+     */
+    public QueueBufferConfig withMaxInflightReceiveBatches(int maxInflightReceiveBatches) {
+        setMaxInflightReceiveBatches(maxInflightReceiveBatches);
+        return this;
+    }
+
+    /**
+     * Returns how many batches of received messages are prefetched for each
+     * queue.
+     */
+    public int getMaxDoneReceiveBatches() {
+        return maxDoneReceiveBatches;
+    }
+
+    /**
+     * Sets how many batches of received messages are prefetched and held for
+     * each queue, ready for receive calls. Prefetched messages are invisible
+     * to other consumers until they are handed out or their visibility
+     * timeout expires. Defaults to ten; zero disables prefetching, so
+     * messages are only received when asked for.
+     */
+    public void setMaxDoneReceiveBatches(int maxDoneReceiveBatches) {
+        if ( maxDoneReceiveBatches < 0 )
+            throw new IllegalArgumentException("Prefetched batches can't be negative");
+        this.maxDoneReceiveBatches = maxDoneReceiveBatches;
+    }
+
+    /**
+     * Sets how many batches of received messages are prefetched for each
+     * queue, and returns this object so that method calls can be chained
+     * together.
+     */
+    public QueueBufferConfig withMaxDoneReceiveBatches(int maxDoneReceiveBatches) {
+        setMaxDoneReceiveBatches(maxDoneReceiveBatches);
+        return this;
+    }
+
+    /**
+     * Returns the visibility timeout, in seconds, of the messages the buffer
+     * receives, or -1 for the queue's own visibility timeout.
+     */
+    public int getVisibilityTimeoutSeconds() {
+        return visibilityTimeoutSeconds;
+    }
+
+    /**
+     * Sets the visibility timeout, in seconds, of the messages the buffer
+     * receives. Defaults to -1, which uses the queue's own visibility timeout.
+     * Prefetched messages whose visibility timeout expires before they are
+     * handed out are dropped from the buffer, since they may have been
+     * received by another consumer.
+     */
+    public void setVisibilityTimeoutSeconds(int visibilityTimeoutSeconds) {
+        this.visibilityTimeoutSeconds = visibilityTimeoutSeconds;
+    }
+
+    /**
+     * Sets the visibility timeout, in seconds, of the messages the buffer
+     * receives, and returns this object so that method calls can be chained
+     * together.
+     */
+    public QueueBufferConfig withVisibilityTimeoutSeconds(int visibilityTimeoutSeconds) {
+        setVisibilityTimeoutSeconds(visibilityTimeoutSeconds);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "QueueBufferConfig [maxBatchSize=" + maxBatchSize + ", maxBatchSizeBytes=" + maxBatchSizeBytes
+                + ", maxBatchOpenMs=" + maxBatchOpenMs + ", maxInflightOutboundBatches=" + maxInflightOutboundBatches
+                + ", maxInflightReceiveBatches=" + maxInflightReceiveBatches + ", maxDoneReceiveBatches="
+                + maxDoneReceiveBatches + ", visibilityTimeoutSeconds=" + visibilityTimeoutSeconds + "]";
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Future for a single buffered request, completed explicitly once the batch
+ * request carrying it completes, rather than by running a task.
+ */
+final class QueueBufferFuture<T> extends FutureTask<T> {
+
+    QueueBufferFuture() {
+        super(new Callable<T>() {
+            public T call() throws Exception {
+                throw new IllegalStateException("Queue buffer futures are completed explicitly");
+            }
+        });
+    }
+
+    void complete(T result) {
+        set(result);
+    }
+
+    void fail(Throwable t) {
+        setException(t);
+    }
+}
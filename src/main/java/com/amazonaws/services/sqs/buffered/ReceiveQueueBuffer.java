@@ -0,0 +1,314 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.GetQueueAttributesRequest;
+import com.amazonaws.services.sqs.model.Message;
+import com.amazonaws.services.sqs.model.ReceiveMessageRequest;
+import com.amazonaws.services.sqs.model.ReceiveMessageResult;
+
+/**
+ * Buffers the messages received from one queue.
+ * <p>
+ * Receive calls are answered from batches of messages received ahead of time,
+ * and while the queue keeps returning messages, further batches are
+ * prefetched in the background up to the configured number. Once a receive
+ * returns no messages, prefetching stops until one returns messages again,
+ * so an empty queue is only polled as often as receive calls are made.
+ * <p>
+ * Prefetched messages are invisible to other consumers until their visibility
+ * timeout expires, so a batch whose timeout has expired is dropped rather
+ * than handed out, and messages still buffered at shutdown are made visible
+ * again.
+ */
+class ReceiveQueueBuffer {
+
+    private static final Log log = LogFactory.getLog(ReceiveQueueBuffer.class);
+
+    private static final String VISIBILITY_TIMEOUT = "VisibilityTimeout";
+
+    private final AmazonSQS sqs;
+    private final Executor executor;
+    private final QueueBufferConfig config;
+    private final String queueUrl;
+
+    /** Received batches not yet handed out, oldest first */
+    private final LinkedList<ReceiveMessageBatchTask> finishedBatches = new LinkedList<ReceiveMessageBatchTask>();
+
+    /** Receive calls not yet answered, oldest first */
+    private final LinkedList<ReceiveFuture> futures = new LinkedList<ReceiveFuture>();
+
+    private int inflightReceiveBatches;
+
+    /** Whether the last receive returned no messages */
+    private boolean queueLooksEmpty;
+
+    private boolean shutdown;
+
+    /** The queue's visibility timeout, looked up on first use if not configured */
+    private volatile long visibilityTimeoutNanos = -1;
+
+    private static final class ReceiveFuture {
+        private final QueueBufferFuture<ReceiveMessageResult> future = new QueueBufferFuture<ReceiveMessageResult>();
+        private final int maxMessages;
+
+        ReceiveFuture(int maxMessages) {
+            this.maxMessages = maxMessages;
+        }
+    }
+
+    ReceiveQueueBuffer(AmazonSQS sqs, Executor executor, QueueBufferConfig config, String queueUrl) {
+        this.sqs = sqs;
+        this.executor = executor;
+        this.config = config;
+        this.queueUrl = queueUrl;
+        if ( config.getVisibilityTimeoutSeconds() > 0 ) {
+            visibilityTimeoutNanos = TimeUnit.SECONDS.toNanos(config.getVisibilityTimeoutSeconds());
+        }
+    }
+
+    /**
+     * Returns a future for up to the number of messages asked for by the
+     * request given, answered from the buffer as soon as a batch of messages
+     * is available.
+     */
+    QueueBufferFuture<ReceiveMessageResult> receiveMessage(ReceiveMessageRequest request) {
+        int maxMessages = request.getMaxNumberOfMessages() == null ? 1 : request.getMaxNumberOfMessages();
+        ReceiveFuture receive = new ReceiveFuture(Math.max(1, maxMessages));
+
+        synchronized ( this ) {
+            if ( shutdown ) {
+                receive.future.fail(new AmazonClientException("The buffer for queue " + queueUrl + " is shut down"));
+                return receive.future;
+            }
+            futures.add(receive);
+            satisfyFutures();
+            startReceives();
+        }
+        return receive.future;
+    }
+
+    /**
+     * Stops prefetching, fails any receive calls still waiting, and makes the
+     * messages still buffered visible to other consumers again.
+     */
+    void shutdown() {
+        List<Message> unclaimed = new ArrayList<Message>();
+        synchronized ( this ) {
+            shutdown = true;
+            for ( ReceiveFuture receive : futures ) {
+                receive.future.fail(new AmazonClientException("The buffer for queue " + queueUrl + " is shut down"));
+            }
+            futures.clear();
+            for ( ReceiveMessageBatchTask batch : finishedBatches ) {
+                if ( !batch.isExpired() ) {
+                    unclaimed.addAll(batch.messages);
+                }
+            }
+            finishedBatches.clear();
+        }
+        release(unclaimed);
+    }
+
+    /**
+     * Answers as many waiting receive calls as possible from the finished
+     * batches, dropping those that have expired. A failed batch answers a
+     * single call, and so does an empty one, but only once no receive that
+     * might return messages is still in flight.
+     */
+    private void satisfyFutures() {
+        while ( !futures.isEmpty() ) {
+            if ( futures.getFirst().future.isDone() ) {
+                futures.removeFirst();
+                continue;
+            }
+
+            ReceiveMessageBatchTask batch = null;
+            ReceiveMessageBatchTask empty = null;
+            for ( Iterator<ReceiveMessageBatchTask> it = finishedBatches.iterator(); it.hasNext(); ) {
+                ReceiveMessageBatchTask candidate = it.next();
+                if ( candidate.isExpired() ) {
+                    it.remove();
+                } else if ( candidate.exception == null && candidate.messages.isEmpty() ) {
+                    if ( empty == null )
+                        empty = candidate;
+                } else {
+                    batch = candidate;
+                    break;
+                }
+            }
+            if ( batch == null && inflightReceiveBatches == 0 )
+                batch = empty;
+            if ( batch == null )
+                return;
+
+            ReceiveFuture receive = futures.removeFirst();
+            if ( batch.exception != null ) {
+                finishedBatches.remove(batch);
+                receive.future.fail(batch.exception);
+                continue;
+            }
+
+            List<Message> messages = new ArrayList<Message>(Math.min(receive.maxMessages, batch.messages.size()));
+            while ( messages.size() < receive.maxMessages && !batch.messages.isEmpty() ) {
+                messages.add(batch.messages.removeFirst());
+            }
+            if ( batch.messages.isEmpty() ) {
+                finishedBatches.remove(batch);
+            }
+            receive.future.complete(new ReceiveMessageResult().withMessages(messages));
+        }
+    }
+
+    /**
+     * Starts as many receives as are needed to answer the waiting calls, and
+     * to keep the configured number of batches prefetched while the queue
+     * isn't empty.
+     */
+    private void startReceives() {
+        while ( !shutdown && inflightReceiveBatches < config.getMaxInflightReceiveBatches() ) {
+            boolean needed = futures.size() > inflightReceiveBatches;
+            boolean prefetch = !queueLooksEmpty
+                    && finishedBatches.size() + inflightReceiveBatches < config.getMaxDoneReceiveBatches();
+            if ( !needed && !prefetch )
+                return;
+
+            try {
+                executor.execute(new ReceiveMessageBatchTask());
+            } catch ( RejectedExecutionException e ) {
+                log.warn("Unable to start a receive for queue " + queueUrl + ": " + e.getMessage());
+                return;
+            }
+            inflightReceiveBatches++;
+        }
+    }
+
+    /**
+     * Adds the batch given to the finished batches and answers what calls it
+     * can. A batch that returned no messages is only kept, once, for calls
+     * that are waiting, and is dropped once another batch returns messages.
+     * Returns false, without adding it, if the buffer has been shut down in
+     * the meantime.
+     */
+    private synchronized boolean batchFinished(ReceiveMessageBatchTask batch) {
+        inflightReceiveBatches--;
+        if ( shutdown )
+            return false;
+
+        boolean empty = batch.exception == null && batch.messages.isEmpty();
+        boolean keep = true;
+        if ( batch.exception == null ) {
+            queueLooksEmpty = empty;
+        }
+        for ( Iterator<ReceiveMessageBatchTask> it = finishedBatches.iterator(); it.hasNext(); ) {
+            ReceiveMessageBatchTask finished = it.next();
+            if ( finished.exception == null && finished.messages.isEmpty() ) {
+                if ( empty ) {
+                    keep = false;
+                } else if ( batch.exception == null ) {
+                    it.remove();
+                }
+            }
+        }
+        if ( keep && !(empty && futures.isEmpty()) ) {
+            finishedBatches.add(batch);
+        }
+        satisfyFutures();
+        startReceives();
+        return true;
+    }
+
+    private long getVisibilityTimeoutNanos() {
+        if ( visibilityTimeoutNanos < 0 ) {
+            String visibilityTimeout = sqs.getQueueAttributes(
+                    new GetQueueAttributesRequest(queueUrl).withAttributeNames(VISIBILITY_TIMEOUT)).getAttributes()
+                    .get(VISIBILITY_TIMEOUT);
+            visibilityTimeoutNanos = TimeUnit.SECONDS.toNanos(Integer.parseInt(visibilityTimeout));
+        }
+        return visibilityTimeoutNanos;
+    }
+
+    /**
+     * Makes the messages given visible to other consumers again.
+     */
+    private void release(List<Message> messages) {
+        for ( int start = 0; start < messages.size(); start += QueueBufferConfig.MAX_BATCH_SIZE_DEFAULT ) {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<ChangeMessageVisibilityBatchRequestEntry>();
+            for ( int i = start; i < Math.min(messages.size(), start + QueueBufferConfig.MAX_BATCH_SIZE_DEFAULT); i++ ) {
+                entries.add(new ChangeMessageVisibilityBatchRequestEntry(Integer.toString(i), messages.get(i)
+                        .getReceiptHandle()).withVisibilityTimeout(0));
+            }
+            try {
+                sqs.changeMessageVisibilityBatch(new ChangeMessageVisibilityBatchRequest(queueUrl, entries));
+            } catch ( AmazonClientException e ) {
+                log.warn("Unable to release buffered messages of queue " + queueUrl + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * A single receive request, made in the background. Once it completes it
+     * becomes a finished batch, holding either the messages received, which
+     * may be none, or the exception the request failed with.
+     */
+    private final class ReceiveMessageBatchTask implements Runnable {
+
+        private LinkedList<Message> messages = new LinkedList<Message>();
+        private AmazonClientException exception;
+        private long expiresAtNanos;
+
+        boolean isExpired() {
+            return exception == null && expiresAtNanos - System.nanoTime() <= 0;
+        }
+
+        public void run() {
+            try {
+                long visibilityTimeout = getVisibilityTimeoutNanos();
+                ReceiveMessageRequest request = new ReceiveMessageRequest(queueUrl)
+                        .withMaxNumberOfMessages(config.getMaxBatchSize());
+                if ( config.getVisibilityTimeoutSeconds() > 0 ) {
+                    request.setVisibilityTimeout(config.getVisibilityTimeoutSeconds());
+                }
+
+                long start = System.nanoTime();
+                messages.addAll(sqs.receiveMessage(request).getMessages());
+                expiresAtNanos = start + visibilityTimeout;
+            } catch ( AmazonClientException e ) {
+                exception = e;
+            } catch ( RuntimeException e ) {
+                exception = new AmazonClientException("Unable to receive messages from queue " + queueUrl, e);
+            } finally {
+                if ( !batchFinished(this) && exception == null ) {
+                    release(messages);
+                }
+            }
+        }
+    }
+}
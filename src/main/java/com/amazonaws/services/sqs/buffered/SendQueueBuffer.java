@@ -0,0 +1,420 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.services.sqs.buffered;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.amazonaws.AmazonClientException;
+import com.amazonaws.AmazonServiceException;
+import com.amazonaws.AmazonServiceException.ErrorType;
+import com.amazonaws.AmazonWebServiceRequest;
+import com.amazonaws.services.sqs.AmazonSQS;
+import com.amazonaws.services.sqs.model.BatchResultErrorEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequest;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchRequestEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResult;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityBatchResultEntry;
+import com.amazonaws.services.sqs.model.ChangeMessageVisibilityRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequest;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResult;
+import com.amazonaws.services.sqs.model.DeleteMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.DeleteMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequest;
+import com.amazonaws.services.sqs.model.SendMessageBatchRequestEntry;
+import com.amazonaws.services.sqs.model.SendMessageBatchResult;
+import com.amazonaws.services.sqs.model.SendMessageBatchResultEntry;
+import com.amazonaws.services.sqs.model.SendMessageRequest;
+import com.amazonaws.services.sqs.model.SendMessageResult;
+
+/**
+ * Buffers the sends, deletes and visibility changes made to one queue,
+ * coalescing them into batch requests.
+ * <p>
+ * Each kind of request collects in an open batch, which is sent once it holds
+ * as many entries as a batch may, or once it has been open for the configured
+ * time, whichever comes first. An open batch only holds a timer task that
+ * closes it at its deadline; it takes an executor thread once it is closed,
+ * for as long as its batch request takes. The number of batches open or in
+ * flight at once is bounded; once the bound is reached, callers opening
+ * another batch block until one completes.
+ */
+class SendQueueBuffer {
+
+    private final AmazonSQS sqs;
+    private final Executor executor;
+    private final ScheduledExecutorService timer;
+    private final QueueBufferConfig config;
+    private final String queueUrl;
+
+    /** One permit for each batch that may be open or in flight */
+    private final Semaphore inflightBatches;
+
+    private final OutboundChannel<SendMessageRequest, SendMessageResult> sends =
+            new OutboundChannel<SendMessageRequest, SendMessageResult>() {
+                @Override
+                OutboundBatchTask<SendMessageRequest, SendMessageResult> newBatch() {
+                    return new SendMessageBatchTask();
+                }
+            };
+
+    private final OutboundChannel<DeleteMessageRequest, Void> deletes =
+            new OutboundChannel<DeleteMessageRequest, Void>() {
+                @Override
+                OutboundBatchTask<DeleteMessageRequest, Void> newBatch() {
+                    return new DeleteMessageBatchTask();
+                }
+            };
+
+    private final OutboundChannel<ChangeMessageVisibilityRequest, Void> visibilityChanges =
+            new OutboundChannel<ChangeMessageVisibilityRequest, Void>() {
+                @Override
+                OutboundBatchTask<ChangeMessageVisibilityRequest, Void> newBatch() {
+                    return new ChangeMessageVisibilityBatchTask();
+                }
+            };
+
+    SendQueueBuffer(AmazonSQS sqs, Executor executor, ScheduledExecutorService timer, QueueBufferConfig config,
+            String queueUrl) {
+        this.sqs = sqs;
+        this.executor = executor;
+        this.timer = timer;
+        this.config = config;
+        this.queueUrl = queueUrl;
+        this.inflightBatches = new Semaphore(config.getMaxInflightOutboundBatches());
+    }
+
+    QueueBufferFuture<SendMessageResult> sendMessage(SendMessageRequest request) {
+        return sends.add(request);
+    }
+
+    QueueBufferFuture<Void> deleteMessage(DeleteMessageRequest request) {
+        return deletes.add(request);
+    }
+
+    QueueBufferFuture<Void> changeMessageVisibility(ChangeMessageVisibilityRequest request) {
+        return visibilityChanges.add(request);
+    }
+
+    /**
+     * Sends every open batch without waiting any longer for it to fill, then
+     * waits until every batch in flight has completed.
+     */
+    void flush() {
+        sends.flush();
+        deletes.flush();
+        visibilityChanges.flush();
+
+        int permits = config.getMaxInflightOutboundBatches();
+        inflightBatches.acquireUninterruptibly(permits);
+        inflightBatches.release(permits);
+    }
+
+    /**
+     * Returns the exception reported for a failed batch entry.
+     */
+    static AmazonServiceException toException(BatchResultErrorEntry error) {
+        AmazonServiceException exception = new AmazonServiceException(error.getMessage());
+        exception.setErrorCode(error.getCode());
+        exception.setErrorType(Boolean.TRUE.equals(error.isSenderFault()) ? ErrorType.Client : ErrorType.Service);
+        exception.setServiceName("AmazonSQS");
+        return exception;
+    }
+
+    /**
+     * Returns the number of bytes the string given takes up encoded as UTF-8.
+     */
+    private static int utf8Length(String s) {
+        if ( s == null )
+            return 0;
+
+        int length = 0;
+        for ( int i = 0; i < s.length(); i++ ) {
+            char c = s.charAt(i);
+            if ( c < 0x80 ) {
+                length += 1;
+            } else if ( c < 0x800 ) {
+                length += 2;
+            } else if ( Character.isHighSurrogate(c) ) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * The open batch for one kind of request.
+     */
+    private abstract class OutboundChannel<R extends AmazonWebServiceRequest, Result> {
+
+        private OutboundBatchTask<R, Result> open;
+
+        abstract OutboundBatchTask<R, Result> newBatch();
+
+        /**
+         * Adds the request given to the open batch, opening a new one if
+         * there is none or it can't take the request.
+         */
+        synchronized QueueBufferFuture<Result> add(R request) {
+            if ( open != null ) {
+                QueueBufferFuture<Result> future = open.add(request);
+                if ( future != null )
+                    return future;
+            }
+
+            try {
+                inflightBatches.acquire();
+            } catch ( InterruptedException e ) {
+                Thread.currentThread().interrupt();
+                throw new AmazonClientException("Interrupted while waiting to open a batch for queue " + queueUrl, e);
+            }
+
+            OutboundBatchTask<R, Result> batch = newBatch();
+            QueueBufferFuture<Result> future = batch.add(request);
+            batch.scheduleDeadline();
+            open = batch;
+            return future;
+        }
+
+        synchronized void flush() {
+            if ( open != null ) {
+                open.close();
+                open = null;
+            }
+        }
+    }
+
+    /**
+     * A batch of requests of one kind. It's closed by filling up, by being
+     * flushed, or by its deadline firing once it has been open for the
+     * configured time; only then is it handed to the executor, which sends its
+     * requests in one batch request and completes their futures.
+     */
+    private abstract class OutboundBatchTask<R extends AmazonWebServiceRequest, Result> implements Runnable {
+
+        protected final List<R> requests = new ArrayList<R>(config.getMaxBatchSize());
+        protected final List<QueueBufferFuture<Result>> futures =
+                new ArrayList<QueueBufferFuture<Result>>(config.getMaxBatchSize());
+
+        private long bytes;
+        private boolean closed;
+        private volatile ScheduledFuture<?> deadline;
+
+        /**
+         * Adds the request given to this batch and returns its future, or
+         * returns null if this batch is closed or can't take it.
+         */
+        synchronized QueueBufferFuture<Result> add(R request) {
+            if ( closed )
+                return null;
+
+            int size = sizeOf(request);
+            if ( !requests.isEmpty() && bytes + size > config.getMaxBatchSizeBytes() ) {
+                close();
+                return null;
+            }
+
+            QueueBufferFuture<Result> future = new QueueBufferFuture<Result>();
+            requests.add(request);
+            futures.add(future);
+            bytes += size;
+            if ( requests.size() >= config.getMaxBatchSize() || bytes >= config.getMaxBatchSizeBytes() ) {
+                close();
+            }
+            return future;
+        }
+
+        /**
+         * Schedules the timer task that closes this batch once it has been
+         * open for the configured time, unless it's closed already.
+         */
+        void scheduleDeadline() {
+            synchronized ( this ) {
+                if ( closed )
+                    return;
+            }
+
+            try {
+                deadline = timer.schedule(new Runnable() {
+                    public void run() {
+                        close();
+                    }
+                }, config.getMaxBatchOpenMs(), TimeUnit.MILLISECONDS);
+            } catch ( RejectedExecutionException e ) {
+                close();
+            }
+        }
+
+        /**
+         * Closes this batch to further requests and hands it to the executor
+         * to be sent. Only the first call has any effect.
+         */
+        void close() {
+            synchronized ( this ) {
+                if ( closed )
+                    return;
+                closed = true;
+            }
+
+            ScheduledFuture<?> deadline = this.deadline;
+            if ( deadline != null )
+                deadline.cancel(false);
+
+            try {
+                executor.execute(this);
+            } catch ( RejectedExecutionException e ) {
+                try {
+                    fail(new AmazonClientException("Unable to send a batch for queue " + queueUrl, e));
+                } finally {
+                    inflightBatches.release();
+                }
+            }
+        }
+
+        public final void run() {
+            try {
+                process();
+                failMissingEntries();
+            } catch ( RuntimeException e ) {
+                fail(e);
+            } catch ( Error e ) {
+                fail(e);
+                throw e;
+            } finally {
+                inflightBatches.release();
+            }
+        }
+
+        private void fail(Throwable t) {
+            for ( QueueBufferFuture<Result> future : futures ) {
+                future.fail(t);
+            }
+        }
+
+        /**
+         * Returns the size of the request given, counted against the
+         * configured limit on the bytes in a batch.
+         */
+        protected int sizeOf(R request) {
+            return 0;
+        }
+
+        /**
+         * Sends the requests of this batch, which is closed and holds at least
+         * one request, and completes their futures.
+         */
+        protected abstract void process();
+
+        /**
+         * Fails the futures of the failed entries given, whose ids are their
+         * indexes in this batch.
+         */
+        protected void failEntries(List<BatchResultErrorEntry> errors) {
+            for ( BatchResultErrorEntry error : errors ) {
+                futures.get(Integer.parseInt(error.getId())).fail(toException(error));
+            }
+        }
+
+        /**
+         * Fails the futures of the entries that the batch result listed as
+         * neither successful nor failed, so their callers don't wait forever.
+         */
+        private void failMissingEntries() {
+            for ( QueueBufferFuture<Result> future : futures ) {
+                if ( !future.isDone() ) {
+                    future.fail(new AmazonClientException("No result was returned for a batched request to queue "
+                            + queueUrl));
+                }
+            }
+        }
+    }
+
+    private final class SendMessageBatchTask extends OutboundBatchTask<SendMessageRequest, SendMessageResult> {
+
+        @Override
+        protected int sizeOf(SendMessageRequest request) {
+            return utf8Length(request.getMessageBody());
+        }
+
+        @Override
+        protected void process() {
+            List<SendMessageBatchRequestEntry> entries = new ArrayList<SendMessageBatchRequestEntry>(requests.size());
+            for ( int i = 0; i < requests.size(); i++ ) {
+                SendMessageRequest request = requests.get(i);
+                entries.add(new SendMessageBatchRequestEntry(Integer.toString(i), request.getMessageBody())
+                        .withDelaySeconds(request.getDelaySeconds()));
+            }
+
+            SendMessageBatchResult result = sqs.sendMessageBatch(new SendMessageBatchRequest(queueUrl, entries));
+            for ( SendMessageBatchResultEntry entry : result.getSuccessful() ) {
+                futures.get(Integer.parseInt(entry.getId())).complete(
+                        new SendMessageResult().withMessageId(entry.getMessageId()).withMD5OfMessageBody(
+                                entry.getMD5OfMessageBody()));
+            }
+            failEntries(result.getFailed());
+        }
+    }
+
+    private final class DeleteMessageBatchTask extends OutboundBatchTask<DeleteMessageRequest, Void> {
+
+        @Override
+        protected void process() {
+            List<DeleteMessageBatchRequestEntry> entries = new ArrayList<DeleteMessageBatchRequestEntry>(
+                    requests.size());
+            for ( int i = 0; i < requests.size(); i++ ) {
+                entries.add(new DeleteMessageBatchRequestEntry(Integer.toString(i), requests.get(i)
+                        .getReceiptHandle()));
+            }
+
+            DeleteMessageBatchResult result = sqs.deleteMessageBatch(new DeleteMessageBatchRequest(queueUrl, entries));
+            for ( DeleteMessageBatchResultEntry entry : result.getSuccessful() ) {
+                futures.get(Integer.parseInt(entry.getId())).complete(null);
+            }
+            failEntries(result.getFailed());
+        }
+    }
+
+    private final class ChangeMessageVisibilityBatchTask extends
+            OutboundBatchTask<ChangeMessageVisibilityRequest, Void> {
+
+        @Override
+        protected void process() {
+            List<ChangeMessageVisibilityBatchRequestEntry> entries = new ArrayList<ChangeMessageVisibilityBatchRequestEntry>(
+                    requests.size());
+            for ( int i = 0; i < requests.size(); i++ ) {
+                ChangeMessageVisibilityRequest request = requests.get(i);
+                entries.add(new ChangeMessageVisibilityBatchRequestEntry(Integer.toString(i), request
+                        .getReceiptHandle()).withVisibilityTimeout(request.getVisibilityTimeout()));
+            }
+
+            ChangeMessageVisibilityBatchResult result = sqs
+                    .changeMessageVisibilityBatch(new ChangeMessageVisibilityBatchRequest(queueUrl, entries));
+            for ( ChangeMessageVisibilityBatchResultEntry entry : result.getSuccessful() ) {
+                futures.get(Integer.parseInt(entry.getId())).complete(null);
+            }
+            failEntries(result.getFailed());
+        }
+    }
+}
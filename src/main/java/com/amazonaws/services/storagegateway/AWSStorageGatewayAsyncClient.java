@@ -14,7 +14,6 @@
  */
 package com.amazonaws.services.storagegateway;
             
-import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
@@ -24,8 +23,10 @@ import com.amazonaws.AmazonServiceException;
 import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSCredentials;
 import com.amazonaws.auth.AWSCredentialsProvider;
+import com.amazonaws.http.JsonResponseHandler;
 
 import com.amazonaws.services.storagegateway.model.*;
+import com.amazonaws.services.storagegateway.model.transform.*;
 
 
 /**
@@ -254,11 +255,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeBandwidthRateLimitResult> describeBandwidthRateLimitAsync(final DescribeBandwidthRateLimitRequest describeBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeBandwidthRateLimitResult>() {
-            public DescribeBandwidthRateLimitResult call() throws Exception {
-                return describeBandwidthRateLimit(describeBandwidthRateLimitRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeBandwidthRateLimitResult> responseHandler = new JsonResponseHandler<DescribeBandwidthRateLimitResult>(new DescribeBandwidthRateLimitResultJsonUnmarshaller());
+        return invokeAsync(describeBandwidthRateLimitRequest, new DescribeBandwidthRateLimitRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -306,11 +304,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ShutdownGatewayResult> shutdownGatewayAsync(final ShutdownGatewayRequest shutdownGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ShutdownGatewayResult>() {
-            public ShutdownGatewayResult call() throws Exception {
-                return shutdownGateway(shutdownGatewayRequest);
-		    }
-		});
+        JsonResponseHandler<ShutdownGatewayResult> responseHandler = new JsonResponseHandler<ShutdownGatewayResult>(new ShutdownGatewayResultJsonUnmarshaller());
+        return invokeAsync(shutdownGatewayRequest, new ShutdownGatewayRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -359,11 +354,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateSnapshotResult> createSnapshotAsync(final CreateSnapshotRequest createSnapshotRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateSnapshotResult>() {
-            public CreateSnapshotResult call() throws Exception {
-                return createSnapshot(createSnapshotRequest);
-		    }
-		});
+        JsonResponseHandler<CreateSnapshotResult> responseHandler = new JsonResponseHandler<CreateSnapshotResult>(new CreateSnapshotResultJsonUnmarshaller());
+        return invokeAsync(createSnapshotRequest, new CreateSnapshotRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -404,11 +396,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteVolumeResult> deleteVolumeAsync(final DeleteVolumeRequest deleteVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteVolumeResult>() {
-            public DeleteVolumeResult call() throws Exception {
-                return deleteVolume(deleteVolumeRequest);
-		    }
-		});
+        JsonResponseHandler<DeleteVolumeResult> responseHandler = new JsonResponseHandler<DeleteVolumeResult>(new DeleteVolumeResultJsonUnmarshaller());
+        return invokeAsync(deleteVolumeRequest, new DeleteVolumeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -436,11 +425,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateMaintenanceStartTimeResult> updateMaintenanceStartTimeAsync(final UpdateMaintenanceStartTimeRequest updateMaintenanceStartTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateMaintenanceStartTimeResult>() {
-            public UpdateMaintenanceStartTimeResult call() throws Exception {
-                return updateMaintenanceStartTime(updateMaintenanceStartTimeRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateMaintenanceStartTimeResult> responseHandler = new JsonResponseHandler<UpdateMaintenanceStartTimeResult>(new UpdateMaintenanceStartTimeResultJsonUnmarshaller());
+        return invokeAsync(updateMaintenanceStartTimeRequest, new UpdateMaintenanceStartTimeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -469,11 +455,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeGatewayInformationResult> describeGatewayInformationAsync(final DescribeGatewayInformationRequest describeGatewayInformationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeGatewayInformationResult>() {
-            public DescribeGatewayInformationResult call() throws Exception {
-                return describeGatewayInformation(describeGatewayInformationRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeGatewayInformationResult> responseHandler = new JsonResponseHandler<DescribeGatewayInformationResult>(new DescribeGatewayInformationResultJsonUnmarshaller());
+        return invokeAsync(describeGatewayInformationRequest, new DescribeGatewayInformationRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -510,11 +493,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<CreateStorediSCSIVolumeResult> createStorediSCSIVolumeAsync(final CreateStorediSCSIVolumeRequest createStorediSCSIVolumeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<CreateStorediSCSIVolumeResult>() {
-            public CreateStorediSCSIVolumeResult call() throws Exception {
-                return createStorediSCSIVolume(createStorediSCSIVolumeRequest);
-		    }
-		});
+        JsonResponseHandler<CreateStorediSCSIVolumeResult> responseHandler = new JsonResponseHandler<CreateStorediSCSIVolumeResult>(new CreateStorediSCSIVolumeResultJsonUnmarshaller());
+        return invokeAsync(createStorediSCSIVolumeRequest, new CreateStorediSCSIVolumeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -543,11 +523,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateChapCredentialsResult> updateChapCredentialsAsync(final UpdateChapCredentialsRequest updateChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateChapCredentialsResult>() {
-            public UpdateChapCredentialsResult call() throws Exception {
-                return updateChapCredentials(updateChapCredentialsRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateChapCredentialsResult> responseHandler = new JsonResponseHandler<UpdateChapCredentialsResult>(new UpdateChapCredentialsResultJsonUnmarshaller());
+        return invokeAsync(updateChapCredentialsRequest, new UpdateChapCredentialsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -585,11 +562,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<StartGatewayResult> startGatewayAsync(final StartGatewayRequest startGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<StartGatewayResult>() {
-            public StartGatewayResult call() throws Exception {
-                return startGateway(startGatewayRequest);
-		    }
-		});
+        JsonResponseHandler<StartGatewayResult> responseHandler = new JsonResponseHandler<StartGatewayResult>(new StartGatewayResultJsonUnmarshaller());
+        return invokeAsync(startGatewayRequest, new StartGatewayRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -619,11 +593,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteBandwidthRateLimitResult> deleteBandwidthRateLimitAsync(final DeleteBandwidthRateLimitRequest deleteBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteBandwidthRateLimitResult>() {
-            public DeleteBandwidthRateLimitResult call() throws Exception {
-                return deleteBandwidthRateLimit(deleteBandwidthRateLimitRequest);
-		    }
-		});
+        JsonResponseHandler<DeleteBandwidthRateLimitResult> responseHandler = new JsonResponseHandler<DeleteBandwidthRateLimitResult>(new DeleteBandwidthRateLimitResultJsonUnmarshaller());
+        return invokeAsync(deleteBandwidthRateLimitRequest, new DeleteBandwidthRateLimitRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -661,11 +632,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateSnapshotScheduleResult> updateSnapshotScheduleAsync(final UpdateSnapshotScheduleRequest updateSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateSnapshotScheduleResult>() {
-            public UpdateSnapshotScheduleResult call() throws Exception {
-                return updateSnapshotSchedule(updateSnapshotScheduleRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateSnapshotScheduleResult> responseHandler = new JsonResponseHandler<UpdateSnapshotScheduleResult>(new UpdateSnapshotScheduleResultJsonUnmarshaller());
+        return invokeAsync(updateSnapshotScheduleRequest, new UpdateSnapshotScheduleRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -693,11 +661,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeMaintenanceStartTimeResult> describeMaintenanceStartTimeAsync(final DescribeMaintenanceStartTimeRequest describeMaintenanceStartTimeRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeMaintenanceStartTimeResult>() {
-            public DescribeMaintenanceStartTimeResult call() throws Exception {
-                return describeMaintenanceStartTime(describeMaintenanceStartTimeRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeMaintenanceStartTimeResult> responseHandler = new JsonResponseHandler<DescribeMaintenanceStartTimeResult>(new DescribeMaintenanceStartTimeResultJsonUnmarshaller());
+        return invokeAsync(describeMaintenanceStartTimeRequest, new DescribeMaintenanceStartTimeRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -725,11 +690,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeSnapshotScheduleResult> describeSnapshotScheduleAsync(final DescribeSnapshotScheduleRequest describeSnapshotScheduleRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeSnapshotScheduleResult>() {
-            public DescribeSnapshotScheduleResult call() throws Exception {
-                return describeSnapshotSchedule(describeSnapshotScheduleRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeSnapshotScheduleResult> responseHandler = new JsonResponseHandler<DescribeSnapshotScheduleResult>(new DescribeSnapshotScheduleResultJsonUnmarshaller());
+        return invokeAsync(describeSnapshotScheduleRequest, new DescribeSnapshotScheduleRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -768,11 +730,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateBandwidthRateLimitResult> updateBandwidthRateLimitAsync(final UpdateBandwidthRateLimitRequest updateBandwidthRateLimitRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateBandwidthRateLimitResult>() {
-            public UpdateBandwidthRateLimitResult call() throws Exception {
-                return updateBandwidthRateLimit(updateBandwidthRateLimitRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateBandwidthRateLimitResult> responseHandler = new JsonResponseHandler<UpdateBandwidthRateLimitResult>(new UpdateBandwidthRateLimitResultJsonUnmarshaller());
+        return invokeAsync(updateBandwidthRateLimitRequest, new UpdateBandwidthRateLimitRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -799,11 +758,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteChapCredentialsResult> deleteChapCredentialsAsync(final DeleteChapCredentialsRequest deleteChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteChapCredentialsResult>() {
-            public DeleteChapCredentialsResult call() throws Exception {
-                return deleteChapCredentials(deleteChapCredentialsRequest);
-		    }
-		});
+        JsonResponseHandler<DeleteChapCredentialsResult> responseHandler = new JsonResponseHandler<DeleteChapCredentialsResult>(new DeleteChapCredentialsResultJsonUnmarshaller());
+        return invokeAsync(deleteChapCredentialsRequest, new DeleteChapCredentialsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -832,11 +788,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeStorediSCSIVolumesResult> describeStorediSCSIVolumesAsync(final DescribeStorediSCSIVolumesRequest describeStorediSCSIVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeStorediSCSIVolumesResult>() {
-            public DescribeStorediSCSIVolumesResult call() throws Exception {
-                return describeStorediSCSIVolumes(describeStorediSCSIVolumesRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeStorediSCSIVolumesResult> responseHandler = new JsonResponseHandler<DescribeStorediSCSIVolumesResult>(new DescribeStorediSCSIVolumesResultJsonUnmarshaller());
+        return invokeAsync(describeStorediSCSIVolumesRequest, new DescribeStorediSCSIVolumesRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -864,11 +817,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateGatewayInformationResult> updateGatewayInformationAsync(final UpdateGatewayInformationRequest updateGatewayInformationRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewayInformationResult>() {
-            public UpdateGatewayInformationResult call() throws Exception {
-                return updateGatewayInformation(updateGatewayInformationRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateGatewayInformationResult> responseHandler = new JsonResponseHandler<UpdateGatewayInformationResult>(new UpdateGatewayInformationResultJsonUnmarshaller());
+        return invokeAsync(updateGatewayInformationRequest, new UpdateGatewayInformationRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -902,11 +852,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DeleteGatewayResult> deleteGatewayAsync(final DeleteGatewayRequest deleteGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DeleteGatewayResult>() {
-            public DeleteGatewayResult call() throws Exception {
-                return deleteGateway(deleteGatewayRequest);
-		    }
-		});
+        JsonResponseHandler<DeleteGatewayResult> responseHandler = new JsonResponseHandler<DeleteGatewayResult>(new DeleteGatewayResultJsonUnmarshaller());
+        return invokeAsync(deleteGatewayRequest, new DeleteGatewayRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -942,11 +889,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListVolumesResult> listVolumesAsync(final ListVolumesRequest listVolumesRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListVolumesResult>() {
-            public ListVolumesResult call() throws Exception {
-                return listVolumes(listVolumesRequest);
-		    }
-		});
+        JsonResponseHandler<ListVolumesResult> responseHandler = new JsonResponseHandler<ListVolumesResult>(new ListVolumesResultJsonUnmarshaller());
+        return invokeAsync(listVolumesRequest, new ListVolumesRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -976,11 +920,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListLocalDisksResult> listLocalDisksAsync(final ListLocalDisksRequest listLocalDisksRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListLocalDisksResult>() {
-            public ListLocalDisksResult call() throws Exception {
-                return listLocalDisks(listLocalDisksRequest);
-		    }
-		});
+        JsonResponseHandler<ListLocalDisksResult> responseHandler = new JsonResponseHandler<ListLocalDisksResult>(new ListLocalDisksResultJsonUnmarshaller());
+        return invokeAsync(listLocalDisksRequest, new ListLocalDisksRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1008,11 +949,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeChapCredentialsResult> describeChapCredentialsAsync(final DescribeChapCredentialsRequest describeChapCredentialsRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeChapCredentialsResult>() {
-            public DescribeChapCredentialsResult call() throws Exception {
-                return describeChapCredentials(describeChapCredentialsRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeChapCredentialsResult> responseHandler = new JsonResponseHandler<DescribeChapCredentialsResult>(new DescribeChapCredentialsResultJsonUnmarshaller());
+        return invokeAsync(describeChapCredentialsRequest, new DescribeChapCredentialsRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1060,11 +998,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<UpdateGatewaySoftwareNowResult> updateGatewaySoftwareNowAsync(final UpdateGatewaySoftwareNowRequest updateGatewaySoftwareNowRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<UpdateGatewaySoftwareNowResult>() {
-            public UpdateGatewaySoftwareNowResult call() throws Exception {
-                return updateGatewaySoftwareNow(updateGatewaySoftwareNowRequest);
-		    }
-		});
+        JsonResponseHandler<UpdateGatewaySoftwareNowResult> responseHandler = new JsonResponseHandler<UpdateGatewaySoftwareNowResult>(new UpdateGatewaySoftwareNowResultJsonUnmarshaller());
+        return invokeAsync(updateGatewaySoftwareNowRequest, new UpdateGatewaySoftwareNowRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1101,11 +1036,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ListGatewaysResult> listGatewaysAsync(final ListGatewaysRequest listGatewaysRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ListGatewaysResult>() {
-            public ListGatewaysResult call() throws Exception {
-                return listGateways(listGatewaysRequest);
-		    }
-		});
+        JsonResponseHandler<ListGatewaysResult> responseHandler = new JsonResponseHandler<ListGatewaysResult>(new ListGatewaysResultJsonUnmarshaller());
+        return invokeAsync(listGatewaysRequest, new ListGatewaysRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1134,11 +1066,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<DescribeWorkingStorageResult> describeWorkingStorageAsync(final DescribeWorkingStorageRequest describeWorkingStorageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<DescribeWorkingStorageResult>() {
-            public DescribeWorkingStorageResult call() throws Exception {
-                return describeWorkingStorage(describeWorkingStorageRequest);
-		    }
-		});
+        JsonResponseHandler<DescribeWorkingStorageResult> responseHandler = new JsonResponseHandler<DescribeWorkingStorageResult>(new DescribeWorkingStorageResultJsonUnmarshaller());
+        return invokeAsync(describeWorkingStorageRequest, new DescribeWorkingStorageRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1168,11 +1097,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<AddWorkingStorageResult> addWorkingStorageAsync(final AddWorkingStorageRequest addWorkingStorageRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<AddWorkingStorageResult>() {
-            public AddWorkingStorageResult call() throws Exception {
-                return addWorkingStorage(addWorkingStorageRequest);
-		    }
-		});
+        JsonResponseHandler<AddWorkingStorageResult> responseHandler = new JsonResponseHandler<AddWorkingStorageResult>(new AddWorkingStorageResultJsonUnmarshaller());
+        return invokeAsync(addWorkingStorageRequest, new AddWorkingStorageRequestMarshaller(), responseHandler, executorService);
     }
     
     /**
@@ -1206,11 +1132,8 @@ public class AWSStorageGatewayAsyncClient extends AWSStorageGatewayClient
      */
     public Future<ActivateGatewayResult> activateGatewayAsync(final ActivateGatewayRequest activateGatewayRequest) 
             throws AmazonServiceException, AmazonClientException {
-        return executorService.submit(new Callable<ActivateGatewayResult>() {
-            public ActivateGatewayResult call() throws Exception {
-                return activateGateway(activateGatewayRequest);
-		    }
-		});
+        JsonResponseHandler<ActivateGatewayResult> responseHandler = new JsonResponseHandler<ActivateGatewayResult>(new ActivateGatewayResultJsonUnmarshaller());
+        return invokeAsync(activateGatewayRequest, new ActivateGatewayRequestMarshaller(), responseHandler, executorService);
     }
     
 }
@@ -19,7 +19,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLStreamConstants;
@@ -40,8 +40,22 @@ public class StaxUnmarshallerContext {
     private XMLEvent currentEvent;
     private final XMLEventReader eventReader;
 
-    public final Stack<String> stack = new Stack<String>();
-    private String stackString = "";
+    /**
+     * Local names of the currently open elements, indexed by depth. Together
+     * with the current attribute name, this is the document position that
+     * expressions are tested against, without building a path string for
+     * every event.
+     */
+    private String[] elementNames = new String[16];
+    private int depth;
+    private String currentAttributeName;
+
+    /**
+     * Number of element levels spanned by each expression seen so far. The
+     * expressions used by the generated unmarshallers are a fixed set of
+     * string constants, so each one only needs to be scanned once.
+     */
+    private static final Map<String, Integer> expressionDepths = new ConcurrentHashMap<String, Integer>();
 
     private Map<String, String> metadata = new HashMap<String, String>();
     private List<MetadataExpression> metadataExpressions = new ArrayList<MetadataExpression>();
@@ -102,14 +116,23 @@ public class StaxUnmarshallerContext {
             return attribute.getValue();
         }
 
-        StringBuilder sb = new StringBuilder();
+        String text = null;
+        StringBuilder sb = null;
         while (true) {
             XMLEvent event = eventReader.peek();
             if (event.getEventType() == XMLStreamConstants.CHARACTERS) {
                 eventReader.nextEvent();
-                sb.append(event.asCharacters().getData());
+                String data = event.asCharacters().getData();
+                if (text == null) {
+                    text = data;
+                } else {
+                    // Only coalesce when the parser split the text up
+                    if (sb == null) sb = new StringBuilder(text);
+                    sb.append(data);
+                }
             } else if (event.getEventType() == XMLStreamConstants.END_ELEMENT) {
-                return sb.toString();
+                if (sb != null) return sb.toString();
+                return (text == null) ? "" : text;
             } else {
                 throw new RuntimeException("Encountered unexpected event: " + event.toString());
             }
@@ -124,7 +147,7 @@ public class StaxUnmarshallerContext {
      *         document being parsed.
      */
     public int getCurrentDepth() {
-        return stack.size();
+        return depth;
     }
 
     /**
@@ -138,7 +161,7 @@ public class StaxUnmarshallerContext {
      */
     public boolean testExpression(String expression) {
         if (expression.equals(".")) return true;
-        return stackString.endsWith(expression);
+        return pathEndsWith(expression, false);
     }
 
     /**
@@ -158,17 +181,8 @@ public class StaxUnmarshallerContext {
     public boolean testExpression(String expression, int startingStackDepth) {
         if (expression.equals(".")) return true;
 
-        int index = -1;
-        while ((index = expression.indexOf("/", index + 1)) > -1) {
-            // Don't consider attributes a new depth level
-            if (expression.charAt(index + 1) != '@') {
-                startingStackDepth++;
-            }
-        }
-
-
-        return (startingStackDepth == getCurrentDepth()
-                && stackString.endsWith("/" + expression));
+        return (startingStackDepth + getExpressionDepth(expression) == depth
+                && pathEndsWith(expression, true));
     }
 
     /**
@@ -267,25 +281,90 @@ public class StaxUnmarshallerContext {
         }
     }
 
+    /**
+     * Returns the number of additional element levels the specified
+     * expression descends below its starting depth.
+     */
+    private static int getExpressionDepth(String expression) {
+        Integer expressionDepth = expressionDepths.get(expression);
+        if (expressionDepth == null) {
+            int levels = 0;
+            int index = -1;
+            while ((index = expression.indexOf('/', index + 1)) > -1) {
+                // Don't consider attributes a new depth level
+                if (index + 1 < expression.length() && expression.charAt(index + 1) != '@') {
+                    levels++;
+                }
+            }
+            expressionDepth = levels;
+            expressionDepths.put(expression, expressionDepth);
+        }
+        return expressionDepth;
+    }
+
+    /**
+     * Tests whether the current document position, written out as
+     * "/element/element[/@attribute]", ends with the specified suffix. The
+     * comparison walks the element name array backwards so no path string is
+     * ever built.
+     *
+     * @param suffix
+     *            The suffix to look for.
+     * @param anchored
+     *            True if the suffix must be immediately preceded by a '/' in
+     *            the current path (i.e. it must start on a name boundary).
+     */
+    private boolean pathEndsWith(String suffix, boolean anchored) {
+        int remaining = suffix.length();
+
+        int level = depth;
+        String name = currentAttributeName;
+        boolean attribute = (name != null);
+        if (!attribute) {
+            if (level == 0) return remaining == 0 && !anchored;
+            name = elementNames[--level];
+        }
+
+        while (true) {
+            // Match the name portion of the current segment, right to left
+            int nameIndex = name.length();
+            while (nameIndex > 0) {
+                if (remaining == 0) return !anchored;
+                if (suffix.charAt(--remaining) != name.charAt(--nameIndex)) return false;
+            }
+
+            // Then the segment's "@" and "/" prefix
+            if (attribute) {
+                if (remaining == 0) return !anchored;
+                if (suffix.charAt(--remaining) != '@') return false;
+                attribute = false;
+            }
+            if (remaining == 0) return true;
+            if (suffix.charAt(--remaining) != '/') return false;
+            if (remaining == 0) return !anchored;
+
+            if (level == 0) return false;
+            name = elementNames[--level];
+        }
+    }
+
     private void updateContext(XMLEvent event) {
         if (event == null) return;
 
         if (event.isEndElement()) {
-            stack.pop();
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
+            currentAttributeName = null;
+            elementNames[--depth] = null;
         } else if (event.isStartElement()) {
-            stack.push(event.asStartElement().getName().getLocalPart());
-            stackString += "/" + event.asStartElement().getName().getLocalPart();
+            currentAttributeName = null;
+            if (depth == elementNames.length) {
+                String[] expanded = new String[depth * 2];
+                System.arraycopy(elementNames, 0, expanded, 0, depth);
+                elementNames = expanded;
+            }
+            elementNames[depth++] = event.asStartElement().getName().getLocalPart();
         } else if (event.isAttribute()) {
             Attribute attribute = (Attribute)event;
-            stackString = "";
-            for (String s : stack) {
-                stackString += "/" + s;
-            }
-            stackString += "/@" + attribute.getName().getLocalPart();
+            currentAttributeName = attribute.getName().getLocalPart();
         }
     }
 
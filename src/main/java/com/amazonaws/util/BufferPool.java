@@ -0,0 +1,159 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe pool of byte arrays used as transfer buffers by the streams
+ * that copy request and response data, so that each request doesn't allocate
+ * buffers of its own.
+ * <p>
+ * Buffers come in power-of-two size classes from 4KB to 128KB; a request for
+ * a buffer is given one of the smallest class that fits it, which may be
+ * larger than requested. Larger buffers aren't pooled. Each size class keeps
+ * a bounded number of released buffers for reuse; buffers released beyond
+ * that bound are left to the garbage collector.
+ * <p>
+ * A buffer must be released only once, only to the pool it was acquired
+ * from, and must not be used after it's released.
+ */
+public class BufferPool {
+
+    /** The default number of bytes retained for reuse in each size class. */
+    public static final int DEFAULT_MAX_RETAINED_BYTES_PER_CLASS = 2 * 1024 * 1024;
+
+    private static final int SMALLEST_CLASS_SHIFT = 12;
+    private static final int LARGEST_CLASS_SHIFT = 17;
+
+    /** The pool shared by the SDK's streams. */
+    private static final BufferPool sharedPool = new BufferPool(DEFAULT_MAX_RETAINED_BYTES_PER_CLASS);
+
+    private final SizeClass[] sizeClasses = new SizeClass[LARGEST_CLASS_SHIFT - SMALLEST_CLASS_SHIFT + 1];
+
+    private final AtomicLong acquisitions = new AtomicLong();
+    private final AtomicLong reuses = new AtomicLong();
+    private final AtomicLong bytesInUse = new AtomicLong();
+    private final AtomicLong highWaterBytesInUse = new AtomicLong();
+
+    /**
+     * Returns the pool shared by the SDK's streams.
+     */
+    public static BufferPool getSharedPool() {
+        return sharedPool;
+    }
+
+    /**
+     * Constructs a new, empty pool.
+     *
+     * @param maxRetainedBytesPerClass
+     *            The maximum number of bytes of released buffers kept for
+     *            reuse in each size class.
+     */
+    public BufferPool(int maxRetainedBytesPerClass) {
+        for (int i = 0; i < sizeClasses.length; i++) {
+            int size = 1 << (SMALLEST_CLASS_SHIFT + i);
+            sizeClasses[i] = new SizeClass(size, Math.max(1, maxRetainedBytesPerClass / size));
+        }
+    }
+
+    /**
+     * Returns a buffer of at least the specified size, reusing a released one
+     * if possible.
+     */
+    public byte[] acquire(int minimumSize) {
+        if (minimumSize < 0) {
+            throw new IllegalArgumentException("Buffer size must not be negative");
+        }
+        acquisitions.incrementAndGet();
+
+        byte[] buffer = null;
+        SizeClass sizeClass = sizeClassFor(minimumSize);
+        if (sizeClass == null) {
+            buffer = new byte[minimumSize];
+        } else {
+            buffer = sizeClass.buffers.poll();
+            if (buffer != null) {
+                sizeClass.retained.decrementAndGet();
+                reuses.incrementAndGet();
+            } else {
+                buffer = new byte[sizeClass.size];
+            }
+        }
+
+        long inUse = bytesInUse.addAndGet(buffer.length);
+        long highWater = highWaterBytesInUse.get();
+        while (inUse > highWater && !highWaterBytesInUse.compareAndSet(highWater, inUse)) {
+            highWater = highWaterBytesInUse.get();
+        }
+        return buffer;
+    }
+
+    /**
+     * Returns a buffer acquired from this pool, so that it can be reused.
+     * Null buffers are ignored.
+     */
+    public void release(byte[] buffer) {
+        if (buffer == null) return;
+        bytesInUse.addAndGet(-buffer.length);
+
+        SizeClass sizeClass = sizeClassFor(buffer.length);
+        if (sizeClass == null || sizeClass.size != buffer.length) return;
+
+        if (sizeClass.retained.incrementAndGet() <= sizeClass.maxRetained) {
+            sizeClass.buffers.offer(buffer);
+        } else {
+            sizeClass.retained.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a snapshot of how much the pool has been used.
+     */
+    public BufferPoolStatistics getStatistics() {
+        long retainedBytes = 0;
+        for (SizeClass sizeClass : sizeClasses) {
+            retainedBytes += (long)sizeClass.retained.get() * sizeClass.size;
+        }
+        return new BufferPoolStatistics(acquisitions.get(), reuses.get(), bytesInUse.get(),
+                highWaterBytesInUse.get(), retainedBytes);
+    }
+
+    /**
+     * Returns the smallest size class that fits the specified size, or null
+     * if it's larger than all of them.
+     */
+    private SizeClass sizeClassFor(int size) {
+        for (SizeClass sizeClass : sizeClasses) {
+            if (size <= sizeClass.size) return sizeClass;
+        }
+        return null;
+    }
+
+    private static final class SizeClass {
+        private final int size;
+        private final int maxRetained;
+        private final Queue<byte[]> buffers = new ConcurrentLinkedQueue<byte[]>();
+        private final AtomicInteger retained = new AtomicInteger();
+
+        private SizeClass(int size, int maxRetained) {
+            this.size = size;
+            this.maxRetained = maxRetained;
+        }
+    }
+}
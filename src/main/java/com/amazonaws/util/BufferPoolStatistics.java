@@ -0,0 +1,81 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+/**
+ * A snapshot of the usage of a {@link BufferPool}.
+ */
+public class BufferPoolStatistics {
+
+    private final long acquisitions;
+    private final long reuses;
+    private final long bytesInUse;
+    private final long highWaterBytesInUse;
+    private final long retainedBytes;
+
+    BufferPoolStatistics(long acquisitions, long reuses, long bytesInUse, long highWaterBytesInUse,
+            long retainedBytes) {
+        this.acquisitions = acquisitions;
+        this.reuses = reuses;
+        this.bytesInUse = bytesInUse;
+        this.highWaterBytesInUse = highWaterBytesInUse;
+        this.retainedBytes = retainedBytes;
+    }
+
+    /**
+     * Returns the number of buffers acquired from the pool.
+     */
+    public long getAcquisitions() {
+        return acquisitions;
+    }
+
+    /**
+     * Returns the number of acquisitions served with a released buffer,
+     * rather than a newly allocated one.
+     */
+    public long getReuses() {
+        return reuses;
+    }
+
+    /**
+     * Returns the total size of the buffers currently acquired and not yet
+     * released.
+     */
+    public long getBytesInUse() {
+        return bytesInUse;
+    }
+
+    /**
+     * Returns the largest total size of buffers that have been in use at the
+     * same time.
+     */
+    public long getHighWaterBytesInUse() {
+        return highWaterBytesInUse;
+    }
+
+    /**
+     * Returns the total size of the released buffers kept for reuse.
+     */
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "BufferPoolStatistics [acquisitions=" + acquisitions + ", reuses=" + reuses + ", bytesInUse="
+                + bytesInUse + ", highWaterBytesInUse=" + highWaterBytesInUse + ", retainedBytes=" + retainedBytes
+                + "]";
+    }
+}
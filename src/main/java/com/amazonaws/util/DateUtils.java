@@ -26,33 +26,57 @@ import java.util.SimpleTimeZone;
 /**
  * Utilities for parsing and formatting dates.
  * <p>
- * Note that this class doesn't use static methods because of the
- * synchronization issues with SimpleDateFormat. This lets synchronization be
- * done on a per-object level, instead of on a per-class level.
+ * Dates are always formatted and parsed in GMT. The common formats are
+ * handled directly rather than through SimpleDateFormat, so this class holds
+ * no mutable state and a single instance can be freely shared between
+ * threads without any locking. Input that doesn't exactly match the expected
+ * format is handed to a SimpleDateFormat, so lenient parsing behaves as it
+ * always has.
  */
 public class DateUtils {
 
     /** ISO 8601 format */
-    protected final SimpleDateFormat iso8601DateFormat =
-        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+    private static final String ISO8601_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS'Z'";
 
     /** Alternate ISO 8601 format without fractional seconds */
-    protected final SimpleDateFormat alternateIso8601DateFormat =
-        new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss'Z'");
+    private static final String ALTERNATE_ISO8601_PATTERN = "yyyy-MM-dd'T'HH:mm:ss'Z'";
+
+    /** ISO 8601 basic format, as used by AWS signature version 4 */
+    private static final String ISO8601_BASIC_PATTERN = "yyyyMMdd'T'HHmmss'Z'";
 
     /** RFC 822 format */
-    protected final SimpleDateFormat rfc822DateFormat =
-        new SimpleDateFormat("EEE, dd MMM yyyy HH:mm:ss z", Locale.US);
+    private static final String RFC822_PATTERN = "EEE, dd MMM yyyy HH:mm:ss z";
+
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_DAY = 24L * 60 * 60 * MILLIS_PER_SECOND;
+
+    /**
+     * Range of years handled directly. Outside of it SimpleDateFormat's
+     * Julian calendar and era handling would give different results.
+     */
+    private static final int MIN_YEAR = 1600;
+    private static final int MAX_YEAR = 9999;
+
+    private static final String[] DAY_NAMES =
+        { "Sun", "Mon", "Tue", "Wed", "Thu", "Fri", "Sat" };
+
+    private static final String[] MONTH_NAMES =
+        { "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec" };
+
+    /**
+     * The most recently formatted second, in each of the formats. Requests
+     * are usually signed with the current time, so most calls only need to
+     * check the cached second and reuse the text.
+     */
+    private static volatile FormattedSecond lastIso8601Second = new FormattedSecond(Long.MIN_VALUE, null);
+    private static volatile FormattedSecond lastRfc822Second = new FormattedSecond(Long.MIN_VALUE, null);
+    private static volatile FormattedSecond lastIso8601BasicSecond = new FormattedSecond(Long.MIN_VALUE, null);
 
 
     /**
      * Constructs a new DateUtils object, ready to parse/format dates.
      */
-    public DateUtils() {
-        iso8601DateFormat.setTimeZone(new SimpleTimeZone(0, "GMT"));
-        rfc822DateFormat.setTimeZone(new SimpleTimeZone(0, "GMT"));
-        alternateIso8601DateFormat.setTimeZone(new SimpleTimeZone(0, "GMT"));
-    }
+    public DateUtils() {}
 
     /**
      * Parses the specified date string as an ISO 8601 date and returns the Date
@@ -67,16 +91,33 @@ public class DateUtils {
      *             If the date string could not be parsed.
      */
     public Date parseIso8601Date(String dateString) throws ParseException {
-        try {
-            synchronized (iso8601DateFormat) {
-                return iso8601DateFormat.parse(dateString);
+        if (dateString != null
+                && (dateString.length() == 24 || dateString.length() == 20)
+                && dateString.charAt(4) == '-' && dateString.charAt(7) == '-'
+                && dateString.charAt(10) == 'T'
+                && dateString.charAt(13) == ':' && dateString.charAt(16) == ':'
+                && dateString.charAt(dateString.length() - 1) == 'Z') {
+            int year = parseDigits(dateString, 0, 4);
+            int month = parseDigits(dateString, 5, 2);
+            int day = parseDigits(dateString, 8, 2);
+            int hour = parseDigits(dateString, 11, 2);
+            int minute = parseDigits(dateString, 14, 2);
+            int second = parseDigits(dateString, 17, 2);
+            int millis = 0;
+            if (dateString.length() == 24) {
+                millis = (dateString.charAt(19) == '.') ? parseDigits(dateString, 20, 3) : -1;
             }
+
+            long time = toEpochMillis(year, month, day, hour, minute, second, millis);
+            if (time != Long.MIN_VALUE) return new Date(time);
+        }
+
+        try {
+            return newDateFormat(ISO8601_PATTERN).parse(dateString);
         } catch (ParseException e) {
             // If the first ISO 8601 parser didn't work, try the alternate
             // version which doesn't include fractional seconds
-            synchronized (alternateIso8601DateFormat) {
-                return alternateIso8601DateFormat.parse(dateString);
-            }
+            return newDateFormat(ALTERNATE_ISO8601_PATTERN).parse(dateString);
         }
     }
 
@@ -89,9 +130,69 @@ public class DateUtils {
      * @return The ISO 8601 string representing the specified date.
      */
     public String formatIso8601Date(Date date) {
-        synchronized (iso8601DateFormat) {
-            return iso8601DateFormat.format(date);
+        long time = date.getTime();
+        long epochSecond = floorDiv(time, MILLIS_PER_SECOND);
+
+        // The cached text only covers the second, the milliseconds are
+        // appended separately
+        FormattedSecond cached = lastIso8601Second;
+        String prefix;
+        if (cached.epochSecond == epochSecond) {
+            prefix = cached.text;
+        } else {
+            int[] fields = toFields(time);
+            if (fields == null) return newDateFormat(ISO8601_PATTERN).format(date);
+
+            char[] buffer = new char[19];
+            appendDigits(buffer, 0, fields[0], 4);
+            buffer[4] = '-';
+            appendDigits(buffer, 5, fields[1], 2);
+            buffer[7] = '-';
+            appendDigits(buffer, 8, fields[2], 2);
+            buffer[10] = 'T';
+            appendTime(buffer, 11, fields, true);
+            prefix = new String(buffer);
+            lastIso8601Second = new FormattedSecond(epochSecond, prefix);
         }
+
+        int millis = (int)(time - epochSecond * MILLIS_PER_SECOND);
+        char[] suffix = new char[5];
+        suffix[0] = '.';
+        appendDigits(suffix, 1, millis, 3);
+        suffix[4] = 'Z';
+        return new StringBuilder(24).append(prefix).append(suffix).toString();
+    }
+
+    /**
+     * Formats the specified date as an ISO 8601 basic format string (ex:
+     * "20120821T220421Z"), as used in AWS signature version 4 requests.
+     *
+     * @param date
+     *            The date to format.
+     *
+     * @return The ISO 8601 basic format string representing the specified
+     *         date.
+     */
+    public String formatIso8601BasicDate(Date date) {
+        long epochSecond = floorDiv(date.getTime(), MILLIS_PER_SECOND);
+
+        FormattedSecond cached = lastIso8601BasicSecond;
+        if (cached.epochSecond == epochSecond) return cached.text;
+
+        int[] fields = toFields(date.getTime());
+        if (fields == null) return newDateFormat(ISO8601_BASIC_PATTERN).format(date);
+
+        char[] buffer = new char[16];
+        appendDigits(buffer, 0, fields[0], 4);
+        appendDigits(buffer, 4, fields[1], 2);
+        appendDigits(buffer, 6, fields[2], 2);
+        buffer[8] = 'T';
+        appendTime(buffer, 9, fields, false);
+        buffer[15] = 'Z';
+
+        String text = new String(buffer);
+        lastIso8601BasicSecond = new FormattedSecond(epochSecond, text);
+        return text;
     }
 
     /**
@@ -107,9 +208,25 @@ public class DateUtils {
      *             If the date string could not be parsed.
      */
     public Date parseRfc822Date(String dateString) throws ParseException {
-        synchronized (rfc822DateFormat) {
-            return rfc822DateFormat.parse(dateString);
+        if (dateString != null && dateString.length() == 29
+                && dateString.charAt(3) == ',' && dateString.charAt(4) == ' '
+                && dateString.charAt(7) == ' ' && dateString.charAt(11) == ' '
+                && dateString.charAt(16) == ' ' && dateString.charAt(25) == ' '
+                && dateString.charAt(19) == ':' && dateString.charAt(22) == ':'
+                && (dateString.endsWith("GMT") || dateString.endsWith("UTC"))
+                && indexOfName(DAY_NAMES, dateString, 0) > -1) {
+            int day = parseDigits(dateString, 5, 2);
+            int month = indexOfName(MONTH_NAMES, dateString, 8) + 1;
+            int year = parseDigits(dateString, 12, 4);
+            int hour = parseDigits(dateString, 17, 2);
+            int minute = parseDigits(dateString, 20, 2);
+            int second = parseDigits(dateString, 23, 2);
+
+            long time = toEpochMillis(year, month, day, hour, minute, second, 0);
+            if (time != Long.MIN_VALUE) return new Date(time);
         }
+
+        return newDateFormat(RFC822_PATTERN).parse(dateString);
     }
 
     /**
@@ -121,9 +238,181 @@ public class DateUtils {
      * @return The RFC 822 string representing the specified date.
      */
     public String formatRfc822Date(Date date) {
-        synchronized (rfc822DateFormat) {
-            return rfc822DateFormat.format(date);
+        long epochSecond = floorDiv(date.getTime(), MILLIS_PER_SECOND);
+
+        FormattedSecond cached = lastRfc822Second;
+        if (cached.epochSecond == epochSecond) return cached.text;
+
+        int[] fields = toFields(date.getTime());
+        if (fields == null) return newDateFormat(RFC822_PATTERN).format(date);
+
+        char[] buffer = new char[29];
+        DAY_NAMES[fields[6]].getChars(0, 3, buffer, 0);
+        buffer[3] = ',';
+        buffer[4] = ' ';
+        appendDigits(buffer, 5, fields[2], 2);
+        buffer[7] = ' ';
+        MONTH_NAMES[fields[1] - 1].getChars(0, 3, buffer, 8);
+        buffer[11] = ' ';
+        appendDigits(buffer, 12, fields[0], 4);
+        buffer[16] = ' ';
+        appendTime(buffer, 17, fields, true);
+        buffer[25] = ' ';
+        "GMT".getChars(0, 3, buffer, 26);
+
+        String text = new String(buffer);
+        lastRfc822Second = new FormattedSecond(epochSecond, text);
+        return text;
+    }
+
+
+    /*
+     * Private Interface
+     */
+
+    /**
+     * A second since the epoch, and its text in one of the supported formats.
+     */
+    private static final class FormattedSecond {
+        private final long epochSecond;
+        private final String text;
+
+        private FormattedSecond(long epochSecond, String text) {
+            this.epochSecond = epochSecond;
+            this.text = text;
+        }
+    }
+
+    /**
+     * Returns a new SimpleDateFormat in GMT for the specified pattern, used for
+     * anything outside of what this class handles directly.
+     */
+    private static SimpleDateFormat newDateFormat(String pattern) {
+        SimpleDateFormat dateFormat = new SimpleDateFormat(pattern, Locale.US);
+        dateFormat.setTimeZone(new SimpleTimeZone(0, "GMT"));
+        return dateFormat;
+    }
+
+    /**
+     * Splits the specified time into year, month, day, hour, minute, second
+     * and day of week (0 for Sunday) fields in GMT, or returns null if the
+     * year isn't in the range handled directly.
+     */
+    private static int[] toFields(long time) {
+        long days = floorDiv(time, MILLIS_PER_DAY);
+        int secondOfDay = (int)((time - days * MILLIS_PER_DAY) / MILLIS_PER_SECOND);
+
+        // Convert the day count to a proleptic Gregorian date, using a
+        // calendar whose years start in March so leap days fall at the end
+        long shifted = days + 719468;
+        long era = (shifted >= 0 ? shifted : shifted - 146096) / 146097;
+        int dayOfEra = (int)(shifted - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        if (year < MIN_YEAR || year > MAX_YEAR) return null;
+
+        // January 1st, 1970 was a Thursday
+        int dayOfWeek = (int)(((days + 4) % 7 + 7) % 7);
+
+        return new int[] { (int)year, month, day,
+                secondOfDay / 3600, (secondOfDay / 60) % 60, secondOfDay % 60,
+                dayOfWeek };
+    }
+
+    /**
+     * Returns the milliseconds since the epoch for the specified GMT date and
+     * time, or Long.MIN_VALUE if any field is out of its normal range.
+     */
+    private static long toEpochMillis(int year, int month, int day,
+            int hour, int minute, int second, int millis) {
+        if (year < MIN_YEAR || year > MAX_YEAR
+                || month < 1 || month > 12
+                || day < 1 || day > daysInMonth(year, month)
+                || hour < 0 || hour > 23
+                || minute < 0 || minute > 59
+                || second < 0 || second > 59
+                || millis < 0 || millis > 999) {
+            return Long.MIN_VALUE;
+        }
+
+        int marchYear = (month <= 2) ? year - 1 : year;
+        int era = marchYear / 400;
+        int yearOfEra = marchYear - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long days = era * 146097L + dayOfEra - 719468;
+
+        return days * MILLIS_PER_DAY
+            + ((hour * 60L + minute) * 60L + second) * MILLIS_PER_SECOND
+            + millis;
+    }
+
+    private static int daysInMonth(int year, int month) {
+        if (month == 2) {
+            boolean leapYear = (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+            return leapYear ? 29 : 28;
+        }
+        return (month == 4 || month == 6 || month == 9 || month == 11) ? 30 : 31;
+    }
+
+    private static long floorDiv(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        if ((dividend % divisor) != 0 && (dividend < 0)) quotient--;
+        return quotient;
+    }
+
+    /**
+     * Parses the specified number of ASCII digits starting at the specified
+     * offset, returning -1 if any of them isn't a digit.
+     */
+    private static int parseDigits(String text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Returns the index of the three letter name starting at the specified
+     * offset, ignoring case, or -1 if it isn't one of the specified names.
+     */
+    private static int indexOfName(String[] names, String text, int offset) {
+        for (int i = 0; i < names.length; i++) {
+            if (text.regionMatches(true, offset, names[i], 0, 3)) return i;
         }
+        return -1;
+    }
+
+    /**
+     * Writes the specified value into the buffer as a zero padded number with
+     * the specified number of digits.
+     */
+    private static void appendDigits(char[] buffer, int offset, int value, int digits) {
+        for (int i = offset + digits - 1; i >= offset; i--) {
+            buffer[i] = (char)('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Writes the hour, minute and second fields into the buffer, optionally
+     * separated by colons.
+     */
+    private static void appendTime(char[] buffer, int offset, int[] fields, boolean separated) {
+        int step = separated ? 3 : 2;
+        appendDigits(buffer, offset, fields[3], 2);
+        if (separated) buffer[offset + 2] = ':';
+        appendDigits(buffer, offset + step, fields[4], 2);
+        if (separated) buffer[offset + step + 2] = ':';
+        appendDigits(buffer, offset + 2 * step, fields[5], 2);
     }
 
 }
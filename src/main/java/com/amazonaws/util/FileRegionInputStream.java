@@ -0,0 +1,241 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.security.MessageDigest;
+
+/**
+ * Repeatable InputStream over a region of a file, such as a whole file being
+ * uploaded or one part of a multipart upload. Besides being read as a stream,
+ * the rest of the region can be written out with {@link #writeTo(OutputStream)},
+ * which moves the data with {@link FileChannel#transferTo(long, long, WritableByteChannel)}
+ * instead of copying it through a chain of stream buffers. The stream is
+ * repeated by moving its position in the file back, so the file is never
+ * reopened.
+ * <p>
+ * A message digest can be set to be fed every byte read or written out, in
+ * which case the region is written out through a buffer from the shared
+ * {@link BufferPool} so that the same bytes are digested and sent. A stream with a digest can
+ * only be marked at the beginning of its region, and can't be skipped, since
+ * either would leave the digest out of step with the bytes sent.
+ */
+public class FileRegionInputStream extends InputStream {
+
+    /** The largest amount of data transferred at once. */
+    private static final int TRANSFER_SIZE = 1024 * 1024;
+
+    /** The size of the buffer data is digested through when written out. */
+    private static final int DIGEST_BUFFER_SIZE = 128 * 1024;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long start;
+    private final long end;
+
+    /** Buffer for single byte reads */
+    private final byte[] singleByte = new byte[1];
+
+    private long position;
+    private long markPosition;
+    private MessageDigest digest;
+
+    /**
+     * Constructs a new stream over the whole file given.
+     *
+     * @throws FileNotFoundException
+     *             If the file doesn't exist, or can't be opened.
+     */
+    public FileRegionInputStream(File file) throws FileNotFoundException {
+        this(file, 0, file.length());
+    }
+
+    /**
+     * Constructs a new stream over the region of the file given, which ends
+     * early if the file is shorter than the region.
+     *
+     * @param file
+     *            The file to read.
+     * @param offset
+     *            The position in the file the region starts at.
+     * @param length
+     *            The length of the region.
+     *
+     * @throws FileNotFoundException
+     *             If the file doesn't exist, or can't be opened.
+     */
+    public FileRegionInputStream(File file, long offset, long length) throws FileNotFoundException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+        this.file = new RandomAccessFile(file, "r");
+        this.channel = this.file.getChannel();
+        this.start = offset;
+        this.end = Math.max(offset, Math.min(offset + length, file.length()));
+        this.position = offset;
+        this.markPosition = offset;
+    }
+
+    /**
+     * Sets a message digest to feed every byte read or written out. The
+     * digest is restarted whenever the stream is reset, so once a digest is
+     * set, the stream can only be marked at the beginning of its region and
+     * can't be skipped.
+     */
+    public void setMessageDigest(MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Returns the message digest fed the bytes read or written out, or null
+     * if none was set.
+     */
+    public MessageDigest getMessageDigest() {
+        return digest;
+    }
+
+    /**
+     * Writes the rest of the region to the output stream given.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        if (digest != null) {
+            writeDigestedTo(out);
+            return;
+        }
+
+        WritableByteChannel target = Channels.newChannel(out);
+        while (position < end) {
+            long count = channel.transferTo(position, Math.min(end - position, TRANSFER_SIZE), target);
+            if (count <= 0) throw new IOException("Unable to transfer data from file");
+            position += count;
+            transferred(count);
+        }
+    }
+
+    /**
+     * Writes the rest of the region to the output stream given through a
+     * pooled buffer, feeding the message digest the same bytes.
+     */
+    private void writeDigestedTo(OutputStream out) throws IOException {
+        byte[] buffer = BufferPool.getSharedPool().acquire(DIGEST_BUFFER_SIZE);
+        try {
+            while (position < end) {
+                int count = channel.read(ByteBuffer.wrap(buffer, 0, (int)Math.min(end - position, buffer.length)),
+                        position);
+                if (count <= 0) throw new IOException("Unable to transfer data from file");
+                digest.update(buffer, 0, count);
+                out.write(buffer, 0, count);
+                position += count;
+                transferred(count);
+            }
+        } finally {
+            BufferPool.getSharedPool().release(buffer);
+        }
+    }
+
+    /**
+     * Called with the number of bytes every time data is read or written out,
+     * for subclasses to keep track of the transfer.
+     */
+    protected void transferred(long count) {
+    }
+
+    @Override
+    public int read() throws IOException {
+        int count = read(singleByte, 0, 1);
+        return (count == -1) ? -1 : (singleByte[0] & 0xFF);
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (position >= end) return -1;
+
+        int count = channel.read(ByteBuffer.wrap(b, off, (int)Math.min(len, end - position)), position);
+        if (count == -1) return -1;
+        if (digest != null) digest.update(b, off, count);
+        position += count;
+        transferred(count);
+        return count;
+    }
+
+    /**
+     * Skips over bytes of the region without reading them.
+     *
+     * @throws IOException
+     *             If a message digest is set, since skipped bytes wouldn't be
+     *             digested.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (digest != null) {
+            throw new IOException("Unable to skip bytes of a stream whose content is being digested");
+        }
+        long skipped = Math.max(0, Math.min(n, end - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int)Math.min(Integer.MAX_VALUE, end - position);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * Marks the current position in the region.
+     *
+     * @throws IllegalStateException
+     *             If a message digest is set and the stream isn't at the
+     *             beginning of its region, since the digest couldn't be
+     *             restored to the mark on reset.
+     */
+    @Override
+    public synchronized void mark(int readlimit) {
+        if (digest != null && position != start) {
+            throw new IllegalStateException("A stream whose content is being digested can only be marked at its beginning");
+        }
+        markPosition = position;
+    }
+
+    /**
+     * Moves the stream back to the last mark, or to the beginning of the
+     * region if it hasn't been marked, and restarts the message digest if one
+     * is set.
+     */
+    @Override
+    public synchronized void reset() throws IOException {
+        position = markPosition;
+        if (digest != null) digest.reset();
+    }
+
+    @Override
+    public void close() throws IOException {
+        file.close();
+    }
+}
@@ -14,8 +14,6 @@
  */
 package com.amazonaws.util;
 
-import java.io.BufferedInputStream;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.MessageDigest;
@@ -31,18 +29,18 @@ public class Md5Utils {
      * it as an array of bytes.
      */
     public static byte[] computeMD5Hash(InputStream is) throws NoSuchAlgorithmException, IOException {
-        BufferedInputStream bis = new BufferedInputStream(is);
+        byte[] buffer = BufferPool.getSharedPool().acquire(16384);
         try {
             MessageDigest messageDigest = MessageDigest.getInstance("MD5");
-            byte[] buffer = new byte[16384];
             int bytesRead = -1;
-            while ( (bytesRead = bis.read(buffer, 0, buffer.length)) != -1 ) {
+            while ( (bytesRead = is.read(buffer, 0, buffer.length)) != -1 ) {
                 messageDigest.update(buffer, 0, bytesRead);
             }
             return messageDigest.digest();
         } finally {
+            BufferPool.getSharedPool().release(buffer);
             try {
-                bis.close();
+                is.close();
             } catch ( Exception e ) {
                 System.err.println("Unable to close input stream of hash candidate: " + e);
             }
@@ -54,6 +52,6 @@ public class Md5Utils {
      * bytes.
      */
     public static byte[] computeMD5Hash(byte[] data) throws NoSuchAlgorithmException, IOException {
-        return computeMD5Hash(new ByteArrayInputStream(data));
+        return MessageDigest.getInstance("MD5").digest(data);
     }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+
+/**
+ * ByteArrayInputStream over a request payload held in memory, such as the
+ * JSON body built by a request marshaller. Besides being read as a stream,
+ * the whole payload can be written out or fed to a message digest straight
+ * from the underlying buffer, so the same bytes serve as the HTTP entity and
+ * as the signing payload without being copied or decoded into a String.
+ */
+public class PayloadInputStream extends ByteArrayInputStream {
+
+    private final int offset;
+    private final int length;
+
+    /**
+     * Constructs a new stream over the given range of the buffer given, which
+     * must not be modified afterwards.
+     */
+    public PayloadInputStream(byte[] buffer, int offset, int length) {
+        super(buffer, offset, length);
+        this.offset = offset;
+        this.length = length;
+    }
+
+    /**
+     * Returns the length of the payload in bytes.
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Writes the whole payload, regardless of the stream's position, to the
+     * output stream given.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write(buf, offset, length);
+    }
+
+    /**
+     * Feeds the whole payload, regardless of the stream's position, to the
+     * message digest given.
+     */
+    public void updateDigest(MessageDigest digest) {
+        digest.update(buf, offset, length);
+    }
+
+    /**
+     * Returns the payload decoded as UTF-8 text.
+     */
+    public String getString() {
+        try {
+            return new String(buf, offset, length, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException("UTF-8 is not supported", e);
+        }
+    }
+}
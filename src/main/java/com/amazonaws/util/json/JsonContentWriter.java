@@ -0,0 +1,178 @@
+/*
+ * Copyright 2012 Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://aws.amazon.com/apache2.0
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.amazonaws.util.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Date;
+
+import org.codehaus.jackson.JsonEncoding;
+import org.codehaus.jackson.JsonFactory;
+import org.codehaus.jackson.JsonGenerator;
+
+import com.amazonaws.util.PayloadInputStream;
+
+/**
+ * Writes the JSON content of a request with Jackson's streaming generator,
+ * encoding it as UTF-8 straight into an in-memory buffer. The buffer then
+ * becomes the request's content as a {@link PayloadInputStream}, which is
+ * sent and signed without being copied or turned into a String.
+ * <p>
+ * The methods mirror those of {@link JSONWriter}, which the request
+ * marshallers for JSON services used to write their content into a String,
+ * and values are written the same way: numbers without trailing zeros and
+ * dates as epoch seconds.
+ */
+public class JsonContentWriter {
+
+    /** Thread-safe factory shared by all writers */
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    /** Starting size of the buffer; most requests fit without growing it */
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+
+    /**
+     * ByteArrayOutputStream that hands its buffer over as the request content
+     * instead of copying it.
+     */
+    private static final class ContentBuffer extends ByteArrayOutputStream {
+        ContentBuffer(int size) {
+            super(size);
+        }
+
+        PayloadInputStream toInputStream() {
+            return new PayloadInputStream(buf, 0, count);
+        }
+    }
+
+    private final ContentBuffer buffer = new ContentBuffer(INITIAL_BUFFER_SIZE);
+    private final JsonGenerator generator;
+
+    public JsonContentWriter() throws IOException {
+        generator = jsonFactory.createJsonGenerator(buffer, JsonEncoding.UTF8);
+    }
+
+    /**
+     * Begins an object.
+     */
+    public JsonContentWriter object() throws IOException {
+        generator.writeStartObject();
+        return this;
+    }
+
+    /**
+     * Ends the current object.
+     */
+    public JsonContentWriter endObject() throws IOException {
+        generator.writeEndObject();
+        return this;
+    }
+
+    /**
+     * Begins an array.
+     */
+    public JsonContentWriter array() throws IOException {
+        generator.writeStartArray();
+        return this;
+    }
+
+    /**
+     * Ends the current array.
+     */
+    public JsonContentWriter endArray() throws IOException {
+        generator.writeEndArray();
+        return this;
+    }
+
+    /**
+     * Writes the name of the next field of the current object.
+     */
+    public JsonContentWriter key(String key) throws IOException {
+        generator.writeFieldName(key);
+        return this;
+    }
+
+    /**
+     * Writes a string value, or null.
+     */
+    public JsonContentWriter value(String s) throws IOException {
+        if (s == null) generator.writeNull();
+        else generator.writeString(s);
+        return this;
+    }
+
+    /**
+     * Writes a boolean value.
+     */
+    public JsonContentWriter value(boolean b) throws IOException {
+        generator.writeBoolean(b);
+        return this;
+    }
+
+    /**
+     * Writes a double value.
+     */
+    public JsonContentWriter value(double d) throws IOException {
+        return value(new Double(d));
+    }
+
+    /**
+     * Writes a long value.
+     */
+    public JsonContentWriter value(long l) throws IOException {
+        generator.writeNumber(l);
+        return this;
+    }
+
+    /**
+     * Writes a date value, as epoch seconds.
+     */
+    public JsonContentWriter value(Date date) throws IOException {
+        generator.writeNumber(date.getTime() / 1000);
+        return this;
+    }
+
+    /**
+     * Writes a value of any type: null, a String, Boolean, Number or Date, or
+     * the string form of any other object.
+     */
+    public JsonContentWriter value(Object o) throws IOException {
+        if (o == null) {
+            generator.writeNull();
+        } else if (o instanceof Boolean) {
+            generator.writeBoolean((Boolean)o);
+        } else if (o instanceof Number) {
+            try {
+                generator.writeNumber(JSONObject.numberToString((Number)o));
+            } catch (JSONException e) {
+                throw new IOException("Unable to write number " + o + ": " + e.getMessage(), e);
+            }
+        } else if (o instanceof Date) {
+            value((Date)o);
+        } else {
+            generator.writeString(o.toString());
+        }
+        return this;
+    }
+
+    /**
+     * Finishes writing and returns the content written, to be set as the
+     * request's content.
+     */
+    public PayloadInputStream getContent() throws IOException {
+        generator.flush();
+        return buffer.toInputStream();
+    }
+}